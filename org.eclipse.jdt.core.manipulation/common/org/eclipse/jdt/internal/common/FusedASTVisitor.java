@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Visits an AST once on behalf of several visitors.
+ * <p>
+ * Every visitor receives exactly the calls it would receive if it visited the AST on its own: when
+ * a visitor returns <code>false</code> from <code>preVisit2</code> or <code>visit</code>, only that
+ * visitor is suspended for the children of the node, and the traversal descends as long as one
+ * visitor is still interested.
+ * </p>
+ * <p>
+ * The node type specific <code>visit</code> and <code>endVisit</code> methods of the visitors are
+ * called from {@link #preVisit2(ASTNode)} and {@link #postVisit(ASTNode)}, looked up by the node
+ * type of the node. The lookup covers every node type known to {@link ASTNode#nodeClassForType(int)},
+ * not only the ones that have a {@link VisitorEnum} kind.
+ * </p>
+ *
+ * @see SharedASTTraversal
+ */
+class FusedASTVisitor extends ASTVisitor {
+
+	/**
+	 * <code>ASTVisitor.visit</code> and <code>ASTVisitor.endVisit</code> of every node type, indexed
+	 * by {@link ASTNode#getNodeType()}.
+	 */
+	private static final MethodHandle[] VISIT;
+	private static final MethodHandle[] END_VISIT;
+
+	static {
+		List<Class<?>> nodeClasses= new ArrayList<>();
+		nodeClasses.add(null); // node types start at 1
+		for (int nodeType= 1;; nodeType++) {
+			try {
+				nodeClasses.add(ASTNode.nodeClassForType(nodeType));
+			} catch (IllegalArgumentException e) {
+				break;
+			}
+		}
+		VISIT= new MethodHandle[nodeClasses.size()];
+		END_VISIT= new MethodHandle[nodeClasses.size()];
+		MethodHandles.Lookup lookup= MethodHandles.publicLookup();
+		MethodType visitType= MethodType.methodType(boolean.class, ASTVisitor.class, ASTNode.class);
+		MethodType endVisitType= MethodType.methodType(void.class, ASTVisitor.class, ASTNode.class);
+		for (int nodeType= 1; nodeType < nodeClasses.size(); nodeType++) {
+			Class<?> nodeClass= nodeClasses.get(nodeType);
+			try {
+				VISIT[nodeType]= lookup.findVirtual(ASTVisitor.class, "visit", MethodType.methodType(boolean.class, nodeClass)).asType(visitType); //$NON-NLS-1$
+				END_VISIT[nodeType]= lookup.findVirtual(ASTVisitor.class, "endVisit", MethodType.methodType(void.class, nodeClass)).asType(endVisitType); //$NON-NLS-1$
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private final ASTVisitor[] fVisitors;
+
+	/**
+	 * The node below which a visitor is suspended, or <code>null</code> if the visitor is active.
+	 */
+	private final ASTNode[] fSuspendedAt;
+
+	/**
+	 * Whether a visitor has been suspended by <code>preVisit2</code>, in which case it does not
+	 * receive the <code>endVisit</code> call of the node either.
+	 */
+	private final boolean[] fSkipped;
+
+	private int fActive;
+
+	FusedASTVisitor(List<ASTVisitor> visitors) {
+		super(true);
+		fVisitors= visitors.toArray(new ASTVisitor[visitors.size()]);
+		fSuspendedAt= new ASTNode[fVisitors.length];
+		fSkipped= new boolean[fVisitors.length];
+		fActive= fVisitors.length;
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		MethodHandle visit= getHandle(VISIT, node);
+		for (int i= 0; i < fVisitors.length; i++) {
+			if (fSuspendedAt[i] != null)
+				continue;
+			ASTVisitor visitor= fVisitors[i];
+			if (!visitor.preVisit2(node)) {
+				suspend(i, node, true);
+			} else if (!visit(visit, visitor, node)) {
+				suspend(i, node, false);
+			}
+		}
+		return fActive > 0;
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		MethodHandle endVisit= getHandle(END_VISIT, node);
+		for (int i= 0; i < fVisitors.length; i++) {
+			ASTNode suspendedAt= fSuspendedAt[i];
+			if (suspendedAt == null) {
+				endVisit(endVisit, fVisitors[i], node);
+				fVisitors[i].postVisit(node);
+			} else if (suspendedAt == node) {
+				if (!fSkipped[i])
+					endVisit(endVisit, fVisitors[i], node);
+				fVisitors[i].postVisit(node);
+				resume(i);
+			}
+		}
+	}
+
+	private void suspend(int i, ASTNode node, boolean skipped) {
+		fSuspendedAt[i]= node;
+		fSkipped[i]= skipped;
+		fActive--;
+	}
+
+	private void resume(int i) {
+		fSuspendedAt[i]= null;
+		fSkipped[i]= false;
+		fActive++;
+	}
+
+	private static MethodHandle getHandle(MethodHandle[] handles, ASTNode node) {
+		return handles[node.getNodeType()];
+	}
+
+	private static boolean visit(MethodHandle visit, ASTVisitor visitor, ASTNode node) {
+		try {
+			return (boolean) visit.invokeExact(visitor, node);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void endVisit(MethodHandle endVisit, ASTVisitor visitor, ASTNode node) {
+		try {
+			endVisit.invokeExact(visitor, node);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
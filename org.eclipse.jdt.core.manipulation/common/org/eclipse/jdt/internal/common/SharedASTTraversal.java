@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Collects visitors that all need to visit the same AST and visits the AST only once for all of
+ * them.
+ * <p>
+ * The visitors do not see each other: each of them keeps its own state and collects its own
+ * results, and is called exactly as if it had visited the AST on its own. A visitor that does not
+ * visit the children of a node is suspended for these children, while the other visitors go on.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public class SharedASTTraversal {
+
+	private final List<ASTVisitor> fVisitors= new ArrayList<>();
+
+	/**
+	 * Adds a visitor to the traversal.
+	 *
+	 * @param visitor the visitor
+	 */
+	public void add(ASTVisitor visitor) {
+		fVisitors.add(visitor);
+	}
+
+	/**
+	 * @return <code>true</code> if no visitor has been added
+	 */
+	public boolean isEmpty() {
+		return fVisitors.isEmpty();
+	}
+
+	/**
+	 * Visits the given node with all visitors that have been added. The visitors are removed
+	 * afterwards, so that the traversal can be reused.
+	 *
+	 * @param node the root of the AST to visit
+	 */
+	public void run(ASTNode node) {
+		if (fVisitors.size() == 1) {
+			node.accept(fVisitors.get(0));
+		} else if (!fVisitors.isEmpty()) {
+			node.accept(new FusedASTVisitor(fVisitors));
+		}
+		fVisitors.clear();
+	}
+}
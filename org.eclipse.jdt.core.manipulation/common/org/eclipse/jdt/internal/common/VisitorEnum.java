@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,11 @@ public enum VisitorEnum {
 	 */
 	BreakStatement(ASTNode.BREAK_STATEMENT),
 
+	/**
+	 *
+	 */
+	CaseDefaultExpression(ASTNode.CASE_DEFAULT_EXPRESSION),
+
 	/**
 	 *
 	 */
@@ -197,6 +202,11 @@ public enum VisitorEnum {
 	 */
 	ForStatement(ASTNode.FOR_STATEMENT),
 
+	/**
+	 *
+	 */
+	GuardedPattern(ASTNode.GUARDED_PATTERN),
+
 	/**
 	 *
 	 */
@@ -232,6 +242,11 @@ public enum VisitorEnum {
 	 */
 	Javadoc(ASTNode.JAVADOC),
 
+	/**
+	 *
+	 */
+	JavaDocRegion(ASTNode.JAVADOC_REGION),
+
 	/**
 	 *
 	 */
@@ -292,6 +307,11 @@ public enum VisitorEnum {
 	 */
 	ModuleDeclaration(ASTNode.MODULE_DECLARATION),
 
+	/**
+	 *
+	 */
+	ModuleQualifiedName(ASTNode.MODULE_QUALIFIED_NAME),
+
 	/**
 	 *
 	 */
@@ -312,6 +332,11 @@ public enum VisitorEnum {
 	 */
 	NullLiteral(ASTNode.NULL_LITERAL),
 
+	/**
+	 *
+	 */
+	NullPattern(ASTNode.NULL_PATTERN),
+
 	/**
 	 *
 	 */
@@ -371,7 +396,6 @@ public enum VisitorEnum {
 	 *
 	 */
 	QualifiedType(ASTNode.QUALIFIED_TYPE),
-//	ModuleQualifiedName(ASTNode.MODULE_QUALIFIED_NAME),
 
 	/**
 	 *
@@ -458,6 +482,11 @@ public enum VisitorEnum {
 	 */
 	TagElement(ASTNode.TAG_ELEMENT),
 
+	/**
+	 *
+	 */
+	TagProperty(ASTNode.TAG_PROPERTY),
+
 	/**
 	 *
 	 */
@@ -503,6 +532,11 @@ public enum VisitorEnum {
 	 */
 	TypeMethodReference(ASTNode.TYPE_METHOD_REFERENCE),
 
+	/**
+	 *
+	 */
+	TypePattern(ASTNode.TYPE_PATTERN),
+
 	/**
 	 *
 	 */
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.osgi.service.prefs.BackingStoreException;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+
+import org.eclipse.text.templates.TemplateStoreCore;
+
+import org.eclipse.jface.text.templates.Template;
+
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+
+/**
+ * Remembers the loaded code templates of projects, so that the project's template preferences are
+ * not read and parsed again for every generated method or comment.
+ * <p>
+ * The templates of a project are forgotten as soon as its template preferences change, or when the
+ * shared code template store is replaced. Templates that are not project specific are always taken
+ * from the shared code template store.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see StubUtility#getCodeTemplate(String, org.eclipse.jdt.core.IJavaProject)
+ * @since 1.16
+ */
+final class CodeTemplateCache {
+
+	private static final Map<IProject, Entry> fgEntries= new HashMap<>();
+
+	private static final class Entry implements IPreferenceChangeListener {
+		final IProject fProject;
+		final IEclipsePreferences fNode;
+		final TemplateStoreCore fInstanceStore;
+		ProjectTemplateStore fStore;
+		boolean fDisposed;
+
+		Entry(IProject project, IEclipsePreferences node, TemplateStoreCore instanceStore) {
+			fProject= project;
+			fNode= node;
+			fInstanceStore= instanceStore;
+		}
+
+		boolean isValid() {
+			if (fDisposed || fInstanceStore != JavaManipulation.getCodeTemplateStore())
+				return false;
+			try {
+				return fNode.nodeExists(""); //$NON-NLS-1$
+			} catch (BackingStoreException e) {
+				return false;
+			}
+		}
+
+		@Override
+		public void preferenceChange(PreferenceChangeEvent event) {
+			if (ProjectTemplateStore.KEY.equals(event.getKey()))
+				remove(this);
+		}
+
+		void dispose() {
+			fDisposed= true;
+			try {
+				fNode.removePreferenceChangeListener(this);
+			} catch (IllegalStateException e) {
+				// the node has been removed
+			}
+		}
+	}
+
+	/**
+	 * Returns the code template with the given id of a project.
+	 *
+	 * @param project the project
+	 * @param id the id of the template
+	 * @return the template, or <code>null</code> if there is no such template
+	 */
+	static Template findTemplateById(IProject project, String id) {
+		return getStore(project).findTemplateById(id);
+	}
+
+	private static ProjectTemplateStore getStore(IProject project) {
+		synchronized (fgEntries) {
+			Entry entry= fgEntries.get(project);
+			if (entry != null && entry.fStore != null && entry.isValid())
+				return entry.fStore;
+		}
+
+		Entry entry= new Entry(project, new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()), JavaManipulation.getCodeTemplateStore());
+		// listen before loading, so that changes made while loading are not missed
+		entry.fNode.addPreferenceChangeListener(entry);
+		ProjectTemplateStore store= new ProjectTemplateStore(project);
+		try {
+			store.load();
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+
+		synchronized (fgEntries) {
+			if (!entry.fDisposed) {
+				entry.fStore= store;
+				Entry previous= fgEntries.put(project, entry);
+				if (previous != null)
+					previous.dispose();
+				return store;
+			}
+		}
+		// the preferences changed while loading: use the store, but do not remember it
+		return store;
+	}
+
+	private static void remove(Entry entry) {
+		synchronized (fgEntries) {
+			if (fgEntries.get(entry.fProject) == entry)
+				fgEntries.remove(entry.fProject);
+			entry.dispose();
+		}
+	}
+
+	/**
+	 * Forgets the templates of all projects.
+	 */
+	static void clear() {
+		synchronized (fgEntries) {
+			for (Entry entry : fgEntries.values()) {
+				entry.dispose();
+			}
+			fgEntries.clear();
+		}
+	}
+
+	private CodeTemplateCache() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.jdt.internal.core.manipulation;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -28,6 +30,7 @@ import org.eclipse.jface.text.templates.TemplateBuffer;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateException;
 import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -36,6 +39,44 @@ import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
 public class CodeTemplateContext extends TemplateContext {
 
+	private static final int MAX_TRANSLATIONS= 100;
+
+	/**
+	 * The translated patterns by pattern and line delimiter, least recently used first. The
+	 * buffers are never resolved, only copied.
+	 */
+	private static final Map<TranslationKey, TemplateBuffer> fgTranslations= new LinkedHashMap<>(32, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TranslationKey, TemplateBuffer> eldest) {
+			return size() > MAX_TRANSLATIONS;
+		}
+	};
+
+	private static final class TranslationKey {
+		final String fPattern;
+		final String fLineDelimiter;
+
+		TranslationKey(String pattern, String lineDelimiter) {
+			fPattern= pattern;
+			fLineDelimiter= lineDelimiter;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fPattern.hashCode() + (fLineDelimiter == null ? 0 : fLineDelimiter.hashCode());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TranslationKey))
+				return false;
+			TranslationKey other= (TranslationKey) obj;
+			return fPattern.equals(other.fPattern) && (fLineDelimiter == null ? other.fLineDelimiter == null : fLineDelimiter.equals(other.fLineDelimiter));
+		}
+	}
+
 	private String fLineDelimiter;
 	private IJavaProject fProject;
 
@@ -74,14 +115,44 @@ public class CodeTemplateContext extends TemplateContext {
 		if (!canEvaluate(template))
 			return null;
 
-		String pattern= changeLineDelimiter(template.getPattern(), fLineDelimiter);
-
-		TemplateTranslator translator= new TemplateTranslator();
-		TemplateBuffer buffer= translator.translate(pattern);
+		TemplateBuffer buffer= copy(translate(template.getPattern(), fLineDelimiter));
 		getContextType().resolve(buffer, this);
 		return buffer;
 	}
 
+	/**
+	 * Returns the translation of a pattern, translating it only if it has not been translated
+	 * recently. The returned buffer must not be modified.
+	 */
+	private static TemplateBuffer translate(String pattern, String lineDelimiter) throws TemplateException {
+		TranslationKey key= new TranslationKey(pattern, lineDelimiter);
+		synchronized (fgTranslations) {
+			TemplateBuffer translation= fgTranslations.get(key);
+			if (translation != null)
+				return translation;
+		}
+		TemplateTranslator translator= new TemplateTranslator();
+		TemplateBuffer translation= translator.translate(changeLineDelimiter(pattern, lineDelimiter));
+		synchronized (fgTranslations) {
+			fgTranslations.put(key, translation);
+		}
+		return translation;
+	}
+
+	/**
+	 * Copies a translated buffer, so that its variables can be resolved without translating the
+	 * pattern again.
+	 */
+	private static TemplateBuffer copy(TemplateBuffer translation) {
+		TemplateVariable[] variables= translation.getVariables();
+		TemplateVariable[] copies= new TemplateVariable[variables.length];
+		for (int i= 0; i < variables.length; i++) {
+			TemplateVariable variable= variables[i];
+			copies[i]= new TemplateVariable(variable.getVariableType(), variable.getName(), variable.getDefaultValue(), variable.getOffsets().clone());
+		}
+		return new TemplateBuffer(translation.getString(), copies);
+	}
+
 	private static String changeLineDelimiter(String code, String lineDelim) {
 		try {
 			ILineTracker tracker= new DefaultLineTracker();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -24,17 +25,26 @@ import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.CleanUpOptionsCore;
 import org.eclipse.jdt.core.manipulation.CleanUpRequirementsCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.corext.fix.ICleanUpCore;
 
 public abstract class AbstractCleanUpCore implements ICleanUpCore {
 
 	private CleanUpOptionsCore fOptions;
 
+	/**
+	 * The AST and the fix computation registered by the last call to
+	 * {@link #prepareFixCore(CleanUpContextCore, SharedASTTraversal)}, or <code>null</code>.
+	 */
+	private CompilationUnit fPreparedUnit;
+	private Supplier<ICleanUpFixCore> fPreparedFix;
+
 	public AbstractCleanUpCore() {
 	}
 
@@ -88,6 +98,74 @@ public abstract class AbstractCleanUpCore implements ICleanUpCore {
 	 */
 	@Override
 	public ICleanUpFixCore createFixCore(CleanUpContextCore context) throws CoreException {
+		CompilationUnit compilationUnit= context.getAST();
+		if (compilationUnit == null)
+			return null;
+
+		SharedASTTraversal traversal= new SharedASTTraversal();
+		Supplier<ICleanUpFixCore> fix= registerFinders(compilationUnit, traversal);
+		if (fix == null)
+			return null;
+
+		traversal.run(compilationUnit);
+		return fix.get();
+	}
+
+	/**
+	 * Registers the visitors of this clean up with a traversal of the AST of the given context that
+	 * is shared with other clean ups. The next call to
+	 * {@link #createPreparedFixCore(CleanUpContextCore)} for the same AST creates the fix from the
+	 * results of the traversal instead of visiting the AST again. The caller must run the traversal
+	 * in between.
+	 *
+	 * @param context the context
+	 * @param traversal the shared traversal
+	 * @return <code>true</code> if this clean up takes part in the traversal
+	 */
+	public boolean prepareFixCore(CleanUpContextCore context, SharedASTTraversal traversal) {
+		CompilationUnit compilationUnit= context.getAST();
+		fPreparedUnit= compilationUnit;
+		fPreparedFix= compilationUnit != null ? registerFinders(compilationUnit, traversal) : null;
+		return fPreparedFix != null;
+	}
+
+	/**
+	 * Creates the fix for the given context, reusing the results of a shared traversal of its AST
+	 * if this clean up has been prepared for it.
+	 *
+	 * @param context the context
+	 * @return the fix or <code>null</code> if there is nothing to fix
+	 * @throws CoreException if the fix cannot be created
+	 * @see #prepareFixCore(CleanUpContextCore, SharedASTTraversal)
+	 */
+	public ICleanUpFixCore createPreparedFixCore(CleanUpContextCore context) throws CoreException {
+		CompilationUnit preparedUnit= fPreparedUnit;
+		Supplier<ICleanUpFixCore> preparedFix= fPreparedFix;
+		fPreparedUnit= null;
+		fPreparedFix= null;
+		if (preparedFix != null && preparedUnit == context.getAST())
+			return preparedFix.get();
+		return createFixCore(context);
+	}
+
+	/**
+	 * Adds the visitors that find the changes of this clean up to a traversal that is shared with
+	 * other clean ups. Clean ups that override this method inherit
+	 * {@link #createFixCore(CleanUpContextCore)}, which runs their visitors alone.
+	 * <p>
+	 * Clean ups whose fixes are shared with quick fixes and depend on problem locations or on
+	 * several options at once, like the code style, unnecessary code and variable declaration
+	 * clean ups, and clean ups that visit the AST more than once, like the string buffer to string
+	 * builder clean up with its second pass over the methods found by the first, do not take part
+	 * and override {@link #createFixCore(CleanUpContextCore)} instead.
+	 * </p>
+	 *
+	 * @param compilationUnit the AST that will be visited
+	 * @param traversal the shared traversal
+	 * @return the computation that creates the fix once the traversal has run, or
+	 *         <code>null</code> if this clean up does not take part in the traversal
+	 */
+	protected Supplier<ICleanUpFixCore> registerFinders(CompilationUnit compilationUnit, SharedASTTraversal traversal) {
 		return null;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,13 @@
 package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.Map;
-
-import org.eclipse.core.runtime.CoreException;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.CleanUpRequirementsCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.DoWhileRatherThanWhileFixCore;
 
@@ -43,14 +42,12 @@ public class DoWhileRatherThanWhileCleanUpCore extends AbstractCleanUpCore {
 	}
 
 	@Override
-	public ICleanUpFixCore createFixCore(final CleanUpContextCore context) throws CoreException {
-		CompilationUnit compilationUnit= context.getAST();
-
-		if (compilationUnit == null || !isEnabled(CleanUpConstants.DO_WHILE_RATHER_THAN_WHILE)) {
+	protected Supplier<ICleanUpFixCore> registerFinders(final CompilationUnit compilationUnit, final SharedASTTraversal traversal) {
+		if (!isEnabled(CleanUpConstants.DO_WHILE_RATHER_THAN_WHILE)) {
 			return null;
 		}
 
-		return DoWhileRatherThanWhileFixCore.createCleanUp(compilationUnit);
+		return DoWhileRatherThanWhileFixCore.createCleanUp(compilationUnit, traversal);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,14 +16,13 @@ package org.eclipse.jdt.internal.ui.fix;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
-import org.eclipse.core.runtime.CoreException;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
 import org.eclipse.jdt.core.manipulation.CleanUpRequirementsCore;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.InvertEqualsFixCore;
 
@@ -45,14 +44,12 @@ public class InvertEqualsCleanUpCore extends AbstractCleanUpCore {
 	}
 
 	@Override
-	public ICleanUpFixCore createFixCore(final CleanUpContextCore context) throws CoreException {
-		CompilationUnit compilationUnit= context.getAST();
-
-		if (compilationUnit == null || !isEnabled(CleanUpConstants.INVERT_EQUALS)) {
+	protected Supplier<ICleanUpFixCore> registerFinders(final CompilationUnit compilationUnit, final SharedASTTraversal traversal) {
+		if (!isEnabled(CleanUpConstants.INVERT_EQUALS)) {
 			return null;
 		}
 
-		return InvertEqualsFixCore.createCleanUp(compilationUnit);
+		return InvertEqualsFixCore.createCleanUp(compilationUnit, traversal);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -91,10 +91,30 @@ public final class ChainElementAnalyzer {
                 STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER);
     }
 
+    /**
+     * Returns the fields and methods of the given types that can be seen by the receiver type.
+     *
+     * @param supertypes a type and all its supertypes, see {@link #findAllSupertypesIncludingArgument(ChainType)}
+     * @param receiverType the type in which the members are accessed
+     * @param staticOnly <code>true</code> for static members, <code>false</code> for instance members
+     * @return the fields and methods, members of subtypes hide those of supertypes
+     */
+    static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
+            final boolean staticOnly) {
+        return staticOnly
+                ? findFieldsAndMethods(supertypes, receiverType, STATIC_FIELDS_ONLY_FILTER, STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER)
+                : findFieldsAndMethods(supertypes, receiverType, NON_STATIC_FIELDS_ONLY_FILTER, RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+    }
+
     private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
             final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, fieldFilter, methodFilter);
+    }
+
+    private static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
+            final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
-        for (final IType cur : findAllSupertypesIncludingArgument(type)) {
+        for (final IType cur : supertypes) {
             try {
 				for (final IMethod method : cur.getMethods()) {
 				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
@@ -125,7 +145,7 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -158,36 +178,48 @@ public final class ChainElementAnalyzer {
     public static boolean isAssignable(final ChainElement edge, final IType expectedType,
             final int expectedDimension) {
         if (expectedDimension <= edge.getReturnTypeDimension()) {
-            final IType base = edge.getReturnType().getType();
-            if (isAssignmentCompatible(base, expectedType)) {
+            return isAssignable(edge.getReturnType().getType(), expectedType);
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether a value of the given type can be assigned to the expected type, ignoring array
+     * dimensions.
+     *
+     * @param base the type of the value
+     * @param expectedType the expected type
+     * @return <code>true</code> if <code>base</code> is the expected type or a subtype of it
+     */
+    static boolean isAssignable(final IType base, final IType expectedType) {
+        if (isAssignmentCompatible(base, expectedType)) {
+            return true;
+        }
+        final LinkedList<IType> supertypes = new LinkedList<>();
+        supertypes.add(base);
+        String expectedSignature = expectedType.getFullyQualifiedName();
+
+        while (!supertypes.isEmpty()) {
+            final IType type = supertypes.poll();
+            String typeSignature = type.getFullyQualifiedName();
+
+            if (typeSignature.equals(expectedSignature)) {
                 return true;
             }
-            final LinkedList<IType> supertypes = new LinkedList<>();
-            supertypes.add(base);
-            String expectedSignature = expectedType.getFullyQualifiedName();
-
-            while (!supertypes.isEmpty()) {
-                final IType type = supertypes.poll();
-                String typeSignature = type.getFullyQualifiedName();
-
-                if (typeSignature.equals(expectedSignature)) {
-                    return true;
-                }
-				try {
-					if (type.getSuperclassTypeSignature() != null) {
-						IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
-						if (superclass != null) {
-							supertypes.add(superclass);
-						}
-						for (final String intf : type.getSuperInterfaceTypeSignatures()) {
-							IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
-							supertypes.add(intfType);
-						}
+			try {
+				if (type.getSuperclassTypeSignature() != null) {
+					IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
+					if (superclass != null) {
+						supertypes.add(superclass);
+					}
+					for (final String intf : type.getSuperInterfaceTypeSignatures()) {
+						IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
+						supertypes.add(intfType);
 					}
-				} catch (JavaModelException e) {
-					// ignore
 				}
-            }
+			} catch (JavaModelException e) {
+				// ignore
+			}
         }
         return false;
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,19 +11,58 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches chains of field accesses and method calls from entrypoints to an expected type.
+ * <p>
+ * The search is a best-first search: shorter chains are expanded before longer ones, and among
+ * chains of the same length those with fewer method arguments to fill in come first. The members
+ * and the assignability of types are taken from the shared {@link ChainMemberCache}. The search
+ * stops when its time or expansion budget is spent, the chains found until then are the result.
+ * </p>
+ */
 public class ChainFinder {
 
+	private static final int MAX_QUEUE_SIZE= 50000;
+
+	/**
+	 * An incomplete chain waiting to be expanded.
+	 */
+	private static final class SearchNode implements Comparable<SearchNode> {
+		final LinkedList<ChainElement> fChain;
+		final int fArguments;
+		final long fSequence;
+
+		SearchNode(LinkedList<ChainElement> chain, int arguments, long sequence) {
+			fChain= chain;
+			fArguments= arguments;
+			fSequence= sequence;
+		}
+
+		@Override
+		public int compareTo(SearchNode other) {
+			int result= Integer.compare(fChain.size(), other.fChain.size());
+			if (result == 0)
+				result= Integer.compare(fArguments, other.fArguments);
+			if (result == 0)
+				result= Long.compare(fSequence, other.fSequence);
+			return result;
+		}
+	}
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
@@ -32,14 +71,22 @@ public class ChainFinder {
 
 	private final List<Chain> chains= new LinkedList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final ChainMemberCache memberCache= ChainMemberCache.getDefault();
 
 	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
-
 	private volatile boolean isCanceled;
 
+	private boolean hasDeadline;
+
+	private long deadline;
+
+	private int expansionsLeft;
+
+	private boolean isBudgetExhausted;
+
+	private long sequence;
+
 	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
 			final IType receiverType) {
 		this.expectedTypes= expectedTypes;
@@ -49,7 +96,31 @@ public class ChainFinder {
 
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
+		startChainSearch(entrypoints, maxChains, minDepth, maxDepth, Long.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Searches chains for all expected types within the given budget. Once the budget is spent, the
+	 * search stops and {@link #getChains()} holds the chains found so far.
+	 *
+	 * @param entrypoints the elements the chains start with
+	 * @param maxChains the maximum number of chains
+	 * @param minDepth the minimum length of a chain
+	 * @param maxDepth the maximum length of a chain
+	 * @param timeBudget the time in milliseconds the search may take
+	 * @param maxExpansions the maximum number of chains that are extended by the members of their
+	 *            last element's type
+	 */
+	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
+			final int maxDepth, final long timeBudget, final int maxExpansions) {
+		hasDeadline= timeBudget != Long.MAX_VALUE;
+		deadline= hasDeadline ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget) : 0;
+		expansionsLeft= maxExpansions;
+		isBudgetExhausted= false;
 		for (final ChainType expected : expectedTypes) {
+			if (isCanceled || isBudgetExhausted) {
+				break;
+			}
 			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
 				ChainType expectedType= expected;
 				int expectedDimension= 0;
@@ -66,48 +137,73 @@ public class ChainFinder {
 		isCanceled= true;
 	}
 
+	/**
+	 * Tells whether the last search stopped because its time or expansion budget was spent.
+	 *
+	 * @return <code>true</code> if more chains might have been found with a larger budget
+	 */
+	public boolean isBudgetExhausted() {
+		return isBudgetExhausted;
+	}
+
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		final PriorityQueue<SearchNode> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
+			final LinkedList<ChainElement> chain= incompleteChains.poll().fChain;
 			final ChainElement edge= chain.getLast();
 			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
 				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+					synchronized (chains) {
+						chains.add(new Chain(chain, expectedDimensions));
+						if (chains.size() == maxChains) {
+							break;
+						}
 					}
 				}
 				continue;
 			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
+			if (chain.size() < maxDepth && incompleteChains.size() <= MAX_QUEUE_SIZE) {
+				if (expansionsLeft-- <= 0 || hasDeadline && System.nanoTime() - deadline > 0) {
+					isBudgetExhausted= true;
+					break;
+				}
 				searchDeeper(chain, incompleteChains, edge.getReturnType());
 			}
 		}
 	}
 
 	/**
-	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * Returns the potentially incomplete list of call chains that could be found before the budget
+	 * was spent or a time out happened. The returned list is a snapshot, the search may still
+	 * add chains if it has not finished yet.
 	 *
 	 * @return The list of call chains
 	 */
 	public List<Chain> getChains() {
-		return chains;
+		synchronized (chains) {
+			return new ArrayList<>(chains);
+		}
 	}
 
-	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= new LinkedList<>();
+	private PriorityQueue<SearchNode> prepareQueue(final List<ChainElement> entrypoints) {
+		final PriorityQueue<SearchNode> incompleteChains= new PriorityQueue<>();
 		for (final ChainElement entrypoint : entrypoints) {
 			final LinkedList<ChainElement> chain= new LinkedList<>();
 			chain.add(entrypoint);
-			incompleteChains.add(chain);
+			incompleteChains.add(new SearchNode(chain, getArgumentCount(entrypoint), sequence++));
 		}
 		return incompleteChains;
 	}
 
+	private static int getArgumentCount(final ChainElement edge) {
+		if (edge.getElementType() == ElementType.METHOD) {
+			return ((IMethod) edge.getElement()).getNumberOfParameters();
+		}
+		return 0;
+	}
+
 	public static boolean isFromExcludedType(final List<String> excluded, final IJavaElement element) {
 		if (element instanceof IType) {
 			return excluded.contains(((IType) element).getFullyQualifiedName());
@@ -134,25 +230,27 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
+		if (expectedDimension > edge.getReturnTypeDimension()) {
+			return false;
 		}
-		return isAssignable;
+		return memberCache.isAssignable(edge.getReturnType().getType(), expectedType.getType());
 	}
 
 	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
+			final PriorityQueue<SearchNode> incompleteChains, final ChainType currentlyVisitedType) {
 		boolean staticOnly= false;
 		if (chain.getLast().getElementType() == ElementType.TYPE) {
 			staticOnly= true;
 		}
 
+		int arguments= 0;
+		for (final ChainElement edge : chain) {
+			arguments+= getArgumentCount(edge);
+		}
 		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
-			final ChainElement newEdge= createEdge(element);
+			final ChainElement newEdge= memberCache.getChainElement(element);
 			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+				incompleteChains.add(new SearchNode(cloneChainAndAppendEdge(chain, newEdge), arguments + getArgumentCount(newEdge), sequence++));
 			}
 		}
 	}
@@ -160,11 +258,8 @@ public class ChainFinder {
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
 		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
 		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
+			cached= new ArrayList<>();
+			for (final IJavaElement e : memberCache.getFieldsAndMethods(chainElementType, new ChainType(receiverType), staticOnly)) {
 				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
 					cached.add(e);
 				}
@@ -174,15 +269,6 @@ public class ChainFinder {
 		return cached;
 	}
 
-	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
-		}
-		return cached;
-	}
-
 	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
 			final ChainElement newEdge) {
 		@SuppressWarnings("unchecked")
@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Remembers the accessible members of types, the chain elements created for members and the
+ * assignability of types, so that the chain completions of subsequent invocations do not resolve
+ * them again.
+ * <p>
+ * Every remembered value depends on the compilation units and class files that declare the
+ * examined types. A value is forgotten as soon as one of them changes, e.g. when it is reconciled
+ * in an editor. All values are forgotten when compilation units are added or removed or the
+ * class path changes, since types might then resolve differently.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see ChainFinder
+ * @since 1.16
+ */
+public final class ChainMemberCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 5000;
+
+	private static ChainMemberCache fgDefault;
+
+	private static final class Entry<T> {
+		final T fValue;
+		final Set<ITypeRoot> fDependencies;
+
+		Entry(T value, Set<ITypeRoot> dependencies) {
+			fValue= value;
+			fDependencies= dependencies;
+		}
+	}
+
+	private final Map<String, Entry<List<IJavaElement>>> fMembers= new HashMap<>();
+
+	private final Map<IJavaElement, Entry<ChainElement>> fEdges= new HashMap<>();
+
+	private final Map<String, Entry<Boolean>> fAssignable= new HashMap<>();
+
+	/**
+	 * Incremented whenever values are forgotten, so that values computed concurrently from stale
+	 * state are not remembered.
+	 */
+	private long fGeneration;
+
+	/**
+	 * Returns the shared cache, which is updated on Java model changes until the plug-in is
+	 * stopped.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized ChainMemberCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new ChainMemberCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stops updating the shared cache and forgets its values.
+	 */
+	public static synchronized void disposeDefault() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault.clear();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the instance fields and relevant instance methods, or the static fields and methods,
+	 * of the given type and its supertypes that can be seen from the receiver type.
+	 *
+	 * @param type the type whose members are returned
+	 * @param receiverType the type in which the members are accessed
+	 * @param staticOnly <code>true</code> for static members, <code>false</code> for instance members
+	 * @return an unmodifiable list of the members
+	 */
+	public List<IJavaElement> getFieldsAndMethods(ChainType type, ChainType receiverType, boolean staticOnly) {
+		if (type.getType() == null)
+			return Collections.emptyList();
+		String key= getHandle(receiverType.getType()) + '|' + type.getType().getHandleIdentifier() + '|' + staticOnly;
+		long generation;
+		synchronized (this) {
+			Entry<List<IJavaElement>> entry= fMembers.get(key);
+			if (entry != null)
+				return entry.fValue;
+			generation= fGeneration;
+		}
+		List<IType> supertypes= ChainElementAnalyzer.findAllSupertypesIncludingArgument(type);
+		List<IJavaElement> members= Collections.unmodifiableList(new ArrayList<>(ChainElementAnalyzer.findFieldsAndMethods(supertypes, receiverType, staticOnly)));
+		put(fMembers, key, new Entry<>(members, getDependencies(supertypes)), generation);
+		return members;
+	}
+
+	/**
+	 * Returns the chain element for a field or method.
+	 *
+	 * @param member the field or method
+	 * @return the chain element
+	 */
+	public ChainElement getChainElement(IJavaElement member) {
+		long generation;
+		synchronized (this) {
+			Entry<ChainElement> entry= fEdges.get(member);
+			if (entry != null)
+				return entry.fValue;
+			generation= fGeneration;
+		}
+		ChainElement edge= new ChainElement(member, false);
+		Set<ITypeRoot> dependencies= new HashSet<>();
+		addDependency(dependencies, member);
+		if (edge.getReturnType() != null)
+			addDependency(dependencies, edge.getReturnType().getType());
+		put(fEdges, member, new Entry<>(edge, dependencies), generation);
+		return edge;
+	}
+
+	/**
+	 * Tells whether a value of the given type can be assigned to the expected type, ignoring array
+	 * dimensions.
+	 *
+	 * @param type the type of the value
+	 * @param expectedType the expected type
+	 * @return <code>true</code> if <code>type</code> is the expected type or a subtype of it
+	 */
+	public boolean isAssignable(IType type, IType expectedType) {
+		String key= type.getHandleIdentifier() + '|' + expectedType.getHandleIdentifier();
+		long generation;
+		synchronized (this) {
+			Entry<Boolean> entry= fAssignable.get(key);
+			if (entry != null)
+				return entry.fValue.booleanValue();
+			generation= fGeneration;
+		}
+		boolean assignable= ChainElementAnalyzer.isAssignable(type, expectedType);
+		Set<ITypeRoot> dependencies= getDependencies(ChainElementAnalyzer.findAllSupertypesIncludingArgument(new ChainType(type)));
+		addDependency(dependencies, expectedType);
+		put(fAssignable, key, new Entry<>(Boolean.valueOf(assignable), dependencies), generation);
+		return assignable;
+	}
+
+	/**
+	 * Forgets all values.
+	 */
+	public synchronized void clear() {
+		fGeneration++;
+		fMembers.clear();
+		fEdges.clear();
+		fAssignable.clear();
+	}
+
+	private synchronized <K, T> void put(Map<K, Entry<T>> map, K key, Entry<T> entry, long generation) {
+		if (generation != fGeneration)
+			return;
+		if (map.size() >= MAX_ENTRIES)
+			map.clear();
+		map.put(key, entry);
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> changed= new HashSet<>();
+		if (processDelta(event.getDelta(), changed)) {
+			clear();
+		} else if (!changed.isEmpty()) {
+			forget(changed);
+		}
+	}
+
+	private synchronized void forget(Set<IJavaElement> changed) {
+		fGeneration++;
+		forget(fMembers, changed);
+		forget(fEdges, changed);
+		forget(fAssignable, changed);
+	}
+
+	private static <K, T> void forget(Map<K, Entry<T>> map, Set<IJavaElement> changed) {
+		for (Iterator<Entry<T>> iter= map.values().iterator(); iter.hasNext();) {
+			for (ITypeRoot dependency : iter.next().fDependencies) {
+				if (changed.contains(dependency)) {
+					iter.remove();
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the changed compilation units and class files of a delta.
+	 *
+	 * @param delta the delta
+	 * @param changed the set to which the changed compilation units and class files are added
+	 * @return <code>true</code> if all values must be forgotten
+	 */
+	private static boolean processDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return true;
+				changed.add(element);
+				return false;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return true;
+				int flags= delta.getFlags();
+				if ((flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+						| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0)
+					return true;
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (processDelta(child, changed))
+						return true;
+				}
+				return false;
+			default:
+				return false;
+		}
+	}
+
+	private static Set<ITypeRoot> getDependencies(List<IType> types) {
+		Set<ITypeRoot> dependencies= new HashSet<>();
+		for (IType type : types) {
+			addDependency(dependencies, type);
+		}
+		return dependencies;
+	}
+
+	private static void addDependency(Set<ITypeRoot> dependencies, IJavaElement element) {
+		if (element instanceof IMember) {
+			ITypeRoot typeRoot= ((IMember) element).getTypeRoot();
+			if (typeRoot != null)
+				dependencies.add(typeRoot);
+		}
+	}
+
+	private static String getHandle(IType type) {
+		return type == null ? "" : type.getHandleIdentifier(); //$NON-NLS-1$
+	}
+}
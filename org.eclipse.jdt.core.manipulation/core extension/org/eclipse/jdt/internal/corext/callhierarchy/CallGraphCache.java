@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+/**
+ * Caches the callers found by the call hierarchy and the ASTs used to find callees, so that
+ * reopening or refreshing a call hierarchy does not search again.
+ * <p>
+ * The callers of a member are kept across call hierarchy roots for the current search scope and
+ * filters. All entries are dropped when the search scope or the filters change, and when a Java
+ * element delta reports a change that can add or remove calls, including the reconcile of a
+ * working copy.
+ * </p>
+ *
+ * @since 1.16
+ */
+public final class CallGraphCache {
+
+	/** The maximum number of members whose callers are kept. */
+	private static final int MAX_CALLER_ENTRIES= 5000;
+
+	/** The maximum number of ASTs kept for finding callees. */
+	private static final int MAX_AST_ENTRIES= 3;
+
+	/** The delta flags that cannot add or remove calls. */
+	private static final int IRRELEVANT_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE;
+
+	private static CallGraphCache fgDefault;
+
+	private final Map<String, Map<String, MethodCall>> fCallers= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Map<String, MethodCall>> eldest) {
+			return size() > MAX_CALLER_ENTRIES;
+		}
+	};
+
+	private final Map<ITypeRoot, CompilationUnit> fASTs= new LinkedHashMap<>(MAX_AST_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ITypeRoot, CompilationUnit> eldest) {
+			return size() > MAX_AST_ENTRIES;
+		}
+	};
+
+	/** Identifies the search scope the cached callers were found in, or <code>null</code> if unknown. */
+	private String fScopeKey;
+
+	/** Incremented whenever the cached callers are dropped. */
+	private int fGeneration;
+
+	private CallGraphCache() {
+		IElementChangedListener listener= event -> {
+			if (isRelevant(event.getDelta()))
+				clear();
+		};
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the shared cache.
+	 *
+	 * @return the cache
+	 */
+	public static synchronized CallGraphCache getDefault() {
+		if (fgDefault == null)
+			fgDefault= new CallGraphCache();
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the cached callers of a member.
+	 *
+	 * @param member the called member
+	 * @param limitTo the search limit used to find the callers
+	 * @return a copy of the map from handle identifier to {@link MethodCall}, or <code>null</code>
+	 *         if the callers are not cached
+	 */
+	public synchronized Map<String, MethodCall> getCallers(IMember member, int limitTo) {
+		Map<String, MethodCall> callers= fCallers.get(getKey(member, limitTo));
+		return callers != null ? new HashMap<>(callers) : null;
+	}
+
+	/**
+	 * Returns the generation of the cached callers. Searches remember the generation when they
+	 * start, so that their results are not cached if the cache was dropped in the meantime.
+	 *
+	 * @return the generation
+	 */
+	public synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Caches the callers of a member, unless the cache has been dropped since the search started.
+	 *
+	 * @param member the called member
+	 * @param limitTo the search limit used to find the callers
+	 * @param callers the map from handle identifier to {@link MethodCall}
+	 * @param generation the generation when the search started
+	 */
+	public synchronized void putCallers(IMember member, int limitTo, Map<String, MethodCall> callers, int generation) {
+		if (generation == fGeneration)
+			fCallers.put(getKey(member, limitTo), new HashMap<>(callers));
+	}
+
+	/**
+	 * Drops the cached callers of a member, so that they are searched again.
+	 *
+	 * @param member the called member
+	 */
+	public synchronized void removeCallers(IMember member) {
+		String prefix= member.getHandleIdentifier() + '|';
+		fCallers.keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	/**
+	 * Returns whether the callers of a member are cached.
+	 *
+	 * @param member the called member
+	 * @param limitTo the search limit used to find the callers
+	 * @return <code>true</code> if the callers are cached
+	 */
+	public synchronized boolean hasCallers(IMember member, int limitTo) {
+		return fCallers.containsKey(getKey(member, limitTo));
+	}
+
+	private static String getKey(IMember member, int limitTo) {
+		StringBuilder key= new StringBuilder(member.getHandleIdentifier());
+		key.append('|').append(limitTo);
+		key.append('|').append(CallHierarchyCore.getDefault().isFilterTestCode());
+		return key.toString();
+	}
+
+	/**
+	 * Returns an AST with resolved bindings of the type root of a member. The AST of the editor is
+	 * used if it is available, otherwise the ASTs created for the last members are shared.
+	 *
+	 * @param member the member
+	 * @return the AST, or <code>null</code> if the type root has no source
+	 */
+	public CompilationUnit getCompilationUnitNode(IMember member) {
+		ITypeRoot typeRoot= member.getTypeRoot();
+		CompilationUnit ast= SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_NO, null);
+		if (ast != null)
+			return ast;
+		synchronized (this) {
+			ast= fASTs.get(typeRoot);
+		}
+		if (ast == null) {
+			ast= CallHierarchyCore.getCompilationUnitNode(member, true);
+			if (ast != null) {
+				synchronized (this) {
+					fASTs.put(typeRoot, ast);
+				}
+			}
+		}
+		return ast;
+	}
+
+	/**
+	 * Notifies the cache that the search scope has changed. The cached callers are kept if the
+	 * new scope has the same key as the previous one.
+	 *
+	 * @param scopeKey a key identifying the new scope, or <code>null</code> if the scope cannot be
+	 *            identified
+	 */
+	public synchronized void scopeChanged(String scopeKey) {
+		if (scopeKey == null || !scopeKey.equals(fScopeKey))
+			clearCallers();
+		fScopeKey= scopeKey;
+	}
+
+	/**
+	 * Drops the cached callers, for example when the filters have changed.
+	 */
+	public synchronized void clearCallers() {
+		fCallers.clear();
+		fGeneration++;
+	}
+
+	/**
+	 * Drops all cached callers and ASTs.
+	 */
+	public synchronized void clear() {
+		clearCallers();
+		fASTs.clear();
+	}
+
+	private static boolean isRelevant(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		if ((delta.getFlags() & ~IRRELEVANT_FLAGS) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isRelevant(child))
+				return true;
+		}
+		return false;
+	}
+}
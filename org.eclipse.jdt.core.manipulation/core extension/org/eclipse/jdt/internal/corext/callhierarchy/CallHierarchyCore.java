@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.StringTokenizer;
 
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jdt.core.IJavaElement;
@@ -177,6 +178,26 @@ public class CallHierarchyCore {
     }
 
     public void setSearchScope(IJavaSearchScope searchScope) {
+        setSearchScope(searchScope, null);
+    }
+
+    /**
+     * Sets the search scope. The callers cached for the previous scope are kept if both scopes
+     * have the same description and enclose the same projects and jars.
+     *
+     * @param searchScope the search scope
+     * @param description the description of the scope, or <code>null</code> if unknown
+     */
+    public void setSearchScope(IJavaSearchScope searchScope, String description) {
+        String scopeKey= null;
+        if (searchScope != null && description != null) {
+            StringBuilder key= new StringBuilder(description);
+            for (IPath path : searchScope.enclosingProjectsAndJars()) {
+                key.append('|').append(path);
+            }
+            scopeKey= key.toString();
+        }
+        CallGraphCache.getDefault().scopeChanged(scopeKey);
         this.fSearchScope= searchScope;
     }
 
@@ -229,6 +250,7 @@ public class CallHierarchyCore {
      */
     public void resetFilters() {
     	fFilters= null;
+    	CallGraphCache.getDefault().clearCallers();
     }
 
     /**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,32 +18,102 @@
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 public class CallerMethodWrapper extends MethodWrapper {
+
+	/**
+	 * The maximum number of methods searched together with one OR pattern.
+	 */
+	private static final int MAX_BATCH_SIZE= 50;
+
+	/**
+	 * Dispatches the matches of a search for several methods with distinct names to one requestor
+	 * per method. The referenced method is identified by the name at the start of the match.
+	 */
+	private static class BatchSearchRequestor extends SearchRequestor {
+
+		private final Map<String, MethodReferencesSearchRequestor> fRequestors= new HashMap<>();
+
+		private boolean fFailed;
+
+		BatchSearchRequestor(Set<String> names) {
+			for (String name : names) {
+				fRequestors.put(name, new MethodReferencesSearchRequestor());
+			}
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) {
+			// matches ignored by MethodReferencesSearchRequestor don't have to be dispatched
+			if (fFailed || match.getAccuracy() != SearchMatch.A_ACCURATE || match.isInsideDocComment())
+				return;
+			MethodReferencesSearchRequestor requestor= fRequestors.get(getReferencedName(match));
+			if (requestor != null)
+				requestor.acceptSearchMatch(match);
+			else
+				fFailed= true;
+		}
+
+		private static String getReferencedName(SearchMatch match) {
+			if (!(match.getElement() instanceof IJavaElement))
+				return null;
+			try {
+				IOpenable openable= ((IJavaElement) match.getElement()).getOpenable();
+				IBuffer buffer= openable != null ? openable.getBuffer() : null;
+				if (buffer == null || match.getOffset() < 0 || match.getOffset() + match.getLength() > buffer.getLength())
+					return null;
+				String text= buffer.getText(match.getOffset(), match.getLength());
+				int end= 0;
+				while (end < text.length() && Character.isJavaIdentifierPart(text.charAt(end)))
+					end++;
+				return text.substring(0, end);
+			} catch (JavaModelException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * @return <code>false</code> if a match could not be attributed to one of the methods
+		 */
+		boolean isResolved() {
+			return !fFailed;
+		}
+
+		Map<String, MethodCall> getCallers(String name) {
+			return fRequestors.get(name).getCallers();
+		}
+	}
 	/**
 	 * Value of the expand with constructors mode.
 	 *
@@ -137,24 +207,41 @@ public class CallerMethodWrapper extends MethodWrapper {
 							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 				}
 			}
+			int limitTo= IJavaSearchConstants.REFERENCES;
+			if (member.getElementType() == IJavaElement.FIELD)
+				limitTo= getFieldSearchMode();
 			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
 				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 			}
 			if (pattern == null) { // e.g. for initializers
 				return new HashMap<>(0);
 			}
 
+			CallGraphCache cache= CallGraphCache.getDefault();
+			Map<String, MethodCall> callers= cache.getCallers(member, limitTo);
+			if (callers != null) {
+				return callers;
+			}
+			int generation= cache.getGeneration();
+
+			IJavaSearchScope defaultSearchScope= getSearchScope();
+			if (isBatchable(member)) {
+				// search the callers of the not yet expanded siblings together with this method
+				callers= findCallersWithSiblings((IMethod) member, defaultSearchScope, generation, monitor.split(90));
+				if (callers != null) {
+					return callers;
+				}
+			}
+
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
 			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
 					monitor);
-			return searchRequestor.getCallers();
+			callers= searchRequestor.getCallers();
+			cache.putCallers(member, limitTo, callers, generation);
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +249,75 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	/**
+	 * Searches the callers of the given method and of the sibling methods whose callers are not
+	 * known yet with one OR pattern, and caches them. Only methods with a name that is unique among
+	 * them are searched together, so that each match can be attributed to a method by its name.
+	 *
+	 * @return the callers of the given method, or <code>null</code> if there are no siblings to
+	 *         search or the matches could not be attributed
+	 */
+	private Map<String, MethodCall> findCallersWithSiblings(IMethod method, IJavaSearchScope scope, int generation, IProgressMonitor monitor) throws CoreException {
+		MethodWrapper parent= getParent();
+		Map<String, MethodCall> siblings= parent != null ? parent.getFoundCalls() : null;
+		if (siblings == null)
+			return null;
+
+		CallGraphCache cache= CallGraphCache.getDefault();
+		Map<String, IMethod> methods= new LinkedHashMap<>();
+		Set<String> ambiguousNames= new HashSet<>();
+		methods.put(method.getElementName(), method);
+		for (MethodCall sibling : siblings.values()) {
+			IMember member= sibling.getMember();
+			if (member.equals(method) || !isBatchable(member) || cache.hasCallers(member, IJavaSearchConstants.REFERENCES))
+				continue;
+			if (methods.putIfAbsent(member.getElementName(), (IMethod) member) != null)
+				ambiguousNames.add(member.getElementName());
+		}
+		if (ambiguousNames.contains(method.getElementName()))
+			return null;
+		methods.keySet().removeAll(ambiguousNames);
+		if (methods.size() < 2)
+			return null;
+
+		// the method itself was added first
+		Map<String, IMethod> batch= new LinkedHashMap<>();
+		SearchPattern pattern= null;
+		for (Map.Entry<String, IMethod> entry : methods.entrySet()) {
+			if (batch.size() == MAX_BATCH_SIZE)
+				break;
+			SearchPattern currentPattern= SearchPattern.createPattern(entry.getValue(), IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			if (currentPattern == null)
+				return null;
+			pattern= pattern == null ? currentPattern : SearchPattern.createOrPattern(pattern, currentPattern);
+			batch.put(entry.getKey(), entry.getValue());
+		}
+
+		BatchSearchRequestor requestor= new BatchSearchRequestor(batch.keySet());
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, requestor, monitor);
+		if (!requestor.isResolved())
+			return null;
+		for (Map.Entry<String, IMethod> entry : batch.entrySet()) {
+			cache.putCallers(entry.getValue(), IJavaSearchConstants.REFERENCES, requestor.getCallers(entry.getKey()), generation);
+		}
+		return requestor.getCallers(method.getElementName());
+	}
+
+	/**
+	 * Returns whether the callers of a member can be searched together with other members.
+	 * Constructors are referenced by type names, and private methods are searched in a narrower
+	 * scope.
+	 */
+	private static boolean isBatchable(IMember member) {
+		if (!(member instanceof IMethod))
+			return false;
+		try {
+			return !((IMethod) member).isConstructor() && !JdtFlags.isPrivate(member);
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (! JdtFlags.isPrivate(member))
 			return defaultSearchScope;
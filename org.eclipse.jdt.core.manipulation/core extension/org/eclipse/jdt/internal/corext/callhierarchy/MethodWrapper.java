@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -103,6 +103,16 @@ public abstract class MethodWrapper extends PlatformObject {
         return fLevel;
     }
 
+    /**
+     * Returns the calls found for this wrapper so far.
+     *
+     * @return a map from handle identifier ({@link String}) to {@link MethodCall}, or
+     *         <code>null</code> if the calls have not been searched yet
+     */
+    Map<String, MethodCall> getFoundCalls() {
+        return fElements;
+    }
+
     public IMember getMember() {
         return getMethodCall().getMember();
     }
@@ -331,6 +341,7 @@ public abstract class MethodWrapper extends PlatformObject {
 	public void removeFromCache() {
 		fElements= null;
 		fMethodCache.remove(getMethodCall().getKey());
+		CallGraphCache.getDefault().removeCallers(getMember());
 	}
 
 	@Override
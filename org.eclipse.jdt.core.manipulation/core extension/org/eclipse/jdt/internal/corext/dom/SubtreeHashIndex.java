@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+
+/**
+ * The structural hashes of all subtrees of an AST subtree.
+ * <p>
+ * Subtrees that match with {@link JdtASTMatcher}, or with a matcher that in addition lets local
+ * variables and parameters match other local variables and parameters, have the same hash. The
+ * hash can therefore be used to find the candidates of a match, which then only have to be
+ * confirmed with the matcher. The hash of a subtree is computed from the node types, the values of
+ * the simple properties and the hashes of the children. All names of local variables and
+ * parameters hash the same. Javadoc comments contribute only their node type.
+ * </p>
+ * <p>
+ * The index is owned by the client that creates it and is not remembered on the AST, since ASTs
+ * are shared and an index holds an entry for every indexed node. Clients create the index for the
+ * smallest subtree they search and drop it when done. The index does not reflect later
+ * modifications of the AST.
+ * </p>
+ *
+ * @since 1.16
+ */
+public final class SubtreeHashIndex {
+
+	/** The hash of the name of a local variable or parameter. */
+	private static final int LOCAL_VARIABLE_HASH= 0x5a17e5;
+
+	private static final int HASH= 0;
+	private static final int SIZE= 1;
+
+	/** The hash and the size of the subtree by node. */
+	private final Map<ASTNode, int[]> fInfos= new HashMap<>();
+
+	/** The nodes by hash, created on demand. */
+	private Map<Integer, List<ASTNode>> fNodesByHash;
+
+	private SubtreeHashIndex(ASTNode root) {
+		root.accept(new ASTVisitor(true) {
+			@Override
+			public void postVisit(ASTNode node) {
+				fInfos.put(node, computeInfo(node));
+			}
+		});
+	}
+
+	/**
+	 * Creates the index of the subtree rooted at the given node.
+	 *
+	 * @param root the root of the subtree to index
+	 * @return the index of the subtree
+	 */
+	public static SubtreeHashIndex create(ASTNode root) {
+		return new SubtreeHashIndex(root);
+	}
+
+	/**
+	 * Computes the hash of the subtree rooted at the given node. The hash is the same as the one
+	 * returned by the index of any subtree containing the node.
+	 *
+	 * @param node the root of the subtree
+	 * @return the hash of the subtree
+	 */
+	public static int computeHash(ASTNode node) {
+		return create(node).getHash(node);
+	}
+
+	/**
+	 * Returns the hash of the subtree rooted at the given node.
+	 *
+	 * @param node a node of the indexed subtree
+	 * @return the hash of the subtree
+	 */
+	public int getHash(ASTNode node) {
+		return getInfo(node)[HASH];
+	}
+
+	/**
+	 * Returns the number of nodes of the subtree rooted at the given node.
+	 *
+	 * @param node a node of the indexed subtree
+	 * @return the number of nodes of the subtree, including the node itself
+	 */
+	public int getSize(ASTNode node) {
+		return getInfo(node)[SIZE];
+	}
+
+	/**
+	 * Returns the nodes of the indexed subtree whose subtree has the given hash.
+	 *
+	 * @param hash the hash
+	 * @return the nodes, in no particular order
+	 */
+	public synchronized List<ASTNode> getNodes(int hash) {
+		if (fNodesByHash == null) {
+			fNodesByHash= new HashMap<>();
+			for (Map.Entry<ASTNode, int[]> entry : fInfos.entrySet()) {
+				fNodesByHash.computeIfAbsent(Integer.valueOf(entry.getValue()[HASH]), h -> new ArrayList<>(1)).add(entry.getKey());
+			}
+		}
+		List<ASTNode> nodes= fNodesByHash.get(Integer.valueOf(hash));
+		return nodes != null ? Collections.unmodifiableList(nodes) : Collections.emptyList();
+	}
+
+	private int[] getInfo(ASTNode node) {
+		int[] info= fInfos.get(node);
+		Assert.isLegal(info != null, "node is not part of the indexed subtree"); //$NON-NLS-1$
+		return info;
+	}
+
+	private int[] computeInfo(ASTNode node) {
+		int hash= node.getNodeType();
+		int size= 1;
+		if (node.getNodeType() == ASTNode.JAVADOC) {
+			// matchers compare the comment text, which the hashes of the tags do not reflect
+			return new int[] { hash, size };
+		}
+		for (Object element : node.structuralPropertiesForType()) {
+			StructuralPropertyDescriptor property= (StructuralPropertyDescriptor) element;
+			Object value= node.getStructuralProperty(property);
+			if (property.isSimpleProperty()) {
+				if (property == SimpleName.IDENTIFIER_PROPERTY)
+					hash= 31 * hash + getIdentifierHash((SimpleName) node);
+				else
+					hash= 31 * hash + (value != null ? value.toString().hashCode() : 0);
+			} else if (property.isChildProperty()) {
+				if (value != null) {
+					int[] info= fInfos.get(value);
+					hash= 31 * hash + info[HASH];
+					size+= info[SIZE];
+				} else {
+					hash= 31 * hash;
+				}
+			} else {
+				List<?> children= (List<?>) value;
+				hash= 31 * hash + children.size();
+				for (Object child : children) {
+					int[] info= fInfos.get(child);
+					hash= 31 * hash + info[HASH];
+					size+= info[SIZE];
+				}
+			}
+		}
+		return new int[] { hash, size };
+	}
+
+	private static int getIdentifierHash(SimpleName name) {
+		if (canBeVariable(name)) {
+			IBinding binding= name.resolveBinding();
+			if (binding instanceof IVariableBinding && !((IVariableBinding) binding).isField())
+				return LOCAL_VARIABLE_HASH;
+		}
+		return name.getIdentifier().hashCode();
+	}
+
+	private static boolean canBeVariable(SimpleName name) {
+		StructuralPropertyDescriptor location= name.getLocationInParent();
+		return location != MethodInvocation.NAME_PROPERTY
+				&& location != SuperMethodInvocation.NAME_PROPERTY
+				&& location != MethodDeclaration.NAME_PROPERTY
+				&& location != SimpleType.NAME_PROPERTY;
+	}
+}
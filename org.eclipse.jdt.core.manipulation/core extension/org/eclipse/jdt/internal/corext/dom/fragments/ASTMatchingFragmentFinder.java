@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.Javadoc;
 
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+import org.eclipse.jdt.internal.corext.dom.SubtreeHashIndex;
 
 class ASTMatchingFragmentFinder extends GenericVisitor {
 
@@ -38,9 +39,33 @@ class ASTMatchingFragmentFinder extends GenericVisitor {
 	}
 	private IASTFragment[] findMatches(ASTNode scope) {
 		fMatches.clear();
-		scope.accept(this);
+		if (fFragmentToMatch instanceof SimpleFragment) {
+			// a simple fragment can only match subtrees with the same hash
+			ASTNode toMatch= fFragmentToMatch.getAssociatedNode();
+			int hash= SubtreeHashIndex.computeHash(toMatch);
+			for (ASTNode candidate : SubtreeHashIndex.create(scope).getNodes(hash)) {
+				if (isVisited(candidate, scope))
+					visitNode(candidate);
+			}
+		} else {
+			scope.accept(this);
+		}
 		return getMatches();
 	}
+
+	/**
+	 * Tests whether the given node is visited when the scope is visited, i.e. whether it is in the
+	 * scope and not in a Javadoc comment below the scope.
+	 */
+	private static boolean isVisited(ASTNode node, ASTNode scope) {
+		for (ASTNode current= node; current != null; current= current.getParent()) {
+			if (current instanceof Javadoc)
+				return false;
+			if (current == scope)
+				return true;
+		}
+		return false;
+	}
 	private IASTFragment[] getMatches() {
 		return fMatches.toArray(new IASTFragment[fMatches.size()]);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.fix;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -27,15 +32,18 @@ import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.TypeLocation;
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
@@ -63,6 +71,41 @@ public class CompilationUnitRewriteOperationsFixCore extends AbstractFixCore {
 		}
 	}
 
+	/**
+	 * Adds the finders of a clean up to a traversal of its AST that may be shared with other clean
+	 * ups. Every finder collects its operations in a list of its own, so that the operations are in
+	 * the same order as when the finders visit the AST one after the other.
+	 *
+	 * @param traversal the traversal
+	 * @param fix creates the fix from the operations that have been found
+	 * @param finders create the finders, each adding the operations it finds to the given list
+	 * @return the computation that creates the fix once the traversal has run. It returns
+	 *         <code>null</code> if no operation has been found.
+	 */
+	@SafeVarargs
+	protected static <T extends CompilationUnitRewriteOperation> Supplier<ICleanUpFixCore> addFinders(SharedASTTraversal traversal,
+			Function<CompilationUnitRewriteOperation[], ICleanUpFixCore> fix, Function<List<T>, ? extends ASTVisitor>... finders) {
+		List<List<T>> operationsByFinder= new ArrayList<>(finders.length);
+		for (Function<List<T>, ? extends ASTVisitor> finder : finders) {
+			List<T> operations= new ArrayList<>();
+			operationsByFinder.add(operations);
+			traversal.add(finder.apply(operations));
+		}
+
+		return () -> {
+			List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
+			for (List<T> finderOperations : operationsByFinder) {
+				operations.addAll(finderOperations);
+			}
+
+			if (operations.isEmpty()) {
+				return null;
+			}
+
+			return fix.apply(operations.toArray(new CompilationUnitRewriteOperation[0]));
+		};
+	}
+
 	private final CompilationUnitRewriteOperation[] fOperations;
 	private final CompilationUnit fCompilationUnit;
 	protected LinkedProposalModelCore fLinkedProposalModel;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,30 +13,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.fix;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
 
-public class PrimitiveRatherThanWrapperFixCore extends CompilationUnitRewriteOperationsFixCore {
-	public static ICleanUpFixCore createCleanUp(final CompilationUnit compilationUnit) {
-		List<CompilationUnitRewriteOperation> operations= new ArrayList<>();
-		compilationUnit.accept(new PrimitiveBooleanRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveCharRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveByteRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveShortRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveIntRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveLongRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveFloatRatherThanWrapperFinder(operations));
-		compilationUnit.accept(new PrimitiveDoubleRatherThanWrapperFinder(operations));
-
-		if (operations.isEmpty()) {
-			return null;
-		}
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 
-		CompilationUnitRewriteOperation[] ops= operations.toArray(new CompilationUnitRewriteOperation[0]);
-		return new PrimitiveRatherThanWrapperFixCore(FixMessages.PrimitiveRatherThanWrapperFix_description, compilationUnit, ops);
+public class PrimitiveRatherThanWrapperFixCore extends CompilationUnitRewriteOperationsFixCore {
+	public static Supplier<ICleanUpFixCore> createCleanUp(final CompilationUnit compilationUnit, final SharedASTTraversal traversal) {
+		return addFinders(traversal, ops -> new PrimitiveRatherThanWrapperFixCore(FixMessages.PrimitiveRatherThanWrapperFix_description, compilationUnit, ops),
+				PrimitiveBooleanRatherThanWrapperFinder::new,
+				PrimitiveCharRatherThanWrapperFinder::new,
+				PrimitiveByteRatherThanWrapperFinder::new,
+				PrimitiveShortRatherThanWrapperFinder::new,
+				PrimitiveIntRatherThanWrapperFinder::new,
+				PrimitiveLongRatherThanWrapperFinder::new,
+				PrimitiveFloatRatherThanWrapperFinder::new,
+				PrimitiveDoubleRatherThanWrapperFinder::new);
 	}
 
 	protected PrimitiveRatherThanWrapperFixCore(final String name, final CompilationUnit compilationUnit, final CompilationUnitRewriteOperation[] fixRewriteOperations) {
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.SubtreeHashIndex;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTBatchParser;
+
+/**
+ * Finds statements that are duplicated in a set of compilation units. Two statements are
+ * duplicates if they have the same structure and refer to the same elements, except for local
+ * variables and parameters, which only have to be used consistently.
+ * <p>
+ * The compilation units are parsed twice. The first pass records the {@link SubtreeHashIndex
+ * subtree hash} of every statement that is large enough. The second pass only parses the units
+ * containing statements whose hash is not unique, and confirms the duplicates by comparing a
+ * normalized form of the statements. No AST is kept between the units.
+ * </p>
+ *
+ * @since 1.16
+ */
+public final class DuplicateCodeFinder {
+
+	/**
+	 * The default minimum number of AST nodes of a duplicated statement.
+	 */
+	public static final int DEFAULT_MINIMUM_SIZE= 40;
+
+	/**
+	 * The location of a statement.
+	 */
+	public static final class Location {
+		private final ICompilationUnit fUnit;
+		private final int fOffset;
+		private final int fLength;
+
+		Location(ICompilationUnit unit, int offset, int length) {
+			fUnit= unit;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		public ICompilationUnit getCompilationUnit() {
+			return fUnit;
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public int getLength() {
+			return fLength;
+		}
+
+		@Override
+		public int hashCode() {
+			return (fUnit.hashCode() * 31 + fOffset) * 31 + fLength;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Location))
+				return false;
+			Location other= (Location) obj;
+			return fOffset == other.fOffset && fLength == other.fLength && fUnit.equals(other.fUnit);
+		}
+	}
+
+	/**
+	 * A statement that occurs more than once.
+	 */
+	public static final class Duplicate {
+		private final List<Location> fLocations;
+		private final int fSize;
+
+		Duplicate(List<Location> locations, int size) {
+			fLocations= Collections.unmodifiableList(locations);
+			fSize= size;
+		}
+
+		/**
+		 * @return the locations of the occurrences, at least two
+		 */
+		public List<Location> getLocations() {
+			return fLocations;
+		}
+
+		/**
+		 * @return the number of AST nodes of the statement
+		 */
+		public int getSize() {
+			return fSize;
+		}
+	}
+
+	/**
+	 * A statement found in the first pass.
+	 */
+	private static final class Candidate {
+		final Location fLocation;
+		final int fSize;
+		/** The location of the enclosing statement, or <code>null</code>. */
+		final Location fParent;
+
+		Candidate(Location location, int size, Location parent) {
+			fLocation= location;
+			fSize= size;
+			fParent= parent;
+		}
+	}
+
+	private final int fMinimumSize;
+
+	/**
+	 * @param minimumSize the minimum number of AST nodes of a duplicated statement
+	 */
+	public DuplicateCodeFinder(int minimumSize) {
+		fMinimumSize= minimumSize;
+	}
+
+	/**
+	 * Returns the source compilation units of a project.
+	 *
+	 * @param project the project
+	 * @return the compilation units
+	 * @throws JavaModelException if the project could not be accessed
+	 */
+	public static ICompilationUnit[] getCompilationUnits(IJavaProject project) throws JavaModelException {
+		List<ICompilationUnit> result= new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (Object child : root.getChildren()) {
+				Collections.addAll(result, ((IPackageFragment) child).getCompilationUnits());
+			}
+		}
+		return result.toArray(new ICompilationUnit[result.size()]);
+	}
+
+	/**
+	 * Finds the duplicated statements in the given compilation units. A statement is not reported
+	 * if all its occurrences are part of the occurrences of a larger duplicated statement.
+	 *
+	 * @param units the compilation units
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the duplicates, largest first
+	 * @throws CoreException if a compilation unit could not be parsed
+	 */
+	public List<Duplicate> findDuplicates(ICompilationUnit[] units, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, 10);
+
+		Map<Integer, List<Candidate>> candidatesByHash= new HashMap<>();
+		createParser().process(units, (unit, root) -> collectCandidates(unit, root, candidatesByHash), subMonitor.split(6));
+
+		Map<ICompilationUnit, Map<Location, Candidate>> candidatesByUnit= new LinkedHashMap<>();
+		for (List<Candidate> candidates : candidatesByHash.values()) {
+			if (candidates.size() < 2)
+				continue;
+			for (Candidate candidate : candidates) {
+				candidatesByUnit.computeIfAbsent(candidate.fLocation.getCompilationUnit(), unit -> new HashMap<>()).put(candidate.fLocation, candidate);
+			}
+		}
+		candidatesByHash.clear();
+
+		Map<String, List<Candidate>> candidatesByForm= new HashMap<>();
+		if (!candidatesByUnit.isEmpty()) {
+			ICompilationUnit[] candidateUnits= candidatesByUnit.keySet().toArray(new ICompilationUnit[candidatesByUnit.size()]);
+			createParser().process(candidateUnits, (unit, root) -> normalizeCandidates(unit, root, candidatesByUnit.get(unit), candidatesByForm), subMonitor.split(4));
+		}
+		return createDuplicates(candidatesByForm);
+	}
+
+	private RefactoringASTBatchParser createParser() {
+		RefactoringASTBatchParser parser= new RefactoringASTBatchParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setStatementsRecovery(IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY);
+		parser.setBindingsRecovery(IASTSharedValues.SHARED_BINDING_RECOVERY);
+		return parser;
+	}
+
+	private void collectCandidates(ICompilationUnit unit, CompilationUnit root, Map<Integer, List<Candidate>> candidatesByHash) {
+		SubtreeHashIndex index= SubtreeHashIndex.create(root);
+		root.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				if (!(node instanceof Statement))
+					return;
+				int size= index.getSize(node);
+				if (size < fMinimumSize)
+					return;
+				Candidate candidate= new Candidate(getLocation(unit, node), size, getParentLocation(unit, node));
+				candidatesByHash.computeIfAbsent(Integer.valueOf(index.getHash(node)), hash -> new ArrayList<>(2)).add(candidate);
+			}
+		});
+	}
+
+	private void normalizeCandidates(ICompilationUnit unit, CompilationUnit root, Map<Location, Candidate> candidates, Map<String, List<Candidate>> candidatesByForm) {
+		root.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				if (!(node instanceof Statement))
+					return;
+				Candidate candidate= candidates.get(getLocation(unit, node));
+				if (candidate != null)
+					candidatesByForm.computeIfAbsent(getNormalizedForm(node), form -> new ArrayList<>(2)).add(candidate);
+			}
+		});
+	}
+
+	private static List<Duplicate> createDuplicates(Map<String, List<Candidate>> candidatesByForm) {
+		Map<Location, List<Candidate>> groupByLocation= new HashMap<>();
+		for (List<Candidate> group : candidatesByForm.values()) {
+			if (group.size() < 2)
+				continue;
+			for (Candidate candidate : group) {
+				groupByLocation.put(candidate.fLocation, group);
+			}
+		}
+
+		List<Duplicate> result= new ArrayList<>();
+		for (List<Candidate> group : candidatesByForm.values()) {
+			if (group.size() < 2 || isPartOfLargerDuplicate(group, groupByLocation))
+				continue;
+			List<Location> locations= new ArrayList<>(group.size());
+			for (Candidate candidate : group) {
+				locations.add(candidate.fLocation);
+			}
+			result.add(new Duplicate(locations, group.get(0).fSize));
+		}
+		result.sort((d1, d2) -> Integer.compare(d2.getSize(), d1.getSize()));
+		return result;
+	}
+
+	private static boolean isPartOfLargerDuplicate(List<Candidate> group, Map<Location, List<Candidate>> groupByLocation) {
+		List<Candidate> parentGroup= null;
+		for (Candidate candidate : group) {
+			List<Candidate> current= candidate.fParent != null ? groupByLocation.get(candidate.fParent) : null;
+			if (current == null || parentGroup != null && current != parentGroup)
+				return false;
+			parentGroup= current;
+		}
+		return true;
+	}
+
+	private static Location getLocation(ICompilationUnit unit, ASTNode node) {
+		return new Location(unit, node.getStartPosition(), node.getLength());
+	}
+
+	private static Location getParentLocation(ICompilationUnit unit, ASTNode node) {
+		for (ASTNode parent= node.getParent(); parent != null; parent= parent.getParent()) {
+			if (parent instanceof Statement)
+				return getLocation(unit, parent);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a normalized form of a subtree. Two subtrees have the same form if they have the
+	 * same structure, their names refer to the same elements, and their local variables and
+	 * parameters are used consistently.
+	 */
+	private static String getNormalizedForm(ASTNode node) {
+		StringBuilder buf= new StringBuilder();
+		Map<String, Integer> locals= new HashMap<>();
+		node.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode current) {
+				buf.append('(').append(current.getNodeType());
+				if (current instanceof SimpleName) {
+					appendName((SimpleName) current);
+					return;
+				}
+				for (Object element : current.structuralPropertiesForType()) {
+					StructuralPropertyDescriptor property= (StructuralPropertyDescriptor) element;
+					if (property.isSimpleProperty())
+						buf.append(' ').append(current.getStructuralProperty(property));
+					else if (property.isChildListProperty())
+						buf.append(' ').append(((List<?>) current.getStructuralProperty(property)).size());
+				}
+			}
+
+			@Override
+			public void postVisit(ASTNode current) {
+				buf.append(')');
+			}
+
+			private void appendName(SimpleName name) {
+				IBinding binding= name.resolveBinding();
+				if (binding instanceof IVariableBinding && !((IVariableBinding) binding).isField() && binding.getKey() != null) {
+					IVariableBinding variable= (IVariableBinding) binding;
+					Integer local= locals.computeIfAbsent(variable.getKey(), key -> Integer.valueOf(locals.size()));
+					buf.append(" $").append(local).append(' ').append(variable.getType().getKey());
+				} else if (binding != null && binding.getKey() != null) {
+					buf.append(' ').append(binding.getKey());
+				} else {
+					buf.append(' ').append(name.getIdentifier());
+				}
+			}
+		});
+		return buf.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationRefa
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTBatchParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -287,69 +288,93 @@ public class InlineMethodRefactoring extends Refactoring {
 		checkOverridden(result, new SubProgressMonitor(pm, 4));
 		IProgressMonitor sub= new SubProgressMonitor(pm, 15);
 		sub.beginTask("", units.length * 3); //$NON-NLS-1$
-		for (ICompilationUnit unit : units) {
-			sub.subTask(Messages.format(RefactoringCoreMessages.InlineMethodRefactoring_processing,  BasicElementLabels.getFileName(unit)));
-			CallInliner inliner= null;
-			try {
-				boolean added= false;
-				MultiTextEdit root= new MultiTextEdit();
-				CompilationUnitChange change= (CompilationUnitChange)fChangeManager.get(unit);
-				change.setEdit(root);
-				BodyDeclaration[] bodies= fTargetProvider.getAffectedBodyDeclarations(unit, new SubProgressMonitor(pm, 1));
-				if (bodies.length == 0)
-					continue;
-				inliner= new CallInliner(unit, (CompilationUnit) bodies[0].getRoot(), fSourceProvider);
-				for (BodyDeclaration body : bodies) {
-					inliner.initialize(body);
-					RefactoringStatus nestedInvocations= new RefactoringStatus();
-					ASTNode[] invocations= removeNestedCalls(nestedInvocations, unit,
-						fTargetProvider.getInvocations(body, new SubProgressMonitor(sub, 2)));
-					for (ASTNode invocation : invocations) {
-						result.merge(inliner.initialize(invocation, fTargetProvider.getStatusSeverity()));
-						if (result.hasFatalError())
-							break;
-						if (result.getSeverity() < fTargetProvider.getStatusSeverity()) {
-							added= true;
-							TextEditGroup group= new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_inline);
-							change.addTextEditGroup(group);
-							result.merge(inliner.perform(group));
-						} else {
-							fDeleteSource= false;
-						}
-					}
-					// do this after we have inlined the method calls. We still want
-					// to generate the modifications.
-					if (!nestedInvocations.isOK()) {
-						result.merge(nestedInvocations);
+		if (fTargetProvider.needsASTs() && units.length > 1) {
+			RefactoringASTBatchParser parser= new RefactoringASTBatchParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setStatementsRecovery(IASTSharedValues.SHARED_AST_STATEMENT_RECOVERY);
+			parser.setBindingsRecovery(IASTSharedValues.SHARED_BINDING_RECOVERY);
+			parser.process(units, (unit, astRoot) -> inlineCalls(unit, astRoot, result, pm, sub), null);
+		} else {
+			for (ICompilationUnit unit : units) {
+				inlineCalls(unit, null, result, pm, sub);
+			}
+		}
+		result.merge(searchStatus);
+		sub.done();
+		pm.done();
+		return result;
+	}
+
+	/**
+	 * Inlines the calls in a compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 * @param astRoot the AST of the compilation unit, or <code>null</code> if the target provider
+	 *            creates it
+	 * @param result the status to which problems are added
+	 * @param pm the progress monitor of the refactoring
+	 * @param sub the progress monitor for the processed units
+	 * @throws CoreException if the calls cannot be inlined
+	 */
+	private void inlineCalls(ICompilationUnit unit, CompilationUnit astRoot, RefactoringStatus result, IProgressMonitor pm, IProgressMonitor sub) throws CoreException {
+		sub.subTask(Messages.format(RefactoringCoreMessages.InlineMethodRefactoring_processing,  BasicElementLabels.getFileName(unit)));
+		CallInliner inliner= null;
+		try {
+			boolean added= false;
+			MultiTextEdit root= new MultiTextEdit();
+			CompilationUnitChange change= (CompilationUnitChange)fChangeManager.get(unit);
+			change.setEdit(root);
+			BodyDeclaration[] bodies= astRoot != null
+					? fTargetProvider.getAffectedBodyDeclarations(unit, astRoot, new SubProgressMonitor(pm, 1))
+					: fTargetProvider.getAffectedBodyDeclarations(unit, new SubProgressMonitor(pm, 1));
+			if (bodies.length == 0)
+				return;
+			inliner= new CallInliner(unit, (CompilationUnit) bodies[0].getRoot(), fSourceProvider);
+			for (BodyDeclaration body : bodies) {
+				inliner.initialize(body);
+				RefactoringStatus nestedInvocations= new RefactoringStatus();
+				ASTNode[] invocations= removeNestedCalls(nestedInvocations, unit,
+					fTargetProvider.getInvocations(body, new SubProgressMonitor(sub, 2)));
+				for (ASTNode invocation : invocations) {
+					result.merge(inliner.initialize(invocation, fTargetProvider.getStatusSeverity()));
+					if (result.hasFatalError())
+						break;
+					if (result.getSeverity() < fTargetProvider.getStatusSeverity()) {
+						added= true;
+						TextEditGroup group= new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_inline);
+						change.addTextEditGroup(group);
+						result.merge(inliner.perform(group));
+					} else {
 						fDeleteSource= false;
 					}
 				}
-				if (!added) {
-					fChangeManager.remove(unit);
-				} else {
-					root.addChild(inliner.getModifications());
-					ImportRewrite rewrite= inliner.getImportEdit();
-					if (rewrite.hasRecordedChanges()) {
-						TextEdit edit= rewrite.rewriteImports(null);
-						if (edit instanceof MultiTextEdit ? ((MultiTextEdit)edit).getChildrenSize() > 0 : true) {
-							root.addChild(edit);
-							change.addTextEditGroup(
-								new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_import, new TextEdit[] {edit}));
-						}
+				// do this after we have inlined the method calls. We still want
+				// to generate the modifications.
+				if (!nestedInvocations.isOK()) {
+					result.merge(nestedInvocations);
+					fDeleteSource= false;
+				}
+			}
+			if (!added) {
+				fChangeManager.remove(unit);
+			} else {
+				root.addChild(inliner.getModifications());
+				ImportRewrite rewrite= inliner.getImportEdit();
+				if (rewrite.hasRecordedChanges()) {
+					TextEdit edit= rewrite.rewriteImports(null);
+					if (edit instanceof MultiTextEdit ? ((MultiTextEdit)edit).getChildrenSize() > 0 : true) {
+						root.addChild(edit);
+						change.addTextEditGroup(
+							new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_import, new TextEdit[] {edit}));
 					}
 				}
-			} finally {
-				if (inliner != null)
-					inliner.dispose();
 			}
-			sub.worked(1);
-			if (sub.isCanceled())
-				throw new OperationCanceledException();
+		} finally {
+			if (inliner != null)
+				inliner.dispose();
 		}
-		result.merge(searchStatus);
-		sub.done();
-		pm.done();
-		return result;
+		sub.worked(1);
+		if (sub.isCanceled())
+			throw new OperationCanceledException();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
@@ -82,6 +83,31 @@ public abstract class TargetProvider {
 
 	public abstract BodyDeclaration[] getAffectedBodyDeclarations(ICompilationUnit unit, IProgressMonitor pm);
 
+	/**
+	 * Returns the affected body declarations of a compilation unit, found in the given AST of the
+	 * unit if the provider needs ASTs.
+	 *
+	 * @param unit the compilation unit
+	 * @param root the AST of the compilation unit, with bindings
+	 * @param pm the progress monitor
+	 * @return the affected body declarations
+	 * @see #needsASTs()
+	 */
+	public BodyDeclaration[] getAffectedBodyDeclarations(ICompilationUnit unit, CompilationUnit root, IProgressMonitor pm) {
+		return getAffectedBodyDeclarations(unit, pm);
+	}
+
+	/**
+	 * Returns whether the provider has to create the ASTs of the affected compilation units. If so,
+	 * clients can create the ASTs of many units at once and pass them to
+	 * {@link #getAffectedBodyDeclarations(ICompilationUnit, CompilationUnit, IProgressMonitor)}.
+	 *
+	 * @return <code>true</code> if the provider needs the ASTs of the affected compilation units
+	 */
+	public boolean needsASTs() {
+		return false;
+	}
+
 	// constructor invocation is not an expression but a statement
 	public abstract ASTNode[] getInvocations(BodyDeclaration declaration, IProgressMonitor pm);
 
@@ -486,7 +512,11 @@ public abstract class TargetProvider {
 
 		@Override
 		public BodyDeclaration[] getAffectedBodyDeclarations(ICompilationUnit unit, IProgressMonitor pm) {
-			ASTNode root= SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_YES, pm);
+			return getAffectedBodyDeclarations(unit, SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_YES, pm), pm);
+		}
+
+		@Override
+		public BodyDeclaration[] getAffectedBodyDeclarations(ICompilationUnit unit, CompilationUnit root, IProgressMonitor pm) {
 			InvocationFinder finder= new InvocationFinder(fMethodBinding);
 			root.accept(finder);
 			fCurrentBodies= finder.result;
@@ -503,6 +533,11 @@ public abstract class TargetProvider {
 			return data.getInvocations();
 		}
 
+		@Override
+		public boolean needsASTs() {
+			return true;
+		}
+
 		@Override
 		public RefactoringStatus checkActivation() throws JavaModelException {
 			return new RefactoringStatus();
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Creates the ASTs of the compilation units affected by a refactoring and passes them to a
+ * processor one by one. The units of a project are parsed in batches with one parser, so that they
+ * share one binding environment instead of setting up a new one for every unit.
+ * <p>
+ * The ASTs are created with bindings and the compiler options of
+ * {@link RefactoringASTParser#getCompilerOptions(org.eclipse.jdt.core.IJavaElement)}. An AST is not
+ * referenced anymore once it has been processed, so that the number of units is only limited by
+ * the processor.
+ * </p>
+ *
+ * @see RefactoringASTParser
+ * @since 1.16
+ */
+public class RefactoringASTBatchParser {
+
+	/**
+	 * Processes the AST of a compilation unit.
+	 */
+	public interface IASTProcessor {
+
+		/**
+		 * Processes the AST of a compilation unit.
+		 *
+		 * @param unit the compilation unit
+		 * @param root the AST of the compilation unit, with bindings
+		 * @throws CoreException if the processing failed; no further ASTs are processed
+		 */
+		void process(ICompilationUnit unit, CompilationUnit root) throws CoreException;
+	}
+
+	private static final int MAX_AT_ONCE;
+	static {
+		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+
+		if      (maxMemory >= 2000) MAX_AT_ONCE= 400;
+		else if (maxMemory >= 1500) MAX_AT_ONCE= 300;
+		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
+		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
+		else                        MAX_AT_ONCE=  25;
+	}
+
+	private static final String[] NO_KEYS= new String[0];
+
+	private final int fLevel;
+
+	private WorkingCopyOwner fOwner;
+
+	private boolean fStatementsRecovery;
+
+	private boolean fBindingsRecovery;
+
+	public RefactoringASTBatchParser(int level) {
+		fLevel= level;
+	}
+
+	public void setWorkingCopyOwner(WorkingCopyOwner owner) {
+		fOwner= owner;
+	}
+
+	public void setStatementsRecovery(boolean statementsRecovery) {
+		fStatementsRecovery= statementsRecovery;
+	}
+
+	public void setBindingsRecovery(boolean bindingsRecovery) {
+		fBindingsRecovery= bindingsRecovery;
+	}
+
+	/**
+	 * Creates the ASTs of the given compilation units and passes each of them to the processor.
+	 * The ASTs are processed in no particular order, and as soon as they have been created.
+	 *
+	 * @param units the compilation units
+	 * @param processor the processor of the ASTs
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @throws CoreException the exception thrown by the processor
+	 */
+	public void process(ICompilationUnit[] units, IASTProcessor processor, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, units.length);
+		for (List<ICompilationUnit> projectUnits : splitByProject(units).values()) {
+			for (int start= 0; start < projectUnits.size(); start+= MAX_AT_ONCE) {
+				List<ICompilationUnit> batch= projectUnits.subList(start, Math.min(start + MAX_AT_ONCE, projectUnits.size()));
+				processBatch(batch.toArray(new ICompilationUnit[batch.size()]), processor, subMonitor.split(batch.size()));
+			}
+		}
+	}
+
+	private void processBatch(ICompilationUnit[] units, IASTProcessor processor, IProgressMonitor monitor) throws CoreException {
+		final CoreException[] exception= new CoreException[1];
+		createParser(units[0].getJavaProject()).createASTs(units, NO_KEYS, new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				if (exception[0] != null)
+					return;
+				try {
+					processor.process(source, ast);
+				} catch (CoreException e) {
+					exception[0]= e;
+				}
+			}
+		}, monitor);
+		if (exception[0] != null)
+			throw exception[0];
+	}
+
+	private ASTParser createParser(IJavaProject project) {
+		ASTParser parser= ASTParser.newParser(fLevel);
+		parser.setResolveBindings(true);
+		parser.setStatementsRecovery(fStatementsRecovery);
+		parser.setBindingsRecovery(fBindingsRecovery);
+		parser.setProject(project);
+		if (fOwner != null)
+			parser.setWorkingCopyOwner(fOwner);
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+		return parser;
+	}
+
+	private static Map<IJavaProject, List<ICompilationUnit>> splitByProject(ICompilationUnit[] units) {
+		Map<IJavaProject, List<ICompilationUnit>> result= new LinkedHashMap<>();
+		for (ICompilationUnit unit : units) {
+			result.computeIfAbsent(unit.getJavaProject(), project -> new ArrayList<>()).add(unit);
+		}
+		return result;
+	}
+}
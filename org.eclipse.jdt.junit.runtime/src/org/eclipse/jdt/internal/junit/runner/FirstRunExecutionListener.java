@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,21 +28,24 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 		fIds = ids;
 	}
 
+	// notifications are synchronized, since a failure is sent as a sequence of messages that must not
+	// be interleaved with the messages of tests that are executed concurrently
+
 	@Override
-	public void notifyTestEnded(ITestIdentifier test) {
+	public synchronized void notifyTestEnded(ITestIdentifier test) {
 		sendMessage(test, MessageIds.TEST_END);
 		fSender.flush();
 	}
 
 	@Override
-	public void notifyTestFailed(TestReferenceFailure failure) {
+	public synchronized void notifyTestFailed(TestReferenceFailure failure) {
 		sendMessage(failure.getTest(), failure.getStatus());
 		sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
 		// fSender.flush(); // flush is implicitly done by sendFailure()
 	}
 
 	@Override
-	public void notifyTestStarted(ITestIdentifier test) {
+	public synchronized void notifyTestStarted(ITestIdentifier test) {
 		sendMessage(test, MessageIds.TEST_START);
 		fSender.flush();
 	}
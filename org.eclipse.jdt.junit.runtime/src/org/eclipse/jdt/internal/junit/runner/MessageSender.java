@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,15 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
+/**
+ * Sends messages to the test runner client.
+ * <p>
+ * Implementations must be thread safe: tests that are executed concurrently send their messages
+ * from several threads. A single message is never interleaved with another one. Listeners that
+ * send a sequence of messages that belong together (e.g. a failure and its trace) must serialize
+ * these sequences themselves.
+ * </p>
+ */
 public interface MessageSender {
 
 	void sendMessage(String msg);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Guards {@link #fWriter} against messages sent from concurrently executed tests
+	 */
+	private final Object fWriterLock= new Object();
 	/**
 	 * Reader for incoming messages
 	 */
@@ -510,7 +514,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * @param execution executor
 	 */
 	public void runTests(String[] testClassNames, String testName, TestExecution execution) {
+		long discoveryStartTime= System.currentTimeMillis();
 		ITestReference[] suites= fLoader.loadTests(loadClasses(testClassNames), testName, fFailureNames, fPackageNames, fIncludeExcludeTags, fUniqueId, this);
+		if (fDebugMode)
+			System.out.println("done test discovery - time(ms): " + (System.currentTimeMillis() - discoveryStartTime)); //$NON-NLS-1$
 
 		// count all testMethods and inform ITestRunListeners
 		int count= countTests(suites);
@@ -527,6 +534,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 		long testStartTime= System.currentTimeMillis();
 		execution.run(suites);
+		if (fDebugMode)
+			System.out.println("done test execution - time(ms): " + (System.currentTimeMillis() - testStartTime)); //$NON-NLS-1$
 		notifyListenersOfTestEnd(execution, testStartTime);
 	}
 
@@ -709,9 +718,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
-		if(fWriter == null)
-			return;
-		fWriter.println(msg);
+		synchronized (fWriterLock) {
+			if(fWriter == null)
+				return;
+			fWriter.println(msg);
+		}
 //		if (!fConsoleMode)
 //			System.out.println(msg);
 	}
@@ -749,7 +760,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
-	    fWriter.flush();
+		synchronized (fWriterLock) {
+			if (fWriter != null)
+				fWriter.flush();
+		}
 	}
 
 	public void runTests(TestExecution execution) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,13 +36,22 @@ import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 import org.eclipse.jdt.internal.junit.runner.TestIdMap;
 import org.eclipse.jdt.internal.junit.runner.TestReferenceFailure;
 
+/**
+ * Forwards the events of a test plan execution to the test runner client.
+ * <p>
+ * The JUnit Platform may execute tests concurrently, so events arrive from several threads and
+ * the start and end events of different tests interleave. All notifications are serialized on the
+ * notified listener, so that the messages of one event (e.g. a failure with its trace, or the start
+ * and end of a skipped test) are sent as one block.
+ * </p>
+ */
 public class JUnit5TestListener implements TestExecutionListener {
 
 	private final IListensToTestExecutions fNotified;
 
 	private RemoteTestRunner fRemoteTestRunner;
 
-	private TestPlan fTestPlan;
+	private volatile TestPlan fTestPlan;
 
 	public JUnit5TestListener(IListensToTestExecutions notified, RemoteTestRunner remoteTestRunner) {
 		fNotified= notified;
@@ -62,15 +71,19 @@ public class JUnit5TestListener implements TestExecutionListener {
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
 		if (testIdentifier.isTest()) {
-			fNotified.notifyTestStarted(getIdentifier(testIdentifier, false, false));
+			synchronized (fNotified) {
+				fNotified.notifyTestStarted(getIdentifier(testIdentifier, false, false));
+			}
 		}
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-		notifyIfNotSuccessful(testIdentifier, testExecutionResult);
-		if (testIdentifier.isTest()) {
-			fNotified.notifyTestEnded(getIdentifier(testIdentifier, false, false));
+		synchronized (fNotified) {
+			notifyIfNotSuccessful(testIdentifier, testExecutionResult);
+			if (testIdentifier.isTest()) {
+				fNotified.notifyTestEnded(getIdentifier(testIdentifier, false, false));
+			}
 		}
 	}
 
@@ -166,10 +179,13 @@ public class JUnit5TestListener implements TestExecutionListener {
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		if (testIdentifier.isContainer() && fTestPlan != null) {
-			fTestPlan.getDescendants(testIdentifier).stream().filter(TestIdentifier::isTest).forEachOrdered(this::notifySkipped);
-		} else {
-			notifySkipped(testIdentifier);
+		TestPlan testPlan= fTestPlan;
+		synchronized (fNotified) {
+			if (testIdentifier.isContainer() && testPlan != null) {
+				testPlan.getDescendants(testIdentifier).stream().filter(TestIdentifier::isTest).forEachOrdered(this::notifySkipped);
+			} else {
+				notifySkipped(testIdentifier);
+			}
 		}
 	}
 
@@ -183,19 +199,22 @@ public class JUnit5TestListener implements TestExecutionListener {
 
 	@Override
 	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
-		if (fTestPlan != null) {
+		TestPlan testPlan= fTestPlan;
+		if (testPlan != null) {
 			JUnit5Identifier dynamicTestIdentifier= new JUnit5Identifier(testIdentifier);
 			boolean hasChildren;
 			int testCount;
 			if (testIdentifier.isContainer()) {
 				hasChildren= true;
-				testCount= fTestPlan.getChildren(testIdentifier).size();
+				testCount= testPlan.getChildren(testIdentifier).size();
 			} else {
 				hasChildren= false;
 				testCount= 1;
 			}
-			String parentId= getParentId(testIdentifier, fTestPlan);
-			fRemoteTestRunner.visitTreeEntry(dynamicTestIdentifier, hasChildren, testCount, true, parentId);
+			synchronized (fNotified) {
+				String parentId= getParentId(testIdentifier, testPlan);
+				fRemoteTestRunner.visitTreeEntry(dynamicTestIdentifier, hasChildren, testCount, true, parentId);
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.junit5.runner;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
@@ -34,6 +35,16 @@ public class JUnit5TestLoader implements ITestLoader {
 
 	public final static String FAILURE_NAMES= "org.eclipse.jdt.junit5.runtime.failureNames"; //$NON-NLS-1$
 
+	/**
+	 * System property that enables discovering all test classes or packages of a launch with a
+	 * single discovery request and executing them as one test plan. This avoids repeating the
+	 * engine discovery per class and lets the JUnit Platform execute classes concurrently. The mode
+	 * is also enabled when the system property {@link #PARALLEL_ENABLED} is <code>true</code>.
+	 */
+	public final static String SINGLE_TEST_PLAN= "org.eclipse.jdt.junit5.runtime.singleTestPlan"; //$NON-NLS-1$
+
+	private final static String PARALLEL_ENABLED= "junit.jupiter.execution.parallel.enabled"; //$NON-NLS-1$
+
 	private Launcher fLauncher= LauncherFactory.create();
 
 	private RemoteTestRunner fRemoteTestRunner;
@@ -46,11 +57,19 @@ public class JUnit5TestLoader implements ITestLoader {
 			refs= new ITestReference[1];
 			refs[0]= createUniqueIdTest(uniqueId, includeExcludeTags);
 		} else if (packages != null) {
+			if (packages.length > 1 && isSingleTestPlan()) {
+				refs= new ITestReference[] { createTest(packages, includeExcludeTags) };
+				return refs;
+			}
 			refs= new ITestReference[packages.length];
 			for (int i= 0; i < packages.length; i++) {
 				refs[i]= createTest(packages[i], includeExcludeTags);
 			}
 		} else {
+			if (testName == null && testClasses.length > 1 && isSingleTestPlan()) {
+				refs= new ITestReference[] { createUnfilteredTest(testClasses, includeExcludeTags, failureNames) };
+				return refs;
+			}
 			refs= new ITestReference[testClasses.length];
 			for (int i= 0; i < testClasses.length; i++) {
 				refs[i]= createTest(testClasses[i], testName, includeExcludeTags, failureNames);
@@ -66,7 +85,7 @@ public class JUnit5TestLoader implements ITestLoader {
 		if (testName != null) {
 			return createFilteredTest(clazz, testName, includeExcludeTags);
 		}
-		return createUnfilteredTest(clazz, includeExcludeTags, failureNames);
+		return createUnfilteredTest(new Class<?>[] { clazz }, includeExcludeTags, failureNames);
 	}
 
 	private ITestReference createFilteredTest(Class<?> clazz, String testName, String[][] includeExcludeTags) {
@@ -74,8 +93,16 @@ public class JUnit5TestLoader implements ITestLoader {
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
-	private ITestReference createUnfilteredTest(Class<?> clazz, String[][] includeExcludeTags, String[] failureNames) {
-		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectClass(clazz)).filters(getTagFilters(includeExcludeTags));
+	private static boolean isSingleTestPlan() {
+		return Boolean.getBoolean(SINGLE_TEST_PLAN) || Boolean.getBoolean(PARALLEL_ENABLED);
+	}
+
+	private ITestReference createUnfilteredTest(Class<?>[] classes, String[][] includeExcludeTags, String[] failureNames) {
+		List<DiscoverySelector> selectors= new ArrayList<>(classes.length);
+		for (Class<?> clazz : classes) {
+			selectors.add(DiscoverySelectors.selectClass(clazz));
+		}
+		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request().selectors(selectors).filters(getTagFilters(includeExcludeTags));
 		if (failureNames != null && failureNames.length > 0) {
 			String failureNamesString= ""; //$NON-NLS-1$
 			for (String failureName : failureNames) {
@@ -92,16 +119,27 @@ public class JUnit5TestLoader implements ITestLoader {
 		if (pkg == null) {
 			return null;
 		}
-		String pattern;
-		if ("<default>".equals(pkg)) { //$NON-NLS-1$
-			pkg= ""; //$NON-NLS-1$
-			pattern= "^[^.]+$"; //$NON-NLS-1$
-		} else {
-			pattern= "^" + pkg + "\\.[^.]+$"; //$NON-NLS-1$//$NON-NLS-2$
+		return createTest(new String[] { pkg }, includeExcludeTags);
+	}
+
+	private ITestReference createTest(String[] pkgs, String[][] includeExcludeTags) {
+		List<DiscoverySelector> selectors= new ArrayList<>(pkgs.length);
+		List<String> patterns= new ArrayList<>(pkgs.length);
+		for (String pkg : pkgs) {
+			if (pkg == null) {
+				continue;
+			}
+			if ("<default>".equals(pkg)) { //$NON-NLS-1$
+				selectors.add(DiscoverySelectors.selectPackage("")); //$NON-NLS-1$
+				patterns.add("^[^.]+$"); //$NON-NLS-1$
+			} else {
+				selectors.add(DiscoverySelectors.selectPackage(pkg));
+				patterns.add("^" + pkg + "\\.[^.]+$"); //$NON-NLS-1$//$NON-NLS-2$
+			}
 		}
 		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request()
-				.selectors(DiscoverySelectors.selectPackage(pkg))
-				.filters(ClassNameFilter.includeClassNamePatterns(pattern))
+				.selectors(selectors)
+				.filters(ClassNameFilter.includeClassNamePatterns(patterns.toArray(new String[patterns.size()])))
 				.filters(getTagFilters(includeExcludeTags))
 				.build();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,8 +24,10 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.TextUtilities;
 import org.eclipse.jface.text.rules.FastPartitioner;
 
 import org.eclipse.jdt.core.JavaCore;
@@ -1235,4 +1237,70 @@ public class JavaHeuristicScannerTest {
 		String indent= fScanner.computeIndentation(offset).toString();
 		assertEquals("\t", indent);
 	}
+
+	@Test
+	public void testPeersOfLargeDocument() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("class A {\n");
+		for (int i= 0; i < 100; i++) {
+			buf.append("\tint[] f" + i + "= { 1, (2 + 3) };\n");
+			buf.append("\t/* } ( */ void m" + i + "(int[] a) { // ]\n");
+			buf.append("\t\tif (a[0] == '{') { String s= \")}\"; }\n");
+			buf.append("\t}\n");
+		}
+		buf.append("}\n");
+		fDocument.set(buf.toString());
+		assertPeers();
+
+		// changes that move peers into and out of comments and strings
+		fDocument.replace(fDocument.get().indexOf("void m50"), 0, "/*");
+		assertPeers();
+		fDocument.replace(fDocument.get().indexOf("void m20"), 0, "{ \"");
+		assertPeers();
+		fDocument.replace(fDocument.get().indexOf("/*void m50"), 2, "");
+		assertPeers();
+		fDocument.replace(0, fDocument.get().indexOf("void m10"), "");
+		assertPeers();
+	}
+
+	private void assertPeers() throws BadLocationException {
+		JavaHeuristicScanner scanner= new JavaHeuristicScanner(fDocument);
+		char[][] peers= { { '(', ')' }, { '[', ']' }, { '{', '}' } };
+		for (int offset= 0; offset < fDocument.getLength(); offset+= 7) {
+			for (char[] peer : peers) {
+				assertEquals(findOpeningPeerByScanning(offset, peer[0], peer[1]), scanner.findOpeningPeer(offset, peer[0], peer[1]));
+				assertEquals(findClosingPeerByScanning(offset, peer[0], peer[1]), scanner.findClosingPeer(offset, peer[0], peer[1]));
+			}
+		}
+	}
+
+	private int findOpeningPeerByScanning(int start, char openingPeer, char closingPeer) throws BadLocationException {
+		int depth= 1;
+		for (int pos= start; pos >= 0; pos--) {
+			char ch= fDocument.getChar(pos);
+			if ((ch == openingPeer || ch == closingPeer) && isDefaultPartition(pos)) {
+				depth+= ch == closingPeer ? 1 : -1;
+				if (depth == 0)
+					return pos;
+			}
+		}
+		return JavaHeuristicScanner.NOT_FOUND;
+	}
+
+	private int findClosingPeerByScanning(int start, char openingPeer, char closingPeer) throws BadLocationException {
+		int depth= 1;
+		for (int pos= start; pos < fDocument.getLength(); pos++) {
+			char ch= fDocument.getChar(pos);
+			if ((ch == openingPeer || ch == closingPeer) && isDefaultPartition(pos)) {
+				depth+= ch == openingPeer ? 1 : -1;
+				if (depth == 0)
+					return pos;
+			}
+		}
+		return JavaHeuristicScanner.NOT_FOUND;
+	}
+
+	private boolean isDefaultPartition(int pos) throws BadLocationException {
+		return IDocument.DEFAULT_CONTENT_TYPE.equals(TextUtilities.getContentType(fDocument, IJavaPartitions.JAVA_PARTITIONING, pos, false));
+	}
 }
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.text.java.ProposalFrequencyModel;
+
+/**
+ * @since 3.27
+ */
+public class ProposalFrequencyModelTest {
+
+	private static final String PROJECT= "P";
+	private static final String OTHER_PROJECT= "Q";
+	private static final String LIST= "java.util.List";
+	private static final String ARRAY_LIST= "java.util.ArrayList";
+	private static final String LINKED_LIST= "java.util.LinkedList";
+	private static final String VECTOR= "java.util.Vector";
+
+	@Test
+	public void testNeverAccepted() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		assertEquals(0f, model.getFrequency(PROJECT, LIST, null, ARRAY_LIST), 0f);
+		assertFalse(model.isDirty());
+	}
+
+	@Test
+	public void testFrequentBeforeRare() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		for (int i= 0; i < 10; i++)
+			model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		for (int i= 0; i < 3; i++)
+			model.accepted(PROJECT, LIST, null, LINKED_LIST);
+		model.accepted(PROJECT, LIST, null, VECTOR);
+
+		List<String> proposals= new ArrayList<>();
+		proposals.add(VECTOR);
+		proposals.add("java.util.Stack");
+		proposals.add(LINKED_LIST);
+		proposals.add(ARRAY_LIST);
+		Collections.sort(proposals, Comparator.comparingDouble((String p) -> model.getFrequency(PROJECT, LIST, null, p)).reversed());
+
+		assertEquals(ARRAY_LIST, proposals.get(0));
+		assertEquals(LINKED_LIST, proposals.get(1));
+		assertEquals(VECTOR, proposals.get(2));
+		assertEquals("java.util.Stack", proposals.get(3));
+		assertTrue(model.isDirty());
+	}
+
+	@Test
+	public void testContexts() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		model.accepted(PROJECT, "java.util.Map", "java.util.Collections", "emptyMap");
+
+		assertTrue(model.getFrequency(PROJECT, LIST, null, ARRAY_LIST) > 0);
+		assertEquals(0f, model.getFrequency(PROJECT, "java.util.Collection", null, ARRAY_LIST), 0f);
+		assertEquals(0f, model.getFrequency(PROJECT, null, null, ARRAY_LIST), 0f);
+		assertTrue(model.getFrequency(PROJECT, "java.util.Map", "java.util.Collections", "emptyMap") > 0);
+		assertEquals(0f, model.getFrequency(PROJECT, "java.util.Map", null, "emptyMap"), 0f);
+	}
+
+	@Test
+	public void testProjects() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		assertEquals(0f, model.getFrequency(OTHER_PROJECT, LIST, null, ARRAY_LIST), 0f);
+
+		model.accepted(OTHER_PROJECT, LIST, null, ARRAY_LIST);
+		model.removeProject(PROJECT);
+		assertEquals(0, model.size(PROJECT));
+		assertEquals(1, model.size(OTHER_PROJECT));
+	}
+
+	@Test
+	public void testDecay() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		model.accepted(PROJECT, LIST, null, VECTOR);
+		float before= model.getFrequency(PROJECT, LIST, null, VECTOR);
+		for (int i= 0; i < ProposalFrequencyModel.HALF_LIFE; i++)
+			model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		float after= model.getFrequency(PROJECT, LIST, null, VECTOR);
+
+		// a weight of 1 has a frequency of 1/2, half of it a frequency of 1/3
+		assertEquals(0.5f, before, 0.001f);
+		assertEquals(1f / 3, after, 0.001f);
+
+		// recent acceptances outweigh old ones
+		for (int i= 0; i < 2; i++)
+			model.accepted(PROJECT, LIST, null, LINKED_LIST);
+		assertTrue(model.getFrequency(PROJECT, LIST, null, LINKED_LIST) > after);
+	}
+
+	@Test
+	public void testDecayPerProject() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		model.accepted(PROJECT, LIST, null, VECTOR);
+		for (int i= 0; i < ProposalFrequencyModel.HALF_LIFE; i++)
+			model.accepted(OTHER_PROJECT, LIST, null, ARRAY_LIST);
+
+		// acceptances in another project do not age the proposals of this project
+		assertEquals(0.5f, model.getFrequency(PROJECT, LIST, null, VECTOR), 0.001f);
+	}
+
+	@Test
+	public void testProjectChanges() throws Exception {
+		IWorkspace workspace= ResourcesPlugin.getWorkspace();
+		IProject project= workspace.getRoot().getProject("ProposalFrequencyModelTest");
+		IProject renamed= workspace.getRoot().getProject("ProposalFrequencyModelTest2");
+		project.create(null);
+		project.open(null);
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		workspace.addResourceChangeListener(model, IResourceChangeEvent.POST_CHANGE);
+		try {
+			model.accepted(project.getName(), LIST, null, ARRAY_LIST);
+			model.accepted(OTHER_PROJECT, LIST, null, ARRAY_LIST);
+			project.close(null);
+			assertEquals(0, model.size(project.getName()));
+			assertEquals(1, model.size(OTHER_PROJECT));
+
+			project.open(null);
+			model.accepted(project.getName(), LIST, null, ARRAY_LIST);
+			project.move(renamed.getFullPath(), true, null);
+			assertEquals(0, model.size(project.getName()));
+			assertEquals(1, model.size(renamed.getName()));
+
+			renamed.delete(true, true, null);
+			assertEquals(0, model.size(renamed.getName()));
+			assertEquals(1, model.size(OTHER_PROJECT));
+		} finally {
+			workspace.removeResourceChangeListener(model);
+			if (project.exists())
+				project.delete(true, true, null);
+			if (renamed.exists())
+				renamed.delete(true, true, null);
+		}
+	}
+
+	@Test
+	public void testBoundedSize() throws Exception {
+		int max= 100;
+		ProposalFrequencyModel model= new ProposalFrequencyModel(max);
+		for (int i= 0; i < 10; i++)
+			model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		for (int i= 0; i < 10 * max; i++) {
+			model.accepted(PROJECT, LIST, null, "p.Type" + i);
+			assertTrue(model.size(PROJECT) <= max);
+		}
+		assertTrue(model.getFrequency(PROJECT, LIST, null, ARRAY_LIST) > 0);
+		assertEquals(0f, model.getFrequency(PROJECT, LIST, null, "p.Type0"), 0f);
+	}
+
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		ProposalFrequencyModel model= new ProposalFrequencyModel();
+		for (int i= 0; i < 5; i++)
+			model.accepted(PROJECT, LIST, null, ARRAY_LIST);
+		model.accepted(PROJECT, LIST, null, LINKED_LIST);
+		model.accepted(OTHER_PROJECT, null, "java.lang.String", "length");
+
+		File file= File.createTempFile("proposalFrequencies", ".dat");
+		try {
+			model.save(file);
+			assertFalse(model.isDirty());
+
+			ProposalFrequencyModel loaded= ProposalFrequencyModel.load(file, ProposalFrequencyModel.DEFAULT_MAX_ENTRIES);
+			assertNotNull(loaded);
+			assertFalse(loaded.isDirty());
+			assertEquals(model.getFrequency(PROJECT, LIST, null, ARRAY_LIST), loaded.getFrequency(PROJECT, LIST, null, ARRAY_LIST), 0f);
+			assertEquals(model.getFrequency(PROJECT, LIST, null, LINKED_LIST), loaded.getFrequency(PROJECT, LIST, null, LINKED_LIST), 0f);
+			assertEquals(model.getFrequency(OTHER_PROJECT, null, "java.lang.String", "length"), loaded.getFrequency(OTHER_PROJECT, null, "java.lang.String", "length"), 0f);
+
+			loaded= ProposalFrequencyModel.load(file, 1);
+			assertNotNull(loaded);
+			assertEquals(1, loaded.size(PROJECT));
+			assertTrue(loaded.getFrequency(PROJECT, LIST, null, ARRAY_LIST) > 0);
+		} finally {
+			file.delete();
+		}
+	}
+}
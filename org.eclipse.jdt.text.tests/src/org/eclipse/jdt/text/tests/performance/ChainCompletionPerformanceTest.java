@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.ui.tests.core.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.ChainMemberCache;
+import org.eclipse.jdt.internal.ui.text.java.ChainCompletionProposalComputer;
+
+/**
+ * Measures chain completion on a large synthetic API in which many chains of getters lead from
+ * the receiver to the expected type.
+ *
+ * @since 3.27
+ */
+public class ChainCompletionPerformanceTest extends TextPerformanceTestCase {
+
+	private static final Class<ChainCompletionPerformanceTest> THIS= ChainCompletionPerformanceTest.class;
+
+	private static final String PROJECT= "ChainCompletionProject";
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	/** The number of types of the synthetic API. */
+	private static final int TYPES= 400;
+
+	/** The number of getters of each type. */
+	private static final int GETTERS= 12;
+
+	/** Every this many types have a getter that returns the expected type. */
+	private static final int TARGET_DISTANCE= 37;
+
+	public static Test suite() {
+		return setUpTest(new TestSuite(THIS));
+	}
+
+	public static Test setUpTest(Test test) {
+		return new ProjectTestSetup(test);
+	}
+
+	private IJavaProject fJProject;
+
+	private JavaEditor fEditor;
+
+	private int fCompletionOffset;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+
+		fJProject= JavaProjectHelper.createJavaProject(PROJECT, "bin");
+		JavaProjectHelper.addRTJar(fJProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject, "src");
+		createApi(root.createPackageFragment("api", false, null));
+
+		IPackageFragment pack= root.createPackageFragment("test", false, null);
+		String contents= "package test;\n" +
+				"\n" +
+				"import api.Node0;\n" +
+				"import api.Target;\n" +
+				"\n" +
+				"public class Client {\n" +
+				"    void method(Node0 node) {\n" +
+				"        Target target= \n" +
+				"    }\n" +
+				"}\n";
+		ICompilationUnit cu= pack.createCompilationUnit("Client.java", contents, false, null);
+		fCompletionOffset= contents.indexOf("= ") + 2;
+
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor((IFile) cu.getResource(), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		JavaProjectHelper.delete(fJProject);
+		super.tearDown();
+	}
+
+	private static void createApi(IPackageFragment pack) throws JavaModelException {
+		pack.createCompilationUnit("Target.java", "package api;\npublic class Target {\n}\n", false, null);
+		for (int i= 0; i < TYPES; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package api;\n");
+			buf.append("public class Node").append(i).append(" {\n");
+			for (int k= 1; k <= GETTERS; k++) {
+				int target= (i * 7 + k * 13) % TYPES;
+				buf.append("    public Node").append(target).append(" getNode").append(target).append("() {\n");
+				buf.append("        return null;\n");
+				buf.append("    }\n");
+			}
+			if (i % TARGET_DISTANCE == TARGET_DISTANCE - 1) {
+				buf.append("    public Target getTarget() {\n");
+				buf.append("        return null;\n");
+				buf.append("    }\n");
+			}
+			buf.append("}\n");
+			pack.createCompilationUnit("Node" + i + ".java", buf.toString(), false, null);
+		}
+	}
+
+	/**
+	 * Computes the chain completions of a first invocation, with nothing remembered from earlier
+	 * invocations.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testColdChainCompletion() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		measure(createPerformanceMeter(), getMeasuredRuns(), true);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	/**
+	 * Computes the chain completions of repeated invocations in the same file.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testWarmChainCompletion() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), false);
+		PerformanceMeter performanceMeter= createPerformanceMeterForSummary("Java Editor: chain completion", Dimension.ELAPSED_PROCESS);
+		measure(performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean cold) {
+		for (int i= 0; i < runs; i++) {
+			if (cold)
+				ChainMemberCache.getDefault().clear();
+			ChainCompletionProposalComputer computer= new ChainCompletionProposalComputer();
+			computer.sessionStarted();
+			JavaContentAssistInvocationContext context= new JavaContentAssistInvocationContext(fEditor.getViewer(), fCompletionOffset, fEditor);
+
+			performanceMeter.start();
+			List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, null);
+			performanceMeter.stop();
+
+			computer.sessionEnded();
+			assertFalse(proposals.isEmpty());
+		}
+	}
+}
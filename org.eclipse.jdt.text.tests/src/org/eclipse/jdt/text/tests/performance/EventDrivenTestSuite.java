@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ public class EventDrivenTestSuite extends TestSuite {
 		addTest(JavaMoveLineTest.suite());
 		addTest(JavaReplaceAllTest.suite());
 		addTest(JavaReplaceAllWithQuickDiffTest.suite());
+		addTest(MarkOccurrencesNavigationTest.suite());
 
 		// TODO: enable when Bug 72244: "Posting mouse events locks up event handling" is fixed
 		// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=72244
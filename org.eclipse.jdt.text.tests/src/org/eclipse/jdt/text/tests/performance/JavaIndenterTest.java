@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,22 @@ public class JavaIndenterTest extends TextPerformanceTestCase {
 		assertAllPerformance();
 	}
 
+	/**
+	 * Measures the indentation after the last closing brace of the uncommented file, where the
+	 * indenter has to find the matching brace of the outermost scope.
+	 */
+	public void testJavaIndenterMatchingBrace() {
+		runAction(fEditor.getAction(ITextEditorActionConstants.SELECT_ALL));
+		runAction(fEditor.getAction("ToggleComment"));
+		SWTEventHelper.pressKeyCodeCombination(EditorTestHelper.getActiveDisplay(), CTRL_END);
+		EditorTestHelper.joinJobs(2000, 5000, 100);
+
+		measureJavaIndenter(getNullPerformanceMeter(), getWarmUpRuns());
+		measureJavaIndenter(createPerformanceMeter(), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
 	private void measureJavaIndenter(PerformanceMeter performanceMeter, int runs) {
 		final IDocument document= EditorTestHelper.getDocument(fEditor);
 		Display display= EditorTestHelper.getActiveDisplay();
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.FindReplaceDocumentAdapter;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextSelection;
+
+import org.eclipse.ui.IEditorPart;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
+import org.eclipse.jdt.internal.ui.viewsupport.SelectionListenerWithASTManager;
+
+/**
+ * Measures marking occurrences while the caret is moved from one occurrence of a field to the
+ * next one, as when navigating through the occurrences with the keyboard.
+ *
+ * @since 3.27
+ */
+public class MarkOccurrencesNavigationTest extends TextPerformanceTestCase {
+
+	private static final Class<MarkOccurrencesNavigationTest> THIS= MarkOccurrencesNavigationTest.class;
+
+	private static final String FILE= PerformanceTestSetup.TEXT_LAYOUT;
+
+	private static final String FIELD= "text";
+
+	private static final int WARM_UP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 5;
+
+	private static final int MAX_OCCURRENCES= 30;
+
+	private JavaEditor fEditor;
+
+	private List<IRegion> fOccurrences;
+
+	private ISelectionListenerWithAST fListener;
+
+	private int fMarkedOffset= -1;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(PreferenceConstants.EDITOR_MARK_OCCURRENCES, true);
+		store.setValue(PreferenceConstants.EDITOR_MARK_FIELD_OCCURRENCES, true);
+
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+
+		fOccurrences= new ArrayList<>();
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		FindReplaceDocumentAdapter finder= new FindReplaceDocumentAdapter(document);
+		IRegion match= finder.find(0, FIELD, true, true, true, false);
+		while (match != null && fOccurrences.size() < MAX_OCCURRENCES) {
+			fOccurrences.add(match);
+			match= finder.find(match.getOffset() + match.getLength(), FIELD, true, true, true, false);
+		}
+		assertTrue(fOccurrences.size() > 1);
+
+		// registered after the editor, so it is informed after the occurrences have been marked
+		fListener= new ISelectionListenerWithAST() {
+			@Override
+			public void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot) {
+				synchronized (MarkOccurrencesNavigationTest.this) {
+					fMarkedOffset= selection.getOffset();
+				}
+			}
+		};
+		SelectionListenerWithASTManager.getDefault().addListener(fEditor, fListener);
+
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		SelectionListenerWithASTManager.getDefault().removeListener(fEditor, fListener);
+		EditorTestHelper.closeAllEditors();
+		JavaPlugin.getDefault().getPreferenceStore().setToDefault(PreferenceConstants.EDITOR_MARK_OCCURRENCES);
+		JavaPlugin.getDefault().getPreferenceStore().setToDefault(PreferenceConstants.EDITOR_MARK_FIELD_OCCURRENCES);
+	}
+
+	public void testNavigateOccurrences() {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		measure(createPerformanceMeter(), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) {
+		Display display= EditorTestHelper.getActiveDisplay();
+		for (int i= 0; i < runs; i++) {
+			fEditor.selectAndReveal(0, 0);
+			EditorTestHelper.runEventQueue(fEditor);
+
+			performanceMeter.start();
+			for (IRegion occurrence : fOccurrences) {
+				final int offset= occurrence.getOffset() + 1;
+				fEditor.selectAndReveal(offset, 0);
+				DisplayHelper helper= new DisplayHelper() {
+					@Override
+					protected boolean condition() {
+						synchronized (MarkOccurrencesNavigationTest.this) {
+							return fMarkedOffset == offset;
+						}
+					}
+				};
+				assertTrue(helper.waitForCondition(display, 5000, 10));
+			}
+			performanceMeter.stop();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,8 @@ public class PerformanceTestSuite extends TestSuite {
 		addTest(JavaFormatterProjectTest.suite());
 		addTest(ContentTypeTest.suite());
 		addTest(CodeCompletionPerformanceTest.suite());
+		addTest(ChainCompletionPerformanceTest.suite());
+		addTest(ProposalSortingPerformanceTest.suite());
 		addTest(DocumentLineDifferInitializationTest.suite());
 		addTest(SynchronizedLineDifferInitializationTest.suite());
 		addTest(DocumentLineDifferModificationTest.suite());
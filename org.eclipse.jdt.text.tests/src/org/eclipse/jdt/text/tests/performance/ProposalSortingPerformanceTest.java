@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.Arrays;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jdt.core.CompletionProposal;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.Signature;
+
+import org.eclipse.jdt.ui.tests.core.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.CompletionProposalComparator;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.LazyJavaTypeCompletionProposal;
+import org.eclipse.jdt.internal.ui.text.java.ProposalFrequencyModel;
+
+/**
+ * Measures sorting a large list of type proposals whose relevance includes the acceptance
+ * frequency of the {@link ProposalFrequencyModel}.
+ *
+ * @since 3.27
+ */
+public class ProposalSortingPerformanceTest extends TextPerformanceTestCase {
+
+	private static final Class<ProposalSortingPerformanceTest> THIS= ProposalSortingPerformanceTest.class;
+
+	private static final String PROJECT= "ProposalSortingProject";
+
+	private static final int WARM_UP_RUNS= 5;
+
+	private static final int MEASURED_RUNS= 20;
+
+	/** The number of proposals to sort. */
+	private static final int PROPOSALS= 5000;
+
+	/** Every this many proposals have been accepted before. */
+	private static final int ACCEPTED_DISTANCE= 3;
+
+	/** The expected type at the completion location. */
+	private static final String EXPECTED_TYPE= "java.lang.Runnable";
+
+	public static Test suite() {
+		return setUpTest(new TestSuite(THIS));
+	}
+
+	public static Test setUpTest(Test test) {
+		return new ProjectTestSetup(test);
+	}
+
+	private IJavaProject fJProject;
+
+	private JavaEditor fEditor;
+
+	private int fCompletionOffset;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+
+		fJProject= JavaProjectHelper.createJavaProject(PROJECT, "bin");
+		JavaProjectHelper.addRTJar(fJProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject, "src");
+		IPackageFragment pack= root.createPackageFragment("test", false, null);
+		String contents= "package test;\n" +
+				"\n" +
+				"public class Client {\n" +
+				"    void method() {\n" +
+				"        Runnable runnable= new \n" +
+				"    }\n" +
+				"}\n";
+		ICompilationUnit cu= pack.createCompilationUnit("Client.java", contents, false, null);
+		fCompletionOffset= contents.indexOf("new ") + 4;
+
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor((IFile) cu.getResource(), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+
+		ProposalFrequencyModel model= JavaPlugin.getDefault().getProposalFrequencyModel();
+		for (int i= 0; i < PROPOSALS; i+= ACCEPTED_DISTANCE) {
+			for (int k= 0; k <= i % 7; k++)
+				model.accepted(PROJECT, EXPECTED_TYPE, null, getTypeName(i));
+		}
+
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JavaPlugin.getDefault().getProposalFrequencyModel().removeProject(PROJECT);
+		EditorTestHelper.closeAllEditors();
+		JavaProjectHelper.delete(fJProject);
+		super.tearDown();
+	}
+
+	private static String getTypeName(int i) {
+		return "p" + (i % 50) + ".Type" + i;
+	}
+
+	/**
+	 * Sorts the type proposals of one content assist invocation by relevance.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testSortTypeProposals() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeterForSummary("Java Editor: sort " + PROPOSALS + " type proposals", Dimension.ELAPSED_PROCESS);
+		measure(performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			JavaContentAssistInvocationContext context= new JavaContentAssistInvocationContext(fEditor.getViewer(), fCompletionOffset, fEditor);
+			// compute the core context outside of the measurement
+			assertNotNull(context.getCoreContext());
+			LazyJavaTypeCompletionProposal[] proposals= createProposals(context);
+			CompletionProposalComparator comparator= new CompletionProposalComparator();
+
+			// relevances are computed lazily while sorting
+			performanceMeter.start();
+			Arrays.sort(proposals, comparator);
+			performanceMeter.stop();
+
+			// the accepted types come first
+			assertTrue(proposals[0].getRelevance() > proposals[PROPOSALS - 1].getRelevance());
+			assertTrue(JavaPlugin.getDefault().getProposalFrequencyModel().getFrequency(PROJECT, EXPECTED_TYPE, null, proposals[0].getQualifiedTypeName()) > 0);
+		}
+	}
+
+	private LazyJavaTypeCompletionProposal[] createProposals(JavaContentAssistInvocationContext context) {
+		LazyJavaTypeCompletionProposal[] proposals= new LazyJavaTypeCompletionProposal[PROPOSALS];
+		for (int i= 0; i < PROPOSALS; i++) {
+			String name= getTypeName(i);
+			CompletionProposal proposal= CompletionProposal.create(CompletionProposal.TYPE_REF, fCompletionOffset);
+			proposal.setSignature(Signature.createTypeSignature(name, true).toCharArray());
+			proposal.setDeclarationSignature(name.substring(0, name.lastIndexOf('.')).toCharArray());
+			proposal.setCompletion(name.toCharArray());
+			proposal.setReplaceRange(fCompletionOffset, fCompletionOffset);
+			proposal.setRelevance(30);
+			proposals[i]= new LazyJavaTypeCompletionProposal(proposal, context);
+		}
+		return proposals;
+	}
+}
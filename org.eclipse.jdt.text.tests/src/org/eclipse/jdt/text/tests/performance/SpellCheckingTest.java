@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 
 import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
@@ -40,11 +41,13 @@ import org.eclipse.ui.texteditor.spelling.SpellingService;
 
 import org.eclipse.ui.editors.text.EditorsUI;
 
+import org.eclipse.jdt.core.JavaCore;
+
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 
 /**
- * Measures the time to spell check a large compilation unit.
+ * Measures the time to spell check a large compilation unit, both as text and as Java source.
  *
  * @since 3.6
  */
@@ -62,6 +65,8 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 
 	private SpellingContext fSpellingContext;
 
+	private SpellingContext fJavaSpellingContext;
+
 
 	public static Test suite() {
 		return new PerformanceTestSetup(new TestSuite(THIS));
@@ -78,6 +83,8 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 
 		fSpellingContext= new SpellingContext();
 		fSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT));
+		fJavaSpellingContext= new SpellingContext();
+		fJavaSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(JavaCore.JAVA_SOURCE_CONTENT_TYPE));
 
 		IFile file= ResourceTestHelper.findFile(FILE);
 		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
@@ -107,15 +114,65 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 		assertAllPerformance();
 	}
 
+	/**
+	 * Measures repeated checks of an unchanged compilation unit with the Java spelling engine.
+	 *
+	 * @throws Exception if something goes wrong
+	 * @since 3.27
+	 */
+	public void testJava() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), fJavaSpellingContext, true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking Java");
+		measure(performanceMeter, getMeasuredRuns(), fJavaSpellingContext, false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	/**
+	 * Measures checks of a compilation unit with the Java spelling engine after a comment has been
+	 * changed.
+	 *
+	 * @throws Exception if something goes wrong
+	 * @since 3.27
+	 */
+	public void testJavaAfterChange() throws Exception {
+		measureAfterChange(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking Java after change");
+		measureAfterChange(performanceMeter, getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
 	private void measure(PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) {
+		measure(performanceMeter, runs, fSpellingContext, printDebugInfo);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, SpellingContext spellingContext, boolean printDebugInfo) {
 		SpellingService spellingService= EditorsUI.getSpellingService();
 		for (int i= 0; i < runs; i++) {
 			performanceMeter.start();
-			spellingService.check(fDocument, fSpellingContext, new SpellingProblemCollector(printDebugInfo && i == 0), null);
+			spellingService.check(fDocument, spellingContext, new SpellingProblemCollector(printDebugInfo && i == 0), null);
 			performanceMeter.stop();
 		}
 	}
 
+	private void measureAfterChange(PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) throws BadLocationException {
+		SpellingService spellingService= EditorsUI.getSpellingService();
+		int offset= fDocument.get().indexOf("/**") + 3;
+		assertTrue(offset > 2);
+		for (int i= 0; i < runs; i++) {
+			String word= " changed" + i;
+			fDocument.replace(offset, 0, word);
+			try {
+				performanceMeter.start();
+				spellingService.check(fDocument, fJavaSpellingContext, new SpellingProblemCollector(printDebugInfo && i == 0), null);
+				performanceMeter.stop();
+			} finally {
+				fDocument.replace(offset, word.length(), "");
+			}
+		}
+	}
+
 	/**
 	 * Spelling problem collector.
 	 */
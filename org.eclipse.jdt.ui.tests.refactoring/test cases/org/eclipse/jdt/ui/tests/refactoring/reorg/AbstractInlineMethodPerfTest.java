@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.ISourceRange;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.code.InlineMethodRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+
+public abstract class AbstractInlineMethodPerfTest extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfRefs, boolean measure) throws Exception {
+		ICompilationUnit cunit= generateSources(numberOfCus, numberOfRefs);
+		IMethod method= cunit.findPrimaryType().getMethod("foo", new String[0]);
+		ISourceRange nameRange= method.getNameRange();
+		InlineMethodRefactoring refactoring= InlineMethodRefactoring.create(cunit, new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cunit, true), nameRange.getOffset(), nameRange.getLength());
+		refactoring.setCurrentMode(InlineMethodRefactoring.Mode.INLINE_ALL);
+		executeRefactoring(refactoring, measure);
+	}
+
+	private ICompilationUnit generateSources(int numberOfCus, int numberOfRefs) throws Exception {
+		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package def;\n");
+		buf.append("public class A {\n");
+		buf.append("    public void foo() {\n");
+		buf.append("        bar();\n");
+		buf.append("    }\n");
+		buf.append("    public void bar() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit result= definition.createCompilationUnit("A.java", buf.toString(), false, null);
+
+		IPackageFragment references= fTestProject.getSourceFolder().createPackageFragment("ref", false, null);
+		for(int i= 0; i < numberOfCus; i++) {
+			createReferenceCu(references, i, numberOfRefs);
+		}
+		return result;
+	}
+
+	private void createReferenceCu(IPackageFragment pack, int index, int numberOfRefs) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import def.A;\n");
+		buf.append("public class Ref" + index + " {\n");
+		buf.append("    public void ref(A a) {\n");
+		for (int i= 0; i < numberOfRefs; i++) {
+			buf.append("        a.foo();\n");
+		}
+		buf.append("    }\n");
+		buf.append("}\n");
+		pack.createCompilationUnit("Ref" + index + ".java", buf.toString(), false, null);
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Modifier;
+
+import org.eclipse.jdt.internal.corext.codemanipulation.AddGetterSetterOperation;
+import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
+import org.eclipse.jdt.internal.corext.codemanipulation.IRequestQuery;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
+/**
+ * Measures the generation of getters and setters with comments for all fields of a large class.
+ *
+ * @since 3.27
+ */
+public class AddGetterSetterPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int FIELDS= 500;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static IJavaProject fJProject1;
+
+		public static IPackageFragment fPackage;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+			fPackage= root.createPackageFragment("p", true, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	private static String createSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("\n");
+		buf.append("public class A {\n");
+		for (int i= 0; i < FIELDS; i++) {
+			buf.append("    private ").append(i % 2 == 0 ? "String" : "int").append(" field").append(i).append(";\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	@Test
+	public void testAddGettersAndSetters() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 3);
+		measure(fPerformanceMeter, 10);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
+		String source= createSource();
+		IRequestQuery allYes= member -> IRequestQuery.YES_ALL;
+		CodeGenerationSettings settings= JavaPreferencesSettings.getCodeGenerationSettings(MyTestSetup.fJProject1);
+		settings.createComments= true;
+
+		for (int j= 0; j < runs; j++) {
+			ICompilationUnit cu= MyTestSetup.fPackage.createCompilationUnit("A.java", source, true, null);
+			IType type= cu.getType("A");
+			IField[] fields= type.getFields();
+			assertEquals(FIELDS, fields.length);
+			CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cu, true);
+
+			joinBackgroudActivities();
+
+			AddGetterSetterOperation op= new AddGetterSetterOperation(type, new IField[0], new IField[0], fields, root, allYes, null, settings, true, true);
+			op.setVisibility(Modifier.PUBLIC);
+			performanceMeter.start();
+			op.run(new NullProgressMonitor());
+			performanceMeter.stop();
+
+			assertEquals(FIELDS * 3, type.getChildren().length);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,19 +46,25 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPreferenceUtil;
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUpCoreWrapper;
 import org.eclipse.jdt.internal.ui.fix.ArrayWithCurlyCleanUp;
 import org.eclipse.jdt.internal.ui.fix.ArraysFillCleanUp;
 import org.eclipse.jdt.internal.ui.fix.AutoboxingCleanUp;
@@ -73,6 +79,7 @@ import org.eclipse.jdt.internal.ui.fix.ComparingOnCriteriaCleanUp;
 import org.eclipse.jdt.internal.ui.fix.ConstantsForSystemPropertyCleanUp;
 import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
 import org.eclipse.jdt.internal.ui.fix.ConvertLoopCleanUp;
+import org.eclipse.jdt.internal.ui.fix.DoWhileRatherThanWhileCleanUp;
 import org.eclipse.jdt.internal.ui.fix.DoubleNegationCleanUp;
 import org.eclipse.jdt.internal.ui.fix.ElseIfCleanUp;
 import org.eclipse.jdt.internal.ui.fix.EmbeddedIfCleanUp;
@@ -84,9 +91,11 @@ import org.eclipse.jdt.internal.ui.fix.InvertEqualsCleanUp;
 import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
 import org.eclipse.jdt.internal.ui.fix.JoinCleanUp;
 import org.eclipse.jdt.internal.ui.fix.LazyLogicalCleanUp;
+import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.fix.MapCloningCleanUp;
 import org.eclipse.jdt.internal.ui.fix.MergeConditionalBlocksCleanUp;
 import org.eclipse.jdt.internal.ui.fix.OneIfRatherThanDuplicateBlocksThatFallThroughCleanUp;
+import org.eclipse.jdt.internal.ui.fix.PatternMatchingForInstanceofCleanUp;
 import org.eclipse.jdt.internal.ui.fix.PlainReplacementCleanUp;
 import org.eclipse.jdt.internal.ui.fix.PrimitiveComparisonCleanUp;
 import org.eclipse.jdt.internal.ui.fix.PrimitiveRatherThanWrapperCleanUp;
@@ -98,6 +107,8 @@ import org.eclipse.jdt.internal.ui.fix.SingleUsedFieldCleanUp;
 import org.eclipse.jdt.internal.ui.fix.SortMembersCleanUp;
 import org.eclipse.jdt.internal.ui.fix.StandardComparisonCleanUp;
 import org.eclipse.jdt.internal.ui.fix.StringCleanUp;
+import org.eclipse.jdt.internal.ui.fix.StringConcatToTextBlockCleanUp;
+import org.eclipse.jdt.internal.ui.fix.SwitchCleanUp;
 import org.eclipse.jdt.internal.ui.fix.SwitchExpressionsCleanUp;
 import org.eclipse.jdt.internal.ui.fix.UnloopedWhileCleanUp;
 import org.eclipse.jdt.internal.ui.fix.UnnecessaryCodeCleanUp;
@@ -175,6 +186,49 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		profileStore.writeProfiles(profiles, InstanceScope.INSTANCE);
 	}
 
+	/**
+	 * Asserts that the given clean ups find the same changes in a shared traversal of the ASTs of
+	 * the project as when each of them visits the ASTs on its own, and that they find changes.
+	 */
+	private static void assertSharedTraversalChanges(ICleanUp[] cleanUps, Map<String, String> settings) throws CoreException {
+		for (ICleanUp cleanUp : cleanUps) {
+			cleanUp.setOptions(new MapCleanUpOptions(settings));
+		}
+
+		int changes= 0;
+		for (IPackageFragment pack : MyTestSetup.fJProject1.getPackageFragments()) {
+			for (ICompilationUnit cu : pack.getCompilationUnits()) {
+				ASTParser parser= CleanUpRefactoring.createCleanUpASTParser();
+				parser.setSource(cu);
+				CompilationUnit ast= (CompilationUnit) parser.createAST(null);
+				CleanUpContext context= new CleanUpContext(cu, ast);
+
+				String[] expected= new String[cleanUps.length];
+				for (int i= 0; i < cleanUps.length; i++) {
+					expected[i]= getPreviewContent(cleanUps[i].createFix(context));
+				}
+
+				SharedASTTraversal traversal= new SharedASTTraversal();
+				for (ICleanUp cleanUp : cleanUps) {
+					((AbstractCleanUpCoreWrapper<?>) cleanUp).prepareFix(context, traversal);
+				}
+				traversal.run(ast);
+
+				for (int i= 0; i < cleanUps.length; i++) {
+					String actual= getPreviewContent(cleanUps[i].createFix(context));
+					Assert.assertEquals(cu.getElementName() + ", " + cleanUps[i].getClass().getSimpleName(), expected[i], actual);
+					if (actual != null)
+						changes++;
+				}
+			}
+		}
+		Assert.assertTrue("no changes found", changes > 0);
+	}
+
+	private static String getPreviewContent(ICleanUpFix fix) throws CoreException {
+		return fix != null ? fix.createChange(null).getPreviewContent(null) : null;
+	}
+
 	@Test
 	public void testNullCleanUp() throws Exception {
 		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
@@ -264,6 +318,56 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		doCleanUp(cleanUpRefactoring);
 	}
 
+	@Test
+	public void testSharedTraversalCleanUps() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+
+		Map<String, String> node= getNullSettings();
+
+		node.put(CleanUpConstants.ARRAY_WITH_CURLY, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.BOOLEAN_VALUE_RATHER_THAN_COMPARISON, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.DO_WHILE_RATHER_THAN_WHILE, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.INVERT_EQUALS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.ONE_IF_RATHER_THAN_DUPLICATE_BLOCKS_THAT_FALL_THROUGH, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.USE_PATTERN_MATCHING_FOR_INSTANCEOF, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.PLAIN_REPLACEMENT, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.PRIMITIVE_COMPARISON, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.PRIMITIVE_RATHER_THAN_WRAPPER, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.PULL_OUT_IF_FROM_IF_ELSE, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.REDUNDANT_COMPARATOR, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.RETURN_EXPRESSION, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.STANDARD_COMPARISON, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.STRINGCONCAT_TO_TEXTBLOCK, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.VALUEOF_RATHER_THAN_INSTANTIATION, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.CONTROL_STATEMENTS_CONVERT_TO_SWITCH_EXPRESSIONS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.USE_SWITCH, CleanUpOptions.TRUE);
+
+		storeSettings(node);
+
+		cleanUpRefactoring.addCleanUp(new ArrayWithCurlyCleanUp());
+		cleanUpRefactoring.addCleanUp(new BooleanValueRatherThanComparisonCleanUp());
+		cleanUpRefactoring.addCleanUp(new DoWhileRatherThanWhileCleanUp());
+		cleanUpRefactoring.addCleanUp(new InvertEqualsCleanUp());
+		cleanUpRefactoring.addCleanUp(new OneIfRatherThanDuplicateBlocksThatFallThroughCleanUp());
+		cleanUpRefactoring.addCleanUp(new PatternMatchingForInstanceofCleanUp());
+		cleanUpRefactoring.addCleanUp(new PlainReplacementCleanUp());
+		cleanUpRefactoring.addCleanUp(new PrimitiveComparisonCleanUp());
+		cleanUpRefactoring.addCleanUp(new PrimitiveRatherThanWrapperCleanUp());
+		cleanUpRefactoring.addCleanUp(new PullOutIfFromIfElseCleanUp());
+		cleanUpRefactoring.addCleanUp(new RedundantComparatorCleanUp());
+		cleanUpRefactoring.addCleanUp(new ReturnExpressionCleanUp());
+		cleanUpRefactoring.addCleanUp(new StandardComparisonCleanUp());
+		cleanUpRefactoring.addCleanUp(new StringConcatToTextBlockCleanUp());
+		cleanUpRefactoring.addCleanUp(new ValueOfRatherThanInstantiationCleanUp());
+		cleanUpRefactoring.addCleanUp(new SwitchExpressionsCleanUp());
+		cleanUpRefactoring.addCleanUp(new SwitchCleanUp());
+
+		assertSharedTraversalChanges(cleanUpRefactoring.getCleanUps(), node);
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
 	@Test
 	public void testSingleUsedFieldCleanUp() throws Exception {
 		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@ package org.eclipse.jdt.ui.tests.performance.views;
 
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.FixMethodOrder;
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,7 +38,13 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.dialogs.ISelectionStatusValidator;
 import org.eclipse.ui.dialogs.SelectionDialog;
 
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.ui.IJavaElementSearchConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -42,12 +52,16 @@ import org.eclipse.jdt.ui.dialogs.TypeSelectionExtension;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
 
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.util.CoreUtility;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class OpenTypePerfTest extends JdtPerformanceTestCaseCommon {
 
+	private static final int HISTORY_SIZE= 60;
+
 	private SelectionDialog fOpenTypeDialog;
 	private Shell fShell;
 
@@ -166,8 +180,44 @@ public class OpenTypePerfTest extends JdtPerformanceTestCaseCommon {
 		}
 	}
 
+	@Test
+	public void testGWarmFullHistory10() throws Exception {
+		//warm, repeated, full history whose entries of the SWT project are inconsistent
+		List<TypeNameMatch> added= fillHistory();
+		joinBackgroudActivities();
+		try {
+			List<IJavaElement> changed= Collections.singletonList(stup.fTestProject.getProject());
+			for (int i= 0; i < 10; i++) {
+				OpenTypeHistory.getInstance().markAsInconsistent(changed);
+				measureOpenType("*Exception");
+			}
+		} finally {
+			commitMeasurements();
+			for (TypeNameMatch match : added) {
+				OpenTypeHistory.getInstance().remove(match);
+			}
+			assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+		}
+	}
+
 	//---
 
+	private static List<TypeNameMatch> fillHistory() throws JavaModelException {
+		final OpenTypeHistory history= OpenTypeHistory.getInstance();
+		final List<TypeNameMatch> added= new ArrayList<>();
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, "*".toCharArray(), SearchPattern.R_PATTERN_MATCH,
+				IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+					@Override
+					public void acceptTypeNameMatch(TypeNameMatch match) {
+						if (added.size() < HISTORY_SIZE && !history.contains(match)) {
+							history.accessed(match);
+							added.add(match);
+						}
+					}
+				}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+		return added;
+	}
+
 	private void measureOpenType(String pattern) throws Exception {
 		measureOpenType(pattern, false);
 	}
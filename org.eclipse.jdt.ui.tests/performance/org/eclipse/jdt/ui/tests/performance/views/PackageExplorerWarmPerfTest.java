@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,22 +13,63 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.performance.views;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.Performance;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.jface.viewers.TreeViewer;
+
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerPart;
+
 public class PackageExplorerWarmPerfTest extends JdtPerformanceTestCaseCommon {
 
+	private static final int LARGE_PROJECT_LIBRARIES= 200;
+
+	private static final int LARGE_PROJECT_PACKAGES= 20000;
+
 	@Test
 	public void testOpen() throws Exception {
 		IWorkbenchWindow activeWorkbenchWindow= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
@@ -49,4 +90,106 @@ public class PackageExplorerWarmPerfTest extends JdtPerformanceTestCaseCommon {
 		// don't spend more than 500 ms.
 		Performance.getDefault().assertPerformanceInAbsoluteBand(fPerformanceMeter, Dimension.ELAPSED_PROCESS, 0, 500);
 	}
+
+	@Test
+	public void testExpandLargeProject() throws Exception {
+		measureExpandLargeProject(false);
+	}
+
+	@Test
+	public void testExpandLargeProjectDeferred() throws Exception {
+		measureExpandLargeProject(true);
+	}
+
+	/**
+	 * Measures the time the UI thread is blocked when a project with many libraries and packages
+	 * is expanded.
+	 *
+	 * @param deferred whether the children of expensive elements are computed in the background
+	 * @throws Exception if the synthetic workspace cannot be created
+	 */
+	private void measureExpandLargeProject(boolean deferred) throws Exception {
+		IJavaProject project= createLargeProject();
+		try {
+			IWorkbenchPage page= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+			PackageExplorerPart view= (PackageExplorerPart) page.showView(JavaUI.ID_PACKAGES);
+			TreeViewer viewer= view.getTreeViewer();
+			PackageExplorerContentProvider contentProvider= (PackageExplorerContentProvider) viewer.getContentProvider();
+			contentProvider.setDeferredChildren(deferred);
+			try {
+				for (int i= 0; i < 10; i++) {
+					viewer.collapseAll();
+					// forget the fetched children, so that the expansion is deferred again
+					contentProvider.setDeferredChildren(deferred);
+					viewer.refresh();
+					joinBackgroudActivities();
+					startMeasuring();
+					viewer.expandToLevel(project, 2);
+					stopMeasuring();
+				}
+				commitMeasurements();
+				assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+
+				if (deferred) {
+					// once the children have been fetched, a refresh keeps the expanded project
+					waitForChildren(viewer, project);
+					viewer.refresh(project);
+					assertTrue(viewer.getExpandedState(project));
+					assertFalse(hasPendingChild(viewer, project));
+				}
+			} finally {
+				contentProvider.setDeferredChildren(false);
+			}
+		} finally {
+			JavaProjectHelper.delete(project);
+		}
+	}
+
+	private static void waitForChildren(TreeViewer viewer, Object element) throws Exception {
+		Display display= viewer.getControl().getDisplay();
+		long end= System.currentTimeMillis() + 60000;
+		while (hasPendingChild(viewer, element)) {
+			if (System.currentTimeMillis() > end)
+				fail("children of " + element + " not shown");
+			if (!display.readAndDispatch())
+				Thread.sleep(10);
+		}
+	}
+
+	private static boolean hasPendingChild(TreeViewer viewer, Object element) {
+		TreeItem item= (TreeItem) viewer.testFindItem(element);
+		assertNotNull(item);
+		for (TreeItem child : item.getItems()) {
+			if (child.getData() == null || child.getData() instanceof PendingUpdateAdapter)
+				return true;
+		}
+		return false;
+	}
+
+	private static IJavaProject createLargeProject() throws Exception {
+		IJavaProject project= JavaProjectHelper.createJavaProject("Large", "bin");
+		File rtStubs= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.RT_STUBS_15);
+		ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+			IFolder lib= project.getProject().getFolder("lib");
+			lib.create(true, true, null);
+			List<IClasspathEntry> entries= new ArrayList<>(Arrays.asList(project.getRawClasspath()));
+			for (int i= 0; i < LARGE_PROJECT_LIBRARIES; i++) {
+				IFile jar= lib.getFile("lib" + i + ".jar");
+				try (InputStream in= new FileInputStream(rtStubs)) {
+					jar.create(in, true, null);
+				} catch (IOException e) {
+					throw new CoreException(new Status(IStatus.ERROR, JavaTestPlugin.getPluginId(), IStatus.ERROR, e.getMessage(), e));
+				}
+				entries.add(JavaCore.newLibraryEntry(jar.getFullPath(), null, null));
+			}
+			project.setRawClasspath(entries.toArray(new IClasspathEntry[entries.size()]), null);
+			IPackageFragmentRoot src= JavaProjectHelper.addSourceContainer(project, "src");
+			for (int i= 0; i < LARGE_PROJECT_PACKAGES; i++) {
+				String name= "p" + (i / 1000) + ".q" + (i / 100 % 10) + ".r" + (i % 100);
+				IPackageFragment pack= src.createPackageFragment(name, true, null);
+				pack.createCompilationUnit("A.java", "package " + name + ";\npublic class A {}\n", true, null);
+			}
+		}, null);
+		return project;
+	}
 }
\ No newline at end of file
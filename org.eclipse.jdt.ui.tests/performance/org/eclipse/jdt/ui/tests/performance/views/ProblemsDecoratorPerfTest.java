@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.ProblemsLabelDecorator;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures problem decoration of the elements shown in the Package Explorer for a project with
+ * many problem markers.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ProblemsDecoratorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int MARKERS_PER_FILE= 200;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("Testing", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar13(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+
+			ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> fJProject1.getProject().accept(resource -> {
+				if (resource.getType() == IResource.FILE && "java".equals(resource.getFileExtension())) {
+					for (int i= 0; i < MARKERS_PER_FILE; i++) {
+						IMarker marker= resource.createMarker(IMarker.PROBLEM);
+						marker.setAttribute(IMarker.SEVERITY, i % 2 == 0 ? IMarker.SEVERITY_WARNING : IMarker.SEVERITY_INFO);
+						marker.setAttribute(IMarker.CHAR_START, i);
+						marker.setAttribute(IMarker.CHAR_END, i + 1);
+					}
+				}
+				return true;
+			}), null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static class MeasuredDecorator extends ProblemsLabelDecorator {
+		public MeasuredDecorator() {
+			super(null);
+			addListener(event -> {
+				// registers the decorator for problem marker changes
+			});
+		}
+
+		public int computeFlags(Object element) {
+			return computeAdornmentFlags(element);
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testDecorateElements() throws Exception {
+		List<Object> elements= collectElements();
+		MeasuredDecorator decorator= new MeasuredDecorator();
+		try {
+			for (int i= 0; i < 10; i++) {
+				joinBackgroudActivities();
+				startMeasuring();
+				for (int k= 0; k < 10; k++) {
+					for (Object element : elements) {
+						decorator.computeFlags(element);
+					}
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+		} finally {
+			decorator.dispose();
+		}
+	}
+
+	/**
+	 * Changes the severity of a problem marker and decorates all elements again, as after an
+	 * incremental build. The change is rolled up the parents of the changed file, the markers of
+	 * the other files are not searched again.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	@Test
+	public void testDecorateElementsAfterMarkerChange() throws Exception {
+		List<Object> elements= collectElements();
+		IResource file= MyTestSetup.fJProject1.getProject().findMember("src/junit/framework/Assert.java");
+		assertNotNull(file);
+		IMarker marker= file.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO)[0];
+		MeasuredDecorator decorator= new MeasuredDecorator();
+		try {
+			for (Object element : elements) {
+				decorator.computeFlags(element);
+			}
+			for (int i= 0; i < 10; i++) {
+				joinBackgroudActivities();
+				startMeasuring();
+				for (int k= 0; k < 10; k++) {
+					marker.setAttribute(IMarker.SEVERITY, k % 2 == 0 ? IMarker.SEVERITY_ERROR : IMarker.SEVERITY_WARNING);
+					for (Object element : elements) {
+						decorator.computeFlags(element);
+					}
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+		} finally {
+			decorator.dispose();
+		}
+	}
+
+	private static List<Object> collectElements() throws Exception {
+		List<Object> elements= new ArrayList<>();
+		elements.add(MyTestSetup.fJProject1.getProject());
+		for (IPackageFragmentRoot root : MyTestSetup.fJProject1.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (IJavaElement child : root.getChildren()) {
+				IPackageFragment pack= (IPackageFragment) child;
+				elements.add(pack);
+				elements.add(pack.getResource());
+				for (ICompilationUnit cu : pack.getCompilationUnits()) {
+					elements.add(cu);
+					elements.add(cu.getResource());
+				}
+			}
+		}
+		return elements;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.performance.views;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 
@@ -28,6 +29,8 @@ import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.Performance;
 
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -36,20 +39,28 @@ import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyModel;
 import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyViewPart;
 import org.eclipse.jdt.internal.ui.util.OpenTypeHierarchyUtil;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class TypeHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
 
+	/** The maximum time in milliseconds to wait for a hierarchy to be shown. */
+	private static final long MAX_WAIT_TIME= 60000;
+
 	private static class MyTestSetup extends ExternalResource {
 		public static final String SRC_CONTAINER= "src";
 
@@ -124,6 +135,109 @@ public class TypeHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
 		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
 	}
 
+	@Test
+	public void testDShowObjectHierarchyProgressive() throws Exception {
+		measureShowHierarchy(true);
+	}
+
+	@Test
+	public void testEShowObjectHierarchyComplete() throws Exception {
+		measureShowHierarchy(false);
+	}
+
+	@Test
+	public void testFRefreshObjectHierarchyIncremental() throws Exception {
+		measureRefreshHierarchy(true);
+	}
+
+	@Test
+	public void testGRefreshObjectHierarchyFull() throws Exception {
+		measureRefreshHierarchy(false);
+	}
+
+	/*
+	 * Measures the time until the hierarchy on Object is shown. In progressive mode, this is the
+	 * time until the direct subtypes are shown.
+	 */
+	private void measureShowHierarchy(boolean progressive) throws Exception {
+		IType object= MyTestSetup.fJProject1.findType("java.lang.Object");
+		IType string= MyTestSetup.fJProject1.findType("java.lang.String");
+		TypeHierarchyViewPart viewPart= OpenTypeHierarchyUtil.open(object, JavaPlugin.getActiveWorkbenchWindow());
+		TypeHierarchyLifeCycle lifeCycle= viewPart.getTypeHierarchyLifeCycle();
+		lifeCycle.setProgressive(progressive);
+		try {
+			for (int i= 0; i < 10; i++) {
+				viewPart.setInputElement(string);
+				joinBackgroudActivities();
+
+				startMeasuring();
+				viewPart.setInputElement(object);
+				waitForModel(lifeCycle, object, null);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			lifeCycle.setProgressive(true);
+		}
+	}
+
+	/*
+	 * Measures the time until a type added to the hierarchy on Object is shown.
+	 */
+	private void measureRefreshHierarchy(boolean incremental) throws Exception {
+		IType object= MyTestSetup.fJProject1.findType("java.lang.Object");
+		IType string= MyTestSetup.fJProject1.findType("java.lang.String");
+		TypeHierarchyViewPart viewPart= OpenTypeHierarchyUtil.open(object, JavaPlugin.getActiveWorkbenchWindow());
+		TypeHierarchyLifeCycle lifeCycle= viewPart.getTypeHierarchyLifeCycle();
+		lifeCycle.setIncremental(incremental);
+		try {
+			// the mode takes effect when the hierarchy is computed
+			viewPart.setInputElement(string);
+			joinBackgroudActivities();
+			viewPart.setInputElement(object);
+			joinBackgroudActivities();
+
+			IPackageFragment pack= MyTestSetup.fJunitSrcRoot.getPackageFragment("junit.framework");
+			for (int i= 0; i < 10; i++) {
+				String name= "AddedTest" + i;
+				startMeasuring();
+				ICompilationUnit cu= pack.createCompilationUnit(name + ".java", "package junit.framework;\npublic class " + name + " extends TestCase {\n}\n", true, null);
+				waitForModel(lifeCycle, object, cu.getType(name));
+				stopMeasuring();
+
+				cu.delete(true, null);
+				joinBackgroudActivities();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			lifeCycle.setIncremental(true);
+		}
+	}
+
+	/*
+	 * Runs the event loop until the model of the hierarchy on the given type is shown and contains
+	 * the given type, if any. Fails if this takes longer than MAX_WAIT_TIME.
+	 */
+	private static void waitForModel(TypeHierarchyLifeCycle lifeCycle, IType type, IType containedType) throws InterruptedException {
+		Display display= Display.getCurrent();
+		long deadline= System.currentTimeMillis() + MAX_WAIT_TIME;
+		while (true) {
+			TypeHierarchyModel model= lifeCycle.getHierarchyModel();
+			if (model != null && type.equals(model.getType()) && (containedType == null || model.contains(containedType)))
+				break;
+			if (System.currentTimeMillis() > deadline)
+				fail("hierarchy on " + type.getElementName() + " not shown after " + MAX_WAIT_TIME + " ms");
+			if (!display.readAndDispatch())
+				Thread.sleep(1);
+		}
+		// show the model
+		while (display.readAndDispatch()) {
+			// do nothing
+		}
+	}
+
 	private void measureOpenHierarchy(IJavaElement element) throws Exception {
 		IWorkbenchWindow activeWorkbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
 		joinBackgroudActivities();
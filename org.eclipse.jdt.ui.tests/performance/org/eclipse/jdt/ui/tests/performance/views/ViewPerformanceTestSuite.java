@@ -24,6 +24,7 @@ import org.junit.runners.Suite;
 	PackageExplorerWarmPerfTest.class,
 	PackageExplorerWorkspacePerfTest.class,
 	PackageExplorerWorkspaceWarmPerfTest.class,
+	ProblemsDecoratorPerfTest.class,
 	TypeHierarchyPerfTest.class
 })
 public class ViewPerformanceTestSuite {
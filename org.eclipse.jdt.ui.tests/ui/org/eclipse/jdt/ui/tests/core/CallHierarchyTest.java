@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,7 +34,9 @@ import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphCache;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
@@ -521,6 +523,37 @@ public class CallHierarchyTest {
         helper.assertCalls(Arrays.asList(helper.getAbsI1FooMethod(), helper.getAbsI2FooMethod()), secondLevel);
     }
 
+    @Test
+    public void callersCachedAcrossRoots() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method= helper.getMethod1();
+        CallGraphCache cache= CallGraphCache.getDefault();
+        cache.clear();
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+
+        MethodWrapper[] calls= getSingleCallerRoot(method).getCalls(new NullProgressMonitor());
+        helper.assertCalls(expectedMethods, calls);
+        assertTrue(cache.hasCallers(method, IJavaSearchConstants.REFERENCES));
+
+        // expanding a caller also searches the callers of its siblings
+        MethodWrapper wrapper2= helper.findMethodWrapper(helper.getMethod2(), calls);
+        helper.assertCalls(Arrays.asList(helper.getMethod3()), wrapper2.getCalls(new NullProgressMonitor()));
+        assertTrue(cache.hasCallers(helper.getMethod3(), IJavaSearchConstants.REFERENCES));
+
+        // a new root reuses the cached callers
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+        // changing the source drops the cache
+        helper.getType2().getCompilationUnit().getBuffer().append("\n");
+        helper.getType2().getCompilationUnit().save(null, true);
+        assertFalse(cache.hasCallers(method, IJavaSearchConstants.REFERENCES));
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+    }
+
     private void checkCalls(IMember memberToCheck, IMethod... expectedCallers) {
         MethodWrapper[] methodWrappers = CallHierarchy.getDefault().getCallerRoots(new IMember[] { memberToCheck });
         MethodWrapper[] callers = methodWrappers[0].getCalls(new NullProgressMonitor());
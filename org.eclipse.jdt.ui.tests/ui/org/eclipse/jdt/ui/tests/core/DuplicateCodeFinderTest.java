@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.NodeFinder;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.SubtreeHashIndex;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateCodeFinder;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateCodeFinder.Duplicate;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class DuplicateCodeFinderTest extends CoreTests {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private static ASTNode getNode(CompilationUnit root, String source, String code) {
+		return NodeFinder.perform(root, source.indexOf(code), code.length());
+	}
+
+	@Test
+	public void testHashOfRenamedLocals() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("    private int fField1;\n");
+		buf.append("    private int fField2;\n");
+		buf.append("    public void foo(int a, int b) {\n");
+		buf.append("        fField1 = a + b;\n");
+		buf.append("        fField1 = b + a;\n");
+		buf.append("        fField2 = a + b;\n");
+		buf.append("    }\n");
+		buf.append("    public void bar(int x, int y) {\n");
+		buf.append("        fField1 = x + y;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String source= buf.toString();
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", source, false, null);
+		CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cu, true);
+
+		SubtreeHashIndex index= SubtreeHashIndex.create(root);
+		ASTNode node1= getNode(root, source, "fField1 = a + b;");
+		int hash1= index.getHash(node1);
+		int hash2= index.getHash(getNode(root, source, "fField1 = b + a;"));
+		int hash3= index.getHash(getNode(root, source, "fField2 = a + b;"));
+		int hash4= index.getHash(getNode(root, source, "fField1 = x + y;"));
+
+		assertEquals(hash1, hash2);
+		assertEquals(hash1, hash4);
+		assertNotEquals(hash1, hash3);
+		// the hash of a subtree does not depend on the indexed subtree containing it
+		assertEquals(hash1, SubtreeHashIndex.create(root.types().get(0)).getHash(node1));
+		assertEquals(hash1, SubtreeHashIndex.computeHash(node1));
+	}
+
+	@Test
+	public void testFindDuplicates() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("    private int fField;\n");
+		buf.append("    public void foo(int[] values) {\n");
+		buf.append("        for (int i = 0; i < values.length; i++) {\n");
+		buf.append("            if (values[i] > fField) {\n");
+		buf.append("                fField = values[i] * 2;\n");
+		buf.append("            }\n");
+		buf.append("        }\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		ICompilationUnit cu1= pack1.createCompilationUnit("E.java", buf.toString(), false, null);
+
+		buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F {\n");
+		buf.append("    private int fField;\n");
+		buf.append("    public void bar(int[] numbers) {\n");
+		buf.append("        for (int k = 0; k < numbers.length; k++) {\n");
+		buf.append("            if (numbers[k] > fField) {\n");
+		buf.append("                fField = numbers[k] * 2;\n");
+		buf.append("            }\n");
+		buf.append("        }\n");
+		buf.append("        for (int j = numbers.length - 1; j >= 0; j--) {\n");
+		buf.append("            if (numbers[j] > fField) {\n");
+		buf.append("                fField = numbers[j] * 2;\n");
+		buf.append("            }\n");
+		buf.append("        }\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String source= buf.toString();
+		ICompilationUnit cu2= pack1.createCompilationUnit("F.java", source, false, null);
+
+		List<Duplicate> duplicates= new DuplicateCodeFinder(10).findDuplicates(new ICompilationUnit[] { cu1, cu2 }, null);
+
+		// the loop in E refers to another field, and the bodies of the loops in F are reported
+		// instead of the if statements in them
+		assertEquals(1, duplicates.size());
+		Duplicate duplicate= duplicates.get(0);
+		assertEquals(2, duplicate.getLocations().size());
+		assertEquals(cu2, duplicate.getLocations().get(0).getCompilationUnit());
+		assertEquals(cu2, duplicate.getLocations().get(1).getCompilationUnit());
+		int first= duplicate.getLocations().get(0).getOffset();
+		int second= duplicate.getLocations().get(1).getOffset();
+		assertEquals(source.indexOf("{\n            if (numbers[k] > fField)"), Math.min(first, second));
+		assertEquals(source.indexOf("{\n            if (numbers[j] > fField)"), Math.max(first, second));
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+
+/**
+ * Tests that the problem severities answered by the {@link ProblemMarkerManager} follow marker
+ * and resource changes.
+ */
+public class ProblemMarkerManagerTest {
+
+	private final IProblemChangedListener fListener= (changedResources, isMarkerChange) -> {
+		// registers for problem marker changes
+	};
+
+	private ProblemMarkerManager fManager;
+
+	private IProject fProject;
+
+	private IFolder fFolder;
+
+	private IFolder fSubFolder;
+
+	private IFile fFile;
+
+	private IFile fOtherFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemMarkerManagerTest");
+		fProject.create(null);
+		fProject.open(null);
+		fFolder= fProject.getFolder("a");
+		fFolder.create(true, true, null);
+		fSubFolder= fFolder.getFolder("b");
+		fSubFolder.create(true, true, null);
+		fFile= fSubFolder.getFile("file.txt");
+		fFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+		fOtherFile= fFolder.getFile("other.txt");
+		fOtherFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		fManager= JavaPlugin.getDefault().getProblemMarkerManager();
+		fManager.addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fManager.removeListener(fListener);
+		fProject.delete(true, true, null);
+	}
+
+	private static IMarker createMarker(IResource resource, int severity) throws CoreException {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+
+	private void assertSeverities() throws CoreException {
+		fProject.accept(resource -> {
+			for (int depth : new int[] { IResource.DEPTH_ZERO, IResource.DEPTH_ONE, IResource.DEPTH_INFINITE }) {
+				int expected= resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+				assertEquals(resource.getFullPath() + ", depth " + depth, expected, fManager.findMaxProblemSeverity(resource, depth));
+			}
+			return true;
+		});
+	}
+
+	@Test
+	public void testMarkerChanges() throws Exception {
+		assertEquals(-1, fManager.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		IMarker warning= createMarker(fFile, IMarker.SEVERITY_WARNING);
+		assertEquals(IMarker.SEVERITY_WARNING, fManager.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+		assertEquals(-1, fManager.findMaxProblemSeverity(fFolder, IResource.DEPTH_ONE));
+		assertSeverities();
+
+		IMarker error= createMarker(fOtherFile, IMarker.SEVERITY_ERROR);
+		assertEquals(IMarker.SEVERITY_ERROR, fManager.findMaxProblemSeverity(fFolder, IResource.DEPTH_ONE));
+		assertSeverities();
+
+		createMarker(fOtherFile, IMarker.SEVERITY_INFO);
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		assertEquals(IMarker.SEVERITY_WARNING, fManager.findMaxProblemSeverity(fFolder, IResource.DEPTH_INFINITE));
+		assertSeverities();
+
+		warning.delete();
+		assertEquals(IMarker.SEVERITY_INFO, fManager.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+		assertEquals(-1, fManager.findMaxProblemSeverity(fSubFolder, IResource.DEPTH_INFINITE));
+		assertSeverities();
+
+		createMarker(fProject, IMarker.SEVERITY_WARNING);
+		assertSeverities();
+	}
+
+	@Test
+	public void testResourceChanges() throws Exception {
+		createMarker(fFile, IMarker.SEVERITY_ERROR);
+		createMarker(fOtherFile, IMarker.SEVERITY_WARNING);
+		assertSeverities();
+
+		fSubFolder.delete(true, null);
+		assertEquals(IMarker.SEVERITY_WARNING, fManager.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+		assertSeverities();
+
+		fSubFolder.create(true, true, null);
+		fFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+		createMarker(fFile, IMarker.SEVERITY_ERROR);
+		assertEquals(IMarker.SEVERITY_ERROR, fManager.findMaxProblemSeverity(fProject, IResource.DEPTH_INFINITE));
+		assertSeverities();
+
+		fOtherFile.move(fSubFolder.getFile("moved.txt").getFullPath(), true, null);
+		assertSeverities();
+
+		fProject.close(null);
+		fProject.open(null);
+		assertSeverities();
+	}
+}
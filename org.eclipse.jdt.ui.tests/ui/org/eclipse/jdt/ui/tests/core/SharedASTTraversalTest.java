@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.RecordPattern;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TypePattern;
+
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
+
+/**
+ * Tests that every visitor of a {@link SharedASTTraversal} receives the same calls as when it
+ * visits the AST on its own, in particular when a single visitor does not visit the children of
+ * a node.
+ */
+public class SharedASTTraversalTest {
+
+	private static final String SOURCE= "" +
+			"class C {\n" +
+			"    void a() { foo(); }\n" +
+			"    void b() { bar(); }\n" +
+			"}\n";
+
+	/**
+	 * Records the calls it receives. It does not visit the children of the method declaration
+	 * with the given name, or does not visit the body of that method at all.
+	 */
+	private static class RecordingVisitor extends ASTVisitor {
+
+		final List<String> fCalls= new ArrayList<>();
+
+		private final String fSkippedMethod;
+
+		private final boolean fSkipBody;
+
+		RecordingVisitor(String skippedMethod, boolean skipBody) {
+			fSkippedMethod= skippedMethod;
+			fSkipBody= skipBody;
+		}
+
+		private static String getLabel(ASTNode node) {
+			return node.getClass().getSimpleName() + " " + node.getStartPosition();
+		}
+
+		private boolean isSkippedMethod(ASTNode node) {
+			return node instanceof MethodDeclaration && ((MethodDeclaration) node).getName().getIdentifier().equals(fSkippedMethod);
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			fCalls.add("preVisit " + getLabel(node));
+			return !fSkipBody || !(node instanceof Block && isSkippedMethod(node.getParent()));
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			fCalls.add("postVisit " + getLabel(node));
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			fCalls.add("visit " + getLabel(node));
+			return fSkipBody || !isSkippedMethod(node);
+		}
+
+		@Override
+		public void endVisit(MethodDeclaration node) {
+			fCalls.add("endVisit " + getLabel(node));
+		}
+
+		@Override
+		public boolean visit(Block node) {
+			fCalls.add("visit " + getLabel(node));
+			return true;
+		}
+
+		@Override
+		public void endVisit(Block node) {
+			fCalls.add("endVisit " + getLabel(node));
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			fCalls.add("visit " + getLabel(node));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			fCalls.add("visit " + node.getIdentifier());
+			return true;
+		}
+	}
+
+	/**
+	 * Records the record and type patterns it visits, and does not visit the children of record
+	 * patterns.
+	 */
+	private static class PatternVisitor extends ASTVisitor {
+
+		final List<String> fCalls= new ArrayList<>();
+
+		@Override
+		public boolean visit(RecordPattern node) {
+			fCalls.add("visit RecordPattern " + node.getStartPosition());
+			return false;
+		}
+
+		@Override
+		public void endVisit(RecordPattern node) {
+			fCalls.add("endVisit RecordPattern " + node.getStartPosition());
+		}
+
+		@Override
+		public boolean visit(TypePattern node) {
+			fCalls.add("visit TypePattern " + node.getStartPosition());
+			return true;
+		}
+	}
+
+	private CompilationUnit fAST;
+
+	@Before
+	public void setUp() {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setSource(SOURCE.toCharArray());
+		fAST= (CompilationUnit) parser.createAST(null);
+	}
+
+	private List<String> visitAlone(String skippedMethod, boolean skipBody) {
+		RecordingVisitor visitor= new RecordingVisitor(skippedMethod, skipBody);
+		fAST.accept(visitor);
+		return visitor.fCalls;
+	}
+
+	@Test
+	public void testSuspendAndResume() {
+		RecordingVisitor all= new RecordingVisitor(null, false);
+		RecordingVisitor withoutA= new RecordingVisitor("a", false);
+		RecordingVisitor withoutBodyOfB= new RecordingVisitor("b", true);
+
+		SharedASTTraversal traversal= new SharedASTTraversal();
+		traversal.add(all);
+		traversal.add(withoutA);
+		traversal.add(withoutBodyOfB);
+		traversal.run(fAST);
+
+		assertEquals(visitAlone(null, false), all.fCalls);
+		assertEquals(visitAlone("a", false), withoutA.fCalls);
+		assertEquals(visitAlone("b", true), withoutBodyOfB.fCalls);
+
+		// the suspended visitors miss the skipped subtrees only, the others still see them
+		assertFalse(withoutA.fCalls.contains("visit foo"));
+		assertTrue(withoutA.fCalls.contains("visit bar"));
+		assertTrue(withoutBodyOfB.fCalls.contains("visit foo"));
+		assertFalse(withoutBodyOfB.fCalls.contains("visit bar"));
+		assertTrue(all.fCalls.contains("visit foo"));
+		assertTrue(all.fCalls.contains("visit bar"));
+
+		// a visitor that returns false from visit still receives endVisit, one that returns false
+		// from preVisit2 only receives postVisit
+		int a= SOURCE.indexOf("void a()");
+		assertTrue(withoutA.fCalls.contains("endVisit MethodDeclaration " + a));
+		int bodyOfB= SOURCE.indexOf("{ bar");
+		assertTrue(withoutBodyOfB.fCalls.contains("postVisit Block " + bodyOfB));
+		assertFalse(withoutBodyOfB.fCalls.contains("visit Block " + bodyOfB));
+		assertFalse(withoutBodyOfB.fCalls.contains("endVisit Block " + bodyOfB));
+	}
+
+	@Test
+	public void testAllVisitorsSuspended() {
+		RecordingVisitor withoutA1= new RecordingVisitor("a", false);
+		RecordingVisitor withoutA2= new RecordingVisitor("a", false);
+
+		SharedASTTraversal traversal= new SharedASTTraversal();
+		traversal.add(withoutA1);
+		traversal.add(withoutA2);
+		traversal.run(fAST);
+
+		List<String> expected= visitAlone("a", false);
+		assertEquals(expected, withoutA1.fCalls);
+		assertEquals(expected, withoutA2.fCalls);
+	}
+
+	@Test
+	public void testNodeTypeWithoutVisitorKind() {
+		String source= "" +
+				"class R {\n" +
+				"    record P(Object x, Object y) {}\n" +
+				"    boolean m(Object o) { return o instanceof P(String x, P(String y, Object z)) && o instanceof String s; }\n" +
+				"}\n";
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), options);
+		parser.setCompilerOptions(options);
+		parser.setSource(source.toCharArray());
+		CompilationUnit ast= (CompilationUnit) parser.createAST(null);
+
+		PatternVisitor alone= new PatternVisitor();
+		ast.accept(alone);
+
+		PatternVisitor patterns= new PatternVisitor();
+		RecordingVisitor all= new RecordingVisitor(null, false);
+		SharedASTTraversal traversal= new SharedASTTraversal();
+		traversal.add(patterns);
+		traversal.add(all);
+		traversal.run(ast);
+
+		assertEquals(alone.fCalls, patterns.fCalls);
+
+		// record patterns have no VisitorEnum kind, their visit and endVisit must be called anyway
+		int recordPattern= source.indexOf("P(String x");
+		assertTrue(patterns.fCalls.contains("visit RecordPattern " + recordPattern));
+		assertTrue(patterns.fCalls.contains("endVisit RecordPattern " + recordPattern));
+
+		// the pattern visitor does not see the nested patterns, the other visitor still does
+		assertFalse(patterns.fCalls.contains("visit RecordPattern " + source.indexOf("P(String y")));
+		assertFalse(patterns.fCalls.contains("visit TypePattern " + source.indexOf("String x")));
+		assertTrue(patterns.fCalls.contains("visit TypePattern " + source.indexOf("String s")));
+		assertTrue(all.fCalls.contains("visit z"));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,14 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
@@ -28,7 +35,10 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.ui.IEditorPart;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
@@ -36,11 +46,15 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.SubTypeHierarchyViewer.SubTypeHierarchyContentProvider;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyModel;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -268,4 +282,81 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	@Test
+	public void modelUpdate() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		IType typeA= pack1.getCompilationUnit("A.java").createType("public class A {\n}\n", null, true, null);
+		ICompilationUnit cuB= pack1.getCompilationUnit("B.java");
+		IType typeB= cuB.createType("public class B extends A {\n}\n", null, true, null);
+		IType typeC= pack1.getCompilationUnit("C.java").createType("public class C {\n}\n", null, true, null);
+
+		TypeHierarchyModel model= TypeHierarchyModel.create(typeA.newTypeHierarchy(null));
+		assertTrue(model.contains(typeB));
+		assertFalse(model.contains(typeC));
+
+		// C becomes a subtype
+		pack1.createCompilationUnit("C.java", "package pack1;\npublic class C extends B {\n}\n", true, null);
+		TypeHierarchyModel updated= model.update(Collections.singletonList(typeC), null);
+		assertNotNull(updated);
+		assertFalse("model must not be modified", model.contains(typeC));
+		assertEquals(typeB, updated.getSuperclass(typeC));
+		assertEquals(Arrays.asList(typeC), Arrays.asList(updated.getSubtypes(typeB)));
+
+		// removing B removes C as well
+		cuB.delete(true, null);
+		updated= updated.update(Collections.singletonList(typeB), null);
+		assertNotNull(updated);
+		assertTrue(updated.contains(typeA));
+		assertFalse(updated.contains(typeB));
+		assertFalse(updated.contains(typeC));
+		assertEquals(0, updated.getSubtypes(typeA).length);
+
+		// changes of the type of the model need the whole hierarchy
+		assertNull(updated.update(Collections.singletonList(typeA), null));
+	}
+
+	@Test
+	public void incrementalLifeCycleUpdate() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		IType typeA= pack1.getCompilationUnit("A.java").createType("public class A {\n    public void foo() {}\n}\n", null, true, null);
+		IType typeB= pack1.getCompilationUnit("B.java").createType("public class B extends A {\n}\n", null, true, null);
+		IMethod fooA= typeA.getMethod("foo", new String[0]);
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		lifeCycle.setIncremental(true);
+		// the content provider listens to the life cycle, which processes deltas only if it has listeners
+		SubTypeHierarchyContentProvider contentProvider= new SubTypeHierarchyContentProvider(lifeCycle);
+		contentProvider.setMemberFilter(new IMember[] { fooA });
+		try {
+			IJavaElement[] input= new IJavaElement[] { typeA };
+			lifeCycle.doHierarchyRefresh(input, null);
+			ITypeHierarchy hierarchy= lifeCycle.getHierarchy();
+			assertTrue(lifeCycle.getHierarchyModel().contains(typeB));
+
+			// a new subtype of B that overrides foo
+			ICompilationUnit cuC= pack1.createCompilationUnit("C.java", "package pack1;\npublic class C extends B {\n    @Override\n    public void foo() {}\n}\n", true, null);
+			IType typeC= cuC.getType("C");
+			IMethod fooC= typeC.getMethod("foo", new String[0]);
+
+			lifeCycle.doHierarchyRefresh(input, null);
+			assertTrue(lifeCycle.getHierarchyModel().contains(typeC));
+			assertNotSame("the hierarchy must be replaced after an incremental update", hierarchy, lifeCycle.getHierarchy());
+
+			// the members view uses the hierarchy
+			ITypeHierarchy updatedHierarchy= lifeCycle.getHierarchy();
+			assertTrue(updatedHierarchy.contains(typeC));
+			assertTrue(JavaModelUtil.isSuperType(updatedHierarchy, typeA, typeC));
+			assertEquals(fooA, new MethodOverrideTester(typeC, updatedHierarchy).findOverriddenMethod(fooC, true));
+			assertEquals(Arrays.asList(typeC), Arrays.asList(contentProvider.getChildren(typeB)));
+			assertEquals(Arrays.asList(fooC), Arrays.asList(contentProvider.getChildren(typeC)));
+		} finally {
+			contentProvider.dispose();
+			lifeCycle.freeHierarchy();
+		}
+	}
 }
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IAdaptable;
+
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.IWorkingSetManager;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.workingsets.WorkingSetFilter;
+import org.eclipse.jdt.internal.ui.workingsets.WorkingSetIndex;
+
+public class WorkingSetFilterTest {
+
+	private IJavaProject fProject1;
+	private IJavaProject fProject2;
+	private IPackageFragmentRoot fRoot1;
+	private IPackageFragment fPack1;
+	private ICompilationUnit fCu1;
+	private IWorkingSet fWorkingSet;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		fProject2= JavaProjectHelper.createJavaProject("TestProject2", "bin");
+		fRoot1= JavaProjectHelper.addSourceContainer(fProject1, "src");
+		fPack1= fRoot1.createPackageFragment("pack", true, null);
+		fCu1= fPack1.createCompilationUnit("A.java", "package pack;\npublic class A {\n}\n", true, null);
+		fWorkingSet= PlatformUI.getWorkbench().getWorkingSetManager().createWorkingSet("Test", new IAdaptable[0]);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject1);
+		JavaProjectHelper.delete(fProject2);
+	}
+
+	private WorkingSetFilter createFilter() {
+		WorkingSetFilter filter= new WorkingSetFilter();
+		filter.setWorkingSet(fWorkingSet);
+		return filter;
+	}
+
+	@Test
+	public void testProject() throws Exception {
+		fWorkingSet.setElements(new IAdaptable[] { fProject1 });
+		WorkingSetFilter filter= createFilter();
+
+		assertTrue(filter.isEnclosing(fProject1));
+		assertTrue(filter.isEnclosing(fRoot1));
+		assertTrue(filter.isEnclosing(fCu1));
+		assertTrue(filter.isEnclosing(fCu1.getTypes()[0]));
+		assertTrue(filter.isEnclosing(fProject1.getProject().getFile(".project")));
+		assertFalse(filter.isEnclosing(fProject2));
+	}
+
+	@Test
+	public void testPackageAndFolder() throws Exception {
+		IFolder folder= fProject2.getProject().getFolder("folder");
+		folder.create(true, true, null);
+		fWorkingSet.setElements(new IAdaptable[] { fPack1, folder });
+		WorkingSetFilter filter= createFilter();
+
+		// the parents of the elements are shown, too
+		assertTrue(filter.isEnclosing(fProject1));
+		assertTrue(filter.isEnclosing(fRoot1));
+		assertTrue(filter.isEnclosing(fPack1));
+		assertTrue(filter.isEnclosing(fCu1));
+		assertTrue(filter.isEnclosing(fProject2));
+		assertTrue(filter.isEnclosing(folder));
+		assertTrue(filter.isEnclosing(folder.getFile("a.txt")));
+		assertFalse(filter.isEnclosing(fProject2.getProject().getFile(".project")));
+		assertFalse(filter.isEnclosing(fProject1.getProject().getFile(".project")));
+	}
+
+	@Test
+	public void testContentChange() throws Exception {
+		fWorkingSet.setElements(new IAdaptable[] { fProject1 });
+		WorkingSetFilter filter1= createFilter();
+		WorkingSetFilter filter2= createFilter();
+		assertTrue(filter1.isEnclosing(fCu1));
+
+		fWorkingSet.setElements(new IAdaptable[] { fProject2 });
+		filter1.notifyWorkingSetContentChange();
+		filter2.notifyWorkingSetContentChange();
+
+		assertFalse(filter1.isEnclosing(fCu1));
+		assertFalse(filter2.isEnclosing(fCu1));
+		assertTrue(filter1.isEnclosing(fProject2));
+		assertTrue(filter2.isEnclosing(fProject2));
+	}
+
+	@Test
+	public void testSharedIndex() throws Exception {
+		fWorkingSet.setElements(new IAdaptable[] { fProject1, fProject2 });
+		WorkingSetIndex index= WorkingSetIndex.get(fWorkingSet);
+		assertSame(index, WorkingSetIndex.find(fWorkingSet));
+		assertEquals(2, index.getProjects().size());
+
+		index.elementsChanged(Collections.emptyList(), Collections.singletonList(fProject2));
+		fWorkingSet.setElements(new IAdaptable[] { fProject1 });
+
+		assertEquals(Collections.singleton(fProject1.getProject()), index.getProjects());
+		assertTrue(index.isEnclosing(fCu1));
+		assertFalse(index.isEnclosing(fProject2));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jface.text.IDocument;
+
 import org.eclipse.ui.PartInitException;
 
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -1123,4 +1125,43 @@ public class SaveParticipantTest extends CleanUpTestCase {
 		// Then
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
+
+	@Test
+	public void testFormatChangesPartialLineDeletion() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "    public void foo( Object o ) {\n" //
+				+ "/* */  String s    = (String)o;\n" //
+				+ "        String t    = (String)o;\n" //
+				+ "        String u    = (String)o;\n" //
+				+ "    }\n" //
+				+ "}";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String expected1= "" //
+				+ "package test1;\n" //
+				+ "public class E1 {\n" //
+				+ "    public void foo( Object o ) {\n" //
+				+ "        String s = (String) o;\n" //
+				+ "        String t    = (String)o;\n" //
+				+ "    }\n" //
+				+ "}";
+
+		enable(CleanUpConstants.FORMAT_SOURCE_CODE);
+		enable(CleanUpConstants.FORMAT_SOURCE_CODE_CHANGES_ONLY);
+
+		// When
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(cu1);
+		IDocument document= editor.getDocumentProvider().getDocument(editor.getEditorInput());
+		// remove a whole line, then the start of a line
+		document.replace(document.getLineOffset(5), document.getLineLength(5), "");
+		document.replace(document.getLineOffset(3), "/* */".length(), "");
+		editor.doSave(null);
+
+		// Then
+		assertEquals(expected1, cu1.getBuffer().getContents());
+	}
 }
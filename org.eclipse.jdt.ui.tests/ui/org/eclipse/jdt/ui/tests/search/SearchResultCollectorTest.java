@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.search.ui.ISearchResultListener;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.ui.search.PatternQuerySpecification;
+import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
+
+import org.eclipse.jdt.internal.ui.search.JavaElementMatch;
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.search.NewSearchResultCollector;
+
+/**
+ * Tests the batching of {@link NewSearchResultCollector}, the packed flags of
+ * {@link JavaElementMatch} and the removal of matches by the search result updater.
+ */
+public class SearchResultCollectorTest {
+
+	@Rule
+	public JUnitSourceSetup projectSetup = new JUnitSourceSetup();
+
+	private static JavaSearchResult createResult() {
+		JavaSearchQuery query= new JavaSearchQuery(new PatternQuerySpecification("foo", IJavaSearchConstants.METHOD, true, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		return (JavaSearchResult) query.getSearchResult();
+	}
+
+	private static ICompilationUnit getTestCase() throws Exception {
+		return SearchTestHelper.getType("junit.framework.TestCase").getCompilationUnit();
+	}
+
+	@Test
+	public void testMatchesAddedInBatches() throws Exception {
+		JavaSearchResult result= createResult();
+		List<MatchEvent> events= new ArrayList<>();
+		ISearchResultListener listener= e -> {
+			if (e instanceof MatchEvent && ((MatchEvent) e).getKind() == MatchEvent.ADDED)
+				events.add((MatchEvent) e);
+		};
+		result.addListener(listener);
+
+		ICompilationUnit cu= getTestCase();
+		IResource resource= cu.getResource();
+		NewSearchResultCollector collector= new NewSearchResultCollector(result, false);
+		collector.beginReporting();
+		for (int i= 0; i < 2500; i++) {
+			// a new handle for every match, like the search engine
+			collector.acceptSearchMatch(new SearchMatch(cu.getType("TestCase"), SearchMatch.A_ACCURATE, i, 1, null, resource));
+		}
+		collector.endReporting();
+		result.removeListener(listener);
+
+		assertEquals(2500, result.getMatchCount());
+		assertTrue("too many events: " + events.size(), events.size() < 10);
+		Match[] matches= result.getMatches(cu.getType("TestCase"));
+		assertEquals(2500, matches.length);
+		for (Match match : matches) {
+			assertSame(matches[0].getElement(), match.getElement());
+		}
+	}
+
+	@Test
+	public void testLastMatchesAddedBeforeEndOfReporting() throws Exception {
+		JavaSearchResult result= createResult();
+		ICompilationUnit cu= getTestCase();
+		IType type= cu.getType("TestCase");
+		NewSearchResultCollector collector= new NewSearchResultCollector(result, false);
+		collector.beginReporting();
+		collector.acceptSearchMatch(new SearchMatch(type, SearchMatch.A_ACCURATE, 0, 1, null, cu.getResource()));
+		assertEquals(1, result.getMatchCount());
+		collector.acceptSearchMatch(new SearchMatch(type, SearchMatch.A_ACCURATE, 1, 1, null, cu.getResource()));
+
+		// no further match arrives, the pending match is added after the flush interval
+		long end= System.currentTimeMillis() + 10000;
+		while (result.getMatchCount() < 2 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(2, result.getMatchCount());
+		collector.endReporting();
+		assertEquals(2, result.getMatchCount());
+	}
+
+	@Test
+	public void testMatchFlags() throws Exception {
+		JavaSearchResult result= createResult();
+		ICompilationUnit cu= getTestCase();
+		IType type= cu.getType("TestCase");
+		IField field= type.getField("fName");
+		IMethod method= type.getMethod("run", new String[0]);
+		NewSearchResultCollector collector= new NewSearchResultCollector(result, false);
+		collector.beginReporting();
+		collector.acceptSearchMatch(new FieldReferenceMatch(field, SearchMatch.A_INACCURATE, 10, 5, true, false, true, null, cu.getResource()));
+		collector.acceptSearchMatch(new FieldReferenceMatch(field, SearchMatch.A_ACCURATE, 20, 5, false, true, false, null, cu.getResource()));
+		collector.acceptSearchMatch(new MethodReferenceMatch(method, SearchMatch.A_ACCURATE, 30, 3, false, false, true, false, null, cu.getResource()));
+		collector.endReporting();
+
+		JavaElementMatch read= findMatch(result, field, 10);
+		assertEquals(SearchMatch.A_INACCURATE, read.getAccuracy());
+		assertTrue(read.isReadAccess());
+		assertFalse(read.isWriteAccess());
+		assertTrue(read.isJavadoc());
+		assertFalse(read.isSuperInvocation());
+
+		JavaElementMatch write= findMatch(result, field, 20);
+		assertEquals(SearchMatch.A_ACCURATE, write.getAccuracy());
+		assertFalse(write.isReadAccess());
+		assertTrue(write.isWriteAccess());
+		assertFalse(write.isJavadoc());
+		assertFalse(write.isSuperInvocation());
+
+		JavaElementMatch superCall= findMatch(result, method, 30);
+		assertEquals(SearchMatch.A_ACCURATE, superCall.getAccuracy());
+		assertFalse(superCall.isReadAccess());
+		assertFalse(superCall.isWriteAccess());
+		assertFalse(superCall.isJavadoc());
+		assertTrue(superCall.isSuperInvocation());
+	}
+
+	private static JavaElementMatch findMatch(JavaSearchResult result, IJavaElement element, int offset) {
+		for (Match match : result.getMatches(element)) {
+			if (match.getOffset() == offset)
+				return (JavaElementMatch) match;
+		}
+		return null;
+	}
+
+	@Test
+	public void testMatchesOfDeletedUnitRemoved() throws Exception {
+		JavaSearchQuery query= SearchTestHelper.runTypeRefQuery("junit.framework.Test");
+		JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+		ICompilationUnit cu= getTestCase();
+		int inUnit= countElements(result, cu);
+		assertTrue(inUnit > 0);
+		int others= result.getElements().length - inUnit;
+
+		cu.delete(true, null);
+
+		assertEquals(0, countElements(result, cu));
+		assertEquals(others, result.getElements().length);
+	}
+
+	@Test
+	public void testMatchesOfDeletedPackageRemoved() throws Exception {
+		JavaSearchQuery query= SearchTestHelper.runTypeRefQuery("junit.framework.Test");
+		JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+		IPackageFragment pack= SearchTestHelper.getType("junit.extensions.TestDecorator").getPackageFragment();
+		int inPackage= countElements(result, pack);
+		assertTrue(inPackage > 0);
+		int others= result.getElements().length - inPackage;
+
+		pack.delete(true, null);
+
+		assertEquals(0, countElements(result, pack));
+		assertEquals(others, result.getElements().length);
+	}
+
+	private static int countElements(JavaSearchResult result, IJavaElement container) {
+		assertNotNull(container);
+		int count= 0;
+		for (Object element : result.getElements()) {
+			IJavaElement ancestor= ((IJavaElement) element).getAncestor(container.getElementType());
+			if (container.equals(ancestor))
+				count++;
+		}
+		return count;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -110,6 +110,17 @@ public class CallHierarchy {
         fgCallHierarchyCore.setSearchScope(searchScope);
     }
 
+    /**
+     * Sets the search scope. The callers found in the previous scope are reused if both scopes
+     * have the same description and enclose the same projects and jars.
+     *
+     * @param searchScope the search scope
+     * @param description the description of the scope
+     */
+    public void setSearchScope(IJavaSearchScope searchScope, String description) {
+        fgCallHierarchyCore.setSearchScope(searchScope, description);
+    }
+
     /**
      * Checks whether the fully qualified name is ignored by the set filters.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,7 @@ import org.eclipse.jdt.internal.ui.actions.ActionUtil;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
 import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
+import org.eclipse.jdt.internal.ui.javaeditor.ASTProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.IPostSaveListener;
 import org.eclipse.jdt.internal.ui.preferences.BulletListBlock;
 import org.eclipse.jdt.internal.ui.preferences.SaveParticipantPreferencePage;
@@ -582,7 +583,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		IJavaProject project= unit.getJavaProject();
 		if (compatibleOptions(project, cleanUpOptions)) {
 			CompilationUnit ast= SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_NO, monitor);
-			if (ast != null)
+			if (ast != null && isUpToDate(ast, unit))
 				return ast;
 		}
 
@@ -596,6 +597,20 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return (CompilationUnit)parser.createAST(monitor);
 	}
 
+	/**
+	 * Tells whether the given shared AST has been created from the current content of the
+	 * compilation unit's document. This is not the case if the document has been changed by a
+	 * previous clean up pass and has not been reconciled since.
+	 *
+	 * @param ast the shared AST
+	 * @param unit the compilation unit
+	 * @return <code>true</code> if the AST can be used
+	 */
+	private static boolean isUpToDate(CompilationUnit ast, ICompilationUnit unit) {
+		ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(unit.getResource().getFullPath(), LocationKind.IFILE);
+		return buffer != null && ASTProvider.isUpToDate(ast, buffer.getDocument());
+	}
+
 	private boolean compatibleOptions(IJavaProject project, Map<String, String> cleanUpOptions) {
 		if (cleanUpOptions.isEmpty())
 			return true;
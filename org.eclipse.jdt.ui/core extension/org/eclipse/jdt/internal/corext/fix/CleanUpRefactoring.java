@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,13 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -69,6 +71,7 @@ import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -88,6 +91,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUpCoreWrapper;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -758,6 +762,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		if (cleanUps.length == 0)
 			return null;
 
+		long timeBeforePrepare= System.currentTimeMillis();
+		Set<ICleanUp> preparedCleanUps= prepareFixes(context, cleanUps);
+		// the clean ups that share the traversal share its time, too
+		long sharedTime= preparedCleanUps.isEmpty() ? 0 : (System.currentTimeMillis() - timeBeforePrepare) / preparedCleanUps.size();
+
 		CleanUpChange solution= null;
 		int i= 0;
 		do {
@@ -766,7 +775,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			if (slowCleanUps != null) {
 				long timeBefore= System.currentTimeMillis();
 				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
+				long time= System.currentTimeMillis() - timeBefore;
+				if (preparedCleanUps.contains(cleanUp))
+					time+= sharedTime;
+				if (time > SLOW_CLEAN_UP_THRESHOLD)
 					slowCleanUps.add(cleanUp);
 			} else {
 				fix= cleanUp.createFix(context);
@@ -803,6 +815,30 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return solution;
 	}
 
+	/**
+	 * Lets the clean ups that share the AST of the given context find their changes in a single
+	 * traversal of the AST, instead of visiting the AST once per clean up.
+	 *
+	 * @param context the context
+	 * @param cleanUps the clean ups, the ones before the first clean up that requires a fresh AST
+	 *            share the AST
+	 * @return the clean ups that take part in the traversal
+	 */
+	private static Set<ICleanUp> prepareFixes(CleanUpContext context, ICleanUp[] cleanUps) {
+		CompilationUnit ast= context.getAST();
+		if (ast == null)
+			return Collections.emptySet();
+
+		SharedASTTraversal traversal= new SharedASTTraversal();
+		Set<ICleanUp> prepared= new HashSet<>();
+		for (int i= 0; i < cleanUps.length && (i == 0 || !cleanUps[i].getRequirements().requiresFreshAST()); i++) {
+			if (cleanUps[i] instanceof AbstractCleanUpCoreWrapper && ((AbstractCleanUpCoreWrapper<?>) cleanUps[i]).prepareFix(context, traversal))
+				prepared.add(cleanUps[i]);
+		}
+		traversal.run(ast);
+		return prepared;
+	}
+
 	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,11 @@
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.w3c.dom.Element;
 
@@ -45,6 +46,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
@@ -62,70 +64,93 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (processDelta(event.getDelta())) {
-				OpenTypeHistory.getInstance().markAsInconsistent();
+			Set<IJavaElement> changed= new HashSet<>();
+			processDelta(event.getDelta(), changed);
+			if (!changed.isEmpty()) {
+				OpenTypeHistory.getInstance().markAsInconsistent(changed);
 			}
 		}
 
 		/**
-		 * Computes whether the history needs a consistency check or not.
+		 * Computes the elements whose history entries need a consistency check.
 		 *
 		 * @param delta the Java element delta
-		 *
-		 * @return <code>true</code> if consistency must be checked
-		 *  <code>false</code> otherwise.
+		 * @param changed the set to which the changed Java model, projects and package fragment
+		 *            roots are added
 		 */
-		private boolean processDelta(IJavaElementDelta delta) {
+		private void processDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
 			IJavaElement elem= delta.getElement();
 
 			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
 			boolean isRemoved= delta.getKind() == IJavaElementDelta.REMOVED;
 
 			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					if (isRemoved) {
+						changed.add(elem);
+						return;
+					}
+					processChildrenDelta(delta, changed);
+					return;
 				case IJavaElement.JAVA_PROJECT:
 					if (isRemoved || (isChanged &&
 							(delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0)) {
-						return true;
+						changed.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changed);
+					return;
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
 					if (isRemoved || (isChanged && (
 							(delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0 ||
 							(delta.getFlags() & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0))) {
-						return true;
+						changed.add(elem);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changed);
+					return;
 				case IJavaElement.TYPE:
 					if (isChanged && (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
-						return true;
+						addRoot(elem, changed);
+						return;
 					}
 					if (isRemoved) {
-						return true;
+						addRoot(elem, changed);
+						return;
 					}
-					return processChildrenDelta(delta);
-				case IJavaElement.JAVA_MODEL:
+					processChildrenDelta(delta, changed);
+					return;
 				case IJavaElement.PACKAGE_FRAGMENT:
 				case IJavaElement.CLASS_FILE:
 					if (isRemoved) {
-						return true;
+						addRoot(elem, changed);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changed);
+					return;
 				case IJavaElement.COMPILATION_UNIT:
 					// Not the primary compilation unit. Ignore it
 					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
-						return false;
+						return;
 					}
 
 					if (isRemoved || (isChanged && isUnknownStructuralChange(delta.getFlags()))) {
-						return true;
+						addRoot(elem, changed);
+						return;
 					}
-					return processChildrenDelta(delta);
+					processChildrenDelta(delta, changed);
+					return;
 				default:
 					// fields, methods, imports ect
-					return false;
+					return;
 			}
 		}
 
+		private void addRoot(IJavaElement element, Set<IJavaElement> changed) {
+			IJavaElement root= element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			changed.add(root != null ? root : element.getJavaModel());
+		}
+
 		private boolean isUnknownStructuralChange(int flags) {
 			if ((flags & IJavaElementDelta.F_CONTENT) == 0)
 				return false;
@@ -138,13 +163,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		*/
 
-		private boolean processChildrenDelta(IJavaElementDelta delta) {
+		private void processChildrenDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
 			for (IJavaElementDelta child : delta.getAffectedChildren()) {
-				if (processDelta(child)) {
-					return true;
-				}
+				processDelta(child, changed);
 			}
-			return false;
 		}
 	}
 
@@ -169,6 +191,17 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private volatile boolean fNeedsConsistencyCheck;
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// The history entries, most recently accessed first. Replaced on every modification, so that
+	// readers don't need to synchronize.
+	private volatile TypeNameMatch[] fTypeInfos= new TypeNameMatch[0];
+
+	// The Java model, projects and package fragment roots that changed since the last consistency
+	// check. Guarded by itself.
+	private final Set<IJavaElement> fChangedElements= new HashSet<>();
+	// Tells whether all entries need to be checked. Guarded by fChangedElements.
+	private boolean fCheckAll;
+	// Serializes consistency checks without blocking readers and writers of the history.
+	private final Object fConsistencyCheckLock= new Object();
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
@@ -198,6 +231,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
 		fTimestampMapping= new HashMap<>();
 		fNeedsConsistencyCheck= true;
+		fCheckAll= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
 		JavaCore.addElementChangedListener(fDeltaListener);
@@ -210,8 +244,32 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		fUpdateJob.setPriority(Job.SHORT);
 	}
 
+	/**
+	 * Marks all entries of the history as possibly inconsistent.
+	 */
 	public void markAsInconsistent() {
-		fNeedsConsistencyCheck= true;
+		synchronized (fChangedElements) {
+			fCheckAll= true;
+			fNeedsConsistencyCheck= true;
+		}
+		scheduleUpdateJob();
+	}
+
+	/**
+	 * Marks the entries of the history that belong to the given elements as possibly
+	 * inconsistent. Only these entries are validated by the next consistency check.
+	 *
+	 * @param changed the changed Java model, projects or package fragment roots
+	 */
+	public void markAsInconsistent(Collection<IJavaElement> changed) {
+		synchronized (fChangedElements) {
+			fChangedElements.addAll(changed);
+			fNeedsConsistencyCheck= true;
+		}
+		scheduleUpdateJob();
+	}
+
+	private void scheduleUpdateJob() {
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
 		fUpdateJob.schedule();
@@ -238,54 +296,95 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
+	public synchronized void load() {
+		super.load();
+		updateTypeInfos();
 	}
 
 	@Override
-	public synchronized void accessed(TypeNameMatch info) {
+	public boolean contains(TypeNameMatch type) {
+		for (TypeNameMatch info : fTypeInfos) {
+			if (info.equals(type))
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void accessed(TypeNameMatch info) {
 		// Fetching the timestamp might not be cheap (remote file system
-		// external Jars. So check if we alreay have one.
-		if (!fTimestampMapping.containsKey(info)) {
-			fTimestampMapping.put(info, getContainerTimestamp(info));
+		// external Jars. So check if we alreay have one, and fetch it
+		// without holding the lock.
+		boolean hasTimestamp;
+		synchronized (this) {
+			hasTimestamp= fTimestampMapping.containsKey(info);
+		}
+		long timestamp= hasTimestamp ? IResource.NULL_STAMP : getContainerTimestamp(info);
+		synchronized (this) {
+			if (!fTimestampMapping.containsKey(info)) {
+				fTimestampMapping.put(info, timestamp);
+			}
+			super.accessed(info);
+			updateTypeInfos();
 		}
-		super.accessed(info);
 	}
 
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
 		fTimestampMapping.remove(info);
-		return (TypeNameMatch)super.remove(info);
+		TypeNameMatch removed= (TypeNameMatch)super.remove(info);
+		updateTypeInfos();
+		return removed;
 	}
 
-	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
-		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
-		super.remove(old);
-		super.accessed(newMatch);
+	@Override
+	public synchronized Object removeKey(Object key) {
+		fTimestampMapping.remove(key);
+		Object removed= super.removeKey(key);
+		updateTypeInfos();
+		return removed;
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
-		Collection<TypeNameMatch> values= getValues();
-		int size= values.size();
-		TypeNameMatch[] result= new TypeNameMatch[size];
-		int i= size - 1;
-		for (TypeNameMatch typeNameMatch : values) {
-			result[i]= typeNameMatch;
-			i--;
+	public void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		long timestamp= getContainerTimestamp(newMatch);
+		synchronized (this) {
+			fTimestampMapping.remove(old);
+			fTimestampMapping.put(newMatch, timestamp);
+			super.remove(old);
+			super.accessed(newMatch);
+			updateTypeInfos();
 		}
-		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	/**
+	 * Returns the entries of the history, most recently accessed first. Does not block while the
+	 * history is modified or checked for consistency.
+	 *
+	 * @return the entries of the history
+	 */
+	public TypeNameMatch[] getTypeInfos() {
+		return fTypeInfos.clone();
+	}
+
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
 		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
+		for (TypeNameMatch type : fTypeInfos) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
 				result.add(type);
 		}
-		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
+	}
 
+	private void updateTypeInfos() {
+		Collection<TypeNameMatch> values= getValues();
+		int size= values.size();
+		TypeNameMatch[] result= new TypeNameMatch[size];
+		int i= size - 1;
+		for (TypeNameMatch typeNameMatch : values) {
+			result[i]= typeNameMatch;
+			i--;
+		}
+		fTypeInfos= result;
 	}
 
 	@Override
@@ -293,40 +392,117 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
+	/**
+	 * Validates the entries of the history that belong to elements changed since the last check.
+	 * The file system is accessed without holding the lock on the history, so that the history can
+	 * be read and modified while the check is running.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the check has been canceled
+	 */
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		synchronized (fConsistencyCheckLock) {
+			Set<IJavaElement> changed;
+			boolean checkAll;
+			synchronized (fChangedElements) {
+				// Setting fNeedsConsistencyCheck is necessary here since
+				// markAsInconsistent isn't synchronized.
+				fNeedsConsistencyCheck= true;
+				changed= new HashSet<>(fChangedElements);
+				checkAll= fCheckAll;
+				fChangedElements.clear();
+				fCheckAll= false;
+			}
+			try {
+				checkConsistency(changed, checkAll, monitor);
+			} catch (OperationCanceledException e) {
+				synchronized (fChangedElements) {
+					fChangedElements.addAll(changed);
+					fCheckAll|= checkAll;
+				}
+				throw e;
+			}
+			synchronized (fChangedElements) {
+				if (!fCheckAll && fChangedElements.isEmpty())
+					fNeedsConsistencyCheck= false;
+			}
+		}
+	}
+
+	private void checkConsistency(Set<IJavaElement> changed, boolean checkAll, IProgressMonitor monitor) throws OperationCanceledException {
+		List<TypeNameMatch> typesToCheck= new ArrayList<>();
+		Map<TypeNameMatch, Long> lastTimestamps= new HashMap<>();
+		synchronized (this) {
+			for (TypeNameMatch type : getKeys()) {
+				if (checkAll || isAffected(type, changed)) {
+					typesToCheck.add(type);
+					lastTimestamps.put(type, fTimestampMapping.get(type));
+				}
+			}
+		}
 		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
+		List<TypeNameMatch> removed= new ArrayList<>();
+		Map<TypeNameMatch, TypeNameMatch> replaced= new HashMap<>();
+		Map<TypeNameMatch, Long> checked= new HashMap<>();
 		for (TypeNameMatch type : typesToCheck) {
 			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
+			Long lastTested= lastTimestamps.get(type);
 			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
 				continue;
 			try {
 				IType jType= type.getType();
 				if (jType == null || !jType.exists()) {
-					remove(type);
+					removed.add(type);
 				} else {
 					// copy over the modifiers since they may have changed
 					int modifiers= jType.getFlags();
 					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+						TypeNameMatch newMatch= SearchEngine.createTypeNameMatch(jType, modifiers);
+						replaced.put(type, newMatch);
+						checked.put(newMatch, currentTimestamp);
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						checked.put(type, currentTimestamp);
 					}
 				}
 			} catch (JavaModelException e) {
-				remove(type);
+				removed.add(type);
 			}
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
 			monitor.worked(1);
 		}
+		synchronized (this) {
+			// entries may have been removed or replaced while the lock was not held
+			for (TypeNameMatch type : removed) {
+				fTimestampMapping.remove(type);
+				super.remove(type);
+			}
+			for (Map.Entry<TypeNameMatch, TypeNameMatch> entry : replaced.entrySet()) {
+				TypeNameMatch type= entry.getKey();
+				if (super.contains(type)) {
+					fTimestampMapping.remove(type);
+					super.remove(type);
+					super.accessed(entry.getValue());
+				}
+			}
+			for (Map.Entry<TypeNameMatch, Long> entry : checked.entrySet()) {
+				if (super.contains(entry.getKey()))
+					fTimestampMapping.put(entry.getKey(), entry.getValue());
+			}
+			updateTypeInfos();
+		}
 		monitor.done();
-		fNeedsConsistencyCheck= false;
+	}
+
+	private static boolean isAffected(TypeNameMatch type, Set<IJavaElement> changed) {
+		if (changed.isEmpty())
+			return false;
+		IPackageFragmentRoot root= type.getPackageFragmentRoot();
+		if (root == null)
+			return true;
+		IJavaProject project= root.getJavaProject();
+		return changed.contains(root) || changed.contains(project) || changed.contains(project.getJavaModel());
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
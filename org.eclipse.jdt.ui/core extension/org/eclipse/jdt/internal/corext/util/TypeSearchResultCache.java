@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+/**
+ * Remembers the results of the last type name searches of a type selection dialog.
+ * <p>
+ * A search whose filter is equal to or narrows the filter of a remembered search is answered by
+ * filtering the remembered result, instead of querying the search engine again. Unlike the last
+ * completed result kept by the dialogs, the remembered results survive typing a pattern that does
+ * not narrow the previous one, e.g. when characters are deleted from the end of the pattern. The
+ * results are forgotten as soon as the Java model changes.
+ * </p>
+ * <p>
+ * A cache must only be shared by searches with the same filter extension. This class is thread
+ * safe.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class TypeSearchResultCache implements IElementChangedListener {
+
+	private static final int MAX_RESULTS= 4;
+
+	private static final class Result {
+		private final TypeInfoFilter fFilter;
+		private final TypeNameMatch[] fMatches;
+
+		public Result(TypeInfoFilter filter, TypeNameMatch[] matches) {
+			fFilter= filter;
+			fMatches= matches;
+		}
+	}
+
+	/**
+	 * The remembered results, most recently used first.
+	 */
+	private final LinkedList<Result> fResults= new LinkedList<>();
+
+	private boolean fInstalled;
+
+	/**
+	 * Starts forgetting the remembered results on Java model changes.
+	 */
+	public synchronized void install() {
+		if (!fInstalled) {
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+			fInstalled= true;
+		}
+	}
+
+	/**
+	 * Stops listening to Java model changes and forgets all results.
+	 */
+	public synchronized void dispose() {
+		if (fInstalled) {
+			JavaCore.removeElementChangedListener(this);
+			fInstalled= false;
+		}
+		fResults.clear();
+	}
+
+	/**
+	 * Forgets all results.
+	 */
+	public synchronized void clear() {
+		fResults.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		clear();
+	}
+
+	/**
+	 * Remembers the complete result of a search.
+	 *
+	 * @param filter the filter of the search
+	 * @param matches all matches found by the search. The array must not be modified afterwards
+	 */
+	public synchronized void put(TypeInfoFilter filter, TypeNameMatch[] matches) {
+		if (!fInstalled)
+			return;
+		for (Iterator<Result> iter= fResults.iterator(); iter.hasNext();) {
+			if (isSameSearch(iter.next().fFilter, filter))
+				iter.remove();
+		}
+		fResults.addFirst(new Result(filter, matches));
+		if (fResults.size() > MAX_RESULTS)
+			fResults.removeLast();
+	}
+
+	/**
+	 * Returns the matches of the given filter, computed from a remembered result whose filter is
+	 * equal to or broader than the given one.
+	 *
+	 * @param filter the filter
+	 * @return the matches of <code>filter</code>, in the order of the remembered result, or
+	 *         <code>null</code> if no remembered result covers the filter
+	 */
+	public TypeNameMatch[] get(TypeInfoFilter filter) {
+		Result candidate= null;
+		synchronized (this) {
+			for (Result result : fResults) {
+				if (covers(result.fFilter, filter) && (candidate == null || result.fMatches.length < candidate.fMatches.length))
+					candidate= result;
+			}
+			if (candidate == null)
+				return null;
+			fResults.remove(candidate);
+			fResults.addFirst(candidate);
+		}
+		if (isSameSearch(candidate.fFilter, filter))
+			return candidate.fMatches;
+		List<TypeNameMatch> matches= new ArrayList<>();
+		for (TypeNameMatch match : candidate.fMatches) {
+			if (filter.matchesCachedResult(match))
+				matches.add(match);
+		}
+		return matches.toArray(new TypeNameMatch[matches.size()]);
+	}
+
+	private static boolean covers(TypeInfoFilter remembered, TypeInfoFilter filter) {
+		return remembered.getSearchScope() == filter.getSearchScope()
+				&& remembered.getElementKind() == filter.getElementKind()
+				&& filter.isSubFilter(remembered.getText());
+	}
+
+	private static boolean isSameSearch(TypeInfoFilter remembered, TypeInfoFilter filter) {
+		return remembered.getSearchScope() == filter.getSearchScope()
+				&& remembered.getElementKind() == filter.getElementKind()
+				&& remembered.getText().equals(filter.getText());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
@@ -934,9 +935,40 @@ public class IntroduceFactoryRefactoring extends Refactoring {
 	 * @throws CoreException
 	 */
 	private boolean addAllChangesFor(SearchResultGroup rg, ICompilationUnit	unitHandle, CompilationUnitChange unitChange) throws CoreException {
+		return addAllChangesFor(rg, unitHandle, getASTFor(unitHandle), unitChange);
+	}
+
+	/**
+	 * Creates the changes for the search hits in the compilation units other than the unit
+	 * containing the selection and the factory unit. Their ASTs are created in batches that share
+	 * one binding environment, and are not kept once their changes have been created.
+	 *
+	 * @param pm the progress monitor, only used for cancellation
+	 * @return the changes by compilation unit, with <code>null</code> for units without changes
+	 * @throws CoreException
+	 */
+	private Map<ICompilationUnit, CompilationUnitChange> createChangesInBatches(final IProgressMonitor pm) throws CoreException {
+		final Map<ICompilationUnit, SearchResultGroup> groups= new LinkedHashMap<>();
+		for (SearchResultGroup rg : fAllCallsTo) {
+			ICompilationUnit unitHandle= rg.getCompilationUnit();
+			if (!unitHandle.equals(fCUHandle) && !unitHandle.equals(fFactoryUnitHandle))
+				groups.put(unitHandle, rg);
+		}
+		final Map<ICompilationUnit, CompilationUnitChange> changes= new HashMap<>();
+		if (groups.size() > 1) {
+			ASTCreator.createASTs(groups.keySet().toArray(new ICompilationUnit[groups.size()]), null, (unitHandle, unit) -> {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				CompilationUnitChange cuChange= new CompilationUnitChange(getName(), unitHandle);
+				changes.put(unitHandle, addAllChangesFor(groups.get(unitHandle), unitHandle, unit, cuChange) ? cuChange : null);
+			}, null);
+		}
+		return changes;
+	}
+
+	private boolean addAllChangesFor(SearchResultGroup rg, ICompilationUnit	unitHandle, CompilationUnit unit, CompilationUnitChange unitChange) throws CoreException {
 //		ICompilationUnit	unitHandle= rg.getCompilationUnit();
 		Assert.isTrue(rg == null || rg.getCompilationUnit() == unitHandle);
-		CompilationUnit		unit= getASTFor(unitHandle);
 		ASTRewrite			unitRewriter= ASTRewrite.create(unit.getAST());
 		MultiTextEdit		root= new MultiTextEdit();
 		boolean				someChange= false;
@@ -1180,12 +1212,19 @@ public class IntroduceFactoryRefactoring extends Refactoring {
 			final DynamicValidationStateChange result= new DynamicValidationRefactoringChange(descriptor, RefactoringCoreMessages.IntroduceFactory_name);
 			boolean hitInFactoryClass= false;
 			boolean hitInCtorClass= false;
+			Map<ICompilationUnit, CompilationUnitChange> batchChanges= createChangesInBatches(pm);
 			for (SearchResultGroup rg : fAllCallsTo) {
 				ICompilationUnit unitHandle= rg.getCompilationUnit();
-				CompilationUnitChange cuChange= new CompilationUnitChange(getName(), unitHandle);
-
-				if (addAllChangesFor(rg, unitHandle, cuChange))
-					result.add(cuChange);
+				if (batchChanges.containsKey(unitHandle)) {
+					CompilationUnitChange cuChange= batchChanges.remove(unitHandle);
+					if (cuChange != null)
+						result.add(cuChange);
+				} else {
+					CompilationUnitChange cuChange= new CompilationUnitChange(getName(), unitHandle);
+
+					if (addAllChangesFor(rg, unitHandle, cuChange))
+						result.add(cuChange);
+				}
 
 				if (unitHandle.equals(fFactoryUnitHandle))
 					hitInFactoryClass= true;
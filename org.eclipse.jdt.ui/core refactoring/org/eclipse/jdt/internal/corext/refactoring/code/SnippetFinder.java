@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+import org.eclipse.jdt.internal.corext.dom.SubtreeHashIndex;
 
 
 /* package */ class SnippetFinder extends GenericVisitor {
@@ -155,17 +156,27 @@ import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
 	private int fIndex;
 	private Matcher fMatcher;
 	private int fTypes;
+	private SubtreeHashIndex fHashIndex;
+	/** The subtree hashes of the snippet nodes; only nodes with the same hash can match. */
+	private int[] fSnippetHashes;
 
-	private SnippetFinder(ASTNode[] snippet) {
+	private SnippetFinder(ASTNode start, ASTNode[] snippet) {
 		super(true);
 		fSnippet= snippet;
 		fMatcher= new Matcher();
+		fHashIndex= SubtreeHashIndex.create(start);
+		fSnippetHashes= new int[snippet.length];
+		for (int i= 0; i < snippet.length; i++) {
+			fSnippetHashes[i]= SubtreeHashIndex.computeHash(snippet[i]);
+		}
 		reset();
 	}
 
 	public static List<Match> perform(ASTNode start, ASTNode[] snippet) {
 		Assert.isTrue(start instanceof AbstractTypeDeclaration || start instanceof AnonymousClassDeclaration);
-		SnippetFinder finder= new SnippetFinder(snippet);
+		SnippetFinder finder= new SnippetFinder(start, snippet);
+		if (!finder.hasCandidates())
+			return finder.fResult;
 		start.accept(finder);
 		for (Iterator<Match> iter = finder.fResult.iterator(); iter.hasNext();) {
 			Match match = iter.next();
@@ -256,9 +267,23 @@ import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
 		return true;
 	}
 
+	/**
+	 * Tests whether the AST contains a node other than the snippet nodes that can match the first
+	 * snippet node.
+	 */
+	private boolean hasCandidates() {
+		for (ASTNode candidate : fHashIndex.getNodes(fSnippetHashes[0])) {
+			if (!isSnippetNode(candidate))
+				return true;
+		}
+		return false;
+	}
+
 	private boolean matches(ASTNode node) {
 		if (isSnippetNode(node))
 			return false;
+		if (fHashIndex.getHash(node) != fSnippetHashes[fIndex])
+			return false;
 		if (node.subtreeMatch(fMatcher, fSnippet[fIndex]) && fMatch.hasCorrectNesting(node)) {
 			fMatch.add(node);
 			fIndex++;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -33,6 +37,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.base.RefactoringStatusCodes;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyService;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
@@ -104,17 +109,42 @@ public class MethodChecks {
 	}
 
 	public static IMethod isDeclaredInInterface(IMethod method, ITypeHierarchy hierarchy, IProgressMonitor monitor) throws JavaModelException {
+		TypeHierarchyService hierarchyService= new TypeHierarchyService(null);
+		try {
+			return isDeclaredInInterface(method, hierarchy, hierarchyService, monitor);
+		} finally {
+			hierarchyService.dispose();
+		}
+	}
+
+	/**
+	 * Finds a method in a super interface of the classes in the given hierarchy that is
+	 * implemented by the given method. The super interfaces of all classes are looked up in one
+	 * region hierarchy of the given hierarchy service.
+	 *
+	 * @param method the method
+	 * @param hierarchy a type hierarchy of the declaring type of the method
+	 * @param hierarchyService the hierarchies of the current refactoring session
+	 * @param monitor an IProgressMonitor
+	 * @return the method in a super interface, or <code>null</code> if none
+	 * @throws JavaModelException if a hierarchy cannot be computed
+	 */
+	public static IMethod isDeclaredInInterface(IMethod method, ITypeHierarchy hierarchy, TypeHierarchyService hierarchyService, IProgressMonitor monitor) throws JavaModelException {
 		Assert.isTrue(isVirtual(method));
 		IProgressMonitor subMonitor= new SubProgressMonitor(monitor, 1);
 		try {
 			IType[] classes= hierarchy.getAllClasses();
 			subMonitor.beginTask("", classes.length); //$NON-NLS-1$
+			ITypeHierarchy supertypes= null;
 			for (IType clazz : classes) {
 				IType[] superinterfaces= null;
-				if (clazz.equals(hierarchy.getType()))
+				if (clazz.equals(hierarchy.getType())) {
 					superinterfaces= hierarchy.getAllSuperInterfaces(clazz);
-				else
-					superinterfaces= clazz.newSupertypeHierarchy(new SubProgressMonitor(subMonitor, 1)).getAllSuperInterfaces(clazz);
+				} else {
+					if (supertypes == null)
+						supertypes= getSupertypesOfOtherClasses(hierarchy, classes, hierarchyService, new SubProgressMonitor(subMonitor, 1));
+					superinterfaces= supertypes.getAllSuperInterfaces(clazz);
+				}
 				for (IType superinterface : superinterfaces) {
 					IMethod found= Checks.findSimilarMethod(method, superinterface);
 					if (found != null && !found.equals(method))
@@ -128,6 +158,12 @@ public class MethodChecks {
 		}
 	}
 
+	private static ITypeHierarchy getSupertypesOfOtherClasses(ITypeHierarchy hierarchy, IType[] classes, TypeHierarchyService hierarchyService, IProgressMonitor monitor) throws JavaModelException {
+		List<IType> others= new ArrayList<>(Arrays.asList(classes));
+		others.remove(hierarchy.getType());
+		return hierarchyService.getSupertypeHierarchy(others.toArray(new IType[others.size()]), monitor);
+	}
+
 	public static IMethod overridesAnotherMethod(IMethod method, ITypeHierarchy hierarchy) throws JavaModelException {
 		MethodOverrideTester tester= new MethodOverrideTester(method.getDeclaringType(), hierarchy);
 		IMethod found= tester.findDeclaringMethod(method, true);
@@ -149,6 +185,27 @@ public class MethodChecks {
 	 * @throws JavaModelException
 	 */
 	public static IMethod getTopmostMethod(IMethod method, ITypeHierarchy typeHierarchy, IProgressMonitor monitor) throws JavaModelException {
+		TypeHierarchyService hierarchyService= new TypeHierarchyService(null);
+		try {
+			return getTopmostMethod(method, typeHierarchy, hierarchyService, monitor);
+		} finally {
+			hierarchyService.dispose();
+		}
+	}
+
+	/**
+	 * Locates the topmost method of an override ripple and returns it. If none
+	 * is found, null is returned. Missing hierarchies are taken from the given
+	 * hierarchy service.
+	 *
+	 * @param method the IMethod which may be part of a ripple
+	 * @param typeHierarchy a ITypeHierarchy of the declaring type of the method. May be null
+	 * @param hierarchyService the hierarchies of the current refactoring session
+	 * @param monitor an IProgressMonitor
+	 * @return the topmost method of the ripple, or null if none
+	 * @throws JavaModelException
+	 */
+	public static IMethod getTopmostMethod(IMethod method, ITypeHierarchy typeHierarchy, TypeHierarchyService hierarchyService, IProgressMonitor monitor) throws JavaModelException {
 
 		Assert.isNotNull(method);
 
@@ -157,9 +214,9 @@ public class MethodChecks {
 		final IType declaringType= method.getDeclaringType();
 		if (!declaringType.isInterface()) {
 			if ((hierarchy == null) || !declaringType.equals(hierarchy.getType()))
-				hierarchy= declaringType.newTypeHierarchy(monitor);
+				hierarchy= hierarchyService.getTypeHierarchy(declaringType, monitor);
 
-			IMethod inInterface= isDeclaredInInterface(method, hierarchy, monitor);
+			IMethod inInterface= isDeclaredInInterface(method, hierarchy, hierarchyService, monitor);
 			if (inInterface != null && !inInterface.equals(method))
 				topmostMethod= inInterface;
 		}
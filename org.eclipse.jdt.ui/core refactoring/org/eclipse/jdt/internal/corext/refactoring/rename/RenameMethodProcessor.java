@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,7 @@ import org.eclipse.jdt.internal.corext.refactoring.tagging.IReferenceUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyService;
 import org.eclipse.jdt.internal.corext.util.CollectionsUtil;
 import org.eclipse.jdt.internal.corext.util.JavaConventionsUtil;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -115,6 +116,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	private GroupCategorySet fCategorySet;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private TypeHierarchyService fHierarchyService;
 	protected boolean fInitialized= false;
 
 	/**
@@ -249,7 +251,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 
 	private void initializeMethodsToRename(IProgressMonitor pm, ReferencesInBinaryContext binaryRefs) throws CoreException {
 		if (fMethodsToRename == null) {
-			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, pm, null);
+			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, getHierarchyService(), pm);
 			fMethodsToRename= new HashSet<>();
 			for (IMethod method : rippleMethods) {
 				if (!method.isLambdaMethod()) {
@@ -271,6 +273,29 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		fMethod= method;
 	}
 
+	/**
+	 * Returns the type hierarchies shared by the condition checks of this processor.
+	 *
+	 * @return the hierarchy service
+	 */
+	protected TypeHierarchyService getHierarchyService() {
+		if (fHierarchyService == null)
+			fHierarchyService= new TypeHierarchyService(null);
+		return fHierarchyService;
+	}
+
+	/**
+	 * Releases the type hierarchies shared by the condition checks of this processor. They are
+	 * released after the final conditions have been checked. Clients that stop after the initial
+	 * conditions, e.g. because the refactoring wizard has been cancelled, must call this method.
+	 */
+	public void disposeHierarchyService() {
+		if (fHierarchyService != null) {
+			fHierarchyService.dispose();
+			fHierarchyService= null;
+		}
+	}
+
 	//---- IReferenceUpdating -----------------------------------
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,7 +105,7 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 			final IType declaring= method.getDeclaringType();
 			final String name= getNewElementName();
 			IMethod[] hierarchyMethods= hierarchyDeclaresMethodName(
-				new SubProgressMonitor(pm, 1), declaring.newTypeHierarchy(new SubProgressMonitor(pm, 1)), method, name);
+				new SubProgressMonitor(pm, 1), getHierarchyService().getTypeHierarchy(declaring, new SubProgressMonitor(pm, 1)), method, name);
 
 			for (IMethod hierarchyMethod : hierarchyMethods) {
 				RefactoringStatusContext context= JavaStatusContext.create(hierarchyMethod);
@@ -123,6 +123,7 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 			}
 			return result;
 		} finally{
+			disposeHierarchyService();
 			pm.done();
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,7 +94,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 	private ITypeHierarchy getCachedHierarchy(IType declaring, IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedHierarchy != null && declaring.equals(fCachedHierarchy.getType()))
 			return fCachedHierarchy;
-		fCachedHierarchy= declaring.newTypeHierarchy(new SubProgressMonitor(monitor, 1));
+		fCachedHierarchy= getHierarchyService().getTypeHierarchy(declaring, new SubProgressMonitor(monitor, 1));
 		return fCachedHierarchy;
 	}
 
@@ -128,7 +128,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 
 				IMethod topmost= getMethod();
 				if (MethodChecks.isVirtual(topmost))
-					topmost= MethodChecks.getTopmostMethod(getMethod(), hierarchy, monitor);
+					topmost= MethodChecks.getTopmostMethod(getMethod(), hierarchy, getHierarchyService(), monitor);
 				if (topmost != null)
 					initialize(topmost);
 				fActivationChecked= true;
@@ -184,6 +184,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 			fCachedHierarchy= null;
 			return result;
 		} finally{
+			disposeHierarchyService();
 			pm.done();
 		}
 	}
@@ -198,7 +199,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 			for (IType type : types) {
 				final IMethod found= Checks.findMethod(method, type);
 				final IType declaring= found.getDeclaringType();
-				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(new SubProgressMonitor(pm, 1), declaring.newTypeHierarchy(new SubProgressMonitor(pm, 1)), found, newName)));
+				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(new SubProgressMonitor(pm, 1), getHierarchyService().getTypeHierarchy(declaring, new SubProgressMonitor(pm, 1)), found, newName)));
 			}
 			return result.toArray(new IMethod[result.size()]);
 		} finally {
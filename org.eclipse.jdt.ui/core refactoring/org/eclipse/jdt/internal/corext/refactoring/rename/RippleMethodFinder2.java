@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.TypeHierarchyService;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
@@ -62,8 +63,8 @@ public class RippleMethodFinder2 {
 	private MultiMap<IType, IMethod> fTypeToMethod;
 	private Set<IType> fRootTypes;
 	private MultiMap<IType, IType> fRootReps;
-	private Map<IType, ITypeHierarchy> fRootHierarchies;
 	private UnionFind fUnionFind;
+	private final TypeHierarchyService fHierarchyService;
 
 	private final boolean fExcludeBinaries;
 	private final ReferencesInBinaryContext fBinaryRefs;
@@ -134,37 +135,43 @@ public class RippleMethodFinder2 {
 	}
 
 
-	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit){
+	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit, TypeHierarchyService hierarchyService){
 		fMethod= method;
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		fHierarchyService= hierarchyService;
 	}
 
-	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
+	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs, TypeHierarchyService hierarchyService) {
 		fMethod= method;
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fHierarchyService= hierarchyService;
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		TypeHierarchyService hierarchyService= new TypeHierarchyService(owner);
 		try{
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, excludeBinaries, false, hierarchyService).getAllRippleMethods(pm, owner);
 		} finally{
+			hierarchyService.dispose();
 			pm.done();
 		}
 	}
 	public static IMethod[] getRelatedMethodsInCompilationUnit(IMethod method, NullProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		TypeHierarchyService hierarchyService= new TypeHierarchyService(owner);
 		try{
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, true, true).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, true, true, hierarchyService).getAllRippleMethods(pm, owner);
 		} finally{
+			hierarchyService.dispose();
 			pm.done();
 		}
 	}
@@ -173,11 +180,32 @@ public class RippleMethodFinder2 {
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		TypeHierarchyService hierarchyService= new TypeHierarchyService(owner);
+		try {
+			return getRelatedMethods(method, binaryRefs, hierarchyService, pm);
+		} finally{
+			hierarchyService.dispose();
+		}
+	}
+
+	/**
+	 * Finds the ripple methods of the given method, reusing the type hierarchies of the given
+	 * refactoring session.
+	 *
+	 * @param method the method
+	 * @param binaryRefs the context that collects declarations in binaries
+	 * @param hierarchyService the hierarchies of the current refactoring session. Its working copy
+	 *            owner is used for the search
+	 * @param pm the progress monitor
+	 * @return the ripple methods
+	 * @throws CoreException if the search fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, TypeHierarchyService hierarchyService, IProgressMonitor pm) throws CoreException {
 		try {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, binaryRefs).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, binaryRefs, hierarchyService).getAllRippleMethods(pm, hierarchyService.getOwner());
 		} finally{
 			pm.done();
 		}
@@ -272,11 +300,11 @@ public class RippleMethodFinder2 {
 		 */
 		checkCanceled(pm);
 		IType methodType= fMethod.getDeclaringType();
-		ITypeHierarchy methodHierarchy= hierarchy(pm, owner, fUnionFind.find(methodType));
+		ITypeHierarchy methodHierarchy= hierarchy(pm, fUnionFind.find(methodType));
 		IType[] methodTypeSubtypes= methodHierarchy.getAllSubtypes(methodType);
 		// don't spend time on this check, unless we have a small hierarchy for the type under rename and a lot of search matches
 		if (methodTypeSubtypes.length <= numberOfSearchMatches / 10) {
-			boolean couldHaveMarriedAlienTypes= couldHaveMarriedAlienTypes(pm, owner, methodHierarchy, methodTypeSubtypes);
+			boolean couldHaveMarriedAlienTypes= couldHaveMarriedAlienTypes(pm, methodHierarchy, methodTypeSubtypes);
 			if (!couldHaveMarriedAlienTypes) {
 				return toArray(relatedMethods);
 			}
@@ -289,8 +317,7 @@ public class RippleMethodFinder2 {
 			//TODO: would only need subtype hierarchies of all top-of-ripple relatedTypesToProcess
 			for (IType relatedType : relatedTypesToProcess) {
 				checkCanceled(pm);
-				ITypeHierarchy hierarchy= hierarchy(pm, owner, relatedType);
-				IType[] allSubTypes= hierarchy.getAllSubtypes(relatedType);
+				IType[] allSubTypes= subtypes(pm, relatedType);
 				relatedSubTypes.addAll(Arrays.asList(allSubTypes));
 			}
 			relatedTypesToProcess.clear(); //processed; make sure loop terminates
@@ -299,10 +326,9 @@ public class RippleMethodFinder2 {
 			for (IType alienType : alienTypes) {
 				checkCanceled(pm);
 				Collection<IMethod> alienMethods= fTypeToMethod.get(alienType);
+				IType[] alienSubtypes= subtypes(pm, alienType);
 				for (IMethod alienMethod : alienMethods) {
-					ITypeHierarchy hierarchy= hierarchy(pm, owner, alienType);
-
-					for (IType subtype : hierarchy.getAllSubtypes(alienType)) {
+					for (IType subtype : alienSubtypes) {
 						if (relatedSubTypes.contains(subtype)) {
 							if (JavaModelUtil.isVisibleInHierarchy(alienMethod, subtype.getPackageFragment())) {
 								marriedAlienTypeReps.add(fUnionFind.find(alienType));
@@ -328,7 +354,6 @@ public class RippleMethodFinder2 {
 		}
 
 		fRootReps= null;
-		fRootHierarchies= null;
 		fTypeToMethod= null;
 		fUnionFind= null;
 
@@ -339,21 +364,23 @@ public class RippleMethodFinder2 {
 	 * For the method under rename, checks if any sub-type inherits a method with the same name from a different super type.
 	 *
 	 * @param pm progress monitor to
-	 * @param owner owner of the compilation unit under rename
 	 * @param methodHierarchy the type hierarchy of the method under rename
 	 * @param methodTypeSubtypes the sub-types of the type under rename
 	 * @return {@code false} if there can be no married alien types to the method under rename, {@code true} otherwise.
 	 * @throws JavaModelException if creating a type hierarchy fails
 	 */
-	private boolean couldHaveMarriedAlienTypes(IProgressMonitor pm, WorkingCopyOwner owner, ITypeHierarchy methodHierarchy, IType[] methodTypeSubtypes) throws JavaModelException {
+	private boolean couldHaveMarriedAlienTypes(IProgressMonitor pm, ITypeHierarchy methodHierarchy, IType[] methodTypeSubtypes) throws JavaModelException {
 		Set<IType> allTypesInMethodHierarchy= new HashSet<>(Arrays.asList(methodHierarchy.getAllClasses()));
 		allTypesInMethodHierarchy.addAll(Arrays.asList(methodHierarchy.getAllInterfaces()));
 
+		if (methodTypeSubtypes.length == 0)
+			return false;
 
+		// one region hierarchy answers the supertypes of all sub-types
+		ITypeHierarchy subtypesHierarchy= fHierarchyService.getSupertypeHierarchy(methodTypeSubtypes, new SubProgressMonitor(pm, 1));
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
-			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
+			IType[] subtypeSuperTypes= subtypesHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
 				if (!allTypesInMethodHierarchy.contains(subtypeSuperType)) {
@@ -394,14 +421,21 @@ public class RippleMethodFinder2 {
 		}
 	}
 
-	private ITypeHierarchy hierarchy(IProgressMonitor pm, WorkingCopyOwner owner, IType type)
+	private ITypeHierarchy hierarchy(IProgressMonitor pm, IType type)
 			throws JavaModelException {
-		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, new SubProgressMonitor(pm, 1));
+		ITypeHierarchy hierarchy= getCachedHierarchy(type, new SubProgressMonitor(pm, 1));
 		if (hierarchy == null)
-			hierarchy= type.newTypeHierarchy(owner, new SubProgressMonitor(pm, 1));
+			hierarchy= fHierarchyService.getTypeHierarchy(type, new SubProgressMonitor(pm, 1));
 		return hierarchy;
 	}
 
+	private IType[] subtypes(IProgressMonitor pm, IType type) throws JavaModelException {
+		ITypeHierarchy hierarchy= getCachedHierarchy(type, new SubProgressMonitor(pm, 1));
+		if (hierarchy != null)
+			return hierarchy.getAllSubtypes(type);
+		return fHierarchyService.getAllSubtypes(type, new SubProgressMonitor(pm, 1));
+	}
+
 	private void addMissedSuperTypes() throws JavaModelException {
 		Set<IMethod> newDeclarations = new HashSet<>();
 		for (IMethod method : fDeclarations) {
@@ -412,15 +446,11 @@ public class RippleMethodFinder2 {
 
 	}
 
-	private ITypeHierarchy getCachedHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor monitor) throws JavaModelException {
+	private ITypeHierarchy getCachedHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
 		IType rep= fUnionFind.find(type);
 		if (rep != null) {
 			for (IType root : fRootReps.get(rep)) {
-				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
-				if (hierarchy == null) {
-					hierarchy= root.newTypeHierarchy(owner, new SubProgressMonitor(monitor, 1));
-					fRootHierarchies.put(root, hierarchy);
-				}
+				ITypeHierarchy hierarchy= fHierarchyService.getTypeHierarchy(root, new SubProgressMonitor(monitor, 1));
 				if (hierarchy.contains(type))
 					return hierarchy;
 			}
@@ -505,7 +535,6 @@ public class RippleMethodFinder2 {
 			if (rep != null)
 				fRootReps.put(rep, type);
 		}
-		fRootHierarchies= new HashMap<>();
 	}
 
 	private void uniteWithSupertypes(IType anchor, IType type) throws JavaModelException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTBatchParser;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTBatchParser.IASTProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -37,6 +42,26 @@ public class ASTCreator {
 		return cuNode;
 	}
 
+	/**
+	 * Creates the ASTs of the given compilation units like {@link #createAST(ICompilationUnit, WorkingCopyOwner)},
+	 * but in batches that share one binding environment. Each AST is passed to the processor as
+	 * soon as it has been created.
+	 *
+	 * @param cus the compilation units
+	 * @param workingCopyOwner the working copy owner, or <code>null</code>
+	 * @param processor the processor of the ASTs
+	 * @param pm the progress monitor, or <code>null</code>
+	 * @throws CoreException the exception thrown by the processor
+	 */
+	public static void createASTs(ICompilationUnit[] cus, WorkingCopyOwner workingCopyOwner, IASTProcessor processor, IProgressMonitor pm) throws CoreException {
+		RefactoringASTBatchParser parser= new RefactoringASTBatchParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setWorkingCopyOwner(workingCopyOwner);
+		parser.process(cus, (cu, cuNode) -> {
+			cuNode.setProperty(CU_PROPERTY, cu);
+			processor.process(cu, cuNode);
+		}, pm);
+	}
+
 	private static CompilationUnit getCuNode(WorkingCopyOwner workingCopyOwner, ICompilationUnit cu) {
 		ASTParser p = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
 		p.setSource(cu);
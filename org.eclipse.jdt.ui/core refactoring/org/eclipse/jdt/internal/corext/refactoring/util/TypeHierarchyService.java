@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+
+/**
+ * Shares the type hierarchies computed during one refactoring session.
+ * <p>
+ * Hierarchies are computed on demand and kept until {@link #dispose()} is called or a Java element
+ * delta changes them. Subtype queries are answered from any cached hierarchy whose focus type is a
+ * supertype of the requested type, and supertype queries for many types are answered from a single
+ * region hierarchy, so that processors that look at hundreds of related types do not build
+ * overlapping hierarchies type by type.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class TypeHierarchyService {
+
+	private class HierarchyEntry implements ITypeHierarchyChangedListener {
+
+		private final ITypeHierarchy fTypeHierarchy;
+
+		/**
+		 * The types whose supertypes are complete in a region hierarchy, or <code>null</code>
+		 * for a hierarchy on a focus type.
+		 */
+		private final Set<IType> fRegion;
+
+		public HierarchyEntry(ITypeHierarchy hierarchy, Set<IType> region) {
+			fTypeHierarchy= hierarchy;
+			fRegion= region;
+			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+		}
+
+		@Override
+		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+			removeEntry(this);
+		}
+
+		public void dispose() {
+			fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+		}
+	}
+
+	private final WorkingCopyOwner fOwner;
+
+	private final Map<IType, HierarchyEntry> fTypeHierarchies= new HashMap<>();
+	private final List<HierarchyEntry> fRegionHierarchies= new ArrayList<>();
+
+	/**
+	 * Creates a new hierarchy service.
+	 *
+	 * @param owner the working copy owner used to compute hierarchies, or <code>null</code> for
+	 *            the primary working copies
+	 */
+	public TypeHierarchyService(WorkingCopyOwner owner) {
+		fOwner= owner;
+	}
+
+	/**
+	 * Returns the working copy owner that is used to compute hierarchies.
+	 *
+	 * @return the working copy owner, or <code>null</code> for the primary working copies
+	 */
+	public WorkingCopyOwner getOwner() {
+		return fOwner;
+	}
+
+	/**
+	 * Returns the type hierarchy with the given focus type, computing it if it is not cached yet.
+	 *
+	 * @param type the focus type
+	 * @param pm the progress monitor
+	 * @return the type hierarchy of <code>type</code>
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	public ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor pm) throws JavaModelException {
+		synchronized (this) {
+			HierarchyEntry entry= fTypeHierarchies.get(type);
+			if (entry != null && entry.fTypeHierarchy.exists())
+				return entry.fTypeHierarchy;
+		}
+		ITypeHierarchy hierarchy= type.newTypeHierarchy(fOwner, pm); // don't hold the lock while computing
+		synchronized (this) {
+			HierarchyEntry entry= fTypeHierarchies.get(type);
+			if (entry != null && entry.fTypeHierarchy.exists())
+				return entry.fTypeHierarchy;
+			fTypeHierarchies.put(type, new HierarchyEntry(hierarchy, null));
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns all subtypes of the given type. The subtypes are taken from a cached hierarchy whose
+	 * focus is the type itself or one of its supertypes. Otherwise, the hierarchy of the type is
+	 * computed.
+	 *
+	 * @param type the type
+	 * @param pm the progress monitor
+	 * @return all subtypes of <code>type</code>
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	public IType[] getAllSubtypes(IType type, IProgressMonitor pm) throws JavaModelException {
+		synchronized (this) {
+			for (HierarchyEntry entry : fTypeHierarchies.values()) {
+				ITypeHierarchy hierarchy= entry.fTypeHierarchy;
+				IType focus= hierarchy.getType();
+				if (focus.equals(type) || hierarchy.contains(type) && isSubtype(hierarchy, focus, type))
+					return hierarchy.getAllSubtypes(type);
+			}
+		}
+		return getTypeHierarchy(type, pm).getAllSubtypes(type);
+	}
+
+	/**
+	 * Returns a hierarchy that answers supertype queries for all the given types. All types are
+	 * looked up in one region hierarchy, which is reused if it already covers the types.
+	 *
+	 * @param types the types
+	 * @param pm the progress monitor
+	 * @return a hierarchy that contains all supertypes of <code>types</code>
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	public ITypeHierarchy getSupertypeHierarchy(IType[] types, IProgressMonitor pm) throws JavaModelException {
+		List<IType> list= Arrays.asList(types);
+		synchronized (this) {
+			for (HierarchyEntry entry : fRegionHierarchies) {
+				if (entry.fRegion.containsAll(list) && entry.fTypeHierarchy.exists())
+					return entry.fTypeHierarchy;
+			}
+		}
+		IRegion region= JavaCore.newRegion();
+		for (IType type : types) {
+			region.add(type);
+		}
+		ITypeHierarchy hierarchy= JavaCore.newTypeHierarchy(region, fOwner, pm);
+		synchronized (this) {
+			fRegionHierarchies.add(new HierarchyEntry(hierarchy, new HashSet<>(list)));
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Releases all cached hierarchies. The service can still be used afterwards.
+	 */
+	public synchronized void dispose() {
+		for (HierarchyEntry entry : fTypeHierarchies.values()) {
+			entry.dispose();
+		}
+		for (HierarchyEntry entry : fRegionHierarchies) {
+			entry.dispose();
+		}
+		fTypeHierarchies.clear();
+		fRegionHierarchies.clear();
+	}
+
+	private synchronized void removeEntry(HierarchyEntry entry) {
+		entry.dispose();
+		if (entry.fRegion != null)
+			fRegionHierarchies.remove(entry);
+		else
+			fTypeHierarchies.values().remove(entry);
+	}
+
+	private static boolean isSubtype(ITypeHierarchy hierarchy, IType focus, IType type) {
+		for (IType supertype : hierarchy.getAllSupertypes(type)) {
+			if (supertype.equals(focus))
+				return true;
+		}
+		return false;
+	}
+}
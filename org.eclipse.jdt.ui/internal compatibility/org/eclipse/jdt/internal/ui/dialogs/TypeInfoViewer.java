@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,14 @@ package org.eclipse.jdt.internal.ui.dialogs;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.eclipse.swt.SWT;
@@ -75,6 +78,7 @@ import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeSearchResultCache;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -499,6 +503,7 @@ public class TypeInfoViewer {
 
 		protected TypeInfoFilter fFilter;
 		protected OpenTypeHistory fHistory;
+		protected int fFirstPageSize;
 
 		protected AbstractSearchJob(int ticket, TypeInfoViewer viewer, TypeInfoFilter filter, OpenTypeHistory history, int numberOfVisibleItems, int mode) {
 			super(JavaUIMessages.TypeInfoViewer_job_label, viewer);
@@ -533,6 +538,17 @@ public class TypeInfoViewer {
 		}
 		protected abstract TypeNameMatch[] getSearchResult(Set matchIdsInHistory, ProgressMonitor monitor) throws CoreException;
 
+		/**
+		 * Called after the first page of the search result has been rendered. The search result
+		 * only has to be sorted up to the first page when it is returned by
+		 * {@link #getSearchResult(Set, ProgressMonitor)}, and has to be sorted completely when
+		 * this method returns.
+		 *
+		 * @param result the search result
+		 */
+		protected void firstPageRendered(TypeNameMatch[] result) {
+		}
+
 		private void internalRun(ProgressMonitor monitor) throws CoreException, InterruptedException {
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
@@ -571,9 +587,11 @@ public class TypeInfoViewer {
 			if ((fMode & INDEX) == 0) {
 				return;
 			}
+			fFirstPageSize= fViewer.getNumberOfVisibleItems();
 			TypeNameMatch[] result= getSearchResult(filteredMatches, monitor);
 			fViewer.fExpectedItemCount+= result.length;
 			if (result.length == 0) {
+				firstPageRendered(result);
 				return;
 			}
 			if (monitor.isCanceled())
@@ -589,9 +607,13 @@ public class TypeInfoViewer {
 				elements.clear();
 				imageDescriptors.clear();
 				labels.clear();
-	            int delta = Math.min(nextIndex == 1 ? fViewer.getNumberOfVisibleItems() : 10, result.length - processed);
-				if (delta == 0)
+				boolean firstPage= nextIndex == 1;
+	            int delta = Math.min(firstPage ? fFirstPageSize : 10, result.length - processed);
+				if (delta == 0) {
+					if (firstPage)
+						firstPageRendered(result);
 					break;
+				}
 				processed= processed + delta;
 				while(delta > 0) {
 					next= (nextIndex == result.length) ? null : result[nextIndex];
@@ -604,6 +626,8 @@ public class TypeInfoViewer {
 					delta--;
 				}
 				fViewer.addAll(fTicket, elements, imageDescriptors, labels);
+				if (firstPage)
+					firstPageRendered(result);
 				long sleep= 100 - (System.currentTimeMillis() - startTime);
 
 				if (sleep > 0)
@@ -627,9 +651,11 @@ public class TypeInfoViewer {
 			Set filteredMatches= new HashSet(matchingTypes.length * 2);
 			filteredMatches.addAll(Arrays.asList(matchingTypes));
 
+			fFirstPageSize= fViewer.getNumberOfVisibleItems();
 			TypeNameMatch[] result= getSearchResult(filteredMatches, monitor);
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
+			firstPageRendered(result);
 
 			fViewer.setSearchResult(fTicket, result);
 		}
@@ -646,6 +672,8 @@ public class TypeInfoViewer {
 		private IJavaSearchScope fScope;
 		private int fElementKind;
 		private SearchRequestor fReqestor;
+		private Comparator fComparator;
+		private int fSortedCount;
 
 		public SearchEngineJob(int ticket, TypeInfoViewer viewer, TypeInfoFilter filter, OpenTypeHistory history, int numberOfVisibleItems, int mode,
 				IJavaSearchScope scope, int elementKind) {
@@ -680,12 +708,52 @@ public class TypeInfoViewer {
 			if (DEBUG)
 				System.out.println("Time needed until search has finished: " + (System.currentTimeMillis() - start)); //$NON-NLS-1$
 			TypeNameMatch[] result= fReqestor.getResult();
-			Arrays.sort(result, new TypeInfoComparator(fLabelProvider, fFilter));
+			// only sort the first page (plus the element following it, which is needed to render
+			// the page) before rendering, so that the most relevant matches are shown early
+			fComparator= new TypeInfoComparator(fLabelProvider, fFilter);
+			fSortedCount= Math.min(fFirstPageSize + 1, result.length);
+			sortFirst(result, fSortedCount, fComparator);
 			if (DEBUG)
-				System.out.println("Time needed until sort has finished: " + (System.currentTimeMillis() - start)); //$NON-NLS-1$
-			fViewer.rememberResult(fTicket, result);
+				System.out.println("Time needed until first page is sorted: " + (System.currentTimeMillis() - start)); //$NON-NLS-1$
 			return result;
 		}
+		@Override
+		protected void firstPageRendered(TypeNameMatch[] result) {
+			Arrays.sort(result, fSortedCount, result.length, fComparator);
+			fViewer.rememberResult(fTicket, fFilter, result);
+		}
+		/**
+		 * Moves the <code>count</code> smallest elements to the front of the array, in sorted
+		 * order. The order of the remaining elements is unspecified.
+		 */
+		private static void sortFirst(TypeNameMatch[] result, int count, Comparator comparator) {
+			if (count == 0)
+				return;
+			if (count == result.length) {
+				Arrays.sort(result, comparator);
+				return;
+			}
+			PriorityQueue first= new PriorityQueue(count, Collections.reverseOrder(comparator));
+			for (TypeNameMatch type : result) {
+				if (first.size() < count) {
+					first.add(type);
+				} else if (comparator.compare(type, first.peek()) < 0) {
+					first.poll();
+					first.add(type);
+				}
+			}
+			TypeNameMatch[] head= (TypeNameMatch[])first.toArray(new TypeNameMatch[count]);
+			Arrays.sort(head, comparator);
+			Set selected= Collections.newSetFromMap(new IdentityHashMap(count * 2));
+			selected.addAll(Arrays.asList(head));
+			// compact the remaining elements at the end, back to front, then put the head in front
+			int j= result.length - 1;
+			for (int i= result.length - 1; i >= 0; i--) {
+				if (!selected.contains(result[i]))
+					result[j--]= result[i];
+			}
+			System.arraycopy(head, 0, result, 0, count);
+		}
 	}
 
 	private static class CachedResultJob extends AbstractSearchJob {
@@ -836,6 +904,7 @@ public class TypeInfoViewer {
 	private ITypeInfoFilterExtension fFilterExtension;
 	private TypeNameMatch[] fLastCompletedResult;
 	private TypeInfoFilter fLastCompletedFilter;
+	private final TypeSearchResultCache fSearchResultCache= new TypeSearchResultCache();
 
 	private int fSearchJobTicket;
 	protected int fElementKind;
@@ -934,6 +1003,7 @@ public class TypeInfoViewer {
 		});
 		fTable.addDisposeListener(event -> {
 			stop(true, true);
+			fSearchResultCache.dispose();
 			fSeparatorIcon.dispose();
 			fImageManager.dispose();
 			if (fProgressUpdateJob != null) {
@@ -960,6 +1030,7 @@ public class TypeInfoViewer {
 		fImageManager= new ImageManager();
 
 		fHistory= OpenTypeHistory.getInstance();
+		fSearchResultCache.install();
 		if (initialFilter != null && initialFilter.length() > 0)
 			fTypeInfoFilter= createTypeInfoFilter(initialFilter);
 		GC gc= null;
@@ -1052,6 +1123,7 @@ public class TypeInfoViewer {
 			// clear last results
 			fLastCompletedFilter= null;
 			fLastCompletedResult= null;
+			fSearchResultCache.clear();
 			scheduleSearchJob(isSyncJobRunning() ? HISTORY : FULL);
 		}
 	}
@@ -1220,12 +1292,13 @@ public class TypeInfoViewer {
 		});
 	}
 
-	private void rememberResult(int ticket, final TypeNameMatch[] result) {
+	private void rememberResult(int ticket, final TypeInfoFilter filter, final TypeNameMatch[] result) {
 		syncExec(ticket, () -> {
 			if (fLastCompletedResult == null) {
-				fLastCompletedFilter= fTypeInfoFilter;
+				fLastCompletedFilter= filter;
 				fLastCompletedResult= result;
 			}
+			fSearchResultCache.put(filter, result);
 		});
 	}
 
@@ -1324,6 +1397,14 @@ public class TypeInfoViewer {
 		} else {
 			fLastCompletedFilter= null;
 			fLastCompletedResult= null;
+			TypeNameMatch[] cachedResult= fSearchResultCache.get(fTypeInfoFilter);
+			if (cachedResult != null) {
+				fSearchJob= new CachedResultJob(fSearchJobTicket, cachedResult, this, fTypeInfoFilter,
+					fHistory, fNumberOfVisibleItems,
+					mode);
+				fSearchJob.schedule();
+				return;
+			}
 			fSearchJob= new SearchEngineJob(fSearchJobTicket, this, fTypeInfoFilter,
 				fHistory, fNumberOfVisibleItems,
 				mode, fSearchScope, fElementKind);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -120,6 +120,19 @@ public class CompilationUnitChangeNode extends TextEditChangeNode {
 		}
 	}
 
+	@Override
+	protected boolean internalHasChildNodes() {
+		// every non-empty change group gets a node, but resolving their elements is expensive
+		TextEditBasedChange change= getTextEditBasedChange();
+		if (change instanceof MultiStateTextFileChange || change.getAdapter(ICompilationUnit.class) == null)
+			return false;
+		for (TextEditBasedChangeGroup group : change.getChangeGroups()) {
+			if (!group.getTextEditGroup().isEmpty())
+				return true;
+		}
+		return false;
+	}
+
 	private static class OffsetComparator implements Comparator<TextEditBasedChangeGroup> {
 		@Override
 		public int compare(TextEditBasedChangeGroup c1, TextEditBasedChangeGroup c2) {
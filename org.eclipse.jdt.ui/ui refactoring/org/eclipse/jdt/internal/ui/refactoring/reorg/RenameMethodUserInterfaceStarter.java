@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,7 @@ public class RenameMethodUserInterfaceStarter extends RenameUserInterfaceStarter
 					if (!MessageDialog.openQuestion(parent,
 							ReorgMessages.RenameMethodUserInterfaceStarter_name,
 							message)) {
+						processor.disposeHierarchyService();
 						return false;
 					}
 				}
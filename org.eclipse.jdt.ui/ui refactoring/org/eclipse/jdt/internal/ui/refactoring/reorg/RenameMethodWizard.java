@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.jdt.internal.ui.refactoring.reorg;
 
 import org.eclipse.ltk.core.refactoring.Refactoring;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameMethodProcessor;
+
 import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.refactoring.RefactoringMessages;
@@ -28,4 +30,13 @@ public class RenameMethodWizard extends RenameRefactoringWizard {
 			JavaPluginImages.DESC_WIZBAN_REFACTOR_METHOD,
 			IJavaHelpContextIds.RENAME_METHOD_WIZARD_PAGE);
 	}
+
+	@Override
+	public void dispose() {
+		// the hierarchies of the initial checks are kept if the wizard is cancelled before the final checks
+		RenameMethodProcessor processor= getRefactoring().getAdapter(RenameMethodProcessor.class);
+		if (processor != null)
+			processor.disposeHierarchyService();
+		super.dispose();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -50,7 +51,9 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.jface.action.GroupMarker;
@@ -123,6 +126,7 @@ import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileDocumentPr
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.folding.JavaFoldingStructureProviderRegistry;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
+import org.eclipse.jdt.internal.ui.text.java.ProposalFrequencyModel;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaEditorTextHoverDescriptor;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
@@ -259,6 +263,14 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 */
 	private ContentAssistHistory fContentAssistHistory;
 
+	/**
+	 * Frequencies of accepted content assist proposals.
+	 * @since 3.27
+	 */
+	private ProposalFrequencyModel fProposalFrequencyModel;
+
+	private static final String PROPOSAL_FREQUENCIES_FILE= "proposalFrequencies.dat"; //$NON-NLS-1$
+
 	/**
 	 * The save participant registry.
 	 * @since 3.3
@@ -518,6 +530,20 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fContentAssistHistory= null;
 			}
 
+			synchronized (this) {
+				if (fProposalFrequencyModel != null) {
+					ResourcesPlugin.getWorkspace().removeResourceChangeListener(fProposalFrequencyModel);
+					if (fProposalFrequencyModel.isDirty()) {
+						try {
+							fProposalFrequencyModel.save(getProposalFrequenciesFile());
+						} catch (IOException x) {
+							log(x);
+						}
+					}
+					fProposalFrequencyModel= null;
+				}
+			}
+
 			if (fTemplateStore != null) {
 				fTemplateStore.stopListeningForPreferenceChanges();
 				fTemplateStore= null;
@@ -1036,6 +1062,41 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		return fContentAssistHistory;
 	}
 
+	/**
+	 * Returns the frequencies of accepted content assist proposals.
+	 *
+	 * @return the content assist proposal frequency model
+	 * @since 3.27
+	 */
+	public synchronized ProposalFrequencyModel getProposalFrequencyModel() {
+		if (fProposalFrequencyModel == null) {
+			File file= getProposalFrequenciesFile();
+			if (file.isFile()) {
+				try {
+					fProposalFrequencyModel= ProposalFrequencyModel.load(file, ProposalFrequencyModel.DEFAULT_MAX_ENTRIES);
+				} catch (IOException x) {
+					log(x);
+				}
+			}
+			if (fProposalFrequencyModel != null) {
+				// forget the projects that have been deleted or closed while the model was not loaded
+				IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+				for (String project : fProposalFrequencyModel.getProjectNames()) {
+					if (!root.getProject(project).isOpen())
+						fProposalFrequencyModel.removeProject(project);
+				}
+			}
+			if (fProposalFrequencyModel == null)
+				fProposalFrequencyModel= new ProposalFrequencyModel();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fProposalFrequencyModel, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fProposalFrequencyModel;
+	}
+
+	private File getProposalFrequenciesFile() {
+		return getStateLocation().append(PROPOSAL_FREQUENCIES_FILE).toFile();
+	}
+
 	/**
 	 * Returns a section in the Java plugin's dialog settings. If the section doesn't exist yet, it is created.
 	 *
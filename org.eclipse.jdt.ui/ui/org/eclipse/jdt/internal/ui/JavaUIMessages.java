@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -223,6 +223,7 @@ public final class JavaUIMessages extends NLS {
 	public static String Spelling_disable_info;
 	public static String Spelling_case_label;
 	public static String Spelling_error_case_label;
+	public static String Spelling_check_job_name;
 	public static String AbstractSpellingDictionary_encodingError;
 
 	public static String JavaAnnotationHover_multipleMarkersAtThisLine;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,8 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jdt.ui.text.JavaSourceViewerConfiguration;
 import org.eclipse.jdt.ui.text.JavaTextTools;
 
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
@@ -88,6 +90,8 @@ import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 
 public class JavaMergeViewer extends TextMergeViewer {
 
+	private static final int TOKEN_COMPARATOR_CACHE_SIZE= 16;
+
 	private IPropertyChangeListener fPreferenceChangeListener;
 	private IPreferenceStore fPreferenceStore;
 	private Map <SourceViewer, JavaSourceViewerConfiguration> fSourceViewerConfiguration;
@@ -96,6 +100,14 @@ public class JavaMergeViewer extends TextMergeViewer {
 
 	private IWorkbenchPartSite fSite;
 
+	/**
+	 * Token comparators of the current input. They are immutable, hence they are shared for equal
+	 * texts, e.g. when the same ranges are compared again after a change on the other side.
+	 *
+	 * @since 3.27
+	 */
+	private final Map<String, JavaTokenComparator> fTokenComparators= new LRUMap<>(TOKEN_COMPARATOR_CACHE_SIZE);
+
 
 	public JavaMergeViewer(Composite parent, int styles, CompareConfiguration mp) {
 		super(parent, styles | SWT.LEFT_TO_RIGHT, mp);
@@ -110,6 +122,7 @@ public class JavaMergeViewer extends TextMergeViewer {
 	@Override
 	protected void handleDispose(DisposeEvent event) {
 		setPreferenceStore(null);
+		clearTokenComparators();
 		super.handleDispose(event);
 	}
 
@@ -151,6 +164,7 @@ public class JavaMergeViewer extends TextMergeViewer {
 				setPreferenceStore(createChainedPreferenceStore(project));
 			}
 		}
+    	clearTokenComparators();
     	super.setInput(input);
     }
 
@@ -184,7 +198,23 @@ public class JavaMergeViewer extends TextMergeViewer {
 
 	@Override
 	public ITokenComparator createTokenComparator(String s) {
-		return new JavaTokenComparator(s);
+		JavaTokenComparator comparator;
+		synchronized (fTokenComparators) {
+			comparator= fTokenComparators.get(s);
+		}
+		if (comparator == null) {
+			comparator= new JavaTokenComparator(s);
+			synchronized (fTokenComparators) {
+				fTokenComparators.put(s, comparator);
+			}
+		}
+		return comparator;
+	}
+
+	private void clearTokenComparators() {
+		synchronized (fTokenComparators) {
+			fTokenComparators.clear();
+		}
 	}
 
 	@Override
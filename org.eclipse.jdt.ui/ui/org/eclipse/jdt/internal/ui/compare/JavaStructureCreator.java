@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringTokenizer;
 
 import org.eclipse.swt.widgets.Shell;
@@ -66,12 +67,53 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
 
 
 public class JavaStructureCreator extends StructureCreator {
 
+	private static final int AST_CACHE_SIZE= 16;
+
+	/**
+	 * Maximum total number of characters of the contents whose ASTs are cached.
+	 */
+	private static final int AST_CACHE_MAX_CHARS= 1024 * 1024;
+
+	/**
+	 * Recently parsed contents. The ASTs are only parsed up to the member level (focal position 0),
+	 * hence they can be shared by both sides of an input and by repeated openings of the same
+	 * input, e.g. when stepping through a synchronization. The cache is bounded by the number of
+	 * entries and by {@link #AST_CACHE_MAX_CHARS}, so that it does not keep large files alive
+	 * after the compare editor has been closed.
+	 */
+	private static final Map<ParseKey, CompilationUnit> fgASTCache= new LRUMap<>(AST_CACHE_SIZE);
+
 	private Map<String, String> fDefaultCompilerOptions;
 
+	private static final class ParseKey {
+
+		private final String fContents;
+		private final Map<String, String> fCompilerOptions;
+
+		ParseKey(String contents, Map<String, String> compilerOptions) {
+			fContents= contents;
+			fCompilerOptions= compilerOptions;
+		}
+
+		@Override
+		public int hashCode() {
+			return fContents.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ParseKey))
+				return false;
+			ParseKey other= (ParseKey) obj;
+			return fContents.equals(other.fContents) && Objects.equals(fCompilerOptions, other.fCompilerOptions);
+		}
+	}
+
 	/**
 	 * A root node for the structure. It is similar to {@link StructureRootNode} but needed
 	 * to be a subclass of {@link JavaNode} because of the code used to build the structure.
@@ -277,14 +319,26 @@ public class JavaStructureCreator extends StructureCreator {
 				int n= contents.length();
 				buffer= new char[n];
 				contents.getChars(0, n, buffer, 0);
+			} else {
+				contents= new String(buffer);
 			}
 
-			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-			if (compilerOptions != null)
-				parser.setCompilerOptions(compilerOptions);
-			parser.setSource(buffer);
-			parser.setFocalPosition(0);
-			CompilationUnit cu= (CompilationUnit) parser.createAST(monitor);
+			ParseKey key= new ParseKey(contents, compilerOptions);
+			CompilationUnit cu;
+			synchronized (fgASTCache) {
+				cu= fgASTCache.get(key);
+			}
+			if (cu == null) {
+				ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+				if (compilerOptions != null)
+					parser.setCompilerOptions(compilerOptions);
+				parser.setSource(buffer);
+				parser.setFocalPosition(0);
+				cu= (CompilationUnit) parser.createAST(monitor);
+				// a canceled parse can return an incomplete AST
+				if (monitor == null || !monitor.isCanceled())
+					cacheAST(key, cu);
+			}
 			cu.accept(new JavaParseTreeBuilder(root, buffer, true));
 
 			return root;
@@ -292,6 +346,22 @@ public class JavaStructureCreator extends StructureCreator {
 		return null;
 	}
 
+	private static void cacheAST(ParseKey key, CompilationUnit cu) {
+		if (key.fContents.length() > AST_CACHE_MAX_CHARS / 4)
+			return;
+		synchronized (fgASTCache) {
+			fgASTCache.put(key, cu);
+			int chars= 0;
+			for (ParseKey cached : fgASTCache.keySet())
+				chars+= cached.fContents.length();
+			// remove the least recently used entries, the new one is the last
+			for (Iterator<ParseKey> iter= fgASTCache.keySet().iterator(); chars > AST_CACHE_MAX_CHARS && iter.hasNext();) {
+				chars-= iter.next().fContents.length();
+				iter.remove();
+			}
+		}
+	}
+
 	/**
 	 * Returns the contents of the given node as a string.
 	 * This string is used to test the content of a Java element
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.compare;
 
+import java.util.Arrays;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.compare.contentmergeviewer.ITokenComparator;
@@ -34,6 +36,14 @@ public class JavaTokenComparator implements ITokenComparator {
 
 	private static final boolean DEBUG= false;
 
+	/**
+	 * Texts longer than this number of characters are split into lines instead of Java tokens, so
+	 * that the range differencer does not stall on huge inputs.
+	 *
+	 * @since 3.27
+	 */
+	static final int LARGE_TEXT_THRESHOLD= 256 * 1024;
+
 	private final String fText;
 	private int fCount;
 	private int[] fStarts;
@@ -54,6 +64,22 @@ public class JavaTokenComparator implements ITokenComparator {
 		fLengths= new int[length];
 		fCount= 0;
 
+		if (length > LARGE_TEXT_THRESHOLD) {
+			tokenizeLines();
+		} else {
+			tokenize();
+		}
+
+		// the arrays are allocated for the worst case, don't keep the unused part alive
+		if (fCount < length) {
+			fStarts= Arrays.copyOf(fStarts, fCount);
+			fLengths= Arrays.copyOf(fLengths, fCount);
+		}
+	}
+
+	private void tokenize() {
+		String text= fText;
+		int length= text.length();
 		IScanner scanner= ToolFactory.createScanner(true, true, false, false); // returns comments & whitespace
 		scanner.setSource(fText.toCharArray());
 		int endPos= 0;
@@ -84,6 +110,25 @@ public class JavaTokenComparator implements ITokenComparator {
 		}
 	}
 
+	/**
+	 * Records every line including its delimiter as one token.
+	 *
+	 * @since 3.27
+	 */
+	private void tokenizeLines() {
+		int length= fText.length();
+		int start= 0;
+		for (int i= 0; i < length; i++) {
+			char ch= fText.charAt(i);
+			if (ch == '\n' || ch == '\r' && (i + 1 == length || fText.charAt(i + 1) != '\n')) {
+				recordTokenRange(start, i + 1 - start);
+				start= i + 1;
+			}
+		}
+		if (start < length)
+			recordTokenRange(start, length - start);
+	}
+
 	/**
 	 * Records the given token range.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeSearchResultCache;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -169,6 +170,8 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 
 	private TypeItemsFilter fFilter;
 
+	private final TypeSearchResultCache fSearchResultCache= new TypeSearchResultCache();
+
 	/**
 	 * Creates new FilteredTypesSelectionDialog instance
 	 *
@@ -419,6 +422,13 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		if (patternControl instanceof Text) {
 			TextFieldNavigationHandler.install((Text) patternControl);
 		}
+		fSearchResultCache.install();
+	}
+
+	@Override
+	public boolean close() {
+		fSearchResultCache.dispose();
+		return super.close();
 	}
 
 	@Override
@@ -469,6 +479,17 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	@Override
 	protected void fillContentProvider(AbstractContentProvider provider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 		TypeItemsFilter typeSearchFilter= (TypeItemsFilter) itemsFilter;
+		TypeNameMatch[] cachedMatches= fSearchResultCache.get(typeSearchFilter.getTypeInfoFilter());
+		if (cachedMatches != null) {
+			// answer the search from the result of an earlier, equal or broader search
+			for (TypeNameMatch match : cachedMatches) {
+				if (progressMonitor.isCanceled())
+					return;
+				provider.add(match, typeSearchFilter);
+			}
+			return;
+		}
+
 		TypeSearchRequestor requestor= new TypeSearchRequestor(provider, typeSearchFilter);
 		SearchEngine engine= new SearchEngine((WorkingCopyOwner) null);
 		String packPattern= typeSearchFilter.getPackagePattern();
@@ -498,6 +519,8 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		} finally {
 			typeSearchFilter.setMatchEverythingMode(false);
 		}
+		if (!progressMonitor.isCanceled())
+			fSearchResultCache.put(typeSearchFilter.getTypeInfoFilter(), requestor.getMatches());
 	}
 
 	@Override
@@ -622,6 +645,7 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	@Override
 	public void triggerSearch() {
 		fTypeFilterVersion++;
+		fSearchResultCache.clear();
 		applyFilter();
 	}
 
@@ -951,6 +975,10 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 			return fTypeInfoFilter.getSearchScope();
 		}
 
+		public TypeInfoFilter getTypeInfoFilter() {
+			return fTypeInfoFilter;
+		}
+
 		public int getMyTypeFilterVersion() {
 			return fMyTypeFilterVersion;
 		}
@@ -1072,20 +1100,31 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 
 		private final TypeItemsFilter fTypeItemsFilter;
 
+		private final List<TypeNameMatch> fMatches= new ArrayList<>();
+
 		public TypeSearchRequestor(AbstractContentProvider contentProvider, TypeItemsFilter typeItemsFilter) {
 			super();
 			fContentProvider= contentProvider;
 			fTypeItemsFilter= typeItemsFilter;
 		}
 
+		/**
+		 * @return all matches that have been added to the content provider
+		 */
+		public TypeNameMatch[] getMatches() {
+			return fMatches.toArray(new TypeNameMatch[fMatches.size()]);
+		}
+
 		@Override
 		public void acceptTypeNameMatch(TypeNameMatch match) {
 			if (fStop)
 				return;
 			if (TypeFilter.isFiltered(match))
 				return;
-			if (fTypeItemsFilter.matchesFilterExtension(match))
+			if (fTypeItemsFilter.matchesFilterExtension(match)) {
+				fMatches.add(match);
 				fContentProvider.add(match, fTypeItemsFilter);
+			}
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat and others.
+ * Copyright (c) 2022, 2026 Red Hat and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,8 @@ import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
+import org.eclipse.jdt.internal.common.SharedASTTraversal;
+
 /**
  * Base class for cleanups that forward their implementation to to a cleanup class
  * in the jdt.core.manipulation project.
@@ -50,10 +52,24 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUpCore> extends A
 
 	@Override
 	public final ICleanUpFix createFix(CleanUpContext context) throws CoreException {
-		ICleanUpFixCore fix= cleanUpCore.createFixCore(context);
+		ICleanUpFixCore fix= cleanUpCore.createPreparedFixCore(context);
 		return fix != null ? new CleanUpFixWrapper(fix) : null;
 	}
 
+	/**
+	 * Registers the visitors of the wrapped clean up with a traversal of the AST of the given
+	 * context that is shared with other clean ups. The next call to
+	 * {@link #createFix(CleanUpContext)} for the same AST uses the results of the traversal.
+	 *
+	 * @param context the context
+	 * @param traversal the shared traversal
+	 * @return <code>true</code> if the wrapped clean up takes part in the traversal
+	 * @see AbstractCleanUpCore#prepareFixCore(org.eclipse.jdt.core.manipulation.CleanUpContextCore, SharedASTTraversal)
+	 */
+	public boolean prepareFix(CleanUpContext context, SharedASTTraversal traversal) {
+		return cleanUpCore.prepareFixCore(context, traversal);
+	}
+
 	@Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
 		return cleanUpCore.checkPostConditions(monitor);
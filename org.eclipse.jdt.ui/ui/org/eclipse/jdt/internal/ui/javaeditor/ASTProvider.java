@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
 import org.eclipse.ui.IPartListener2;
 import org.eclipse.ui.IWindowListener;
 import org.eclipse.ui.IWorkbenchPart;
@@ -42,6 +45,14 @@ public final class ASTProvider implements IASTSharedValues {
 
 	private static final CoreASTProvider INSTANCE= CoreASTProvider.getInstance();
 
+	/**
+	 * Property of reconciled ASTs that holds the modification stamp of the document the AST has
+	 * been created from.
+	 *
+	 * @since 3.27
+	 */
+	private static final String DOCUMENT_STAMP_PROPERTY= JavaUI.ID_PLUGIN + ".documentStamp"; //$NON-NLS-1$
+
 	/**
 	 * Internal activation listener.
 	 *
@@ -246,6 +257,39 @@ public final class ASTProvider implements IASTSharedValues {
 		return ast != null && INSTANCE.getCachedAST() == ast;
 	}
 
+	/**
+	 * Records the modification stamp of the document the given AST has been created from.
+	 *
+	 * @param ast the AST
+	 * @param documentStamp the modification stamp of the document, or
+	 *            {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP}
+	 * @since 3.27
+	 */
+	static void setDocumentStamp(CompilationUnit ast, long documentStamp) {
+		ast.setProperty(DOCUMENT_STAMP_PROPERTY, Long.valueOf(documentStamp));
+	}
+
+	/**
+	 * Tells whether the given AST has been created from the current content of the given document.
+	 * This is only known for ASTs created by the reconciler of a Java editor.
+	 *
+	 * @param ast the AST
+	 * @param document the document
+	 * @return <code>true</code> if the AST is known to match the document
+	 * @since 3.27
+	 */
+	public static boolean isUpToDate(CompilationUnit ast, IDocument document) {
+		if (!(document instanceof IDocumentExtension4))
+			return false;
+
+		Object documentStamp= ast.getProperty(DOCUMENT_STAMP_PROPERTY);
+		if (!(documentStamp instanceof Long))
+			return false;
+
+		long stamp= ((Long) documentStamp).longValue();
+		return stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == ((IDocumentExtension4) document).getModificationStamp();
+	}
+
 	/**
 	 * Returns whether this AST provider is active on the given
 	 * compilation unit.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 	 */
 	static protected class CompilationUnitInfo extends FileInfo {
 		public ICompilationUnit fCopy;
+		/**
+		 * The tracker of the lines changed since the last save, or <code>null</code>.
+		 * @since 3.27
+		 */
+		DirtyLineTracker fDirtyLineTracker;
 	}
 
 	/**
@@ -1039,6 +1044,9 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 			original.becomeWorkingCopy(requestor, getProgressMonitor());
 		cuInfo.fCopy= original;
 
+		if (cuInfo.fTextFileBuffer != null)
+			cuInfo.fDirtyLineTracker= new DirtyLineTracker(cuInfo.fTextFileBuffer);
+
 		if (cuInfo.fModel instanceof CompilationUnitAnnotationModel)   {
 			CompilationUnitAnnotationModel model= (CompilationUnitAnnotationModel) cuInfo.fModel;
 			model.setCompilationUnit(cuInfo.fCopy);
@@ -1271,6 +1279,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 
 			if (cuInfo.fModel != null)
 				cuInfo.fModel.removeAnnotationModelListener(fGlobalAnnotationModelListener);
+
+			if (cuInfo.fDirtyLineTracker != null) {
+				cuInfo.fDirtyLineTracker.dispose();
+				cuInfo.fDirtyLineTracker= null;
+			}
 		}
 		super.disposeFileInfo(element, info);
 	}
@@ -1406,7 +1419,10 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				IRegion[] changedRegions= null;
 				if (needsChangedRegions) {
 					try {
-						changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
+						if (info.fDirtyLineTracker != null)
+							changedRegions= info.fDirtyLineTracker.getChangedLineRegions();
+						if (changedRegions == null)
+							changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
 					} catch (CoreException ex) {
 						changedRegionException= ex;
 					} finally {
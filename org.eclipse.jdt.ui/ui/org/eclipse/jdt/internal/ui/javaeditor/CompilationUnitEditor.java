@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,6 +56,7 @@ import org.eclipse.jface.text.DocumentCommand;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentExtension;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextOperationTarget;
@@ -1041,6 +1042,13 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 	 */
 	private JavaTemplatesPage fTemplatesPage;
 
+	/**
+	 * The modification stamp of the document when the running reconcile started.
+	 *
+	 * @since 3.27
+	 */
+	private volatile long fReconcilingDocumentStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
 
 	/**
 	 * Creates a new compilation unit editor.
@@ -1657,6 +1665,9 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 
 	@Override
 	public void aboutToWork(JavaReconciler javaReconciler) {
+		IDocument document= getDocumentProvider() != null ? getDocumentProvider().getDocument(getEditorInput()) : null;
+		fReconcilingDocumentStamp= document instanceof IDocumentExtension4 ? ((IDocumentExtension4) document).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
 		// Notify AST provider
 		CoreASTProvider.getInstance().aboutToBeReconciled(getInputJavaElement(), javaReconciler::signalWaitForFinish);
 	}
@@ -1673,6 +1684,10 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 		if (javaPlugin == null)
 			return;
 
+		// The reconciler reads the document after aboutToWork, so the AST is at least as new as the stamp
+		if (ast != null)
+			ASTProvider.setDocumentStamp(ast, fReconcilingDocumentStamp);
+
 		// Always notify AST provider
 		CoreASTProvider.getInstance().reconciled(ast, getInputJavaElement(), progressMonitor);
 
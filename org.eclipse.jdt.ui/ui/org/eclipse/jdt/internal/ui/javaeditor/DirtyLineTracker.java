@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * Tracks the ranges of a file buffer's document that have been changed since the buffer was last
+ * in sync with its file.
+ * <p>
+ * The changed line regions needed by save participants are computed from the tracked ranges in
+ * time proportional to the number of changes, without reading the file and comparing it with the
+ * document. The tracked regions may contain lines whose edits have been reverted by later edits.
+ * </p>
+ *
+ * @see EditorUtility#calculateChangedLineRegions(ITextFileBuffer, org.eclipse.core.runtime.IProgressMonitor)
+ * @since 3.27
+ */
+class DirtyLineTracker implements IDocumentListener {
+
+	private final ITextFileBuffer fBuffer;
+
+	/**
+	 * The changed ranges as <code>{start, end, wholeLines}</code> in the current document, sorted
+	 * and neither overlapping nor touching. <code>wholeLines</code> is <code>1</code> if the range
+	 * is empty because only whole lines have been removed at its offset, <code>0</code> otherwise.
+	 */
+	private List<int[]> fRanges= new ArrayList<>();
+
+	/**
+	 * Tells whether the text removed by the current document event starts at a line start and ends
+	 * with a line delimiter.
+	 */
+	private boolean fRemovesWholeLines;
+
+	/**
+	 * Tells whether all changes since the buffer was last in sync with its file have been
+	 * tracked.
+	 */
+	private boolean fIsValid;
+
+	/**
+	 * The modification stamp of the file when the buffer was last in sync with it.
+	 */
+	private long fFileStamp;
+
+	/**
+	 * Creates a tracker and starts tracking the document of the given buffer.
+	 *
+	 * @param buffer the file buffer
+	 */
+	DirtyLineTracker(ITextFileBuffer buffer) {
+		fBuffer= buffer;
+		if (!buffer.isDirty())
+			reset();
+		buffer.getDocument().addDocumentListener(this);
+	}
+
+	/**
+	 * Stops tracking the document.
+	 */
+	void dispose() {
+		fBuffer.getDocument().removeDocumentListener(this);
+	}
+
+	private void reset() {
+		fRanges.clear();
+		fIsValid= true;
+		fFileStamp= fBuffer.getModificationStamp();
+	}
+
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+		if (!fBuffer.isDirty())
+			reset();
+		fRemovesWholeLines= false;
+		if (fIsValid && event.getLength() > 0 && (event.getText() == null || event.getText().isEmpty())) {
+			IDocument document= event.getDocument();
+			int end= event.getOffset() + event.getLength();
+			try {
+				fRemovesWholeLines= isLineStart(document, event.getOffset()) && isLineStart(document, end);
+			} catch (BadLocationException e) {
+				fIsValid= false;
+			}
+		}
+	}
+
+	private static boolean isLineStart(IDocument document, int offset) throws BadLocationException {
+		return document.getLineOffset(document.getLineOfOffset(offset)) == offset;
+	}
+
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		if (!fIsValid)
+			return;
+
+		String text= event.getText();
+		int offset= event.getOffset();
+		int end= offset + event.getLength();
+		int delta= (text == null ? 0 : text.length()) - event.getLength();
+
+		int start= offset;
+		int stop= end + delta;
+		boolean wholeLines= fRemovesWholeLines;
+		List<int[]> ranges= new ArrayList<>(fRanges.size() + 1);
+		int[] changed= null;
+		for (int[] range : fRanges) {
+			if (range[1] < offset) {
+				ranges.add(range);
+			} else if (range[0] > end) {
+				if (changed == null) {
+					changed= new int[] { start, stop, 0 };
+					ranges.add(changed);
+				}
+				range[0]+= delta;
+				range[1]+= delta;
+				ranges.add(range);
+			} else {
+				start= Math.min(start, range[0]);
+				if (range[1] > end)
+					stop= Math.max(stop, range[1] + delta);
+				// a line changed before at the end of the removed lines now follows the kept lines
+				if (range[0] == end && range[2] == 0)
+					wholeLines= false;
+			}
+		}
+		if (changed == null) {
+			changed= new int[] { start, stop, 0 };
+			ranges.add(changed);
+		}
+		changed[2]= start == stop && wholeLines ? 1 : 0;
+		fRanges= ranges;
+	}
+
+	/**
+	 * Returns the regions of all lines that have changed since the buffer was last in sync with its
+	 * file. Successive lines are merged into one region.
+	 *
+	 * @return the changed regions, or <code>null</code> if they are not known, for example because
+	 *         the file has been changed outside of the buffer
+	 */
+	IRegion[] getChangedLineRegions() {
+		if (!fBuffer.isDirty())
+			return new IRegion[0];
+		if (!fIsValid || fBuffer.getModificationStamp() != fFileStamp)
+			return null;
+
+		IDocument document= fBuffer.getDocument();
+		List<IRegion> regions= new ArrayList<>();
+		try {
+			int regionStartLine= -1;
+			int regionEndLine= -1;
+			for (int[] range : fRanges) {
+				int startLine= document.getLineOfOffset(range[0]);
+				int endLine;
+				if (range[0] == range[1]) {
+					// text has been removed, the line has only changed if not only whole lines were removed
+					if (range[2] == 1)
+						continue;
+					endLine= startLine;
+				} else {
+					endLine= document.getLineOfOffset(range[1] - 1);
+				}
+
+				if (regionStartLine != -1 && startLine <= regionEndLine + 1) {
+					regionEndLine= Math.max(regionEndLine, endLine);
+				} else {
+					if (regionStartLine != -1)
+						regions.add(getLineRegion(document, regionStartLine, regionEndLine));
+					regionStartLine= startLine;
+					regionEndLine= endLine;
+				}
+			}
+			if (regionStartLine != -1)
+				regions.add(getLineRegion(document, regionStartLine, regionEndLine));
+		} catch (BadLocationException e) {
+			return null;
+		}
+		return regions.toArray(new IRegion[regions.size()]);
+	}
+
+	private static IRegion getLineRegion(IDocument document, int startLine, int endLine) throws BadLocationException {
+		IRegion startLineRegion= document.getLineInformation(startLine);
+		if (startLine == endLine)
+			return startLineRegion;
+
+		IRegion endLineRegion= document.getLineInformation(endLine);
+		int startOffset= startLineRegion.getOffset();
+		return new Region(startOffset, endLineRegion.getOffset() + endLineRegion.getLength() - startOffset);
+	}
+}
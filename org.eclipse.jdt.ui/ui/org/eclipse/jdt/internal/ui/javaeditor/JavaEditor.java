@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -197,6 +197,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFin
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -1209,15 +1210,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		public void windowActivated(IWorkbenchWindow window) {
 			if (window == getEditorSite().getWorkbenchWindow() && fMarkOccurrenceAnnotations && isActivePart()) {
 				fForcedMarkOccurrencesSelection= getSelectionProvider().getSelection();
-				ITypeRoot inputJavaElement= getInputJavaElement();
-				if (inputJavaElement != null) {
-					IProgressMonitor monitor = getProgressMonitor();
-					try {
-						updateOccurrenceAnnotations((ITextSelection)fForcedMarkOccurrencesSelection, SharedASTProviderCore.getAST(inputJavaElement, SharedASTProviderCore.WAIT_NO, monitor));
-					} finally {
-						monitor.done();
-					}
-				}
+				scheduleOccurrencesUpdate((ITextSelection)fForcedMarkOccurrencesSelection);
 			}
 		}
 
@@ -1674,6 +1667,29 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	private OccurrencesFinderJob fOccurrencesFinderJob;
 	/** The occurrences finder job canceler */
 	private OccurrencesFinderJobCanceler fOccurrencesFinderJobCanceler;
+	/**
+	 * The job that marks the occurrences for a selection that has not been reported by the
+	 * selection listener, e.g. when the editor window is activated.
+	 * @since 3.27
+	 */
+	private Job fForcedOccurrencesUpdateJob;
+	/**
+	 * The occurrence locations of the recently marked bindings in {@link #fOccurrencesCacheAST},
+	 * by binding key. Access is synchronized on the map.
+	 * @since 3.27
+	 */
+	private final Map<String, OccurrenceLocation[]> fOccurrencesCache= new LRUMap<>(OCCURRENCES_CACHE_SIZE);
+	/**
+	 * The AST in which the cached occurrence locations have been found.
+	 * @since 3.27
+	 */
+	private CompilationUnit fOccurrencesCacheAST;
+	/**
+	 * The key of the binding whose occurrences are currently marked, or <code>null</code> if the
+	 * current occurrence annotations have not been found by binding.
+	 * @since 3.27
+	 */
+	private volatile String fOccurrenceAnnotationsKey;
 	/**
 	 * This editor's projection support
 	 * @since 3.0
@@ -1749,6 +1765,13 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	 */
 	private static final long ERROR_MESSAGE_TIMEOUT= 1000;
 
+	/**
+	 * The maximal number of bindings whose occurrence locations are cached.
+	 *
+	 * @since 3.27
+	 */
+	private static final int OCCURRENCES_CACHE_SIZE= 20;
+
 	/**
 	 * Previous location history for goto matching bracket action.
 	 *
@@ -2400,21 +2423,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (!(textSelection instanceof ITextSelection))
 			return;
 
-		ITypeRoot inputJavaElement= getInputJavaElement();
-		if (inputJavaElement == null)
+		if (getInputJavaElement() == null)
 			return;
 
-		IProgressMonitor monitor = getProgressMonitor();
-		CompilationUnit ast;
-		try {
-			ast= SharedASTProviderCore.getAST(inputJavaElement, SharedASTProviderCore.WAIT_NO /* DO NOT USE WAIT_ACTIVE_ONLY */ , monitor);
-		} finally {
-			monitor.done();
-		}
-		if (ast != null) {
-			fForcedMarkOccurrencesSelection= textSelection;
-			updateOccurrenceAnnotations((ITextSelection)textSelection, ast);
-		}
+		fForcedMarkOccurrencesSelection= textSelection;
+		scheduleOccurrencesUpdate((ITextSelection)textSelection);
 
 	}
 
@@ -3178,12 +3191,14 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		private final ISelectionValidator fPostSelectionValidator;
 		private boolean fCanceled= false;
 		private final OccurrenceLocation[] fLocations;
+		private final String fBindingKey;
 
-		public OccurrencesFinderJob(IDocument document, OccurrenceLocation[] locations, ISelection selection) {
+		public OccurrencesFinderJob(IDocument document, OccurrenceLocation[] locations, ISelection selection, String bindingKey) {
 			super(JavaEditorMessages.JavaEditor_markOccurrences_job_name);
 			fDocument= document;
 			fSelection= selection;
 			fLocations= locations;
+			fBindingKey= bindingKey;
 
 			if (getSelectionProvider() instanceof ISelectionValidator)
 				fPostSelectionValidator= (ISelectionValidator)getSelectionProvider();
@@ -3247,21 +3262,52 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 				return Status.CANCEL_STATUS;
 
 			synchronized (getLockObject(annotationModel)) {
+				// only replace the annotations that have changed, so that the viewer only repaints their lines
+				List<Annotation> unchanged= new ArrayList<>();
+				List<Annotation> obsolete= new ArrayList<>();
+				if (fOccurrenceAnnotations != null) {
+					Map<String, Annotation> added= new HashMap<>(length);
+					for (Entry<Annotation, Position> entry : annotationMap.entrySet()) {
+						added.put(getKey(entry.getKey(), entry.getValue()), entry.getKey());
+					}
+					for (Annotation annotation : fOccurrenceAnnotations) {
+						Position position= annotationModel.getPosition(annotation);
+						if (position == null)
+							continue;
+						Annotation same= position.isDeleted() ? null : added.remove(getKey(annotation, position));
+						if (same != null) {
+							annotationMap.remove(same);
+							unchanged.add(annotation);
+						} else {
+							obsolete.add(annotation);
+						}
+					}
+				}
+
 				if (annotationModel instanceof IAnnotationModelExtension) {
-					((IAnnotationModelExtension)annotationModel).replaceAnnotations(fOccurrenceAnnotations, annotationMap);
+					if (!obsolete.isEmpty() || !annotationMap.isEmpty())
+						((IAnnotationModelExtension)annotationModel).replaceAnnotations(obsolete.toArray(new Annotation[obsolete.size()]), annotationMap);
 				} else {
-					removeOccurrenceAnnotations();
+					for (Annotation annotation : obsolete) {
+						annotationModel.removeAnnotation(annotation);
+					}
 					Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
 					while (iter.hasNext()) {
 						Entry<Annotation, Position> mapEntry= iter.next();
 						annotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
 					}
 				}
-				fOccurrenceAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
+				unchanged.addAll(annotationMap.keySet());
+				fOccurrenceAnnotations= unchanged.toArray(new Annotation[unchanged.size()]);
+				fOccurrenceAnnotationsKey= fBindingKey;
 			}
 
 			return Status.OK_STATUS;
 		}
+
+		private String getKey(Annotation annotation, Position position) {
+			return annotation.getType() + ':' + position.getOffset() + ':' + position.getLength() + ':' + annotation.getText();
+		}
 	}
 
 	/**
@@ -3283,7 +3329,12 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (astRoot == null || selection == null)
 			return;
 
-		IDocument document= getSourceViewer().getDocument();
+		// the editor may have been disposed while the AST was computed in the background
+		ISourceViewer sourceViewer= getSourceViewer();
+		if (sourceViewer == null)
+			return;
+
+		IDocument document= sourceViewer.getDocument();
 		if (document == null)
 			return;
 
@@ -3332,12 +3383,20 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			}
 		}
 
+		String bindingKey= null;
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
-				if (finder.initialize(astRoot, selectedNode) == null) {
-					locations= finder.getOccurrences();
+				bindingKey= binding.getKey();
+				locations= getCachedOccurrences(astRoot, bindingKey);
+				if (locations != null && bindingKey.equals(fOccurrenceAnnotationsKey) && fOccurrenceAnnotations != null)
+					return; // still on an occurrence of the marked binding
+				if (locations == null) {
+					OccurrencesFinder finder= new OccurrencesFinder();
+					if (finder.initialize(astRoot, selectedNode) == null) {
+						locations= finder.getOccurrences();
+						putCachedOccurrences(astRoot, bindingKey, locations);
+					}
 				}
 			}
 		}
@@ -3350,13 +3409,75 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			return;
 		}
 
-		fOccurrencesFinderJob= new OccurrencesFinderJob(document, locations, selection);
+		fOccurrencesFinderJob= new OccurrencesFinderJob(document, locations, selection, bindingKey);
 		//fOccurrencesFinderJob.setPriority(Job.DECORATE);
 		//fOccurrencesFinderJob.setSystem(true);
 		//fOccurrencesFinderJob.schedule();
 		fOccurrencesFinderJob.run(new NullProgressMonitor());
 	}
 
+	/**
+	 * Returns the cached occurrence locations of a binding.
+	 *
+	 * @param astRoot the AST in which the occurrences are searched
+	 * @param bindingKey the binding key, or <code>null</code>
+	 * @return the occurrence locations, or <code>null</code> if they are not cached for the AST
+	 * @since 3.27
+	 */
+	private OccurrenceLocation[] getCachedOccurrences(CompilationUnit astRoot, String bindingKey) {
+		if (bindingKey == null)
+			return null;
+		synchronized (fOccurrencesCache) {
+			if (fOccurrencesCacheAST != astRoot) {
+				fOccurrencesCache.clear();
+				fOccurrencesCacheAST= astRoot;
+				return null;
+			}
+			return fOccurrencesCache.get(bindingKey);
+		}
+	}
+
+	private void putCachedOccurrences(CompilationUnit astRoot, String bindingKey, OccurrenceLocation[] locations) {
+		if (bindingKey == null || locations == null)
+			return;
+		synchronized (fOccurrencesCache) {
+			if (fOccurrencesCacheAST == astRoot)
+				fOccurrencesCache.put(bindingKey, locations);
+		}
+	}
+
+	/**
+	 * Marks the occurrences for the given selection in a background job, so that finding them in
+	 * the AST does not block the UI thread.
+	 *
+	 * @param selection the text selection
+	 * @since 3.27
+	 */
+	private void scheduleOccurrencesUpdate(final ITextSelection selection) {
+		final ITypeRoot inputJavaElement= getInputJavaElement();
+		if (inputJavaElement == null)
+			return;
+
+		if (fForcedOccurrencesUpdateJob != null)
+			fForcedOccurrencesUpdateJob.cancel();
+		fForcedOccurrencesUpdateJob= new Job(JavaEditorMessages.JavaEditor_markOccurrences_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				CompilationUnit ast= SharedASTProviderCore.getAST(inputJavaElement, SharedASTProviderCore.WAIT_NO /* DO NOT USE WAIT_ACTIVE_ONLY */, monitor);
+				if (ast == null || monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				// the editor is disposed or the occurrences finder uninstalled
+				if (!fMarkOccurrenceAnnotations || getSourceViewer() == null)
+					return Status.CANCEL_STATUS;
+				updateOccurrenceAnnotations(selection, ast);
+				return Status.OK_STATUS;
+			}
+		};
+		fForcedOccurrencesUpdateJob.setPriority(Job.DECORATE);
+		fForcedOccurrencesUpdateJob.setSystem(true);
+		fForcedOccurrencesUpdateJob.schedule();
+	}
+
 	protected void installOccurrencesFinder(boolean forceUpdate) {
 		fMarkOccurrenceAnnotations= true;
 
@@ -3364,15 +3485,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		SelectionListenerWithASTManager.getDefault().addListener(this, fPostSelectionListenerWithAST);
 		if (forceUpdate && getSelectionProvider() != null) {
 			fForcedMarkOccurrencesSelection= getSelectionProvider().getSelection();
-			ITypeRoot inputJavaElement= getInputJavaElement();
-			if (inputJavaElement != null) {
-				IProgressMonitor monitor = getProgressMonitor();
-				try {
-					updateOccurrenceAnnotations((ITextSelection)fForcedMarkOccurrencesSelection, SharedASTProviderCore.getAST(inputJavaElement, SharedASTProviderCore.WAIT_NO, monitor));
-				} finally {
-					monitor.done();
-				}
-			}
+			scheduleOccurrencesUpdate((ITextSelection)fForcedMarkOccurrencesSelection);
 		}
 
 		if (fOccurrencesFinderJobCanceler == null) {
@@ -3389,6 +3502,16 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			fOccurrencesFinderJob= null;
 		}
 
+		if (fForcedOccurrencesUpdateJob != null) {
+			fForcedOccurrencesUpdateJob.cancel();
+			fForcedOccurrencesUpdateJob= null;
+		}
+
+		synchronized (fOccurrencesCache) {
+			fOccurrencesCache.clear();
+			fOccurrencesCacheAST= null;
+		}
+
 		if (fOccurrencesFinderJobCanceler != null) {
 			fOccurrencesFinderJobCanceler.uninstall();
 			fOccurrencesFinderJobCanceler= null;
@@ -3453,6 +3576,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	void removeOccurrenceAnnotations() {
 		fMarkOccurrenceModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 		fMarkOccurrenceTargetRegion= null;
+		fOccurrenceAnnotationsKey= null;
 
 		IDocumentProvider documentProvider= getDocumentProvider();
 		if (documentProvider == null)
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.packageview;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+
+import org.eclipse.ui.progress.IDeferredWorkbenchAdapter;
+import org.eclipse.ui.progress.IElementCollector;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+
+/**
+ * Computes the children of expensive Package Explorer elements (Java projects, library containers
+ * and binary package fragment roots) in a background job. Until the job is done, the viewer shows
+ * a pending placeholder.
+ *
+ * @see PackageExplorerContentProvider#setDeferredChildren(boolean)
+ * @since 3.27
+ */
+class DeferredPackageExplorerChildren implements IDeferredWorkbenchAdapter {
+
+	/**
+	 * Serializes the computations of one content provider, so that expanding many nodes does not
+	 * start a job per node that all compete for the Java model lock.
+	 */
+	private static class SerialRule implements ISchedulingRule {
+		@Override
+		public boolean isConflicting(ISchedulingRule rule) {
+			return rule == this;
+		}
+
+		@Override
+		public boolean contains(ISchedulingRule rule) {
+			return rule == this;
+		}
+	}
+
+	private final PackageExplorerContentProvider fProvider;
+	private final ISchedulingRule fRule= new SerialRule();
+
+	DeferredPackageExplorerChildren(PackageExplorerContentProvider provider) {
+		fProvider= provider;
+	}
+
+	@Override
+	public void fetchDeferredChildren(Object object, IElementCollector collector, IProgressMonitor monitor) {
+		if (monitor.isCanceled())
+			return;
+		collector.add(fProvider.computeChildren(object), monitor);
+		collector.done();
+		fProvider.childrenFetched(object);
+	}
+
+	@Override
+	public boolean isContainer() {
+		return true;
+	}
+
+	@Override
+	public ISchedulingRule getRule(Object object) {
+		return fRule;
+	}
+
+	@Override
+	public Object[] getChildren(Object o) {
+		return fProvider.computeChildren(o);
+	}
+
+	@Override
+	public ImageDescriptor getImageDescriptor(Object object) {
+		return null;
+	}
+
+	@Override
+	public String getLabel(Object o) {
+		if (o instanceof PackageFragmentRootContainer)
+			return ((PackageFragmentRootContainer) o).getLabel();
+		if (o instanceof IJavaElement)
+			return JavaElementLabels.getElementLabel((IJavaElement) o, JavaElementLabels.ALL_DEFAULT);
+		return ""; //$NON-NLS-1$
+	}
+
+	@Override
+	public Object getParent(Object o) {
+		return fProvider.getParent(o);
+	}
+}
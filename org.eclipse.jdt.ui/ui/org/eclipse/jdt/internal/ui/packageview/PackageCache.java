@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Simeon Andreev and others.
+ * Copyright (c) 2017, 2026 Simeon Andreev and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
@@ -40,7 +41,8 @@ import org.eclipse.jdt.core.JavaModelException;
  * </p>
  *
  * <p>
- * Not thread safe.
+ * Thread safe, queries can be issued from background jobs that compute the Package Explorer's
+ * children.
  * </p>
  *
  * @see #getDirectChildren(IPackageFragment)
@@ -96,6 +98,30 @@ public class PackageCache {
 				packageCaches.clear();
 			}
 		}
+
+		/**
+		 * Removes the cache of the given package root. Can be called from a different (not only UI)
+		 * thread.
+		 *
+		 * @param root the package root whose packages changed
+		 */
+		void clear(IPackageFragmentRoot root) {
+			synchronized (packageCaches) {
+				packageCaches.remove(root);
+			}
+		}
+
+		/**
+		 * Removes the caches of all package roots of the given project. Can be called from a
+		 * different (not only UI) thread.
+		 *
+		 * @param project the project whose package roots changed
+		 */
+		void clear(IJavaProject project) {
+			synchronized (packageCaches) {
+				packageCaches.keySet().removeIf(root -> project.equals(root.getJavaProject()));
+			}
+		}
 	}
 
 
@@ -187,7 +213,7 @@ public class PackageCache {
 	 * @param packageFragment The direct children of this fragment will be retrieved.
 	 * @throws JavaModelException If accessing the packages in the package root fails.
 	 */
-	public List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
+	public synchronized List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
 		initialize();
 		String packageName= packageFragment.getElementName();
 		List<IPackageFragment> childrenOfPackage= packagesCache.get(packageName);
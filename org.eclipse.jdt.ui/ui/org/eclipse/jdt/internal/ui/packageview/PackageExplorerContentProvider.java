@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -41,6 +43,8 @@ import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 
 import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.progress.DeferredTreeContentManager;
+import org.eclipse.ui.progress.IDeferredWorkbenchAdapter;
 import org.eclipse.ui.progress.UIJob;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
@@ -101,6 +105,17 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 */
 	private final PackageCache.PerRootCache packageCache;
 
+	private boolean fDeferredChildren;
+	private DeferredTreeContentManager fDeferredManager;
+	private final DeferredPackageExplorerChildren fDeferredAdapter;
+
+	/**
+	 * The elements whose children have been computed in the background at least once. Their
+	 * children are shown in the viewer, so refreshes compute them in place instead of collapsing
+	 * them to the pending placeholder.
+	 */
+	private final Set<Object> fFetchedElements= ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Creates a new content provider for Java elements.
 	 * @param provideMembers if set, members of compilation units and class files are shown
@@ -115,6 +130,8 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 
 		fUpdateJob= null;
 		packageCache= new PackageCache.PerRootCache();
+		fDeferredChildren= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.PACKAGE_EXPLORER_DEFERRED_CHILDREN);
+		fDeferredAdapter= new DeferredPackageExplorerChildren(this);
 	}
 
 	private boolean arePackagesFoldedInHierarchicalLayout(){
@@ -129,7 +146,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	public void elementChanged(final ElementChangedEvent event) {
 		final ArrayList<Runnable> runnables= new ArrayList<>();
 		try {
-			clearPackageCache();
+			clearPackageCache(event.getDelta());
 
 			// 58952 delete project does not update Package Explorer [package explorer]
 			// if the input to the viewer is deleted then refresh to avoid the display of stale elements
@@ -239,6 +256,110 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		packageCache.clear();
 	}
 
+	/**
+	 * Removes the package caches of the package roots whose set of packages is affected by the
+	 * given delta. Caches of other roots survive, e.g. when compilation units are edited.
+	 *
+	 * @param delta the Java element delta
+	 */
+	private void clearPackageCache(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					packageCache.clear((IJavaProject) element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					packageCache.clear((IPackageFragmentRoot) element);
+					return;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (child.getKind() != IJavaElementDelta.CHANGED) {
+						packageCache.clear((IPackageFragmentRoot) element);
+						return;
+					}
+				}
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			clearPackageCache(child);
+		}
+	}
+
+	/**
+	 * Sets whether the children of Java projects, library containers and archives are computed in a
+	 * background job. While the job runs, the viewer shows a pending placeholder instead of
+	 * blocking the UI thread.
+	 *
+	 * @param deferred <code>true</code> to compute expensive children in the background
+	 * @since 3.27
+	 */
+	public void setDeferredChildren(boolean deferred) {
+		fDeferredChildren= deferred;
+		fDeferredManager= createDeferredManager();
+		fFetchedElements.clear();
+	}
+
+	/**
+	 * Remembers that the children of the given element have been computed in the background.
+	 *
+	 * @param element the parent element
+	 */
+	void childrenFetched(Object element) {
+		fFetchedElements.add(element);
+	}
+
+	/**
+	 * Forgets the fetched children of the given removed or closed element and of the elements
+	 * below it, so that they are computed in the background again when the element is shown again.
+	 *
+	 * @param element the removed or closed element
+	 */
+	private void forgetFetchedChildren(IJavaElement element) {
+		if (fFetchedElements.isEmpty())
+			return;
+		fFetchedElements.removeIf(fetched -> {
+			Object javaElement= fetched instanceof PackageFragmentRootContainer ? ((PackageFragmentRootContainer) fetched).getJavaProject() : fetched;
+			return javaElement instanceof IJavaElement
+					&& (element.equals(javaElement) || element.equals(((IJavaElement) javaElement).getAncestor(element.getElementType())));
+		});
+	}
+
+	private DeferredTreeContentManager createDeferredManager() {
+		if (!fDeferredChildren || fViewer == null)
+			return null;
+		return new DeferredTreeContentManager(fViewer) {
+			@Override
+			protected IDeferredWorkbenchAdapter getAdapter(Object element) {
+				return isDeferred(element) ? fDeferredAdapter : null;
+			}
+		};
+	}
+
+	private boolean isDeferred(Object element) {
+		if (element instanceof IJavaProject) {
+			return ((IJavaProject) element).getProject().isOpen();
+		}
+		if (element instanceof PackageFragmentRootContainer) {
+			return true;
+		}
+		if (element instanceof IPackageFragmentRoot) {
+			return ((IPackageFragmentRoot) element).isArchive();
+		}
+		return false;
+	}
+
 	@Override
 	protected Object[] getPackageFragmentRootContent(IPackageFragmentRoot root) throws JavaModelException {
 		if (fIsFlatLayout) {
@@ -292,6 +413,35 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		DeferredTreeContentManager deferredManager= fDeferredManager;
+		if (deferredManager != null && isDeferred(parentElement) && !fFetchedElements.contains(parentElement)) {
+			// only the first expansion is deferred, a refresh updates the children in place
+			Object[] children= deferredManager.getChildren(parentElement);
+			if (children != null)
+				return children;
+		}
+		return computeChildren(parentElement);
+	}
+
+	@Override
+	public boolean hasChildren(Object element) {
+		if (fDeferredManager != null && isDeferred(element) && !fFetchedElements.contains(element)) {
+			// answer without computing the children
+			if (element instanceof PackageFragmentRootContainer)
+				return ((PackageFragmentRootContainer) element).getChildren().length > 0;
+			if (element instanceof IPackageFragmentRoot && !((IPackageFragmentRoot) element).isOpen())
+				return ((IPackageFragmentRoot) element).exists();
+		}
+		return super.hasChildren(element);
+	}
+
+	/**
+	 * Computes the children of the given element in the calling thread.
+	 *
+	 * @param parentElement the parent element
+	 * @return the children
+	 */
+	Object[] computeChildren(Object parentElement) {
 		try {
 			if (parentElement instanceof IJavaModel)
 				return concatenate(getJavaProjects((IJavaModel)parentElement), getNonJavaProjects((IJavaModel)parentElement));
@@ -404,6 +554,8 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 			JavaCore.removeElementChangedListener(this);
 		}
 		fInput= newInput;
+		fDeferredManager= createDeferredManager();
+		fFetchedElements.clear();
 	}
 
 	// hierarchical packages
@@ -562,6 +714,8 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		IJavaElement element= delta.getElement();
 		int elementType= element.getElementType();
 
+		if (kind == IJavaElementDelta.REMOVED || (flags & IJavaElementDelta.F_CLOSED) != 0)
+			forgetFetchedChildren(element);
 
 		if (elementType != IJavaElement.JAVA_MODEL && elementType != IJavaElement.JAVA_PROJECT) {
 			IJavaProject proj= element.getJavaProject();
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchPattern;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateCodeFinder;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateCodeFinder.Duplicate;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateCodeFinder.Location;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+
+/**
+ * Searches for statements that are duplicated in a project. Every occurrence of a duplicated
+ * statement is reported as a match in its enclosing member.
+ *
+ * @see DuplicateCodeFinder
+ * @since 3.27
+ */
+public class DuplicatedCodeSearchQuery extends JavaSearchQuery {
+
+	private final IJavaProject fProject;
+
+	private int fDuplicateCount;
+
+	public DuplicatedCodeSearchQuery(IJavaProject project) {
+		super(new ElementQuerySpecification(project, IJavaSearchConstants.REFERENCES,
+				JavaSearchScopeFactory.getInstance().createJavaProjectSearchScope(project, false),
+				JavaSearchScopeFactory.getInstance().getProjectScopeDescription(project, false)));
+		fProject= project;
+	}
+
+	@Override
+	public IStatus run(IProgressMonitor monitor) {
+		JavaSearchResult result= (JavaSearchResult) getSearchResult();
+		result.removeAll();
+		fDuplicateCount= 0;
+		String projectName= BasicElementLabels.getJavaElementName(fProject.getElementName());
+		SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.DuplicatedCodeSearchQuery_task_label, projectName), 10);
+		try {
+			ICompilationUnit[] units= DuplicateCodeFinder.getCompilationUnits(fProject);
+			List<Duplicate> duplicates= new DuplicateCodeFinder(DuplicateCodeFinder.DEFAULT_MINIMUM_SIZE).findDuplicates(units, subMonitor.split(10));
+			for (Duplicate duplicate : duplicates) {
+				List<Location> locations= duplicate.getLocations();
+				Match[] matches= new Match[locations.size()];
+				for (int i= 0; i < matches.length; i++) {
+					matches[i]= createMatch(locations.get(i));
+				}
+				result.addMatches(matches);
+			}
+			fDuplicateCount= duplicates.size();
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+		String message= Messages.format(SearchMessages.DuplicatedCodeSearchQuery_status_ok_message, new Object[] { String.valueOf(result.getMatchCount()), String.valueOf(fDuplicateCount) });
+		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
+	}
+
+	private static Match createMatch(Location location) throws JavaModelException {
+		ICompilationUnit unit= location.getCompilationUnit();
+		IJavaElement element= unit.getElementAt(location.getOffset());
+		if (element == null)
+			element= unit;
+		return new JavaElementMatch(element, SearchPattern.R_EXACT_MATCH, location.getOffset(), location.getLength(), SearchMatch.A_ACCURATE, false, false, false, false);
+	}
+
+	@Override
+	public String getLabel() {
+		return SearchMessages.DuplicatedCodeSearchQuery_label;
+	}
+
+	@Override
+	public String getResultLabel(int nMatches) {
+		String projectName= BasicElementLabels.getJavaElementName(fProject.getElementName());
+		return Messages.format(SearchMessages.DuplicatedCodeSearchQuery_result_label, new Object[] { projectName, Integer.valueOf(nMatches), Integer.valueOf(fDuplicateCount) });
+	}
+}
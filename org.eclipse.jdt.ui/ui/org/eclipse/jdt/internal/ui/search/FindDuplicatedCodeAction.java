@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.core.runtime.IAdaptable;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.IWorkbenchWindowActionDelegate;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+
+/**
+ * Searches for duplicated code in the project of the selected element, or of the active editor.
+ *
+ * @see DuplicatedCodeSearchQuery
+ * @since 3.27
+ */
+public class FindDuplicatedCodeAction implements IWorkbenchWindowActionDelegate {
+
+	private IWorkbenchWindow fWindow;
+
+	private IJavaProject fProject;
+
+	@Override
+	public void init(IWorkbenchWindow window) {
+		fWindow= window;
+	}
+
+	@Override
+	public void run(IAction action) {
+		IJavaProject project= fProject;
+		if (project == null && fWindow != null && fWindow.getActivePage() != null) {
+			IEditorPart editor= fWindow.getActivePage().getActiveEditor();
+			IJavaElement element= editor != null ? EditorUtility.getEditorInputJavaElement(editor, false) : null;
+			if (element != null)
+				project= element.getJavaProject();
+		}
+		if (project == null || !project.exists()) {
+			beep();
+			return;
+		}
+		SearchUtil.runQueryInBackground(new DuplicatedCodeSearchQuery(project));
+	}
+
+	@Override
+	public void selectionChanged(IAction action, ISelection selection) {
+		fProject= null;
+		if (selection instanceof IStructuredSelection) {
+			Object element= ((IStructuredSelection) selection).getFirstElement();
+			if (element instanceof IJavaElement) {
+				fProject= ((IJavaElement) element).getJavaProject();
+			} else if (element instanceof IAdaptable) {
+				IResource resource= ((IAdaptable) element).getAdapter(IResource.class);
+				if (resource != null && resource.getProject() != null) {
+					IJavaProject project= JavaCore.create(resource.getProject());
+					if (project.exists())
+						fProject= project;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		fWindow= null;
+		fProject= null;
+	}
+
+	protected void beep() {
+		Shell shell= JavaPlugin.getActiveWorkbenchShell();
+		if (shell != null && shell.getDisplay() != null)
+			shell.getDisplay().beep();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,14 +37,44 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Adds the matches reported by the search engine to a search result. The matches are added in
+ * batches, so that the result and its listeners are notified once per batch instead of once per
+ * match. A batch is added when it is full, at the latest {@link #FLUSH_INTERVAL} milliseconds
+ * after the previous batch, and when the reporting ends. A job adds the pending matches if no
+ * further match arrives in time, so that the last matches of a slow search are not held back.
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int BATCH_SIZE= 1000;
+	private static final long FLUSH_INTERVAL= 200;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	/** The matches that have not been added yet. Guarded by itself. */
+	private final List<Match> fPendingMatches= new ArrayList<>();
+	private long fLastFlush;
+
+	private final Job fFlushJob= new Job(SearchMessages.JavaSearchQuery_label) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			flush();
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * The enclosing elements of the reported matches. Equal elements are shared, since the search
+	 * engine creates a new handle for every match.
+	 */
+	private final Map<IJavaElement, IJavaElement> fElements= new HashMap<>();
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fFlushJob.setSystem(true);
 	}
 
 	@Override
@@ -63,16 +103,48 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			IJavaElement element= fElements.computeIfAbsent(enclosingElement, e -> e);
+			JavaElementMatch javaMatch= new JavaElementMatch(element, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation);
+			int size;
+			long delay;
+			synchronized (fPendingMatches) {
+				fPendingMatches.add(javaMatch);
+				size= fPendingMatches.size();
+				delay= FLUSH_INTERVAL - (System.currentTimeMillis() - fLastFlush);
+			}
+			if (size >= BATCH_SIZE || delay <= 0)
+				flush();
+			else if (size == 1)
+				fFlushJob.schedule(delay); // flush the new batch in time even if no further match arrives
+		}
+	}
+
+	private void flush() {
+		Match[] matches;
+		synchronized (fPendingMatches) {
+			fLastFlush= System.currentTimeMillis();
+			if (fPendingMatches.isEmpty())
+				return;
+			matches= fPendingMatches.toArray(new Match[fPendingMatches.size()]);
+			fPendingMatches.clear();
 		}
+		// outside of the lock, the result notifies its listeners
+		fSearch.addMatches(matches);
 	}
 
 	@Override
 	public void beginReporting() {
+		// the first match is shown immediately
+		synchronized (fPendingMatches) {
+			fLastFlush= 0;
+		}
 	}
 
 	@Override
 	public void endReporting() {
+		fFlushJob.cancel();
+		flush();
+		fElements.clear();
 	}
 
 	@Override
@@ -81,6 +153,7 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void exitParticipant(SearchParticipant participant) {
+		flush();
 	}
 
 }
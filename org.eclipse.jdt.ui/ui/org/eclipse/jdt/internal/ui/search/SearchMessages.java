@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -240,6 +240,10 @@ public final class SearchMessages extends NLS {
 	public static String MatchFilter_InexactFilter_description;
 	public static String EnumConstructorTargetFinder_description;
 	public static String TextSearchLabelProvider_matchCountFormat;
+	public static String DuplicatedCodeSearchQuery_label;
+	public static String DuplicatedCodeSearchQuery_task_label;
+	public static String DuplicatedCodeSearchQuery_result_label;
+	public static String DuplicatedCodeSearchQuery_status_ok_message;
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, SearchMessages.class);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -23,8 +27,12 @@ import org.eclipse.core.resources.IResourceDelta;
 
 import org.eclipse.search.ui.IQueryListener;
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.eclipse.search.ui.text.RemoveAllEvent;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IElementChangedListener;
@@ -32,7 +40,15 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.JavaCore;
 
-public class SearchResultUpdater implements IElementChangedListener, IQueryListener {
+/**
+ * Removes the matches of elements that no longer exist from a search result.
+ * <p>
+ * The elements of the result are indexed by their compilation unit or class file, so that a delta
+ * only has to look at the elements of the affected units, instead of at all elements of the result.
+ * The index is kept up to date by listening to the changes of the result.
+ * </p>
+ */
+public class SearchResultUpdater implements IElementChangedListener, IQueryListener, ISearchResultListener {
 
 	JavaSearchResult fResult;
 	private static final int REMOVED_FLAGS= IJavaElementDelta.F_MOVED_TO |
@@ -40,13 +56,85 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 									IJavaElementDelta.F_CLOSED |
 									IJavaElementDelta.F_CONTENT;
 
+	/**
+	 * The elements of the result by their compilation unit or class file. Elements above the
+	 * compilation unit level and elements that are not Java elements are their own key.
+	 */
+	private final Map<Object, Set<Object>> fElementsByUnit= new HashMap<>();
+
 	public SearchResultUpdater(JavaSearchResult result) {
 		fResult= result;
+		fResult.addListener(this);
+		for (Object element : fResult.getElements()) {
+			addToIndex(element);
+		}
 		NewSearchUI.addQueryListener(this);
 		JavaCore.addElementChangedListener(this);
 		// TODO make this work with resources
 	}
 
+	@Override
+	public void searchResultChanged(SearchResultEvent e) {
+		if (e instanceof MatchEvent) {
+			MatchEvent event= (MatchEvent) e;
+			Match[] matches= event.getMatches();
+			if (event.getKind() == MatchEvent.ADDED) {
+				for (Match match : matches) {
+					addToIndex(match.getElement());
+				}
+			} else {
+				for (Match match : matches) {
+					Object element= match.getElement();
+					if (fResult.getMatchCount(element) == 0)
+						removeFromIndex(element);
+				}
+			}
+		} else if (e instanceof RemoveAllEvent) {
+			synchronized (fElementsByUnit) {
+				fElementsByUnit.clear();
+			}
+		}
+	}
+
+	private void addToIndex(Object element) {
+		Object key= getUnit(element);
+		synchronized (fElementsByUnit) {
+			fElementsByUnit.computeIfAbsent(key, k -> new HashSet<>()).add(element);
+		}
+	}
+
+	private void removeFromIndex(Object element) {
+		Object key= getUnit(element);
+		synchronized (fElementsByUnit) {
+			Set<Object> elements= fElementsByUnit.get(key);
+			if (elements != null && elements.remove(element) && elements.isEmpty())
+				fElementsByUnit.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the compilation unit or class file containing an element.
+	 *
+	 * @param element an element of the result
+	 * @return the compilation unit or class file containing the element, or the element itself if
+	 *         it is not contained in one
+	 */
+	private static Object getUnit(Object element) {
+		if (element instanceof IJavaElement) {
+			IJavaElement unit= getUnit((IJavaElement) element);
+			if (unit != null)
+				return unit;
+		}
+		return element;
+	}
+
+	private static IJavaElement getUnit(IJavaElement element) {
+		IJavaElement unit= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit == null)
+			unit= element.getAncestor(IJavaElement.CLASS_FILE);
+		return unit;
+	}
+
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
 		//long t0= System.currentTimeMillis();
@@ -62,23 +150,19 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 	}
 
 	private void handleRemoved(Set<IAdaptable> removedElements) {
-		for (Object element : fResult.getElements()) {
+		for (Object element : getCandidates(removedElements)) {
 			if (isContainedInRemoved(removedElements, element)) {
 				if (element instanceof IJavaElement) {
 					IJavaElement je= (IJavaElement) element;
 					if (!je.exists()) {
 						//System.out.println("removing: "+je+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+						fResult.removeMatches(fResult.getMatches(element));
 					}
 				} else if (element instanceof IResource) {
 					IResource resource= (IResource) element;
 					if (!resource.exists()) {
 						//System.out.println("removing: "+resource+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+						fResult.removeMatches(fResult.getMatches(element));
 					}
 
 				}
@@ -86,6 +170,42 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		}
 	}
 
+	/**
+	 * Returns the elements of the result that can be contained in one of the removed elements.
+	 * Removed elements in a compilation unit or class file only affect the elements of that unit.
+	 * For the other removed elements, only the keys of the index have to be checked.
+	 *
+	 * @param removedElements the removed elements
+	 * @return the candidates
+	 */
+	private List<Object> getCandidates(Set<IAdaptable> removedElements) {
+		Set<Object> candidates= new HashSet<>();
+		synchronized (fElementsByUnit) {
+			List<IAdaptable> others= new ArrayList<>();
+			for (IAdaptable removed : removedElements) {
+				IJavaElement unit= removed instanceof IJavaElement ? getUnit((IJavaElement) removed) : null;
+				if (unit != null) {
+					Set<Object> elements= fElementsByUnit.get(unit);
+					if (elements != null)
+						candidates.addAll(elements);
+				} else {
+					others.add(removed);
+				}
+			}
+			if (!others.isEmpty()) {
+				for (Map.Entry<Object, Set<Object>> entry : fElementsByUnit.entrySet()) {
+					for (IAdaptable removed : others) {
+						if (isParentOf(removed, entry.getKey())) {
+							candidates.addAll(entry.getValue());
+							break;
+						}
+					}
+				}
+			}
+		}
+		return new ArrayList<>(candidates);
+	}
+
 	private boolean isContainedInRemoved(Set<IAdaptable> removedElements, Object object) {
 		for (IAdaptable iAdaptable : removedElements) {
 			if (isParentOf(iAdaptable, object))
@@ -139,6 +259,10 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		if (fResult.equals(query.getSearchResult())) {
 			JavaCore.removeElementChangedListener(this);
 			NewSearchUI.removeQueryListener(this);
+			fResult.removeListener(this);
+			synchronized (fElementsByUnit) {
+				fElementsByUnit.clear();
+			}
 		}
 	}
 
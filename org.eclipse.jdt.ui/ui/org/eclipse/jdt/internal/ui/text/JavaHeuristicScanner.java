@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -264,6 +264,12 @@ public final class JavaHeuristicScanner implements Symbols {
 	 * @since 3.2
 	 */
 	private ITypedRegion fCachedPartition= new TypedRegion(-1, 0, "__no_partition_at_all"); //$NON-NLS-1$
+	/**
+	 * The index used to find matching peers, or <code>null</code> if the peers are searched by
+	 * scanning the document.
+	 * @since 3.27
+	 */
+	private final JavaPeerIndex fPeerIndex;
 
 	/* preset stop conditions */
 	private final StopCondition fNonWSDefaultPart= new NonWhitespaceDefaultPartition();
@@ -284,6 +290,7 @@ public final class JavaHeuristicScanner implements Symbols {
 		fDocument= document;
 		fPartitioning= partitioning;
 		fPartition= partition;
+		fPeerIndex= IDocument.DEFAULT_CONTENT_TYPE.equals(partition) ? JavaPeerIndex.getIndex(document, partitioning) : null;
 	}
 
 	/**
@@ -546,6 +553,12 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findClosingPeer(int start, int bound, final char openingPeer, final char closingPeer) {
 		Assert.isLegal(start >= 0);
 
+		if (fPeerIndex != null) {
+			int peer= fPeerIndex.findClosingPeer(fDocument, start, bound == UNBOUND ? fDocument.getLength() : bound, openingPeer, closingPeer);
+			if (peer != JavaPeerIndex.UNKNOWN)
+				return setPeerPosition(peer);
+		}
+
 		try {
 			CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
 			int depth= 1;
@@ -601,6 +614,12 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findOpeningPeer(int start, int bound, char openingPeer, char closingPeer) {
 		Assert.isLegal(start < fDocument.getLength());
 
+		if (fPeerIndex != null) {
+			int peer= fPeerIndex.findOpeningPeer(fDocument, start, bound == UNBOUND ? -1 : bound, openingPeer, closingPeer);
+			if (peer != JavaPeerIndex.UNKNOWN)
+				return setPeerPosition(peer);
+		}
+
 		try {
 			final CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
 			int depth= 1;
@@ -624,6 +643,25 @@ public final class JavaHeuristicScanner implements Symbols {
 		}
 	}
 
+	/**
+	 * Updates the internal scan state as if the given peer had been found by scanning.
+	 *
+	 * @param peer the position of the peer, or <code>NOT_FOUND</code>
+	 * @return <code>peer</code>
+	 * @since 3.27
+	 */
+	private int setPeerPosition(int peer) {
+		if (peer != NOT_FOUND) {
+			try {
+				fChar= fDocument.getChar(peer);
+				fPos= peer;
+			} catch (BadLocationException e) {
+				return NOT_FOUND;
+			}
+		}
+		return peer;
+	}
+
 	/**
 	 * Computes the surrounding block around <code>offset</code>. The search is started at the
 	 * beginning of <code>offset</code>, i.e. an opening brace at <code>offset</code> will not be
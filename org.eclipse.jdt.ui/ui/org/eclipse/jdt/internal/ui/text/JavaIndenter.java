@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2159,6 +2159,14 @@ public final class JavaIndenter {
 	 *         otherwise
 	 */
 	private boolean skipScope(int openToken, int closeToken) {
+		switch (openToken) {
+			case Symbols.TokenLPAREN:
+				return skipScope(openToken, '(', ')');
+			case Symbols.TokenLBRACKET:
+				return skipScope(openToken, '[', ']');
+			case Symbols.TokenLBRACE:
+				return skipScope(openToken, '{', '}');
+		}
 
 		int depth= 1;
 
@@ -2176,4 +2184,33 @@ public final class JavaIndenter {
 			}
 		}
 	}
+
+	/**
+	 * Lets the heuristic scanner find the matching opening peer, which does not require to read
+	 * all tokens of the scope. The internal state is set as if the tokens had been read one by one
+	 * until the opening peer or the start of the document.
+	 *
+	 * @param openToken the opening peer token
+	 * @param openingPeer the opening peer character
+	 * @param closingPeer the closing peer character
+	 * @return <code>true</code> if a matching peer was found, <code>false</code> otherwise
+	 * @since 3.27
+	 */
+	private boolean skipScope(int openToken, char openingPeer, char closingPeer) {
+		int start= fPosition;
+		int peer= fScanner.findOpeningPeer(start - 1, openingPeer, closingPeer);
+
+		// tokens are read backwards, so the previous token is the first one after the peer
+		int previous= fScanner.findNonWhitespaceForward(peer + 1, start);
+		fPreviousPos= previous != JavaHeuristicScanner.NOT_FOUND ? previous : start;
+		if (peer == JavaHeuristicScanner.NOT_FOUND) {
+			fToken= Symbols.TokenEOF;
+			fPosition= 0;
+		} else {
+			fToken= openToken;
+			fPosition= peer;
+		}
+		fTokenPos= fPosition;
+		return peer != JavaHeuristicScanner.NOT_FOUND;
+	}
 }
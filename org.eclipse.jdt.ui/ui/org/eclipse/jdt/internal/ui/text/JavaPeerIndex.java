@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPartitioningException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.DocumentPartitioningChangedEvent;
+import org.eclipse.jface.text.DocumentRewriteSessionEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension3;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentPartitioningListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension2;
+import org.eclipse.jface.text.IDocumentRewriteSessionListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * An index of the parentheses, brackets and braces in the default partition of a document.
+ * <p>
+ * For each kind of peer, the index keeps the sorted offsets of all peers together with the nesting
+ * depth after each of them, so that {@link JavaHeuristicScanner} can find the matching peer of a
+ * scope in logarithmic time instead of reading and partitioning every character in between. The
+ * index is built when it is first queried and is then updated from document events: only the text
+ * of a change and the region whose partitioning it changed are scanned again.
+ * </p>
+ * <p>
+ * There is at most one index per document and partitioning. Indexes are only created for documents
+ * that are large enough for the scan to be more expensive than maintaining the index.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.27
+ */
+final class JavaPeerIndex implements IDocumentListener, IDocumentPartitioningListener, IDocumentPartitioningListenerExtension2, IDocumentRewriteSessionListener {
+
+	/**
+	 * Returned by the queries if the index cannot answer them, for example because the peers are
+	 * not indexed or the document's partitioner is not available.
+	 */
+	static final int UNKNOWN= Integer.MIN_VALUE;
+
+	/** The minimal length of a document for which an index is created. */
+	private static final int MIN_DOCUMENT_LENGTH= 4096;
+
+	private static final char[] OPENING_PEERS= { '(', '[', '{' };
+	private static final char[] CLOSING_PEERS= { ')', ']', '}' };
+
+	private static final Map<IDocument, Map<String, JavaPeerIndex>> fgIndexes= new WeakHashMap<>();
+
+	/**
+	 * The peers of one kind, sorted by offset.
+	 */
+	private static final class PeerList {
+
+		private int[] fOffsets;
+		private boolean[] fOpening;
+		private int fSize;
+
+		/**
+		 * <code>fDepths[i]</code> is the number of opening peers minus the number of closing peers
+		 * up to and including peer <code>i</code>.
+		 */
+		private int[] fDepths;
+
+		/**
+		 * A segment tree of the minimal depths: the children of node <code>n</code> are
+		 * <code>2n</code> and <code>2n + 1</code>, and the depths are the leaves starting at
+		 * <code>fLeafCount</code>. <code>null</code> if the peers have changed since it was
+		 * built.
+		 */
+		private int[] fMinDepths;
+		private int fLeafCount;
+
+		PeerList(int capacity) {
+			fOffsets= new int[Math.max(capacity, 16)];
+			fOpening= new boolean[fOffsets.length];
+		}
+
+		void add(int offset, boolean opening) {
+			if (fSize == fOffsets.length) {
+				fOffsets= Arrays.copyOf(fOffsets, fSize * 2);
+				fOpening= Arrays.copyOf(fOpening, fSize * 2);
+			}
+			fOffsets[fSize]= offset;
+			fOpening[fSize]= opening;
+			fSize++;
+		}
+
+		/**
+		 * Replaces the peers in <code>[start, oldEnd)</code> with the given peers and moves all
+		 * peers after <code>oldEnd</code> by <code>delta</code>.
+		 *
+		 * @param start the start offset of the replaced peers
+		 * @param oldEnd the end offset of the replaced peers before the change
+		 * @param delta the length difference of the change
+		 * @param replacement the peers in the changed region
+		 */
+		void replace(int start, int oldEnd, int delta, PeerList replacement) {
+			int from= firstIndexAtOrAfter(start);
+			int to= firstIndexAtOrAfter(oldEnd);
+			int tail= fSize - to;
+			int size= from + replacement.fSize + tail;
+
+			int[] offsets= fOffsets;
+			boolean[] opening= fOpening;
+			if (size > fOffsets.length || replacement.fSize != to - from) {
+				offsets= new int[Math.max(size, 16)];
+				opening= new boolean[offsets.length];
+				System.arraycopy(fOffsets, 0, offsets, 0, from);
+				System.arraycopy(fOpening, 0, opening, 0, from);
+			}
+			System.arraycopy(fOffsets, to, offsets, from + replacement.fSize, tail);
+			System.arraycopy(fOpening, to, opening, from + replacement.fSize, tail);
+			System.arraycopy(replacement.fOffsets, 0, offsets, from, replacement.fSize);
+			System.arraycopy(replacement.fOpening, 0, opening, from, replacement.fSize);
+			for (int i= from + replacement.fSize; i < size; i++) {
+				offsets[i]+= delta;
+			}
+
+			fOffsets= offsets;
+			fOpening= opening;
+			fSize= size;
+			fMinDepths= null;
+		}
+
+		int findOpeningPeer(int start, int bound) {
+			int last= lastIndexAtOrBefore(start);
+			if (last < 0)
+				return JavaHeuristicScanner.NOT_FOUND;
+
+			buildTree();
+			// the opening peer follows the last peer before it where the depth is lower than at 'last'
+			int depth= fDepths[last] - 1;
+			int index= findLast(1, 0, fLeafCount - 1, last - 1, depth);
+			if (index < 0 && depth < 0) // the depth before the first peer is 0
+				return JavaHeuristicScanner.NOT_FOUND;
+
+			int offset= fOffsets[index + 1];
+			return offset > bound ? offset : JavaHeuristicScanner.NOT_FOUND;
+		}
+
+		int findClosingPeer(int start, int bound) {
+			int first= firstIndexAtOrAfter(start);
+			if (first == fSize)
+				return JavaHeuristicScanner.NOT_FOUND;
+
+			buildTree();
+			// the closing peer is the first peer after which the depth is lower than before 'first'
+			int depth= (first == 0 ? 0 : fDepths[first - 1]) - 1;
+			int index= findFirst(1, 0, fLeafCount - 1, first, depth);
+			if (index < 0)
+				return JavaHeuristicScanner.NOT_FOUND;
+
+			int offset= fOffsets[index];
+			return offset < bound ? offset : JavaHeuristicScanner.NOT_FOUND;
+		}
+
+		private void buildTree() {
+			if (fMinDepths != null)
+				return;
+
+			fDepths= new int[fSize];
+			int depth= 0;
+			for (int i= 0; i < fSize; i++) {
+				depth+= fOpening[i] ? 1 : -1;
+				fDepths[i]= depth;
+			}
+
+			fLeafCount= Integer.highestOneBit(Math.max(fSize, 1));
+			if (fLeafCount < fSize)
+				fLeafCount*= 2;
+			int[] minDepths= new int[2 * fLeafCount];
+			Arrays.fill(minDepths, fLeafCount + fSize, minDepths.length, Integer.MAX_VALUE);
+			System.arraycopy(fDepths, 0, minDepths, fLeafCount, fSize);
+			for (int node= fLeafCount - 1; node > 0; node--) {
+				minDepths[node]= Math.min(minDepths[2 * node], minDepths[2 * node + 1]);
+			}
+			fMinDepths= minDepths;
+		}
+
+		/**
+		 * Returns the highest index <code>&lt;= last</code> in the subtree of <code>node</code>
+		 * whose depth is <code>&lt;= depth</code>, or <code>-1</code> if there is none.
+		 */
+		private int findLast(int node, int low, int high, int last, int depth) {
+			if (low > last || fMinDepths[node] > depth)
+				return -1;
+			if (low == high)
+				return low;
+			int middle= (low + high) >>> 1;
+			int index= findLast(2 * node + 1, middle + 1, high, last, depth);
+			return index >= 0 ? index : findLast(2 * node, low, middle, last, depth);
+		}
+
+		/**
+		 * Returns the lowest index <code>&gt;= first</code> in the subtree of <code>node</code>
+		 * whose depth is <code>&lt;= depth</code>, or <code>-1</code> if there is none.
+		 */
+		private int findFirst(int node, int low, int high, int first, int depth) {
+			if (high < first || fMinDepths[node] > depth)
+				return -1;
+			if (low == high)
+				return low;
+			int middle= (low + high) >>> 1;
+			int index= findFirst(2 * node, low, middle, first, depth);
+			return index >= 0 ? index : findFirst(2 * node + 1, middle + 1, high, first, depth);
+		}
+
+		private int firstIndexAtOrAfter(int offset) {
+			int index= Arrays.binarySearch(fOffsets, 0, fSize, offset);
+			return index >= 0 ? index : -index - 1;
+		}
+
+		private int lastIndexAtOrBefore(int offset) {
+			int index= Arrays.binarySearch(fOffsets, 0, fSize, offset);
+			return index >= 0 ? index : -index - 2;
+		}
+	}
+
+	/**
+	 * Returns the index of the given document and partitioning. The index is created if the
+	 * document is large enough.
+	 *
+	 * @param document the document
+	 * @param partitioning the partitioning
+	 * @return the index, or <code>null</code> if the document has no index
+	 */
+	static JavaPeerIndex getIndex(IDocument document, String partitioning) {
+		if (!(document instanceof IDocumentExtension3) || ((IDocumentExtension3) document).getDocumentPartitioner(partitioning) == null)
+			return null;
+
+		synchronized (fgIndexes) {
+			Map<String, JavaPeerIndex> indexes= fgIndexes.get(document);
+			JavaPeerIndex index= indexes != null ? indexes.get(partitioning) : null;
+			if (index == null && document.getLength() >= MIN_DOCUMENT_LENGTH) {
+				index= new JavaPeerIndex(document, partitioning);
+				if (indexes == null) {
+					indexes= new HashMap<>(2);
+					fgIndexes.put(document, indexes);
+				}
+				indexes.put(partitioning, index);
+			}
+			return index;
+		}
+	}
+
+	private final String fPartitioning;
+
+	/** The peers of each kind, in the order of {@link #OPENING_PEERS}. */
+	private PeerList[] fPeers;
+
+	/** Tells whether the peers match the document. */
+	private boolean fIsValid;
+	/** The length of the document when the peers were last updated. */
+	private int fLength;
+
+	/** The number of changes that have been announced and not yet been reported. */
+	private int fPendingChanges;
+	/** The region whose partitioning has been changed by the current change, or <code>null</code>. */
+	private IRegion fChangedPartitioning;
+	/** Tells whether a rewrite session is active on the document. */
+	private boolean fIsRewriting;
+
+	/*
+	 * The index does not reference its document, so that the document can be garbage collected
+	 * while it is a key in the map of indexes. The document is passed to the queries instead.
+	 */
+	private JavaPeerIndex(IDocument document, String partitioning) {
+		fPartitioning= partitioning;
+		document.addDocumentListener(this);
+		document.addDocumentPartitioningListener(this);
+		if (document instanceof IDocumentExtension4)
+			((IDocumentExtension4) document).addDocumentRewriteSessionListener(this);
+	}
+
+	/**
+	 * Returns the position of the closing peer that matches an opening peer before
+	 * <code>start</code>. Same as {@link JavaHeuristicScanner#findClosingPeer(int, int, char, char)}.
+	 *
+	 * @param document the document of the index
+	 * @param start the first position to search
+	 * @param bound the first position not to search any more
+	 * @param openingPeer the opening peer
+	 * @param closingPeer the closing peer
+	 * @return the position of the closing peer, <code>JavaHeuristicScanner.NOT_FOUND</code> or
+	 *         {@link #UNKNOWN}
+	 */
+	synchronized int findClosingPeer(IDocument document, int start, int bound, char openingPeer, char closingPeer) {
+		PeerList peers= getPeers(document, openingPeer, closingPeer);
+		return peers != null ? peers.findClosingPeer(start, bound) : UNKNOWN;
+	}
+
+	/**
+	 * Returns the position of the opening peer that matches a closing peer after
+	 * <code>start</code>. Same as {@link JavaHeuristicScanner#findOpeningPeer(int, int, char, char)}.
+	 *
+	 * @param document the document of the index
+	 * @param start the first position to search
+	 * @param bound the first position not to search any more
+	 * @param openingPeer the opening peer
+	 * @param closingPeer the closing peer
+	 * @return the position of the opening peer, <code>JavaHeuristicScanner.NOT_FOUND</code> or
+	 *         {@link #UNKNOWN}
+	 */
+	synchronized int findOpeningPeer(IDocument document, int start, int bound, char openingPeer, char closingPeer) {
+		PeerList peers= getPeers(document, openingPeer, closingPeer);
+		return peers != null ? peers.findOpeningPeer(start, bound) : UNKNOWN;
+	}
+
+	private PeerList getPeers(IDocument document, char openingPeer, char closingPeer) {
+		int kind= getKind(openingPeer, closingPeer);
+		if (kind < 0 || fIsRewriting)
+			return null;
+
+		if (!fIsValid || fLength != document.getLength()) {
+			try {
+				fPeers= scan(document, 0, document.getLength());
+			} catch (BadLocationException | BadPartitioningException e) {
+				fIsValid= false;
+				return null;
+			}
+			fLength= document.getLength();
+			fIsValid= true;
+		}
+		return fPeers[kind];
+	}
+
+	private static int getKind(char openingPeer, char closingPeer) {
+		for (int i= 0; i < OPENING_PEERS.length; i++) {
+			if (OPENING_PEERS[i] == openingPeer)
+				return CLOSING_PEERS[i] == closingPeer ? i : -1;
+		}
+		return -1;
+	}
+
+	private PeerList[] scan(IDocument document, int start, int end) throws BadLocationException, BadPartitioningException {
+		PeerList[] peers= new PeerList[OPENING_PEERS.length];
+		for (int i= 0; i < peers.length; i++) {
+			peers[i]= new PeerList((end - start) / 64);
+		}
+		if (start == end)
+			return peers;
+
+		ITypedRegion[] partitions= ((IDocumentExtension3) document).computePartitioning(fPartitioning, start, end - start, false);
+		for (ITypedRegion partition : partitions) {
+			if (!IDocument.DEFAULT_CONTENT_TYPE.equals(partition.getType()))
+				continue;
+
+			int offset= Math.max(partition.getOffset(), start);
+			String text= document.get(offset, Math.min(partition.getOffset() + partition.getLength(), end) - offset);
+			for (int i= 0; i < text.length(); i++) {
+				char ch= text.charAt(i);
+				for (int kind= 0; kind < OPENING_PEERS.length; kind++) {
+					if (ch == OPENING_PEERS[kind]) {
+						peers[kind].add(offset + i, true);
+						break;
+					} else if (ch == CLOSING_PEERS[kind]) {
+						peers[kind].add(offset + i, false);
+						break;
+					}
+				}
+			}
+		}
+		return peers;
+	}
+
+	@Override
+	public synchronized void documentAboutToBeChanged(DocumentEvent event) {
+		fPendingChanges++;
+	}
+
+	@Override
+	public synchronized void documentChanged(DocumentEvent event) {
+		IRegion changedPartitioning= fChangedPartitioning;
+		fChangedPartitioning= null;
+		// deferred notifications report several changes as one
+		boolean isSingleChange= fPendingChanges == 1;
+		fPendingChanges= 0;
+		if (!fIsValid)
+			return;
+
+		IDocument document= event.getDocument();
+		String text= event.getText();
+		int length= text == null ? 0 : text.length();
+		int delta= length - event.getLength();
+		if (!isSingleChange || fIsRewriting || document.getLength() != fLength + delta) {
+			fIsValid= false;
+			return;
+		}
+
+		int start= event.getOffset();
+		int end= start + length;
+		if (changedPartitioning != null) {
+			start= Math.min(start, changedPartitioning.getOffset());
+			end= Math.max(end, changedPartitioning.getOffset() + changedPartitioning.getLength());
+		}
+		start= Math.max(start, 0);
+		end= Math.min(end, document.getLength());
+
+		PeerList[] peers;
+		try {
+			peers= scan(document, start, end);
+		} catch (BadLocationException | BadPartitioningException e) {
+			fIsValid= false;
+			return;
+		}
+		for (int i= 0; i < peers.length; i++) {
+			fPeers[i].replace(start, end - delta, delta, peers[i]);
+		}
+		fLength= document.getLength();
+	}
+
+	@Override
+	public synchronized void documentPartitioningChanged(DocumentPartitioningChangedEvent event) {
+		IRegion region= event.getChangedRegion(fPartitioning);
+		if (region == null)
+			return;
+
+		if (fPendingChanges == 0) {
+			// e.g. a new partitioner has been set
+			fIsValid= false;
+		} else if (fChangedPartitioning == null) {
+			fChangedPartitioning= region;
+		} else {
+			int start= Math.min(fChangedPartitioning.getOffset(), region.getOffset());
+			int end= Math.max(fChangedPartitioning.getOffset() + fChangedPartitioning.getLength(), region.getOffset() + region.getLength());
+			fChangedPartitioning= new Region(start, end - start);
+		}
+	}
+
+	@Override
+	public synchronized void documentPartitioningChanged(IDocument document) {
+		fIsValid= false;
+	}
+
+	@Override
+	public synchronized void documentRewriteSessionChanged(DocumentRewriteSessionEvent event) {
+		fIsRewriting= event.getChangeType() == DocumentRewriteSessionEvent.SESSION_START;
+		fIsValid= false;
+	}
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2019 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,12 +14,16 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.Chain;
 import org.eclipse.jdt.internal.ui.text.ChainElement;
 import org.eclipse.jdt.internal.ui.text.template.contentassist.TemplateProposal;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IInformationControlCreator;
@@ -43,13 +47,69 @@ public class ChainCompletionProposal implements IJavaCompletionProposal, IComple
 
 	private static final int CHAIN_PROPOSAL_BOOST= 100;
 
+	/**
+	 * The maximum relevance added for chains that have often been accepted in the same context.
+	 */
+	private static final int FREQUENCY_BOOST= 50;
+
 	private final Chain chain;
 
 	private final TemplateProposal completion;
 
+	private final JavaContentAssistInvocationContext context;
+
+	private final int relevance;
+
 	public ChainCompletionProposal(final TemplateProposal completion, final Chain chain) {
+		this(completion, chain, null);
+	}
+
+	/**
+	 * Creates a chain proposal that is ranked by how often it has been accepted in the same
+	 * context, and remembers when it is accepted.
+	 *
+	 * @param completion the template proposal that inserts the chain
+	 * @param chain the chain
+	 * @param context the invocation context, or <code>null</code> to rank by chain length only
+	 * @see ProposalFrequencyModel
+	 */
+	public ChainCompletionProposal(final TemplateProposal completion, final Chain chain, final JavaContentAssistInvocationContext context) {
 		this.completion= completion;
 		this.chain= chain;
+		this.context= context;
+		this.relevance= -chain.getElements().size() - CHAIN_PROPOSAL_BOOST + computeFrequencyBoost();
+	}
+
+	private int computeFrequencyBoost() {
+		final IJavaProject project= context != null ? context.getProject() : null;
+		if (project == null) {
+			return 0;
+		}
+		final float frequency= JavaPlugin.getDefault().getProposalFrequencyModel().getFrequency(project.getElementName(),
+				ProposalFrequencyModel.getExpectedTypeName(context), getReceiverTypeName(), getProposalKey());
+		return Math.round(frequency * FREQUENCY_BOOST);
+	}
+
+	private void rememberAcceptance() {
+		final IJavaProject project= context != null ? context.getProject() : null;
+		if (project != null) {
+			JavaPlugin.getDefault().getProposalFrequencyModel().accepted(project.getElementName(),
+					ProposalFrequencyModel.getExpectedTypeName(context), getReceiverTypeName(), getProposalKey());
+		}
+	}
+
+	/**
+	 * @return the fully qualified name of the type that declares the first element of the chain,
+	 *         or <code>null</code>
+	 */
+	private String getReceiverTypeName() {
+		final IJavaElement first= chain.getElements().get(0).getElement();
+		final IJavaElement type= first.getAncestor(IJavaElement.TYPE);
+		return type != null ? ((IType) type).getFullyQualifiedName() : null;
+	}
+
+	private String getProposalKey() {
+		return String.join(".", getChainElementNames()); //$NON-NLS-1$
 	}
 
 	public List<String> getChainElementNames() {
@@ -70,6 +130,7 @@ public class ChainCompletionProposal implements IJavaCompletionProposal, IComple
 	@Override
 	public void apply(final ITextViewer viewer, final char trigger, final int stateMask, final int offset) {
 		completion.apply(viewer, trigger, stateMask, offset);
+		rememberAcceptance();
 	}
 
 	@Override
@@ -89,7 +150,7 @@ public class ChainCompletionProposal implements IJavaCompletionProposal, IComple
 
 	@Override
 	public int getRelevance() {
-		return -chain.getElements().size() - CHAIN_PROPOSAL_BOOST;
+		return relevance;
 	}
 
 	@Override
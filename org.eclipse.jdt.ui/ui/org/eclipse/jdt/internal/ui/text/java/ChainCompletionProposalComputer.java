@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,17 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	public static final String CATEGORY_ID= "org.eclipse.jdt.ui.javaChainProposalCategory"; //$NON-NLS-1$
 
+	/**
+	 * The maximum number of chains extended by the chain search of one invocation.
+	 */
+	private static final int MAX_EXPANSIONS= 20000;
+
+	/**
+	 * The part of the timeout, in percent, the chain search may take. The rest is left for finding
+	 * the entrypoints and for stopping the search.
+	 */
+	private static final int SEARCH_BUDGET_PERCENT= 80;
+
 	private JavaContentAssistInvocationContext ctx;
 
 	private CompletionProposalCollector collector;
@@ -165,15 +176,18 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 		final List<ChainType> expectedTypes= ChainElementAnalyzer.resolveBindingsForExpectedTypes(ctx.getProject(), ctx.getCoreContext());
 		final ChainFinder finder= new ChainFinder(expectedTypes, Arrays.asList(excludedTypes), invocationType);
+		final long timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
+		final long searchEnd= System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeout) * SEARCH_BUDGET_PERCENT / 100;
 		final ExecutorService executor= Executors.newSingleThreadExecutor();
 		try {
 			Future<?> future= executor.submit(() -> {
 				if (findEntrypoints()) {
-					finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
+					long budget= Math.max(0, searchEnd - System.currentTimeMillis());
+					finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth, budget, MAX_EXPANSIONS);
 				}
 			});
-			long timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
 			future.get(timeout, TimeUnit.SECONDS);
+			executor.shutdown();
 		} catch (final Exception e) {
 			finder.cancel();
 			executor.shutdownNow();
@@ -186,7 +200,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		final List<ICompletionProposal> proposals= new LinkedList<>();
 		for (final Chain chain : chains) {
 			final TemplateProposal proposal= ChainCompletionTemplateBuilder.create(chain, ctx);
-			final ChainCompletionProposal completionProposal= new ChainCompletionProposal(proposal, chain);
+			final ChainCompletionProposal completionProposal= new ChainCompletionProposal(proposal, chain, ctx);
 			proposals.add(completionProposal);
 		}
 		return proposals;
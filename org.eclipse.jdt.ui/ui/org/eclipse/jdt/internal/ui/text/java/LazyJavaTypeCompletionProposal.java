@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,6 +252,12 @@ public class LazyJavaTypeCompletionProposal extends LazyJavaCompletionProposal {
 			JavaPlugin.getDefault().getContentAssistHistory().remember(lhs, rhs);
 
 		QualifiedTypeNameHistory.remember(getQualifiedTypeName());
+
+		IJavaProject project= fInvocationContext.getProject();
+		if (project != null) {
+			String expectedType= ProposalFrequencyModel.getExpectedTypeName(fInvocationContext);
+			JavaPlugin.getDefault().getProposalFrequencyModel().accepted(project.getElementName(), expectedType, null, getQualifiedTypeName());
+		}
 	}
 
 	/**
@@ -400,9 +406,25 @@ public class LazyJavaTypeCompletionProposal extends LazyJavaCompletionProposal {
 
 		int recencyBoost= Math.round((rhsHistoryRank + typeHistoryRank) * 5);
 		int rhsBoost= rhsHistoryRank > 0.0f ? 50 : 0;
+		int frequencyBoost= Math.round(getAcceptanceFrequency() * 10);
 		int baseRelevance= super.computeRelevance();
 
-		return baseRelevance +  rhsBoost + recencyBoost;
+		return baseRelevance +  rhsBoost + recencyBoost + frequencyBoost;
+	}
+
+	/**
+	 * Returns how often this type has been accepted for the expected type in the project of the
+	 * invocation.
+	 *
+	 * @return the frequency in [0.0,&nbsp;1.0)
+	 * @see ProposalFrequencyModel#getFrequency(String, String, String, String)
+	 */
+	private float getAcceptanceFrequency() {
+		IJavaProject project= fInvocationContext.getProject();
+		if (project == null)
+			return 0;
+		String expectedType= ProposalFrequencyModel.getExpectedTypeName(fInvocationContext);
+		return JavaPlugin.getDefault().getProposalFrequencyModel().getFrequency(project.getElementName(), expectedType, null, getQualifiedTypeName());
 	}
 
 	/*
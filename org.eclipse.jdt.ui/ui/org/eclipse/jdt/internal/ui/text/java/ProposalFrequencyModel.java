@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+
+import org.eclipse.jdt.core.CompletionContext;
+
+import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
+
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+/**
+ * Counts how often proposals have been accepted in content assist, per project and keyed by the
+ * expected type and the receiver type of the completion.
+ * <p>
+ * Unlike the {@link ContentAssistHistory}, which only remembers the order in which a few types
+ * have been selected, the model remembers how often a proposal has been accepted. Older
+ * acceptances count less than recent ones: the weight of an acceptance is halved after
+ * {@link #HALF_LIFE} further acceptances in the same project, so working in one project does not
+ * age the proposals of another. The number of proposals remembered per project is bounded, the
+ * proposals with the lowest weight are forgotten first.
+ * </p>
+ * <p>
+ * When registered as resource change listener for {@link IResourceChangeEvent#POST_CHANGE}
+ * events, the model forgets the proposals of deleted and closed projects and follows renamed
+ * projects.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class ProposalFrequencyModel implements IResourceChangeListener {
+
+	/**
+	 * The number of acceptances after which the weight of an acceptance is halved.
+	 */
+	public static final int HALF_LIFE= 500;
+
+	/**
+	 * The default maximum number of proposals remembered per project.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES= 2000;
+
+	private static final int FORMAT_VERSION= 2;
+
+	private static final char SEPARATOR= '\u0000';
+
+	private static final double DECAY= Math.log(2) / HALF_LIFE;
+
+	private static final class Entry {
+		/** The weight at {@link #fTime}. */
+		float fWeight;
+		long fTime;
+
+		Entry(float weight, long time) {
+			fWeight= weight;
+			fTime= time;
+		}
+	}
+
+	private static final class ProjectEntries {
+		final Map<String, Entry> fEntries= new HashMap<>();
+		/** The number of acceptances in the project so far, used as clock for the decay. */
+		long fTime;
+	}
+
+	private final int fMaxEntries;
+
+	/** Maps project names to the entries of the project. */
+	private final Map<String, ProjectEntries> fProjects= new HashMap<>();
+
+	private boolean fDirty;
+
+	/**
+	 * Creates an empty model.
+	 *
+	 * @param maxEntries the maximum number of proposals remembered per project (&gt; 0)
+	 */
+	public ProposalFrequencyModel(int maxEntries) {
+		Assert.isLegal(maxEntries > 0);
+		fMaxEntries= maxEntries;
+	}
+
+	/**
+	 * Creates an empty model that remembers {@link #DEFAULT_MAX_ENTRIES} proposals per project.
+	 */
+	public ProposalFrequencyModel() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Remembers that a proposal has been accepted.
+	 *
+	 * @param project the name of the project in which the proposal has been accepted
+	 * @param expectedType the fully qualified name of the expected type, or <code>null</code>
+	 * @param receiverType the fully qualified name of the receiver type, or <code>null</code>
+	 * @param proposal a key of the accepted proposal, e.g. the fully qualified name of a type
+	 */
+	public synchronized void accepted(String project, String expectedType, String receiverType, String proposal) {
+		ProjectEntries entries= fProjects.get(project);
+		if (entries == null) {
+			entries= new ProjectEntries();
+			fProjects.put(project, entries);
+		}
+		entries.fTime++;
+		String key= getKey(expectedType, receiverType, proposal);
+		Entry entry= entries.fEntries.get(key);
+		if (entry == null) {
+			entries.fEntries.put(key, new Entry(1, entries.fTime));
+			if (entries.fEntries.size() > fMaxEntries)
+				shrink(entries, fMaxEntries * 3 / 4);
+		} else {
+			entry.fWeight= getWeight(entries, entry) + 1;
+			entry.fTime= entries.fTime;
+		}
+		fDirty= true;
+	}
+
+	/**
+	 * Returns how often a proposal has been accepted in the given context.
+	 *
+	 * @param project the name of the project
+	 * @param expectedType the fully qualified name of the expected type, or <code>null</code>
+	 * @param receiverType the fully qualified name of the receiver type, or <code>null</code>
+	 * @param proposal the key of the proposal
+	 * @return a frequency in [0.0,&nbsp;1.0), zero if the proposal has never been accepted in the
+	 *         context, and close to one if it has been accepted often and recently
+	 */
+	public synchronized float getFrequency(String project, String expectedType, String receiverType, String proposal) {
+		ProjectEntries entries= fProjects.get(project);
+		if (entries == null)
+			return 0;
+		Entry entry= entries.fEntries.get(getKey(expectedType, receiverType, proposal));
+		if (entry == null)
+			return 0;
+		float weight= getWeight(entries, entry);
+		return weight / (weight + 1);
+	}
+
+	/**
+	 * Returns the number of proposals remembered for the given project.
+	 *
+	 * @param project the name of the project
+	 * @return the number of remembered proposals
+	 */
+	public synchronized int size(String project) {
+		ProjectEntries entries= fProjects.get(project);
+		return entries == null ? 0 : entries.fEntries.size();
+	}
+
+	/**
+	 * Returns the names of the projects for which proposals are remembered.
+	 *
+	 * @return the project names
+	 */
+	public synchronized String[] getProjectNames() {
+		return fProjects.keySet().toArray(new String[fProjects.size()]);
+	}
+
+	/**
+	 * Forgets all proposals of a project, e.g. because the project has been deleted or closed.
+	 *
+	 * @param project the name of the project
+	 */
+	public synchronized void removeProject(String project) {
+		if (fProjects.remove(project) != null)
+			fDirty= true;
+	}
+
+	/**
+	 * Moves the proposals of a project that has been renamed to its new name.
+	 *
+	 * @param oldName the former name of the project
+	 * @param newName the new name of the project
+	 */
+	public synchronized void renameProject(String oldName, String newName) {
+		ProjectEntries entries= fProjects.remove(oldName);
+		if (entries != null) {
+			fProjects.put(newName, entries);
+			fDirty= true;
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		for (IResourceDelta projectDelta : delta.getAffectedChildren(IResourceDelta.CHANGED | IResourceDelta.REMOVED)) {
+			IResource project= projectDelta.getResource();
+			if (project.getType() != IResource.PROJECT)
+				continue;
+			int flags= projectDelta.getFlags();
+			if (projectDelta.getKind() == IResourceDelta.REMOVED) {
+				if ((flags & IResourceDelta.MOVED_TO) != 0) {
+					renameProject(project.getName(), projectDelta.getMovedToPath().lastSegment());
+				} else {
+					removeProject(project.getName());
+				}
+			} else if ((flags & IResourceDelta.OPEN) != 0 && !((IProject) project).isOpen()) {
+				removeProject(project.getName());
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the model has changed since it has been created, loaded or saved.
+	 *
+	 * @return <code>true</code> if the model needs to be saved
+	 */
+	public synchronized boolean isDirty() {
+		return fDirty;
+	}
+
+	private static float getWeight(ProjectEntries entries, Entry entry) {
+		return (float) (entry.fWeight * Math.exp(-DECAY * (entries.fTime - entry.fTime)));
+	}
+
+	/**
+	 * Forgets the entries with the lowest weight, so that the given number of entries remains.
+	 */
+	private static void shrink(ProjectEntries projectEntries, int size) {
+		Map<String, Entry> entries= projectEntries.fEntries;
+		int toRemove= entries.size() - size;
+		if (toRemove <= 0)
+			return;
+		float[] weights= new float[entries.size()];
+		int i= 0;
+		for (Entry entry : entries.values()) {
+			weights[i++]= getWeight(projectEntries, entry);
+		}
+		Arrays.sort(weights);
+		float threshold= weights[toRemove - 1];
+		// remove all entries below the threshold, then as many entries at the threshold as needed
+		for (Iterator<Entry> iter= entries.values().iterator(); iter.hasNext() && toRemove > 0;) {
+			if (getWeight(projectEntries, iter.next()) < threshold) {
+				iter.remove();
+				toRemove--;
+			}
+		}
+		for (Iterator<Entry> iter= entries.values().iterator(); iter.hasNext() && toRemove > 0;) {
+			if (getWeight(projectEntries, iter.next()) <= threshold) {
+				iter.remove();
+				toRemove--;
+			}
+		}
+	}
+
+	private static String getKey(String expectedType, String receiverType, String proposal) {
+		StringBuilder key= new StringBuilder();
+		if (expectedType != null)
+			key.append(expectedType);
+		key.append(SEPARATOR);
+		if (receiverType != null)
+			key.append(receiverType);
+		key.append(SEPARATOR);
+		key.append(proposal);
+		return key.toString();
+	}
+
+	/**
+	 * Returns the fully qualified name of the type expected at the location of a content assist
+	 * invocation.
+	 *
+	 * @param context the invocation context
+	 * @return the fully qualified name of the expected type, or <code>null</code> if none
+	 */
+	public static String getExpectedTypeName(JavaContentAssistInvocationContext context) {
+		CompletionContext coreContext= context.getCoreContext();
+		if (coreContext != null) {
+			char[][] expectedTypes= coreContext.getExpectedTypesSignatures();
+			if (expectedTypes != null && expectedTypes.length > 0)
+				return SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0]));
+		}
+		return null;
+	}
+
+	/**
+	 * Writes the model to a file.
+	 *
+	 * @param file the file
+	 * @throws IOException if writing fails
+	 * @see #load(File, int) on how to read the model back
+	 */
+	public synchronized void save(File file) throws IOException {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(fProjects.size());
+			for (Map.Entry<String, ProjectEntries> project : fProjects.entrySet()) {
+				out.writeUTF(project.getKey());
+				out.writeLong(project.getValue().fTime);
+				out.writeInt(project.getValue().fEntries.size());
+				for (Map.Entry<String, Entry> entry : project.getValue().fEntries.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeFloat(entry.getValue().fWeight);
+					out.writeLong(entry.getValue().fTime);
+				}
+			}
+		}
+		fDirty= false;
+	}
+
+	/**
+	 * Reads a model from a file written by {@link #save(File)}.
+	 *
+	 * @param file the file
+	 * @param maxEntries the maximum number of proposals remembered per project (&gt; 0)
+	 * @return the model, or <code>null</code> if the file has been written in an unknown format
+	 * @throws IOException if reading fails
+	 */
+	public static ProposalFrequencyModel load(File file, int maxEntries) throws IOException {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION)
+				return null;
+			ProposalFrequencyModel model= new ProposalFrequencyModel(maxEntries);
+			int projectCount= in.readInt();
+			for (int i= 0; i < projectCount; i++) {
+				String project= in.readUTF();
+				ProjectEntries entries= new ProjectEntries();
+				entries.fTime= in.readLong();
+				int entryCount= in.readInt();
+				for (int j= 0; j < entryCount; j++) {
+					String key= in.readUTF();
+					float weight= in.readFloat();
+					long time= in.readLong();
+					entries.fEntries.put(key, new Entry(weight, time));
+				}
+				shrink(entries, maxEntries);
+				model.fProjects.put(project, entries);
+			}
+			return model;
+		}
+	}
+}
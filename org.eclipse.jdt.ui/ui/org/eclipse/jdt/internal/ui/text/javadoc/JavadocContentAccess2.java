@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -517,6 +517,10 @@ public class JavadocContentAccess2 {
 				&& (!(element instanceof ILocalVariable) || !(((ILocalVariable) element).isParameter()))) {
 			return null;
 		}
+		return JavadocHTMLCache.getHTMLContent(element, useAttachedJavadoc, () -> computeHTMLContent(element, useAttachedJavadoc));
+	}
+
+	private static String computeHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
 		String sourceJavadoc= getHTMLContentFromSource(element);
 		if (sourceJavadoc == null || sourceJavadoc.length() == 0 || "{@inheritDoc}".equals(sourceJavadoc.trim())) { //$NON-NLS-1$
 			if (useAttachedJavadoc) {
@@ -810,9 +814,13 @@ public class JavadocContentAccess2 {
 	 *
 	 * @param method the method
 	 * @return the inherited Javadoc from the Javadoc attachment, or <code>null</code> if none
-	 * @throws JavaModelException unexpected problem
+	 * @throws CoreException unexpected problem
 	 */
-	private static String findAttachedDocInHierarchy(final IMethod method) throws JavaModelException {
+	private static String findAttachedDocInHierarchy(final IMethod method) throws CoreException {
+		return JavadocHTMLCache.getInheritedContent(method, () -> computeAttachedDocInHierarchy(method));
+	}
+
+	private static String computeAttachedDocInHierarchy(final IMethod method) throws JavaModelException {
 		IType type= method.getDeclaringType();
 		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type);
 		final MethodOverrideTester tester= SuperTypeHierarchyCache.getMethodOverrideTester(type);
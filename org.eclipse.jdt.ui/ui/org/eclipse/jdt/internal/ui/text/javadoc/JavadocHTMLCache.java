@@ -0,0 +1,460 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * A two-level cache for the rendered Javadoc HTML of elements in binary package fragment roots.
+ * <p>
+ * Entries are kept in a bounded in-memory LRU map and are written through to a bounded store
+ * below the plug-in state location, so that the Javadoc of frequently hovered library members
+ * (e.g. from the JDK) does not have to be rendered again in later sessions. Every entry records a
+ * stamp of its package fragment root (time stamps of the archive and of the attached source and
+ * Javadoc archives, and the resolved classpath entry), hence updating a library, changing its
+ * source or Javadoc attachment or updating the attached archives invalidates the entries.
+ * </p>
+ * <p>
+ * Elements without Javadoc are remembered in memory only, so that Javadoc which becomes available
+ * later, e.g. through a Javadoc location that could not be reached, is found in later sessions.
+ * </p>
+ * <p>
+ * Elements from source folders are never cached, since their Javadoc changes while editing.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class JavadocHTMLCache {
+
+	private static final String CACHE_DIR= "jdt-javadoc-cache"; //$NON-NLS-1$
+	private static final String CACHE_FILE_EXTENSION= ".jdoc"; //$NON-NLS-1$
+
+	private static final int MEMORY_CACHE_SIZE= 200;
+	private static final int DISK_CACHE_SIZE= 5000;
+
+	/**
+	 * Maximum number of disk cache files for keys with the same hash code.
+	 */
+	private static final int MAX_COLLISIONS= 8;
+
+	/**
+	 * Marker for elements that have been found to have no Javadoc.
+	 */
+	private static final String NO_CONTENT= new String();
+
+	private static final Map<String, CacheEntry> fgMemoryCache= new LRUMap<>(MEMORY_CACHE_SIZE);
+	private static final Map<String, CacheEntry> fgInheritedDocCache= new LRUMap<>(MEMORY_CACHE_SIZE);
+
+	/**
+	 * Number of characters before and after the hover offset in which referenced members are
+	 * prefetched.
+	 */
+	private static final int PREFETCH_RANGE= 3000;
+	private static final int MAX_PREFETCHED_ELEMENTS= 50;
+
+	private static ITypeRoot fgLastPrefetchRoot;
+	private static int fgLastPrefetchOffset;
+
+	private static File fgCacheDir;
+	private static boolean fgCacheDirInitialized;
+	private static int fgDiskEntryCount;
+
+	private static final class CacheEntry {
+		final String fStamp;
+		final String fContent;
+
+		CacheEntry(String stamp, String content) {
+			fStamp= stamp;
+			fContent= content;
+		}
+	}
+
+	/**
+	 * Computes cached values.
+	 */
+	interface ContentComputer {
+		String compute() throws CoreException;
+	}
+
+	/**
+	 * Returns the Javadoc HTML of the given element, either from the cache or by asking the given
+	 * computer.
+	 *
+	 * @param element the element
+	 * @param useAttachedJavadoc whether attached Javadoc has been used to compute the content
+	 * @param computer computes the content on a cache miss
+	 * @return the content, or <code>null</code> if none
+	 * @throws CoreException if the computer fails
+	 */
+	static String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc, ContentComputer computer) throws CoreException {
+		String stamp= getStamp(element);
+		if (stamp == null)
+			return computer.compute();
+
+		String key= element.getHandleIdentifier() + '|' + useAttachedJavadoc;
+		CacheEntry entry;
+		synchronized (fgMemoryCache) {
+			entry= fgMemoryCache.get(key);
+		}
+		if (entry == null || !stamp.equals(entry.fStamp)) {
+			entry= readFromDisk(key, stamp);
+			if (entry == null) {
+				String content= computer.compute();
+				entry= new CacheEntry(stamp, content != null ? content : NO_CONTENT);
+				if (content != null)
+					writeToDisk(key, entry);
+			}
+			synchronized (fgMemoryCache) {
+				fgMemoryCache.put(key, entry);
+			}
+		}
+		return entry.fContent == NO_CONTENT ? null : entry.fContent;
+	}
+
+	/**
+	 * Returns the Javadoc inherited from the attached Javadoc of a super method, either from the
+	 * cache or by asking the given computer. Inherited Javadoc is only cached in memory.
+	 *
+	 * @param element the overriding method
+	 * @param computer computes the content on a cache miss
+	 * @return the inherited content, or <code>null</code> if none
+	 * @throws CoreException if the computer fails
+	 */
+	static String getInheritedContent(IJavaElement element, ContentComputer computer) throws CoreException {
+		String stamp= getStamp(element);
+		if (stamp == null)
+			return computer.compute();
+
+		String key= element.getHandleIdentifier();
+		CacheEntry entry;
+		synchronized (fgInheritedDocCache) {
+			entry= fgInheritedDocCache.get(key);
+		}
+		if (entry == null || !stamp.equals(entry.fStamp)) {
+			String content= computer.compute();
+			entry= new CacheEntry(stamp, content != null ? content : NO_CONTENT);
+			synchronized (fgInheritedDocCache) {
+				fgInheritedDocCache.put(key, entry);
+			}
+		}
+		return entry.fContent == NO_CONTENT ? null : entry.fContent;
+	}
+
+	/**
+	 * Computes the Javadoc of the library members referenced around the given offset in a
+	 * background job, so that hovering them later can be answered from the cache. The range
+	 * approximates the part of the editor that is visible while hovering. Nothing is done if the
+	 * shared AST of the type root is not available yet.
+	 *
+	 * @param typeRoot the type root shown in the editor
+	 * @param offset the hover offset
+	 */
+	public static void prefetch(final ITypeRoot typeRoot, int offset) {
+		final int start= Math.max(0, offset - PREFETCH_RANGE);
+		final int end= offset + PREFETCH_RANGE;
+		synchronized (JavadocHTMLCache.class) {
+			if (typeRoot.equals(fgLastPrefetchRoot) && Math.abs(offset - fgLastPrefetchOffset) < PREFETCH_RANGE / 2)
+				return;
+			fgLastPrefetchRoot= typeRoot;
+			fgLastPrefetchOffset= offset;
+		}
+		Job job= new Job(JavaDocMessages.JavadocHTMLCache_prefetch_job) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				CompilationUnit ast= SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_NO, monitor);
+				if (ast == null)
+					return Status.OK_STATUS;
+				final Set<IJavaElement> elements= new LinkedHashSet<>();
+				ast.accept(new ASTVisitor() {
+					@Override
+					public boolean preVisit2(ASTNode node) {
+						return node.getStartPosition() < end && node.getStartPosition() + node.getLength() > start && elements.size() < MAX_PREFETCHED_ELEMENTS;
+					}
+
+					@Override
+					public boolean visit(SimpleName node) {
+						IBinding binding= node.resolveBinding();
+						if (binding != null && (binding.getKind() == IBinding.TYPE || binding.getKind() == IBinding.METHOD
+								|| binding.getKind() == IBinding.VARIABLE && ((IVariableBinding) binding).isField())) {
+							IJavaElement element= binding.getJavaElement();
+							if (element instanceof IMember && getStamp(element) != null)
+								elements.add(element);
+						}
+						return false;
+					}
+				});
+				for (IJavaElement element : elements) {
+					if (monitor.isCanceled())
+						return Status.CANCEL_STATUS;
+					try {
+						JavadocContentAccess2.getHTMLContent(element, true);
+					} catch (CoreException e) {
+						// the hover reports the problem when the element is really hovered
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	/**
+	 * Returns the stamp of the package fragment root of the given element, or <code>null</code>
+	 * if the element is not cacheable.
+	 *
+	 * @param element the element
+	 * @return the stamp or <code>null</code>
+	 */
+	private static String getStamp(IJavaElement element) {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null)
+			return null;
+		try {
+			if (!root.exists() || root.getKind() != IPackageFragmentRoot.K_BINARY)
+				return null;
+			File file;
+			IResource resource= root.getResource();
+			if (resource != null) {
+				IPath location= resource.getLocation();
+				if (location == null)
+					return null;
+				file= location.toFile();
+			} else {
+				file= root.getPath().toFile();
+			}
+			long lastModified= file.lastModified();
+			if (lastModified == 0)
+				return null;
+			StringBuilder stamp= new StringBuilder();
+			stamp.append(lastModified);
+			stamp.append(':').append(getLastModified(root.getSourceAttachmentPath()));
+			IClasspathEntry entry= root.getResolvedClasspathEntry();
+			if (entry != null) {
+				stamp.append(':').append(getJavadocArchiveLastModified(entry));
+				stamp.append(':').append(entry.toString().hashCode());
+			}
+			return stamp.toString();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the time stamp of the file or folder at the given workspace or file system path.
+	 *
+	 * @param path the path or <code>null</code>
+	 * @return the time stamp, or <code>0</code> if there is no such file
+	 */
+	private static long getLastModified(IPath path) {
+		if (path == null)
+			return 0;
+		if (path.getDevice() == null) {
+			IResource resource= ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+			if (resource != null) {
+				IPath location= resource.getLocation();
+				return location != null ? location.toFile().lastModified() : 0;
+			}
+		}
+		return path.toFile().lastModified();
+	}
+
+	/**
+	 * Returns the time stamp of the archive that contains the attached Javadoc of the given
+	 * library entry. Javadoc in folders or on the web is not time stamped.
+	 *
+	 * @param entry the resolved classpath entry
+	 * @return the time stamp, or <code>0</code> if the Javadoc is not attached as an archive
+	 */
+	private static long getJavadocArchiveLastModified(IClasspathEntry entry) {
+		int kind= entry.getEntryKind();
+		if (kind != IClasspathEntry.CPE_LIBRARY && kind != IClasspathEntry.CPE_VARIABLE)
+			return 0;
+		URL location= JavaDocLocations.getLibraryJavadocLocation(entry);
+		if (location == null)
+			return 0;
+		String spec= location.toExternalForm();
+		if (!spec.startsWith(JavaDocLocations.ARCHIVE_PREFIX))
+			return 0;
+		int archiveEnd= spec.indexOf("!/"); //$NON-NLS-1$
+		URL archive= JavaDocLocations.parseURL(spec.substring(JavaDocLocations.ARCHIVE_PREFIX.length(), archiveEnd != -1 ? archiveEnd : spec.length()));
+		if (archive == null || !"file".equals(archive.getProtocol())) //$NON-NLS-1$
+			return 0;
+		return JavaDocLocations.toFile(archive).lastModified();
+	}
+
+	private static synchronized File getCacheDir() {
+		if (!fgCacheDirInitialized) {
+			fgCacheDirInitialized= true;
+			try {
+				File dir= JavaPlugin.getDefault().getStateLocation().append(CACHE_DIR).toFile();
+				if (!dir.exists())
+					dir.mkdir();
+				if (dir.isDirectory()) {
+					fgCacheDir= dir;
+					fgDiskEntryCount= listCacheFiles(dir).length;
+				} else {
+					JavaPlugin.logErrorMessage("Failed to create Javadoc cache directory " + dir.toString()); //$NON-NLS-1$
+				}
+			} catch (IllegalStateException e) {
+				// no state location
+			}
+		}
+		return fgCacheDir;
+	}
+
+	private static File[] listCacheFiles(File dir) {
+		File[] files= dir.listFiles((d, name) -> name.endsWith(CACHE_FILE_EXTENSION));
+		return files != null ? files : new File[0];
+	}
+
+	/**
+	 * Returns the cache file of the given key. Keys with the same hash code are stored in
+	 * different files, the first one that is free or that stores the key is used.
+	 *
+	 * @param dir the cache directory
+	 * @param key the key
+	 * @param create whether to return a free file if no file stores the key
+	 * @return the file, or <code>null</code> if no file stores the key and <code>create</code> is
+	 *         <code>false</code> or all files for the hash code are in use
+	 */
+	private static File getCacheFile(File dir, String key, boolean create) {
+		String prefix= Integer.toHexString(key.hashCode()) + '_';
+		File free= null;
+		for (int i= 0; i < MAX_COLLISIONS; i++) {
+			File file= new File(dir, prefix + i + CACHE_FILE_EXTENSION);
+			if (!file.isFile()) {
+				// files are removed when trimming the cache, hence later files can still store the key
+				if (free == null)
+					free= file;
+				continue;
+			}
+			try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (key.equals(in.readUTF()))
+					return file;
+			} catch (IOException e) {
+				file.delete();
+				if (free == null)
+					free= file;
+			}
+		}
+		return create ? free : null;
+	}
+
+	private static synchronized CacheEntry readFromDisk(String key, String stamp) {
+		File dir= getCacheDir();
+		if (dir == null)
+			return null;
+		File file= getCacheFile(dir, key, false);
+		if (file == null)
+			return null;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!key.equals(in.readUTF()) || !stamp.equals(in.readUTF()))
+				return null; // stale entry, will be overwritten
+			int length= in.readInt();
+			byte[] bytes= new byte[length];
+			in.readFully(bytes);
+			file.setLastModified(System.currentTimeMillis());
+			return new CacheEntry(stamp, new String(bytes, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			file.delete();
+			return null;
+		}
+	}
+
+	private static synchronized void writeToDisk(String key, CacheEntry entry) {
+		File dir= getCacheDir();
+		if (dir == null)
+			return;
+		File file= getCacheFile(dir, key, true);
+		if (file == null)
+			return;
+		boolean isNew= !file.exists();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeUTF(key);
+			out.writeUTF(entry.fStamp);
+			byte[] bytes= entry.fContent.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			file.delete();
+			return;
+		}
+		if (isNew && ++fgDiskEntryCount > DISK_CACHE_SIZE)
+			trimDiskCache(dir);
+	}
+
+	/**
+	 * Removes the least recently used quarter of the disk cache.
+	 *
+	 * @param dir the cache directory
+	 */
+	private static void trimDiskCache(File dir) {
+		File[] files= listCacheFiles(dir);
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		int toRemove= files.length - DISK_CACHE_SIZE * 3 / 4;
+		for (int i= 0; i < toRemove; i++) {
+			files[i].delete();
+		}
+		fgDiskEntryCount= listCacheFiles(dir).length;
+	}
+
+	private JavadocHTMLCache() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -24,19 +37,110 @@ import org.eclipse.jface.text.TextUtilities;
 
 import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
 
+import org.eclipse.jdt.core.JavaCore;
+
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
 
 
 /**
  * Java spelling engine
+ * <p>
+ * The spell events of a partition are remembered, so that only partitions that have changed since
+ * the last check are checked again. If many partitions have to be checked, they are checked
+ * concurrently by a few jobs.
+ * </p>
  *
  * @since 3.1
  */
 public class JavaSpellingEngine extends SpellingEngine {
 
+	/**
+	 * The number of characters to check above which partitions are checked concurrently.
+	 * @since 3.27
+	 */
+	private static final int PARALLEL_THRESHOLD= 32 * 1024;
+
+	/**
+	 * The maximum number of jobs that check partitions concurrently.
+	 * @since 3.27
+	 */
+	private static final int MAX_JOBS= 4;
+
+	/**
+	 * The spell events of recently checked partitions by spell checker, shared by all documents.
+	 * The caches do not reference their checker, so a cache is discarded with its checker.
+	 * @since 3.27
+	 */
+	private static final Map<ISpellChecker, SpellCheckResultCache> fgResultCaches= new WeakHashMap<>();
+
+	/**
+	 * A partition to check.
+	 * @since 3.27
+	 */
+	private static final class Partition {
+		final String fContent;
+		final int fOffset;
+		/** The spell events, or <code>null</code> if the partition has not been checked yet. */
+		ISpellEvent[] fEvents;
+
+		Partition(String content, int offset, ISpellEvent[] events) {
+			fContent= content;
+			fOffset= offset;
+			fEvents= events;
+		}
+	}
+
+	/**
+	 * Checks a chunk of partitions, as long as the problems threshold has not been reached.
+	 * @since 3.27
+	 */
+	private static final class CheckJob extends Job {
+		private final List<Partition> fChunk;
+		private final ISpellChecker fChecker;
+		private final SpellCheckResultCache fResultCache;
+		private final Object fConfiguration;
+		private final String fDelimiter;
+		private final IProgressMonitor fMonitor;
+		private final AtomicInteger fProblems;
+		private final int fProblemsThreshold;
+
+		CheckJob(List<Partition> chunk, ISpellChecker checker, SpellCheckResultCache resultCache, Object configuration, String delimiter, IProgressMonitor monitor, AtomicInteger problems, int problemsThreshold) {
+			super(JavaUIMessages.Spelling_check_job_name);
+			fChunk= chunk;
+			fChecker= checker;
+			fResultCache= resultCache;
+			fConfiguration= configuration;
+			fDelimiter= delimiter;
+			fMonitor= monitor;
+			fProblems= problems;
+			fProblemsThreshold= problemsThreshold;
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			for (Partition partition : fChunk) {
+				if (monitor.isCanceled() || fMonitor != null && fMonitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				if (fProblems.get() >= fProblemsThreshold)
+					break;
+				check(partition, fChecker, fResultCache, fConfiguration, fDelimiter, fMonitor);
+				fProblems.addAndGet(partition.fEvents.length);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JavaSpellingEngine.class;
+		}
+	}
 
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.SpellingEngine#check(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IRegion[], org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker, org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector, org.eclipse.core.runtime.IProgressMonitor)
@@ -45,22 +149,127 @@ public class JavaSpellingEngine extends SpellingEngine {
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		Object configuration= getConfiguration(checker);
+		SpellCheckResultCache resultCache= getResultCache(checker);
+		resultCache.setConfiguration(configuration);
+		String delimiter= TextUtilities.getDefaultLineDelimiter(document);
+
+		List<Partition> partitions= new ArrayList<>();
+		List<Partition> unchecked= new ArrayList<>();
+		int uncheckedLength= 0;
 		try {
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
 					if (monitor != null && monitor.isCanceled())
 						return;
-					if (listener.isProblemsThresholdReached())
-						return;
 					final String type= partition.getType();
 					if (isIgnoringJavaStrings && IJavaPartitions.JAVA_STRING.equals(type))
 						continue;
-					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type)) {
+						String content= document.get(partition.getOffset(), partition.getLength());
+						Partition toCheck= new Partition(content, partition.getOffset(), resultCache.get(content, partition.getOffset(), delimiter, checker));
+						partitions.add(toCheck);
+						if (toCheck.fEvents == null) {
+							unchecked.add(toCheck);
+							uncheckedLength+= content.length();
+						}
+					}
 				}
 			}
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
+			return;
+		}
+
+		if (uncheckedLength > PARALLEL_THRESHOLD && unchecked.size() > 1 && !checkConcurrently(unchecked, uncheckedLength, checker, resultCache, configuration, delimiter, monitor))
+			return;
+
+		for (Partition partition : partitions) {
+			if (monitor != null && monitor.isCanceled())
+				return;
+			if (listener.isProblemsThresholdReached())
+				return;
+			if (partition.fEvents == null)
+				check(partition, checker, resultCache, configuration, delimiter, monitor);
+			for (ISpellEvent event : partition.fEvents)
+				listener.handle(event);
+		}
+	}
+
+	/**
+	 * Checks the given partitions in chunks of about the same size, by at most {@link #MAX_JOBS}
+	 * jobs. The jobs stop when the given monitor is canceled or when the partitions they have
+	 * checked together have as many spell events as the problems threshold allows. Partitions
+	 * that could not be checked are left unchecked.
+	 *
+	 * @return <code>false</code> if the check has been canceled or interrupted
+	 */
+	private static boolean checkConcurrently(List<Partition> partitions, int length, ISpellChecker checker, SpellCheckResultCache resultCache, Object configuration, String delimiter, IProgressMonitor monitor) {
+		int chunks= Math.min(Math.min(Runtime.getRuntime().availableProcessors(), MAX_JOBS), partitions.size());
+		if (chunks < 2)
+			return true;
+		int problemsThreshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+		AtomicInteger problems= new AtomicInteger();
+		int chunkLength= length / chunks + 1;
+		List<Job> jobs= new ArrayList<>(chunks);
+		int start= 0;
+		int chunkSize= 0;
+		for (int i= 0; i < partitions.size(); i++) {
+			chunkSize+= partitions.get(i).fContent.length();
+			if (chunkSize >= chunkLength || i == partitions.size() - 1) {
+				Job job= new CheckJob(partitions.subList(start, i + 1), checker, resultCache, configuration, delimiter, monitor, problems, problemsThreshold);
+				job.schedule();
+				jobs.add(job);
+				start= i + 1;
+				chunkSize= 0;
+			}
 		}
+		try {
+			for (Job job : jobs) {
+				job.join(0, monitor);
+			}
+		} catch (InterruptedException | OperationCanceledException e) {
+			// the document will be checked again
+			for (Job job : jobs) {
+				job.cancel();
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private static void check(Partition partition, ISpellChecker checker, SpellCheckResultCache resultCache, Object configuration, String delimiter, IProgressMonitor monitor) {
+		List<ISpellEvent> events= new ArrayList<>();
+		checker.execute(events::add, new SpellCheckIterator(partition.fContent, partition.fOffset, delimiter, checker.getLocale(), monitor));
+		if (monitor == null || !monitor.isCanceled())
+			resultCache.put(configuration, partition.fContent, partition.fOffset, delimiter, events);
+		partition.fEvents= events.toArray(new ISpellEvent[events.size()]);
+	}
+
+	/**
+	 * Returns the cache of the spell events found by the given checker.
+	 */
+	private static SpellCheckResultCache getResultCache(ISpellChecker checker) {
+		synchronized (fgResultCaches) {
+			return fgResultCaches.computeIfAbsent(checker, c -> new SpellCheckResultCache());
+		}
+	}
+
+	/**
+	 * Returns the configuration that determines the spell events found by the given checker.
+	 */
+	private static Object getConfiguration(ISpellChecker checker) {
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		return Arrays.asList(
+				Long.valueOf(checker.getModificationStamp()),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS)),
+				Boolean.valueOf(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS)),
+				Integer.valueOf(store.getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD)),
+				String.valueOf(JavaCore.getOption(JavaCore.COMPILER_TASK_TAGS)));
 	}
 }
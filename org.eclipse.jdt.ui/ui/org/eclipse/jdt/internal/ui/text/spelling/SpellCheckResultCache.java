@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * Remembers the spell events found in the partitions of documents, keyed by the content of a
+ * partition. A partition whose content has not changed since it was last checked does not need to
+ * be checked again, even if it has moved within the document.
+ * <p>
+ * A cache belongs to one spell checker. The remembered events are only valid for one
+ * configuration of the checker, i.e. the state of its dictionaries and the preferences. All events
+ * are forgotten when the configuration changes. The cache does not reference the checker, so that
+ * it can be discarded together with the checker. The cache holds the events of the least recently
+ * checked partitions up to a total partition length of {@link #MAX_CHARACTERS}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.27
+ */
+final class SpellCheckResultCache {
+
+	private static final int MAX_CHARACTERS= 2 * 1024 * 1024;
+
+	private static final Event[] NO_EVENTS= new Event[0];
+
+	/**
+	 * A remembered spell event, without the spell checker that found it.
+	 */
+	private static final class Event {
+		final String fWord;
+		final int fBegin;
+		final int fEnd;
+		final boolean fStart;
+		final boolean fMatch;
+
+		Event(ISpellEvent event) {
+			fWord= event.getWord();
+			fBegin= event.getBegin();
+			fEnd= event.getEnd();
+			fStart= event.isStart();
+			fMatch= event.isMatch();
+		}
+	}
+
+	private static final class Result {
+		final String fDelimiter;
+		final int fOffset;
+		final Event[] fEvents;
+
+		Result(String delimiter, int offset, Event[] events) {
+			fDelimiter= delimiter;
+			fOffset= offset;
+			fEvents= events;
+		}
+	}
+
+	/**
+	 * A remembered spell event of a partition, which may have moved since the event was found.
+	 */
+	private static final class CachedSpellEvent implements ISpellEvent {
+		private final ISpellChecker fChecker;
+		private final Event fEvent;
+		private final int fDelta;
+
+		CachedSpellEvent(ISpellChecker checker, Event event, int delta) {
+			fChecker= checker;
+			fEvent= event;
+			fDelta= delta;
+		}
+
+		@Override
+		public int getBegin() {
+			return fEvent.fBegin + fDelta;
+		}
+
+		@Override
+		public int getEnd() {
+			return fEvent.fEnd + fDelta;
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals() {
+			return fChecker.getProposals(fEvent.fWord, fEvent.fStart);
+		}
+
+		@Override
+		public String getWord() {
+			return fEvent.fWord;
+		}
+
+		@Override
+		public boolean isMatch() {
+			return fEvent.fMatch;
+		}
+
+		@Override
+		public boolean isStart() {
+			return fEvent.fStart;
+		}
+	}
+
+	/** The results by partition content, least recently used first. */
+	private final LinkedHashMap<String, Result> fResults= new LinkedHashMap<>(256, 0.75f, true);
+
+	/** The total length of the partitions in {@link #fResults}. */
+	private int fCharacters;
+
+	private Object fConfiguration;
+
+	/**
+	 * Sets the configuration of the spell checker. The remembered events are forgotten if it is
+	 * different from the current one.
+	 *
+	 * @param configuration the configuration, compared with {@link Object#equals(Object)}
+	 */
+	synchronized void setConfiguration(Object configuration) {
+		if (!configuration.equals(fConfiguration)) {
+			fResults.clear();
+			fCharacters= 0;
+			fConfiguration= configuration;
+		}
+	}
+
+	/**
+	 * Returns the remembered spell events of a partition.
+	 *
+	 * @param content the content of the partition
+	 * @param offset the offset of the partition in the document
+	 * @param delimiter the default line delimiter of the document
+	 * @param checker the spell checker that computes the proposals of the events
+	 * @return the spell events, with offsets in the document, or <code>null</code> if the partition
+	 *         has to be checked
+	 */
+	synchronized ISpellEvent[] get(String content, int offset, String delimiter, ISpellChecker checker) {
+		Result result= fResults.get(content);
+		if (result == null || !result.fDelimiter.equals(delimiter))
+			return null;
+		int delta= offset - result.fOffset;
+		ISpellEvent[] events= new ISpellEvent[result.fEvents.length];
+		for (int i= 0; i < events.length; i++) {
+			events[i]= new CachedSpellEvent(checker, result.fEvents[i], delta);
+		}
+		return events;
+	}
+
+	/**
+	 * Remembers the spell events of a partition.
+	 *
+	 * @param configuration the configuration of the spell checker that found the events
+	 * @param content the content of the partition
+	 * @param offset the offset of the partition in the document
+	 * @param delimiter the default line delimiter of the document
+	 * @param events the spell events, with offsets in the document
+	 */
+	synchronized void put(Object configuration, String content, int offset, String delimiter, List<ISpellEvent> events) {
+		if (!configuration.equals(fConfiguration) || content.length() > MAX_CHARACTERS)
+			return;
+		Event[] array= NO_EVENTS;
+		if (!events.isEmpty()) {
+			array= new Event[events.size()];
+			for (int i= 0; i < array.length; i++) {
+				array[i]= new Event(events.get(i));
+			}
+		}
+		Result previous= fResults.put(content, new Result(delimiter, offset, array));
+		if (previous == null)
+			fCharacters+= content.length();
+		for (Iterator<Map.Entry<String, Result>> iter= fResults.entrySet().iterator(); fCharacters > MAX_CHARACTERS && iter.hasNext();) {
+			fCharacters-= iter.next().getKey().length();
+			iter.remove();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,11 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -111,14 +111,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
-	/** The mapping from phonetic hashes to word lists */
-	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
+	/**
+	 * The mapping from phonetic hashes to word lists. Buckets that may be read concurrently are
+	 * never modified, but replaced.
+	 */
+	private final Map<ByteArrayWrapper, Object> fHashBuckets= new ConcurrentHashMap<>(getInitialSize(), LOAD_FACTOR);
 
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
 	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
+	private volatile boolean fLoaded= false;
 	/**
 	 * Must the dictionary be loaded?
 	 * @since 3.2
@@ -129,7 +132,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * Tells whether to strip non-letters at word boundaries.
 	 * @since 3.3
 	 */
-	boolean fIsStrippingNonLetters= true;
+	volatile boolean fIsStrippingNonLetters= true;
 
 	/**
 	 * Returns the initial size of dictionary.
@@ -338,19 +341,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		try {
-
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
-
-		} catch (MalformedURLException exception) {
-			// Do nothing
-		}
+		ensureLoaded();
 
 		final String hash= fHashProvider.getHash(word);
 		final char[] mutators= fHashProvider.getMutators();
@@ -460,7 +451,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @param word
 	 *                   The word to hash in the dictionary
 	 */
-	protected final void hashWord(final String word) {
+	protected final synchronized void hashWord(final String word) {
 
 		final String hash= fHashProvider.getHash(word);
 		ByteArrayWrapper hashBytes;
@@ -480,7 +471,14 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		} else if (bucket instanceof ArrayList) {
 			@SuppressWarnings("unchecked")
 			ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
-			bucketList.add(wordBytes);
+			if (fLoaded) {
+				// the bucket may be read by another thread
+				bucketList= new ArrayList<>(bucketList);
+				bucketList.add(wordBytes);
+				fHashBuckets.put(hashBytes, bucketList);
+			} else {
+				bucketList.add(wordBytes);
+			}
 		} else {
 			ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
 			list.add(bucket);
@@ -492,19 +490,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	@Override
 	public boolean isCorrect(String word) {
 		word= stripNonLetters(word);
-		try {
-
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
-
-		} catch (MalformedURLException exception) {
-			// Do nothing
-		}
+		ensureLoaded();
 
 		final Object candidates= getCandidates(fHashProvider.getHash(word));
 		if (candidates == null)
@@ -659,6 +645,28 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Loads the dictionary if it has not been loaded yet. The dictionary is published only after
+	 * it has been compacted, and it is compacted only once, so that readers never see a bucket
+	 * that is being modified.
+	 */
+	private void ensureLoaded() {
+		if (fLoaded)
+			return;
+		synchronized (this) {
+			if (fLoaded)
+				return;
+			try {
+				boolean loaded= load(getURL());
+				if (loaded)
+					compact();
+				fLoaded= loaded;
+			} catch (MalformedURLException exception) {
+				// Do nothing
+			}
+		}
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -28,6 +29,9 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 /**
  * Default spell checker for standard text.
+ * <p>
+ * This class is thread safe, a document may be checked by several threads at once.
+ * </p>
  *
  * @since 3.0
  */
@@ -124,15 +128,21 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	/**
-	 * The dictionaries to use for spell checking. Synchronized to avoid
-	 * concurrent modifications.
+	 * The dictionaries to use for spell checking. Dictionaries are rarely added or removed, but
+	 * iterated for every checked word.
 	 */
-	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
+	private final Set<ISpellDictionary> fDictionaries= new CopyOnWriteArraySet<>();
 
 	/**
-	 * The words to be ignored. Synchronized to avoid concurrent modifications.
+	 * The words to be ignored.
 	 */
-	private final Set<String> fIgnored= Collections.synchronizedSet(new HashSet<String>());
+	private final Set<String> fIgnored= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Incremented whenever the set of correct words may have changed.
+	 * @since 3.27
+	 */
+	private final AtomicLong fModificationStamp= new AtomicLong();
 
 	/**
 	 * The preference store. Assumes the <code>IPreferenceStore</code>
@@ -162,21 +172,13 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void addDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.add(dictionary);
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
 	public boolean acceptsWords() {
-		// synchronizing might not be needed here since acceptWords is
-		// a read-only access and only called in the same thread as
-		// the modifying methods add/checkWord (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 
 			if (dictionary.acceptsWords())
 				return true;
@@ -186,24 +188,18 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void addWord(final String word) {
-		// synchronizing is necessary as this is a write access
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final String addable= word.toLowerCase();
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
-
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
 	public final void checkWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
@@ -220,9 +216,8 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
 
-		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
-		while (iter.hasNext())
-			iter.next().setStripNonLetters(ignoreNonLetters);
+		for (ISpellDictionary dictionary : fDictionaries)
+			dictionary.setStripNonLetters(ignoreNonLetters);
 
 		String word= null;
 		boolean starts= false;
@@ -233,7 +228,6 @@ public class DefaultSpellChecker implements ISpellChecker {
 			word= iterator.next();
 			if (word != null) {
 
-				// synchronizing is necessary as this is called inside the reconciler
 				if (!fIgnored.contains(word)) {
 
 					starts= iterator.startsSentence();
@@ -264,17 +258,9 @@ public class DefaultSpellChecker implements ISpellChecker {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		// synchronizing might not be needed here since getProposals is
-		// a read-only access and only called in the same thread as
-		// the modifing methods add/removeDictionary (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final HashSet<RankedWordProposal> proposals= new HashSet<>();
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			proposals.addAll(dictionary.getProposals(word, sentence));
 		}
 		return proposals;
@@ -282,22 +268,16 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void ignoreWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.isCorrect(word))
 				return true;
 		}
@@ -306,12 +286,17 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.remove(dictionary);
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
 	public Locale getLocale() {
 		return fLocale;
 	}
+
+	@Override
+	public long getModificationStamp() {
+		return fModificationStamp.get();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,10 @@ import java.util.Set;
 
 /**
  * Interface for spell checkers.
+ * <p>
+ * Implementations must be thread safe: the regions of a document may be checked concurrently
+ * while words are added or ignored.
+ * </p>
  *
  * @since 3.0
  */
@@ -110,4 +114,14 @@ public interface ISpellChecker {
 	 * @since 3.3
 	 */
 	Locale getLocale();
+
+	/**
+	 * Returns a stamp that changes whenever the words accepted by this checker may have changed,
+	 * e.g. because a word has been added or ignored or a dictionary has been removed. Results of
+	 * earlier checks can be reused as long as the stamp does not change.
+	 *
+	 * @return the modification stamp
+	 * @since 3.27
+	 */
+	long getModificationStamp();
 }
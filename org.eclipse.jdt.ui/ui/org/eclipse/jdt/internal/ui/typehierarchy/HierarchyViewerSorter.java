@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,9 +33,9 @@ public class HierarchyViewerSorter extends AbstractHierarchyViewerSorter {
 
 	@Override
 	protected int getTypeFlags(IType type) {
-		ITypeHierarchy hierarchy= getHierarchy(type);
+		TypeHierarchyModel hierarchy= fHierarchy.getHierarchyModel();
 		if (hierarchy != null) {
-			return fHierarchy.getHierarchy().getCachedFlags(type);
+			return hierarchy.getCachedFlags(type);
 		}
 		return 0;
 	}
@@ -52,7 +52,8 @@ public class HierarchyViewerSorter extends AbstractHierarchyViewerSorter {
 
 	@Override
 	protected ITypeHierarchy getHierarchy(IType type) {
-		return fHierarchy.getHierarchy(); // hierarchy contains all types shown
+		// the viewers are refreshed again once the hierarchy contains all types shown
+		return fHierarchy.getHierarchy();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,6 @@ import java.util.List;
 import org.eclipse.swt.widgets.Composite;
 
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 
 /**
  * A viewer including the content provider for the subtype hierarchy.
@@ -60,7 +59,7 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				IType[] types= hierarchy.getSubtypes(type);
 				if (isObject(type)) {
@@ -78,7 +77,7 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected IType getParentType(IType type) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				return hierarchy.getSuperclass(type);
 				// dont handle interfaces
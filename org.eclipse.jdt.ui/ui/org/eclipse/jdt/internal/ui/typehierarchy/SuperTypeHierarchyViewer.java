@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,6 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.TreeItem;
 
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 
 /**
  * A viewer including the content provider for the supertype hierarchy.
@@ -71,7 +70,7 @@ public class SuperTypeHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				IType[] types= hierarchy.getSupertypes(type);
 				res.addAll(Arrays.asList(types));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,6 @@ import org.eclipse.swt.widgets.Composite;
 
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 
 /**
  * A TypeHierarchyViewer that looks like the type hierarchy view of VA/Java:
@@ -65,7 +64,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 		}
 
 		public int getExpandLevel() {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				IType input= hierarchy.getType();
 				if (input != null) {
@@ -77,7 +76,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 			return 2;
 		}
 
-		private int getDepth(ITypeHierarchy hierarchy, IType input) {
+		private int getDepth(TypeHierarchyModel hierarchy, IType input) {
 			int count= 0;
 			if (Flags.isInterface(hierarchy.getCachedFlags(input))) {
 				IType[] superInterfaces= hierarchy.getSuperInterfaces(input);
@@ -99,7 +98,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected final void getRootTypes(List<IType> res) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				IType input= hierarchy.getType();
 				if (input == null) {
@@ -132,7 +131,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 		 */
 		@Override
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				IType[] types= hierarchy.getSubtypes(type);
 				if (isObject(type)) {
@@ -160,7 +159,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 
 		@Override
 		protected IType getParentType(IType type) {
-			ITypeHierarchy hierarchy= getHierarchy();
+			TypeHierarchyModel hierarchy= getHierarchyModel();
 			if (hierarchy != null) {
 				if (Flags.isInterface(hierarchy.getCachedFlags(type))) {
 					IType[] superInterfaces= hierarchy.getSuperInterfaces(type);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,7 +90,8 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 		boolean filterOverrides= JavaModelUtil.isSuperType(hierarchy, typeToFindIn, filterType);
 		IType focusType= filterOverrides ? filterType : typeToFindIn;
 
-		if (fMethodOverrideTester == null || !fMethodOverrideTester.getFocusType().equals(focusType)) {
+		// the hierarchy is replaced when it is brought up to date with the hierarchy model
+		if (fMethodOverrideTester == null || fMethodOverrideTester.getTypeHierarchy() != hierarchy || !fMethodOverrideTester.getFocusType().equals(focusType)) {
 			fMethodOverrideTester= new MethodOverrideTester(focusType, hierarchy);
 		}
 		return filterOverrides;
@@ -156,8 +157,8 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	}
 
 
-	protected final ITypeHierarchy getHierarchy() {
-		return fTypeHierarchy.getHierarchy();
+	protected final TypeHierarchyModel getHierarchyModel() {
+		return fTypeHierarchy.getHierarchyModel();
 	}
 
 
@@ -189,7 +190,7 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	}
 
 	protected void getRootTypes(List<IType> res) {
-		ITypeHierarchy hierarchy= getHierarchy();
+		TypeHierarchyModel hierarchy= getHierarchyModel();
 		if (hierarchy != null) {
 			IType input= hierarchy.getType();
 			if (input != null) {
@@ -383,7 +384,7 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	}
 
 	protected final boolean isAnonymousFromInterface(IType type) {
-		return isAnonymous(type) && fTypeHierarchy.getHierarchy().getSuperInterfaces(type).length != 0;
+		return isAnonymous(type) && getHierarchyModel().getSuperInterfaces(type).length != 0;
 	}
 
 	protected final boolean isObject(IType type) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,13 @@ package org.eclipse.jdt.internal.ui.typehierarchy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -45,6 +48,12 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -53,11 +62,40 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * The viewers read the hierarchy from a {@link TypeHierarchyModel}. In incremental mode, the
+ * model of a hierarchy on a type is updated for the types added, removed or changed by Java
+ * element deltas, and shown, before the whole hierarchy is computed again. In progressive mode,
+ * the supertypes and direct subtypes of the type are shown while the complete hierarchy is
+ * computed.
+ * </p>
+ * <p>
+ * The {@link #getHierarchy() hierarchy} is replaced by the same job that updates the
+ * model, and the viewers are refreshed again once this is done. While the job runs, the hierarchy
+ * can be behind the model.
+ * </p>
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
+	/**
+	 * The maximum number of changed types that are applied to the model incrementally.
+	 *
+	 * @since 3.27
+	 */
+	private static final int MAX_INCREMENTAL_TYPES= 20;
+
+	/**
+	 * Delta flags of projects and package fragment roots that require a full refresh.
+	 *
+	 * @since 3.27
+	 */
+	private static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_REORDER;
+
 	private boolean fHierarchyRefreshNeeded;
 	private ITypeHierarchy fHierarchy;
+	private volatile TypeHierarchyModel fModel;
 	private IJavaElement[] fInputElements;
 	private boolean fIsSuperTypesOnly;
 
@@ -84,6 +122,43 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * The types whose position in the hierarchy may have changed since the model was updated.
+	 *
+	 * @since 3.27
+	 */
+	private final Set<IType> fChangedTypes= new LinkedHashSet<>();
+
+	/**
+	 * Indicates whether the next refresh has to compute the whole hierarchy. Guarded by
+	 * {@link #fChangedTypes}.
+	 *
+	 * @since 3.27
+	 */
+	private boolean fFullRefreshNeeded;
+
+	/**
+	 * Indicates whether the model is updated incrementally from Java element deltas.
+	 *
+	 * @since 3.27
+	 */
+	private boolean fIsIncremental;
+
+	/**
+	 * Indicates whether the direct subtypes are shown before the hierarchy is complete.
+	 *
+	 * @since 3.27
+	 */
+	private boolean fIsProgressive;
+
+	/**
+	 * Indicates whether the model has been updated incrementally and the hierarchy still has to be
+	 * refreshed.
+	 *
+	 * @since 3.27
+	 */
+	private volatile boolean fIsHierarchyStale;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -94,6 +169,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		this(false);
 		fTypeHierarchyViewPart= part;
 		fRefreshHierarchyJob= null;
+		fIsIncremental= true;
+		fIsProgressive= true;
 	}
 
 	public TypeHierarchyLifeCycle(boolean isSuperTypesOnly) {
@@ -103,10 +180,73 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		fChangeListeners= new ArrayList<>(2);
 	}
 
+	/**
+	 * Returns the type hierarchy. While the hierarchy is refreshed in the background, it can be
+	 * behind the {@link #getHierarchyModel() model}: after the model has been updated
+	 * incrementally, and while the hierarchy of a type is computed in progressive mode, in which
+	 * case it only contains the supertypes. The viewers are refreshed when the hierarchy is up to
+	 * date again.
+	 *
+	 * @return the hierarchy, or <code>null</code>
+	 */
 	public ITypeHierarchy getHierarchy() {
 		return fHierarchy;
 	}
 
+	/**
+	 * Returns the model of the hierarchy shown by the viewers. The model can be newer than
+	 * {@link #getHierarchy()} while the hierarchy is refreshed after the model has been updated
+	 * incrementally, and it can be partial while the hierarchy is computed in progressive mode.
+	 *
+	 * @return the model, or <code>null</code>
+	 * @since 3.27
+	 */
+	public TypeHierarchyModel getHierarchyModel() {
+		return fModel;
+	}
+
+	/**
+	 * Sets whether the hierarchy is updated incrementally from Java element deltas. Takes effect
+	 * when the hierarchy is computed next.
+	 *
+	 * @param incremental <code>true</code> to update the hierarchy incrementally
+	 * @since 3.27
+	 */
+	public void setIncremental(boolean incremental) {
+		fIsIncremental= incremental;
+	}
+
+	/**
+	 * Returns whether the hierarchy is updated incrementally from Java element deltas.
+	 *
+	 * @return <code>true</code> if the hierarchy is updated incrementally
+	 * @since 3.27
+	 */
+	public boolean isIncremental() {
+		return fIsIncremental;
+	}
+
+	/**
+	 * Sets whether the supertypes and direct subtypes are shown while the hierarchy of a type is
+	 * computed in the background.
+	 *
+	 * @param progressive <code>true</code> to show the direct subtypes first
+	 * @since 3.27
+	 */
+	public void setProgressive(boolean progressive) {
+		fIsProgressive= progressive;
+	}
+
+	/**
+	 * Returns whether the direct subtypes are shown while the hierarchy is computed.
+	 *
+	 * @return <code>true</code> if the direct subtypes are shown first
+	 * @since 3.27
+	 */
+	public boolean isProgressive() {
+		return fIsProgressive;
+	}
+
 	/**
 	 * Returns the array of input elements.
 	 *
@@ -122,8 +262,14 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 			fHierarchy= null;
+			fModel= null;
 			fInputElements= null;
 		}
+		fIsHierarchyStale= false;
+		synchronized (fChangedTypes) {
+			fChangedTypes.clear();
+			fFullRefreshNeeded= false;
+		}
 		synchronized (this) {
 			if (fRefreshHierarchyJob != null) {
 				fRefreshHierarchyJob.cancel();
@@ -195,7 +341,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				return;
 			}
 		}
-		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
+		boolean hierachyCreationNeeded= isHierarchyCreationNeeded(elements);
 
 		if (hierachyCreationNeeded || fHierarchyRefreshNeeded) {
 			if (fTypeHierarchyViewPart == null) {
@@ -269,14 +415,15 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 * @since 3.6
 	 */
 	protected void doHierarchyRefreshBackground(final IJavaElement[] elements, final IProgressMonitor pm) throws JavaModelException {
-		doHierarchyRefresh(elements, pm);
-		if (!pm.isCanceled()) {
+		boolean showPartial= fIsProgressive && !fIsSuperTypesOnly && isHierarchyCreationNeeded(elements)
+				&& elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE;
+		if (showPartial) {
+			createPartialHierarchy(elements, pm);
 			Display.getDefault().asyncExec(() -> {
 				synchronized (TypeHierarchyLifeCycle.this) {
 					if (fRefreshHierarchyJob == null) {
 						return;
 					}
-					fRefreshHierarchyJob= null;
 				}
 				if (pm.isCanceled())
 					return;
@@ -284,6 +431,95 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				fTypeHierarchyViewPart.updateViewers();
 			});
 		}
+		boolean keepViewerState= refreshHierarchy(elements, pm) || showPartial;
+		if (fIsHierarchyStale) {
+			// show the updated model, then bring the hierarchy up to date for the members view
+			Display.getDefault().asyncExec(() -> {
+				synchronized (TypeHierarchyLifeCycle.this) {
+					if (fRefreshHierarchyJob == null) {
+						return;
+					}
+				}
+				if (pm.isCanceled())
+					return;
+				fTypeHierarchyViewPart.refreshViewers();
+			});
+			refreshStaleHierarchy(pm);
+		}
+		if (!pm.isCanceled()) {
+			Display.getDefault().asyncExec(() -> {
+				synchronized (TypeHierarchyLifeCycle.this) {
+					if (fRefreshHierarchyJob == null) {
+						return;
+					}
+					fRefreshHierarchyJob= null;
+				}
+				if (pm.isCanceled())
+					return;
+				if (keepViewerState) {
+					// the viewers already show the input, keep their selection and expanded types
+					fTypeHierarchyViewPart.refreshViewers();
+				} else {
+					fTypeHierarchyViewPart.setViewersInput();
+					fTypeHierarchyViewPart.updateViewers();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Computes the supertypes and the direct subtypes of a type and shows them as a partial model
+	 * until the complete hierarchy has been computed.
+	 *
+	 * @param elements the type for which the hierarchy is computed
+	 * @param pm the progress monitor
+	 * @throws JavaModelException if the supertypes cannot be computed
+	 * @since 3.27
+	 */
+	private void createPartialHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+		IType type= (IType) elements[0];
+		ITypeHierarchy supertypeHierarchy= type.newSupertypeHierarchy(pm);
+		Set<IType> subtypes= new LinkedHashSet<>();
+		SearchRequestor requestor= new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				if (match.getAccuracy() == SearchMatch.A_ACCURATE && match.getElement() instanceof IType) {
+					subtypes.add((IType) match.getElement());
+				}
+			}
+		};
+		try {
+			SearchPattern pattern= SearchPattern.createPattern(type, IJavaSearchConstants.IMPLEMENTORS);
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, SearchEngine.createWorkspaceScope(), requestor, pm);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		}
+		if (pm.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		if (fHierarchy != null) {
+			fHierarchy.removeTypeHierarchyChangedListener(this);
+			JavaCore.removeElementChangedListener(this);
+		}
+		fHierarchy= supertypeHierarchy;
+		fModel= TypeHierarchyModel.createPartial(type, supertypeHierarchy, subtypes);
+		fInputElements= elements;
+	}
+
+	private boolean isHierarchyCreationNeeded(IJavaElement[] elements) {
+		TypeHierarchyModel model= fModel;
+		return fHierarchy == null || !Arrays.equals(elements, fInputElements) || model == null || !model.isComplete();
+	}
+
+	/*
+	 * Returns whether the model of the hierarchy is updated from Java element deltas instead of
+	 * listening to changes of the hierarchy.
+	 */
+	private boolean isIncrementalUpdateSupported() {
+		TypeHierarchyModel model= fModel;
+		return fIsIncremental && !fIsSuperTypesOnly && model != null && model.getType() != null;
 	}
 
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
@@ -314,27 +550,80 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 
 	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
-		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
+		refreshHierarchy(elements, pm);
+		refreshStaleHierarchy(pm);
+	}
+
+	/*
+	 * Replaces the hierarchy after the model has been updated incrementally, so that the
+	 * hierarchy contains the types of the model again. The hierarchy is replaced rather than
+	 * refreshed, so that clients can tell that it has changed.
+	 */
+	private void refreshStaleHierarchy(IProgressMonitor pm) throws JavaModelException {
+		if (!fIsHierarchyStale)
+			return;
+		ITypeHierarchy hierarchy= createTypeHierarchy(fInputElements, pm);
+		if (pm != null && pm.isCanceled())
+			throw new OperationCanceledException();
+		fHierarchy= hierarchy;
+		fIsHierarchyStale= false;
+	}
+
+	/*
+	 * Returns whether the model has been updated incrementally.
+	 */
+	private boolean refreshHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+		boolean hierachyCreationNeeded= isHierarchyCreationNeeded(elements);
+		Set<IType> changedTypes= null;
+		synchronized (fChangedTypes) {
+			if (!fFullRefreshNeeded && !fChangedTypes.isEmpty())
+				changedTypes= new LinkedHashSet<>(fChangedTypes);
+		}
 		// to ensure the order of the two listeners always remove / add listeners on operations
 		// on type hierarchies
 		if (fHierarchy != null) {
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 		}
+		TypeHierarchyModel updatedModel= null;
 		if (hierachyCreationNeeded) {
 			fHierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
 			}
+			fModel= TypeHierarchyModel.create(fHierarchy);
 			fInputElements= elements;
+			fIsHierarchyStale= false;
 		} else {
-			fHierarchy.refresh(pm);
+			if (changedTypes != null && isIncrementalUpdateSupported())
+				updatedModel= fModel.update(changedTypes, pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
+			if (updatedModel != null) {
+				// the hierarchy is refreshed by the caller, after the viewers show the model
+				fModel= updatedModel;
+				fIsHierarchyStale= true;
+			} else {
+				fHierarchy.refresh(pm);
+				if (pm != null && pm.isCanceled())
+					throw new OperationCanceledException();
+				fModel= TypeHierarchyModel.create(fHierarchy);
+				fIsHierarchyStale= false;
+			}
+		}
+		synchronized (fChangedTypes) {
+			if (updatedModel != null) {
+				fChangedTypes.removeAll(changedTypes);
+			} else {
+				fChangedTypes.clear();
+				fFullRefreshNeeded= false;
+			}
 		}
-		fHierarchy.addTypeHierarchyChangedListener(this);
+		if (!isIncrementalUpdateSupported())
+			fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
+		return updatedModel != null;
 	}
 
 	/*
@@ -342,6 +631,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	@Override
 	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+		synchronized (fChangedTypes) {
+			fFullRefreshNeeded= true;
+		}
 	 	fHierarchyRefreshNeeded= true;
  		fireChange(null);
 	}
@@ -355,6 +647,13 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			return;
 		}
 
+		// like the hierarchy, the model is only updated when working copies are saved
+		if (event.getType() == ElementChangedEvent.POST_CHANGE && isIncrementalUpdateSupported() && processHierarchyDelta(event.getDelta())) {
+			fHierarchyRefreshNeeded= true;
+			fireChange(null);
+			return;
+		}
+
 		if (fHierarchyRefreshNeeded) {
 			return;
 		} else {
@@ -419,7 +718,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 	private void processTypeDelta(IType type, ArrayList<IType> changedTypes) {
-		if (getHierarchy().contains(type)) {
+		TypeHierarchyModel model= fModel;
+		if (model != null && model.contains(type)) {
 			changedTypes.add(type);
 		}
 	}
@@ -430,5 +730,90 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/*
+	 * Records the types whose position in the hierarchy may have changed. Returns whether the
+	 * hierarchy needs to be refreshed.
+	 */
+	private boolean processHierarchyDelta(IJavaElementDelta delta) {
+		Set<IType> changedTypes= new LinkedHashSet<>();
+		boolean incremental= collectHierarchyChanges(delta, fModel, changedTypes);
+		if (incremental && changedTypes.isEmpty()) {
+			return false;
+		}
+		synchronized (fChangedTypes) {
+			if (incremental && fChangedTypes.size() + changedTypes.size() <= MAX_INCREMENTAL_TYPES) {
+				fChangedTypes.addAll(changedTypes);
+			} else {
+				fFullRefreshNeeded= true;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Collects the added, removed and changed types of a delta. Returns false if the delta
+	 * cannot be applied incrementally.
+	 */
+	private boolean collectHierarchyChanges(IJavaElementDelta delta, TypeHierarchyModel model, Set<IType> changedTypes) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				return collectChildrenHierarchyChanges(delta, model, changedTypes);
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+					return false;
+				}
+				return collectChildrenHierarchyChanges(delta, model, changedTypes);
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(cu)) {
+					return true;
+				}
+				if (delta.getKind() != IJavaElementDelta.CHANGED || isPossibleStructuralChange(delta.getFlags())) {
+					changedTypes.addAll(model.getTypesIn(cu));
+					try {
+						if (cu.exists()) {
+							changedTypes.addAll(Arrays.asList(cu.getAllTypes()));
+						}
+					} catch (JavaModelException e) {
+						JavaPlugin.log(e);
+						return false;
+					}
+					return true;
+				}
+				return collectChildrenHierarchyChanges(delta, model, changedTypes);
+			case IJavaElement.CLASS_FILE:
+				if (element instanceof IOrdinaryClassFile) {
+					changedTypes.add(((IOrdinaryClassFile) element).getType());
+				}
+				return true;
+			case IJavaElement.TYPE:
+				IType type= (IType) element;
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					changedTypes.addAll(model.getTypesIn(type));
+					changedTypes.add(type);
+					return true;
+				}
+				if (delta.getKind() == IJavaElementDelta.ADDED || (delta.getFlags() & IJavaElementDelta.F_SUPER_TYPES) != 0
+						|| (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0 && model.contains(type)) {
+					changedTypes.add(type);
+				}
+				return collectChildrenHierarchyChanges(delta, model, changedTypes); // (inner types)
+			default:
+				return true;
+		}
+	}
+
+	private boolean collectChildrenHierarchyChanges(IJavaElementDelta delta, TypeHierarchyModel model, Set<IType> changedTypes) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectHierarchyChanges(child, model, changedTypes)) { // recursive
+				return false;
+			}
+		}
+		return true;
+	}
+
 
 }
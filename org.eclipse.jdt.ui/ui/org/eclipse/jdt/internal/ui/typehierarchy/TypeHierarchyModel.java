@@ -0,0 +1,478 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * The type relationships shown by the type hierarchy viewers.
+ * <p>
+ * A complete model is a copy of a computed {@link ITypeHierarchy}. If the hierarchy is on a type,
+ * the model can be updated for individual added, removed and changed types without computing the
+ * hierarchy again. A partial model only knows the supertypes and the direct subtypes of its type;
+ * it is shown while the complete hierarchy is computed.
+ * </p>
+ * <p>
+ * A model is not modified once it has been created, so it can be read while an update is computed
+ * in the background: {@link #update(Collection, IProgressMonitor)} returns a new model.
+ * </p>
+ *
+ * @since 3.27
+ */
+public class TypeHierarchyModel {
+
+	private static final IType[] NO_TYPES= new IType[0];
+
+	private static final int UNKNOWN_FLAGS= -1;
+
+	private static final class Node {
+
+		private IType fSuperclass;
+
+		private IType[] fSuperInterfaces;
+
+		private int fFlags;
+
+		private final List<IType> fSubtypes;
+
+		private Node(IType superclass, IType[] superInterfaces, int flags, List<IType> subtypes) {
+			fSuperclass= superclass;
+			fSuperInterfaces= superInterfaces;
+			fFlags= flags;
+			fSubtypes= subtypes;
+		}
+
+		private Node(Node other) {
+			this(other.fSuperclass, other.fSuperInterfaces, other.fFlags, new ArrayList<>(other.fSubtypes));
+		}
+	}
+
+	private final IType fType;
+
+	private final boolean fIsComplete;
+
+	private final Map<IType, Node> fNodes;
+
+	private TypeHierarchyModel(IType type, boolean isComplete) {
+		fType= type;
+		fIsComplete= isComplete;
+		fNodes= new LinkedHashMap<>();
+	}
+
+	private TypeHierarchyModel(TypeHierarchyModel other) {
+		this(other.fType, other.fIsComplete);
+		for (Map.Entry<IType, Node> entry : other.fNodes.entrySet()) {
+			fNodes.put(entry.getKey(), new Node(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Creates a complete model from a computed type hierarchy.
+	 *
+	 * @param hierarchy the type hierarchy
+	 * @return the model
+	 */
+	public static TypeHierarchyModel create(ITypeHierarchy hierarchy) {
+		TypeHierarchyModel model= new TypeHierarchyModel(hierarchy.getType(), true);
+		for (IType type : hierarchy.getAllTypes()) {
+			model.fNodes.put(type, new Node(hierarchy.getSuperclass(type), hierarchy.getSuperInterfaces(type), hierarchy.getCachedFlags(type),
+					new ArrayList<>(Arrays.asList(hierarchy.getSubtypes(type)))));
+		}
+		return model;
+	}
+
+	/**
+	 * Creates a partial model of the supertypes and the direct subtypes of a type.
+	 *
+	 * @param type the type
+	 * @param supertypeHierarchy the supertype hierarchy of the type
+	 * @param subtypes the direct subtypes of the type
+	 * @return the model
+	 */
+	public static TypeHierarchyModel createPartial(IType type, ITypeHierarchy supertypeHierarchy, Collection<IType> subtypes) {
+		TypeHierarchyModel model= new TypeHierarchyModel(type, false);
+		for (IType curr : supertypeHierarchy.getAllTypes()) {
+			model.fNodes.put(curr, new Node(supertypeHierarchy.getSuperclass(curr), supertypeHierarchy.getSuperInterfaces(curr),
+					supertypeHierarchy.getCachedFlags(curr), new ArrayList<>(Arrays.asList(supertypeHierarchy.getSubtypes(curr)))));
+		}
+		boolean isInterface= Flags.isInterface(supertypeHierarchy.getCachedFlags(type));
+		Node node= model.fNodes.get(type);
+		for (IType subtype : subtypes) {
+			if (model.fNodes.containsKey(subtype))
+				continue;
+			// flags of the subtypes are read when they are needed
+			if (isInterface) {
+				model.fNodes.put(subtype, new Node(null, new IType[] { type }, UNKNOWN_FLAGS, new ArrayList<>()));
+			} else {
+				model.fNodes.put(subtype, new Node(type, NO_TYPES, UNKNOWN_FLAGS, new ArrayList<>()));
+			}
+			node.fSubtypes.add(subtype);
+		}
+		return model;
+	}
+
+	/**
+	 * Returns the type the model was created on.
+	 *
+	 * @return the type, or <code>null</code> if the model was created on a region
+	 */
+	public IType getType() {
+		return fType;
+	}
+
+	/**
+	 * Returns whether the model contains all subtypes of its type.
+	 *
+	 * @return <code>false</code> if this is a partial model
+	 */
+	public boolean isComplete() {
+		return fIsComplete;
+	}
+
+	/**
+	 * Returns whether the model contains a type.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type is in the model
+	 */
+	public boolean contains(IType type) {
+		return fNodes.containsKey(type);
+	}
+
+	/**
+	 * Returns the flags of a type.
+	 *
+	 * @param type the type
+	 * @return the flags, or <code>-1</code> if the type is not in the model
+	 * @see ITypeHierarchy#getCachedFlags(IType)
+	 */
+	public int getCachedFlags(IType type) {
+		Node node= fNodes.get(type);
+		if (node == null)
+			return UNKNOWN_FLAGS;
+		if (node.fFlags == UNKNOWN_FLAGS) {
+			try {
+				return type.getFlags();
+			} catch (JavaModelException e) {
+				return UNKNOWN_FLAGS;
+			}
+		}
+		return node.fFlags;
+	}
+
+	/**
+	 * Returns the superclass of a type.
+	 *
+	 * @param type the type
+	 * @return the superclass, or <code>null</code> if the type has no superclass in the model
+	 * @see ITypeHierarchy#getSuperclass(IType)
+	 */
+	public IType getSuperclass(IType type) {
+		Node node= fNodes.get(type);
+		return node != null ? node.fSuperclass : null;
+	}
+
+	/**
+	 * Returns the direct super interfaces of a type.
+	 *
+	 * @param type the type
+	 * @return the super interfaces
+	 * @see ITypeHierarchy#getSuperInterfaces(IType)
+	 */
+	public IType[] getSuperInterfaces(IType type) {
+		Node node= fNodes.get(type);
+		return node != null ? node.fSuperInterfaces : NO_TYPES;
+	}
+
+	/**
+	 * Returns the direct supertypes of a type.
+	 *
+	 * @param type the type
+	 * @return the superclass followed by the super interfaces
+	 * @see ITypeHierarchy#getSupertypes(IType)
+	 */
+	public IType[] getSupertypes(IType type) {
+		Node node= fNodes.get(type);
+		if (node == null)
+			return NO_TYPES;
+		if (node.fSuperclass == null)
+			return node.fSuperInterfaces;
+		IType[] result= new IType[node.fSuperInterfaces.length + 1];
+		result[0]= node.fSuperclass;
+		System.arraycopy(node.fSuperInterfaces, 0, result, 1, node.fSuperInterfaces.length);
+		return result;
+	}
+
+	/**
+	 * Returns all supertypes of a type.
+	 *
+	 * @param type the type
+	 * @return the supertypes
+	 * @see ITypeHierarchy#getAllSupertypes(IType)
+	 */
+	public IType[] getAllSupertypes(IType type) {
+		Set<IType> result= new LinkedHashSet<>();
+		addAllSupertypes(type, result);
+		return result.toArray(new IType[result.size()]);
+	}
+
+	private void addAllSupertypes(IType type, Set<IType> result) {
+		Node node= fNodes.get(type);
+		if (node == null)
+			return;
+		for (IType superInterface : node.fSuperInterfaces) {
+			if (result.add(superInterface))
+				addAllSupertypes(superInterface, result);
+		}
+		if (node.fSuperclass != null && result.add(node.fSuperclass))
+			addAllSupertypes(node.fSuperclass, result);
+	}
+
+	/**
+	 * Returns the direct subtypes of a type.
+	 *
+	 * @param type the type
+	 * @return the subtypes
+	 * @see ITypeHierarchy#getSubtypes(IType)
+	 */
+	public IType[] getSubtypes(IType type) {
+		Node node= fNodes.get(type);
+		return node != null ? node.fSubtypes.toArray(new IType[node.fSubtypes.size()]) : NO_TYPES;
+	}
+
+	/**
+	 * Returns the classes of the model that have no superclass.
+	 *
+	 * @return the root classes
+	 * @see ITypeHierarchy#getRootClasses()
+	 */
+	public IType[] getRootClasses() {
+		List<IType> result= new ArrayList<>();
+		for (Map.Entry<IType, Node> entry : fNodes.entrySet()) {
+			if (entry.getValue().fSuperclass == null && !Flags.isInterface(getCachedFlags(entry.getKey())))
+				result.add(entry.getKey());
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	/**
+	 * Returns the interfaces of the model that have no super interfaces.
+	 *
+	 * @return the root interfaces
+	 * @see ITypeHierarchy#getRootInterfaces()
+	 */
+	public IType[] getRootInterfaces() {
+		List<IType> result= new ArrayList<>();
+		for (Map.Entry<IType, Node> entry : fNodes.entrySet()) {
+			if (entry.getValue().fSuperInterfaces.length == 0 && Flags.isInterface(getCachedFlags(entry.getKey())))
+				result.add(entry.getKey());
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	/**
+	 * Returns the types of the model that are contained in an element.
+	 *
+	 * @param element a compilation unit, class file or type
+	 * @return the types in the element
+	 */
+	public List<IType> getTypesIn(IJavaElement element) {
+		List<IType> result= new ArrayList<>();
+		for (IType type : fNodes.keySet()) {
+			for (IJavaElement parent= type; parent != null; parent= parent.getParent()) {
+				if (parent.equals(element)) {
+					result.add(type);
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a model in which the position of the given types has been recomputed. Types that
+	 * no longer exist or are no longer subtypes of the type of the model are removed together with
+	 * the subtypes that are only reachable through them. Types that have become subtypes are added
+	 * together with their own subtypes.
+	 *
+	 * @param types the added, removed and changed types
+	 * @param pm the progress monitor
+	 * @return the updated model, or <code>null</code> if the model cannot be updated incrementally
+	 *         because it is partial, it is on a region, or the type of the model or one of its
+	 *         supertypes has changed
+	 * @throws JavaModelException if the hierarchy of a changed type cannot be computed
+	 */
+	public TypeHierarchyModel update(Collection<IType> types, IProgressMonitor pm) throws JavaModelException {
+		if (!fIsComplete || fType == null)
+			return null;
+		List<IType> focusTypes= new ArrayList<>(Arrays.asList(getAllSupertypes(fType)));
+		focusTypes.add(fType);
+		for (IType type : types) {
+			if (focusTypes.contains(type))
+				return null;
+		}
+
+		SubMonitor progress= SubMonitor.convert(pm, types.size());
+		TypeHierarchyModel model= new TypeHierarchyModel(this);
+		for (IType type : types) {
+			if (type.exists()) {
+				model.updateType(type, progress.split(1));
+			} else {
+				model.removeType(type);
+				progress.worked(1);
+			}
+		}
+		model.removeUnreachableTypes();
+		return model;
+	}
+
+	private void updateType(IType type, IProgressMonitor pm) throws JavaModelException {
+		SubMonitor progress= SubMonitor.convert(pm, 2);
+		ITypeHierarchy supertypeHierarchy= type.newSupertypeHierarchy(progress.split(1));
+		IType superclass= supertypeHierarchy.getSuperclass(type);
+		IType[] superInterfaces= supertypeHierarchy.getSuperInterfaces(type);
+
+		Node node= fNodes.get(type);
+		if (node != null) {
+			// a type that is no longer a subtype is removed later if it is not reachable otherwise
+			unlink(type, node);
+			node.fSuperclass= superclass;
+			node.fSuperInterfaces= superInterfaces;
+			node.fFlags= supertypeHierarchy.getCachedFlags(type);
+			addTypes(supertypeHierarchy);
+			link(type, node);
+			return;
+		}
+
+		boolean isSubtype= isSubtypeOfType(superclass);
+		for (IType superInterface : superInterfaces) {
+			isSubtype|= isSubtypeOfType(superInterface);
+		}
+		if (isSubtype) {
+			// the subtypes of a type entering the hierarchy are not known yet
+			addTypes(type.newTypeHierarchy(progress.split(1)));
+		}
+	}
+
+	private boolean isSubtypeOfType(IType type) {
+		if (type == null || !fNodes.containsKey(type))
+			return false;
+		return type.equals(fType) || Arrays.asList(getAllSupertypes(type)).contains(fType);
+	}
+
+	private void removeType(IType type) {
+		Node node= fNodes.remove(type);
+		if (node == null)
+			return;
+		unlink(type, node);
+		for (IType subtype : node.fSubtypes) {
+			Node subNode= fNodes.get(subtype);
+			if (subNode == null)
+				continue;
+			if (type.equals(subNode.fSuperclass))
+				subNode.fSuperclass= null;
+			List<IType> superInterfaces= new ArrayList<>(Arrays.asList(subNode.fSuperInterfaces));
+			if (superInterfaces.remove(type))
+				subNode.fSuperInterfaces= superInterfaces.toArray(new IType[superInterfaces.size()]);
+		}
+	}
+
+	/*
+	 * Adds the types of the hierarchy that are not in the model yet.
+	 */
+	private void addTypes(ITypeHierarchy hierarchy) {
+		List<IType> added= new ArrayList<>();
+		for (IType type : hierarchy.getAllTypes()) {
+			if (!fNodes.containsKey(type)) {
+				fNodes.put(type, new Node(hierarchy.getSuperclass(type), hierarchy.getSuperInterfaces(type), hierarchy.getCachedFlags(type), new ArrayList<>()));
+				added.add(type);
+			}
+		}
+		for (IType type : added) {
+			Node node= fNodes.get(type);
+			link(type, node);
+			for (IType subtype : hierarchy.getSubtypes(type)) {
+				if (fNodes.containsKey(subtype) && !node.fSubtypes.contains(subtype))
+					node.fSubtypes.add(subtype);
+			}
+		}
+	}
+
+	private void link(IType type, Node node) {
+		for (IType supertype : getSupertypes(type)) {
+			Node superNode= fNodes.get(supertype);
+			if (superNode != null && !superNode.fSubtypes.contains(type))
+				superNode.fSubtypes.add(type);
+		}
+	}
+
+	private void unlink(IType type, Node node) {
+		if (node.fSuperclass != null)
+			unlinkFrom(type, node.fSuperclass);
+		for (IType superInterface : node.fSuperInterfaces) {
+			unlinkFrom(type, superInterface);
+		}
+	}
+
+	private void unlinkFrom(IType type, IType supertype) {
+		Node superNode= fNodes.get(supertype);
+		if (superNode != null)
+			superNode.fSubtypes.remove(type);
+	}
+
+	/*
+	 * Keeps the subtypes of the type of the model and all their supertypes.
+	 */
+	private void removeUnreachableTypes() {
+		Set<IType> reachable= new HashSet<>();
+		Deque<IType> queue= new ArrayDeque<>();
+		queue.add(fType);
+		while (!queue.isEmpty()) {
+			IType type= queue.remove();
+			Node node= fNodes.get(type);
+			if (node != null && reachable.add(type))
+				queue.addAll(node.fSubtypes);
+		}
+		queue.addAll(reachable);
+		while (!queue.isEmpty()) {
+			for (IType supertype : getSupertypes(queue.remove())) {
+				if (fNodes.containsKey(supertype) && reachable.add(supertype))
+					queue.add(supertype);
+			}
+		}
+		fNodes.keySet().retainAll(reachable);
+		for (Node node : fNodes.values()) {
+			node.fSubtypes.retainAll(reachable);
+		}
+	}
+}
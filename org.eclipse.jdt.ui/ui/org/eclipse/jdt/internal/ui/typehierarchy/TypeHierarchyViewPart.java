@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1883,6 +1883,19 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 		setKeepShowingEmptyViewers(false);
 	}
 
+	/**
+	 * Refreshes the viewers after the hierarchy of the current input has been completed or
+	 * updated, keeping their selection and expanded types.
+	 *
+	 * @since 3.27
+	 */
+	public void refreshViewers() {
+		if (fInputElements == null)
+			return;
+		fMethodsViewer.refresh();
+		updateHierarchyViewer(false);
+	}
+
 	/**
 	 * Sets whether empty viewers should keep showing. If false, replace with fEmptyTypesViewer.
 	 *
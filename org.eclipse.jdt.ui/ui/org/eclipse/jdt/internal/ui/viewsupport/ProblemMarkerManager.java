@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,15 +57,21 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private static class ProjectErrorVisitor implements IResourceDeltaVisitor {
 
 		private HashSet<IResource> fChangedElements;
+		private ProblemSeverityIndex fSeverityIndex;
 
-		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
+		public ProjectErrorVisitor(HashSet<IResource> changedElements, ProblemSeverityIndex severityIndex) {
 			fChangedElements= changedElements;
+			fSeverityIndex= severityIndex;
 		}
 
 		@Override
 		public boolean visit(IResourceDelta delta) throws CoreException {
 			IResource res= delta.getResource();
 			if (res instanceof IProject && delta.getKind() == IResourceDelta.CHANGED) {
+				if ((delta.getFlags() & IResourceDelta.OPEN) != 0) {
+					// the markers are searched again when the project is next decorated
+					fSeverityIndex.remove(res);
+				}
 				IProject project= (IProject) res;
 				if (!project.isAccessible()) {
 					// only track open Java projects
@@ -76,9 +82,14 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			return true;
 		}
 
-		private void checkInvalidate(IResourceDelta delta, IResource resource) {
+		private void checkInvalidate(IResourceDelta delta, IResource resource) throws CoreException {
 			int kind= delta.getKind();
 			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
+				if (kind == IResourceDelta.REMOVED) {
+					fSeverityIndex.remove(resource);
+				} else if (resource.getType() != IResource.ROOT) {
+					fSeverityIndex.update(resource);
+				}
 				// invalidate the resource and all parents
 				while (resource.getType() != IResource.ROOT && fChangedElements.add(resource)) {
 					resource= resource.getParent();
@@ -109,6 +120,8 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	private final ProblemSeverityIndex fSeverityIndex= new ProblemSeverityIndex();
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -123,9 +136,11 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		try {
 			IResourceDelta delta= event.getDelta();
-			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+			if (delta != null) {
+				delta.accept(new ProjectErrorVisitor(changedElements, fSeverityIndex));
+			}
 		} catch (CoreException e) {
+			fSeverityIndex.clear();
 			JavaPlugin.log(e.getStatus());
 		}
 
@@ -174,7 +189,29 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fSeverityIndex.clear();
+		}
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers (including subtypes) on the given
+	 * resource. While listeners are registered, marker changes are rolled up into a shared index
+	 * and the result is answered from it, otherwise the markers are searched.
+	 *
+	 * @param resource the resource
+	 * @param depth one of {@link IResource#DEPTH_ZERO}, {@link IResource#DEPTH_ONE} or
+	 *            {@link IResource#DEPTH_INFINITE}
+	 * @return the maximum severity, or -1 if there are no problem markers
+	 * @throws CoreException if the markers cannot be accessed
+	 * @see IResource#findMaxProblemSeverity(String, boolean, int)
+	 * @since 3.27
+	 */
+	public int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		if (fListeners.isEmpty()) {
+			// marker changes are not tracked, the index might be stale
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
 		}
+		return fSeverityIndex.findMaxProblemSeverity(resource, depth);
 	}
 
 	private void fireChanges() {
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Index of the maximum problem marker severity of resources, shared by all problem decorators.
+ * <p>
+ * The markers of a project are searched once, when a severity in the project is first asked
+ * for. From then on the index is kept up to date by the {@link ProblemMarkerManager}: when the
+ * problem markers of a resource change, only the markers of that resource are searched, and the
+ * change is rolled up the parent chain. Every entry counts its children by severity, so a parent
+ * is updated in constant time and the roll-up stops at the first parent whose maximum severity
+ * does not change.
+ * </p>
+ * <p>
+ * Entries only exist for resources with problem markers and their parents.
+ * </p>
+ *
+ * @since 3.27
+ */
+final class ProblemSeverityIndex {
+
+	/**
+	 * Severity of resources without problem markers, as returned by
+	 * {@link IResource#findMaxProblemSeverity(String, boolean, int)}.
+	 */
+	private static final int NO_SEVERITY= -1;
+
+	private static final int SEVERITIES= IMarker.SEVERITY_ERROR + 1;
+
+	private static final class Entry {
+		final IResource fResource;
+		final Entry fParent;
+		Map<IResource, Entry> fChildren;
+		/** The maximum severity of the markers on the resource itself. */
+		int fSeverity= NO_SEVERITY;
+		/** The maximum severity of the markers on the resource and its descendants. */
+		int fMaxSeverity= NO_SEVERITY;
+		/** The number of children by {@link #fSeverity}. */
+		final int[] fChildSeverities= new int[SEVERITIES];
+		/** The number of children by {@link #fMaxSeverity}. */
+		final int[] fChildMaxSeverities= new int[SEVERITIES];
+
+		Entry(IResource resource, Entry parent) {
+			fResource= resource;
+			fParent= parent;
+		}
+	}
+
+	private final Map<IResource, Entry> fEntries= new HashMap<>();
+
+	/**
+	 * Returns the maximum severity of the problem markers on the given resource.
+	 *
+	 * @param resource the resource
+	 * @param depth one of {@link IResource#DEPTH_ZERO}, {@link IResource#DEPTH_ONE} or
+	 *            {@link IResource#DEPTH_INFINITE}
+	 * @return the maximum severity, or -1 if there are no problem markers
+	 * @throws CoreException if the markers cannot be accessed
+	 */
+	synchronized int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		IProject project= resource.getProject();
+		if (project == null || !project.isAccessible()) {
+			// the workspace root, or a resource of a closed project
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		}
+		if (!fEntries.containsKey(project)) {
+			load(project);
+		}
+		Entry entry= fEntries.get(resource);
+		if (entry == null)
+			return NO_SEVERITY;
+		switch (depth) {
+			case IResource.DEPTH_ZERO:
+				return entry.fSeverity;
+			case IResource.DEPTH_ONE:
+				return Math.max(entry.fSeverity, getMax(entry.fChildSeverities));
+			default:
+				return entry.fMaxSeverity;
+		}
+	}
+
+	/**
+	 * Searches the problem markers of the given resource again, after they have changed or the
+	 * resource has been added. The markers of the descendants are not searched.
+	 *
+	 * @param resource the resource
+	 * @throws CoreException if the markers cannot be accessed
+	 */
+	synchronized void update(IResource resource) throws CoreException {
+		IProject project= resource.getProject();
+		if (project == null || !fEntries.containsKey(project))
+			return; // not loaded
+		int severity= NO_SEVERITY;
+		if (resource.exists()) {
+			severity= normalize(resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO));
+		}
+		setSeverity(resource, severity);
+	}
+
+	/**
+	 * Removes the given resource and its descendants, after the resource has been removed. If the
+	 * resource is a project, the index searches its markers again when next asked for a severity
+	 * in the project.
+	 *
+	 * @param resource the resource
+	 */
+	synchronized void remove(IResource resource) {
+		Entry entry= fEntries.get(resource);
+		if (entry == null)
+			return;
+		removeDescendants(entry);
+		fEntries.remove(resource);
+		Entry parent= entry.fParent;
+		if (parent != null) {
+			adjust(parent.fChildSeverities, entry.fSeverity, NO_SEVERITY);
+			adjust(parent.fChildMaxSeverities, entry.fMaxSeverity, NO_SEVERITY);
+			parent.fChildren.remove(resource);
+			rollUp(parent);
+			prune(parent);
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	synchronized void clear() {
+		fEntries.clear();
+	}
+
+	private void load(IProject project) throws CoreException {
+		Map<IResource, Integer> severities= new HashMap<>();
+		for (IMarker marker : project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			int severity= normalize(marker.getAttribute(IMarker.SEVERITY, NO_SEVERITY));
+			if (severity != NO_SEVERITY) {
+				severities.merge(marker.getResource(), Integer.valueOf(severity), (a, b) -> a.intValue() >= b.intValue() ? a : b);
+			}
+		}
+		fEntries.put(project, new Entry(project, null));
+		for (Map.Entry<IResource, Integer> severity : severities.entrySet()) {
+			setSeverity(severity.getKey(), severity.getValue().intValue());
+		}
+	}
+
+	private void setSeverity(IResource resource, int severity) {
+		Entry entry= fEntries.get(resource);
+		if (entry == null) {
+			if (severity == NO_SEVERITY)
+				return;
+			entry= getOrCreate(resource);
+		}
+		if (entry.fSeverity == severity)
+			return;
+		if (entry.fParent != null) {
+			adjust(entry.fParent.fChildSeverities, entry.fSeverity, severity);
+		}
+		entry.fSeverity= severity;
+		rollUp(entry);
+		prune(entry);
+	}
+
+	private Entry getOrCreate(IResource resource) {
+		Entry entry= fEntries.get(resource);
+		if (entry == null) {
+			Entry parent= getOrCreate(resource.getParent());
+			entry= new Entry(resource, parent);
+			if (parent.fChildren == null)
+				parent.fChildren= new HashMap<>();
+			parent.fChildren.put(resource, entry);
+			fEntries.put(resource, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Recomputes the maximum severity of the given entry and of its parents, up to the first
+	 * entry whose maximum severity does not change.
+	 */
+	private static void rollUp(Entry entry) {
+		while (entry != null) {
+			int maxSeverity= Math.max(entry.fSeverity, getMax(entry.fChildMaxSeverities));
+			if (maxSeverity == entry.fMaxSeverity)
+				return;
+			if (entry.fParent != null) {
+				adjust(entry.fParent.fChildMaxSeverities, entry.fMaxSeverity, maxSeverity);
+			}
+			entry.fMaxSeverity= maxSeverity;
+			entry= entry.fParent;
+		}
+	}
+
+	/**
+	 * Removes the given entry and its parents as long as they have neither problem markers nor
+	 * children. Project entries are kept.
+	 */
+	private void prune(Entry entry) {
+		while (entry.fParent != null && entry.fSeverity == NO_SEVERITY && (entry.fChildren == null || entry.fChildren.isEmpty())) {
+			entry.fParent.fChildren.remove(entry.fResource);
+			fEntries.remove(entry.fResource);
+			entry= entry.fParent;
+		}
+	}
+
+	private void removeDescendants(Entry entry) {
+		if (entry.fChildren == null)
+			return;
+		for (Entry child : entry.fChildren.values()) {
+			removeDescendants(child);
+			fEntries.remove(child.fResource);
+		}
+	}
+
+	private static void adjust(int[] counts, int oldSeverity, int newSeverity) {
+		if (oldSeverity != NO_SEVERITY)
+			counts[oldSeverity]--;
+		if (newSeverity != NO_SEVERITY)
+			counts[newSeverity]++;
+	}
+
+	private static int getMax(int[] counts) {
+		for (int severity= counts.length - 1; severity >= 0; severity--) {
+			if (counts[severity] > 0)
+				return severity;
+		}
+		return NO_SEVERITY;
+	}
+
+	private static int normalize(int severity) {
+		if (severity < 0)
+			return NO_SEVERITY;
+		return Math.min(severity, IMarker.SEVERITY_ERROR);
+	}
+}
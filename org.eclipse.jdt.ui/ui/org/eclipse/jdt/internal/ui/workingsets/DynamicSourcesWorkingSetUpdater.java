@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Till Brychcy and others.
+ * Copyright (c) 2018, 2026 Till Brychcy and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -243,13 +243,21 @@ public class DynamicSourcesWorkingSetUpdater implements IWorkingSetUpdater2 {
 	private static void updateWorkingSets(IWorkingSet[] workingSets, Map<String, IAdaptable[]> data) {
 		for (IWorkingSet w : workingSets) {
 			if (MAIN_NAME.equals(w.getName())) {
-				w.setElements(data.get(MAIN_NAME));
+				setElements(w, data.get(MAIN_NAME));
 			} else if (TEST_NAME.equals(w.getName())) {
-				w.setElements(data.get(TEST_NAME));
+				setElements(w, data.get(TEST_NAME));
 			}
 		}
 	}
 
+	private static void setElements(IWorkingSet workingSet, IAdaptable[] elements) {
+		// only the source folders that were added or removed are touched in the shared index
+		WorkingSetIndex index= WorkingSetIndex.find(workingSet);
+		if (index != null)
+			index.update(elements);
+		workingSet.setElements(elements);
+	}
+
 	private Map<String, IAdaptable[]> collectData(IProgressMonitor monitor) throws CoreException {
 		Map<String, IAdaptable[]> data = new HashMap<>();
 		data.put(MAIN_NAME, new IAdaptable[0]);
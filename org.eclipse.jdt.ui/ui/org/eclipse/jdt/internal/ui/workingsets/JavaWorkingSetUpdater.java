@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,8 @@ public class JavaWorkingSetUpdater implements IWorkingSetUpdater, IElementChange
 	private static class WorkingSetDelta {
 		private IWorkingSet fWorkingSet;
 		private List<IAdaptable> fElements;
+		private List<IAdaptable> fAdded= new ArrayList<>();
+		private List<IAdaptable> fRemoved= new ArrayList<>();
 		private boolean fChanged;
 		public WorkingSetDelta(IWorkingSet workingSet) {
 			fWorkingSet= workingSet;
@@ -60,16 +62,24 @@ public class JavaWorkingSetUpdater implements IWorkingSetUpdater, IElementChange
 			return fElements.indexOf(element);
 		}
 		public void set(int index, IAdaptable element) {
-			fElements.set(index, element);
+			IAdaptable old= fElements.set(index, element);
+			fRemoved.add(old);
+			fAdded.add(element);
 			fChanged= true;
 		}
 		public void remove(int index) {
-			if (fElements.remove(index) != null) {
+			IAdaptable old= fElements.remove(index);
+			if (old != null) {
+				fRemoved.add(old);
 				fChanged= true;
 			}
 		}
 		public void process() {
 			if (fChanged) {
+				// the shared index then finds no changes when it compares the new content
+				WorkingSetIndex index= WorkingSetIndex.find(fWorkingSet);
+				if (index != null)
+					index.elementsChanged(fAdded, fRemoved);
 				fWorkingSet.setElements(fElements.toArray(new IAdaptable[fElements.size()]));
 			}
 		}
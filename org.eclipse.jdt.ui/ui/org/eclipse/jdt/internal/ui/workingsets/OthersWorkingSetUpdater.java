@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,9 @@ public class OthersWorkingSetUpdater implements IWorkingSetUpdater {
 			if (IWorkingSetManager.CHANGE_WORKING_SET_CONTENT_CHANGE.equals(event.getProperty())) {
 				IWorkingSet changedWorkingSet= (IWorkingSet) event.getNewValue();
 				if (changedWorkingSet != fWorkingSet && fWorkingSetModel.isActiveWorkingSet(changedWorkingSet)) {
+					WorkingSetIndex index= WorkingSetIndex.find(changedWorkingSet);
+					if (index != null)
+						index.invalidate();
 					updateElements();
 				}
 			}
@@ -179,12 +182,7 @@ public class OthersWorkingSetUpdater implements IWorkingSetUpdater {
 			if (activeWorkingSet == fWorkingSet) {
 				continue;
 			}
-			for (IAdaptable element : activeWorkingSet.getElements()) {
-				IResource resource= element.getAdapter(IResource.class);
-				if (resource != null && resource.getType() == IResource.PROJECT) {
-					projects.add(resource);
-				}
-			}
+			projects.addAll(WorkingSetIndex.get(activeWorkingSet).getProjects());
 		}
 		IJavaModel model= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
 		try {
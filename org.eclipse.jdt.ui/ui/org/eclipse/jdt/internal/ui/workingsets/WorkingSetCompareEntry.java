@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.workingsets;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IJarEntryResource;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer.RequiredProjectWrapper;
+
+/**
+ * The element of a working set, or an element that is checked against the elements of a working
+ * set.
+ *
+ * @since 3.27
+ */
+class WorkingSetCompareEntry {
+
+	/**
+	 * Denotes an {@link IJarEntryResource} if it is
+	 * <code>null &amp;&amp; fJavaElement != null.</code>
+	 */
+	private IPath fResourcePath;
+	private IJavaElement fJavaElement;
+
+
+	WorkingSetCompareEntry(IAdaptable a) {
+		if (a instanceof IJavaElement) {
+			init((IJavaElement) a);
+		} else if (a instanceof IResource) {
+			init((IResource) a);
+		} else if (a instanceof RequiredProjectWrapper) {
+			RequiredProjectWrapper wrapper= (RequiredProjectWrapper) a;
+			IJavaProject proj= wrapper.getParentClassPathContainer().getJavaProject();
+			// the project reference is treated like an internal JAR.
+			// that means it will only appear if the parent container project is in the working set
+			IResource fakeInternal= proj.getProject().getFile(wrapper.getProject().getElementName() + "-fake-jar.jar"); //$NON-NLS-1$
+			init(proj.getPackageFragmentRoot(fakeInternal));
+		} else if (a instanceof IJarEntryResource) {
+			init((IJarEntryResource)a);
+		} else {
+			IJavaElement je= a.getAdapter(IJavaElement.class);
+			if (je != null) {
+				init(je);
+			} else {
+				IResource resource= a.getAdapter(IResource.class);
+				if (resource != null) {
+					init(resource);
+				} else {
+					fResourcePath= null;
+					fJavaElement= null;
+				}
+			}
+		}
+	}
+
+	private void init(IResource resource) {
+		fJavaElement= JavaCore.create(resource);
+		fResourcePath= resource.getFullPath();
+	}
+
+	private void init(IJavaElement curr) {
+		fJavaElement= curr;
+		fResourcePath= curr.getPath();
+	}
+
+	private void init(IJarEntryResource jarEntryResource) {
+		Object parent= jarEntryResource.getParent();
+		while (parent instanceof IJarEntryResource)
+			parent= ((IJarEntryResource)parent).getParent();
+		fJavaElement= (IJavaElement)parent;
+		fResourcePath= null;
+	}
+
+	/**
+	 * Returns the path under which the entry is indexed. Entries can only contain each other if
+	 * one of their paths is a prefix of the other, with the exceptions described in
+	 * {@link #getJavaProjectPath()} and {@link #isInExternalRoot()}.
+	 *
+	 * @return the path, or <code>null</code> if the entry neither contains nor is contained in any
+	 *         entry
+	 */
+	IPath getPath() {
+		if (fResourcePath != null)
+			return fResourcePath;
+		if (fJavaElement != null)
+			return fJavaElement.getPath();
+		return null;
+	}
+
+	/**
+	 * Returns the path of the Java project of the entry, if it is not a prefix of the
+	 * {@link #getPath() path}. This is the case for the elements in package fragment roots that
+	 * are located in another project, which are nevertheless children of the Java project.
+	 *
+	 * @return the path of the Java project, or <code>null</code>
+	 */
+	IPath getJavaProjectPath() {
+		if (fJavaElement == null)
+			return null;
+		IJavaProject project= fJavaElement.getJavaProject();
+		IPath path= getPath();
+		if (project == null || path == null || project.getPath().isPrefixOf(path))
+			return null;
+		return project.getPath();
+	}
+
+	/**
+	 * @return <code>true</code> if the entry is a Java project, which can contain the elements of
+	 *         external package fragment roots
+	 */
+	boolean isJavaProject() {
+		return fJavaElement != null && fJavaElement.getElementType() == IJavaElement.JAVA_PROJECT;
+	}
+
+	/**
+	 * @return <code>true</code> if the entry is in an external package fragment root
+	 */
+	boolean isInExternalRoot() {
+		if (fJavaElement == null)
+			return false;
+		IPackageFragmentRoot pkgRoot= (IPackageFragmentRoot) fJavaElement.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		return pkgRoot != null && pkgRoot.isExternal();
+	}
+
+	boolean contains(WorkingSetCompareEntry element) {
+		if (fJavaElement != null && element.fJavaElement != null) {
+			IJavaElement other= element.fJavaElement;
+			if (fJavaElement.getElementType() == IJavaElement.JAVA_PROJECT) {
+				IProject project= ((IJavaProject) fJavaElement).getProject();
+				if (!project.isAccessible()) {
+					// If our project is closed, return true only if the "other" is the same project
+					// to keep closed projects in the working sets
+					if (other instanceof IJavaProject) {
+						IProject otherProject= ((IJavaProject) other).getProject();
+						return project.equals(otherProject);
+					} else {
+						return false;
+					}
+				}
+				IPackageFragmentRoot pkgRoot= (IPackageFragmentRoot) other.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				if (pkgRoot != null && pkgRoot.isExternal()) {
+					if (((IJavaProject) fJavaElement).isOnClasspath(other)) {
+						return true;
+					}
+				}
+			}
+
+			// Check relationship in both directions except for IJarFileEntryResource which cannot be part of a working set
+			if (isAncestor(other, fJavaElement) || isAncestor(fJavaElement, other) && element.fResourcePath != null) {
+				return true;
+			}
+			return false;
+		}
+		if (fResourcePath != null && element.fResourcePath != null) {
+			IPath other= element.fResourcePath;
+			if (other.isPrefixOf(fResourcePath) || fResourcePath.isPrefixOf(other))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the given parent is an ancestor of the given element
+	 * or the same as the element.
+	 *
+	 * @param elem the element
+	 * @param parent the anchestor
+	 * @return <code>true</code> if it is an ancestor
+	 */
+	private boolean isAncestor(IJavaElement elem, IJavaElement parent) {
+		IJavaElement anc= elem.getAncestor(parent.getElementType());
+		if (parent.equals(anc)) {
+			return true;
+		}
+		while (anc instanceof IMember) { // ITypes can be in ITypes
+			anc= anc.getParent().getAncestor(parent.getElementType());
+			if (parent.equals(anc)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,24 +14,12 @@
 package org.eclipse.jdt.internal.ui.workingsets;
 
 import org.eclipse.core.runtime.IAdaptable;
-import org.eclipse.core.runtime.IPath;
-
-import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
 
 import org.eclipse.jface.viewers.Viewer;
 
 import org.eclipse.ui.IWorkingSet;
 
-import org.eclipse.jdt.core.IJarEntryResource;
-import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IMember;
-import org.eclipse.jdt.core.IPackageFragmentRoot;
-import org.eclipse.jdt.core.JavaCore;
-
 import org.eclipse.jdt.internal.ui.packageview.PackageFragmentRootContainer;
-import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer.RequiredProjectWrapper;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaViewerFilter;
 
 /**
@@ -39,132 +27,16 @@ import org.eclipse.jdt.internal.ui.viewsupport.JavaViewerFilter;
  */
 public class WorkingSetFilter extends JavaViewerFilter {
 
-
-	private static class WorkingSetCompareEntry {
-
-		/**
-		 * Denotes an {@link IJarEntryResource} if it is
-		 * <code>null &amp;&amp; fJavaElement != null.</code>
-		 */
-		private IPath fResourcePath;
-		private IJavaElement fJavaElement;
-
-
-		public WorkingSetCompareEntry(IAdaptable a) {
-			if (a instanceof IJavaElement) {
-				init((IJavaElement) a);
-			} else if (a instanceof IResource) {
-				init((IResource) a);
-			} else if (a instanceof RequiredProjectWrapper) {
-				RequiredProjectWrapper wrapper= (RequiredProjectWrapper) a;
-				IJavaProject proj= wrapper.getParentClassPathContainer().getJavaProject();
-				// the project reference is treated like an internal JAR.
-				// that means it will only appear if the parent container project is in the working set
-				IResource fakeInternal= proj.getProject().getFile(wrapper.getProject().getElementName() + "-fake-jar.jar"); //$NON-NLS-1$
-				init(proj.getPackageFragmentRoot(fakeInternal));
-			} else if (a instanceof IJarEntryResource) {
-				init((IJarEntryResource)a);
-			} else {
-				IJavaElement je= a.getAdapter(IJavaElement.class);
-				if (je != null) {
-					init(je);
-				} else {
-					IResource resource= a.getAdapter(IResource.class);
-					if (resource != null) {
-						init(resource);
-					} else {
-						fResourcePath= null;
-						fJavaElement= null;
-					}
-				}
-			}
-		}
-
-		private void init(IResource resource) {
-			fJavaElement= JavaCore.create(resource);
-			fResourcePath= resource.getFullPath();
-		}
-
-		private void init(IJavaElement curr) {
-			fJavaElement= curr;
-			fResourcePath= curr.getPath();
-		}
-
-		private void init(IJarEntryResource jarEntryResource) {
-			Object parent= jarEntryResource.getParent();
-			while (parent instanceof IJarEntryResource)
-				parent= ((IJarEntryResource)parent).getParent();
-			fJavaElement= (IJavaElement)parent;
-			fResourcePath= null;
-		}
-
-		public boolean contains(WorkingSetCompareEntry element) {
-			if (fJavaElement != null && element.fJavaElement != null) {
-				IJavaElement other= element.fJavaElement;
-				if (fJavaElement.getElementType() == IJavaElement.JAVA_PROJECT) {
-					IProject project= ((IJavaProject) fJavaElement).getProject();
-					if (!project.isAccessible()) {
-						// If our project is closed, return true only if the "other" is the same project
-						// to keep closed projects in the working sets
-						if (other instanceof IJavaProject) {
-							IProject otherProject= ((IJavaProject) other).getProject();
-							return project.equals(otherProject);
-						} else {
-							return false;
-						}
-					}
-					IPackageFragmentRoot pkgRoot= (IPackageFragmentRoot) other.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
-					if (pkgRoot != null && pkgRoot.isExternal()) {
-						if (((IJavaProject) fJavaElement).isOnClasspath(other)) {
-							return true;
-						}
-					}
-				}
-
-				// Check relationship in both directions except for IJarFileEntryResource which cannot be part of a working set
-				if (isAncestor(other, fJavaElement) || isAncestor(fJavaElement, other) && element.fResourcePath != null) {
-					return true;
-				}
-				return false;
-			}
-			if (fResourcePath != null && element.fResourcePath != null) {
-				IPath other= element.fResourcePath;
-				if (other.isPrefixOf(fResourcePath) || fResourcePath.isPrefixOf(other))
-					return true;
-			}
-			return false;
-		}
-
-		/**
-		 * Check whether the given parent is an ancestor of the given element
-		 * or the same as the element.
-		 *
-		 * @param elem the element
-		 * @param parent the anchestor
-		 * @return <code>true</code> if it is an ancestor
-		 */
-		private boolean isAncestor(IJavaElement elem, IJavaElement parent) {
-			IJavaElement anc= elem.getAncestor(parent.getElementType());
-			if (parent.equals(anc)) {
-				return true;
-			}
-			while (anc instanceof IMember) { // ITypes can be in ITypes
-				anc= anc.getParent().getAncestor(parent.getElementType());
-				if (parent.equals(anc)) {
-					return true;
-				}
-			}
-			return false;
-		}
-	}
-
 	private IWorkingSet fWorkingSet;
 
-	private WorkingSetCompareEntry[] fCachedCompareEntries;
+	/**
+	 * The index of the working set, shared with the other filters of the same working set.
+	 */
+	private WorkingSetIndex fIndex;
 
 	public WorkingSetFilter() {
 		fWorkingSet= null;
-		fCachedCompareEntries= null;
+		fIndex= null;
 	}
 
 	/**
@@ -198,19 +70,16 @@ public class WorkingSetFilter extends JavaViewerFilter {
 	 */
 	public final void notifyWorkingSetContentChange() {
 		if (fWorkingSet != null) {
-			IAdaptable[] elements= fWorkingSet.getElements();
-			fCachedCompareEntries= new WorkingSetCompareEntry[elements.length];
-			for (int i= 0; i < elements.length; i++) {
-				fCachedCompareEntries[i]= new WorkingSetCompareEntry(elements[i]);
-			}
+			fIndex= WorkingSetIndex.get(fWorkingSet);
+			fIndex.invalidate();
 		} else {
-			fCachedCompareEntries= null;
+			fIndex= null;
 		}
 	}
 
 	@Override
 	protected void freeFilter() {
-		fCachedCompareEntries= null;
+		fIndex= null;
 	}
 
 	/*
@@ -232,21 +101,14 @@ public class WorkingSetFilter extends JavaViewerFilter {
 	}
 
 	public boolean isEnclosing(IAdaptable a) {
-		WorkingSetCompareEntry curr= new WorkingSetCompareEntry(a);
-		if (fCachedCompareEntries != null) {
-			for (WorkingSetCompareEntry entry : fCachedCompareEntries) {
-				if (entry.contains(curr)) {
-					return  true;
-				}
-			}
-			return false;
+		if (fIndex != null) {
+			return fIndex.isEnclosing(a);
 		}
 		if (fWorkingSet != null) {
-			for (IAdaptable element : fWorkingSet.getElements()) {
-				if (new WorkingSetCompareEntry(element).contains(curr)) {
-					return true;
-				}
-			}
+			// not initialized, nobody tells us about content changes
+			WorkingSetIndex index= WorkingSetIndex.get(fWorkingSet);
+			index.update(fWorkingSet.getElements());
+			return index.isEnclosing(a);
 		}
 		return false;
 	}
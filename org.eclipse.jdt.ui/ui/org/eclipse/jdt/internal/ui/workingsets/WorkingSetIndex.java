@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.workingsets;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.util.IPropertyChangeListener;
+
+import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.IWorkingSetManager;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * An index of the elements of a working set, which answers whether an element is enclosed in the
+ * working set in time proportional to the depth of the path of the element.
+ * <p>
+ * The elements are stored in a trie of path segments. An element can only be enclosed in the
+ * working set if the path of a working set element is a prefix of its path, or if its path is a
+ * prefix of the path of a working set element, so only the working set elements on the path of the
+ * element and below it have to be compared with the element. The exceptions are handled by
+ * indexing the elements of package fragment roots located in another project also under the path
+ * of their Java project, and by comparing elements in external package fragment roots with all
+ * Java projects of the working set.
+ * </p>
+ * <p>
+ * There is one index per working set, shared by all its clients. The index is updated when the
+ * working set content changes: the working set updaters apply the changes they make, and other
+ * changes are picked up by comparing the new elements with the indexed ones on the next access.
+ * Only the elements that were added or removed are added to or removed from the trie.
+ * </p>
+ *
+ * @since 3.27
+ */
+public final class WorkingSetIndex {
+
+	private static final class Node {
+		Map<String, Node> fChildren;
+		List<WorkingSetCompareEntry> fEntries;
+
+		Node getChild(String segment) {
+			return fChildren != null ? fChildren.get(segment) : null;
+		}
+
+		boolean isEmpty() {
+			return (fChildren == null || fChildren.isEmpty()) && (fEntries == null || fEntries.isEmpty());
+		}
+	}
+
+	/** Returned by {@link #containsAnyOnPath(IPath, WorkingSetCompareEntry)} if an entry contains the element. */
+	private static final Node FOUND= new Node();
+
+	private static final List<WorkingSetIndex> fgIndexes= new ArrayList<>();
+
+	private static IPropertyChangeListener fgWorkingSetListener;
+
+	private final WeakReference<IWorkingSet> fWorkingSet;
+
+	private final Map<IAdaptable, WorkingSetCompareEntry> fEntries= new HashMap<>();
+
+	private final Node fRoot= new Node();
+
+	/** The entries that are Java projects, which can contain elements of external roots. */
+	private final List<WorkingSetCompareEntry> fJavaProjectEntries= new ArrayList<>();
+
+	/** The number of elements that adapt to a project, by project. */
+	private final Map<IResource, Integer> fProjects= new HashMap<>();
+
+	private boolean fStale;
+
+	private WorkingSetIndex(IWorkingSet workingSet) {
+		fWorkingSet= new WeakReference<>(workingSet);
+		update(workingSet.getElements());
+	}
+
+	/**
+	 * Returns the shared index of a working set, creating it if it does not exist yet.
+	 *
+	 * @param workingSet the working set
+	 * @return the index
+	 */
+	public static WorkingSetIndex get(IWorkingSet workingSet) {
+		synchronized (fgIndexes) {
+			WorkingSetIndex index= find(workingSet);
+			if (index == null) {
+				index= new WorkingSetIndex(workingSet);
+				fgIndexes.add(index);
+				addWorkingSetListener();
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the shared index of a working set, if it exists.
+	 *
+	 * @param workingSet the working set
+	 * @return the index, or <code>null</code> if no client has asked for it
+	 */
+	public static WorkingSetIndex find(IWorkingSet workingSet) {
+		synchronized (fgIndexes) {
+			for (Iterator<WorkingSetIndex> iter= fgIndexes.iterator(); iter.hasNext();) {
+				WorkingSetIndex index= iter.next();
+				IWorkingSet current= index.fWorkingSet.get();
+				if (current == null)
+					iter.remove();
+				else if (current == workingSet)
+					return index;
+			}
+			return null;
+		}
+	}
+
+	private static void addWorkingSetListener() {
+		if (fgWorkingSetListener != null || !PlatformUI.isWorkbenchRunning())
+			return;
+		fgWorkingSetListener= event -> {
+			if (IWorkingSetManager.CHANGE_WORKING_SET_CONTENT_CHANGE.equals(event.getProperty())) {
+				WorkingSetIndex index= find((IWorkingSet) event.getNewValue());
+				if (index != null)
+					index.invalidate();
+			} else if (IWorkingSetManager.CHANGE_WORKING_SET_REMOVE.equals(event.getProperty())) {
+				IWorkingSet workingSet= (IWorkingSet) event.getOldValue();
+				synchronized (fgIndexes) {
+					fgIndexes.removeIf(index -> index.fWorkingSet.get() == workingSet);
+				}
+			}
+		};
+		PlatformUI.getWorkbench().getWorkingSetManager().addPropertyChangeListener(fgWorkingSetListener);
+	}
+
+	/**
+	 * Marks the index as out of date. It is compared with the working set content on the next
+	 * access.
+	 */
+	public synchronized void invalidate() {
+		fStale= true;
+	}
+
+	/**
+	 * Returns whether an element is enclosed in the working set, see
+	 * {@link WorkingSetFilter#isEnclosing(IAdaptable)}.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element is enclosed in the working set
+	 */
+	public synchronized boolean isEnclosing(IAdaptable element) {
+		validate();
+		WorkingSetCompareEntry curr= new WorkingSetCompareEntry(element);
+		IPath path= curr.getPath();
+		if (path == null)
+			return false;
+		Node node= containsAnyOnPath(path, curr);
+		if (node == FOUND || node != null && containsAnyBelow(node, curr))
+			return true;
+		IPath projectPath= curr.getJavaProjectPath();
+		if (projectPath != null && containsAnyOnPath(projectPath, curr) == FOUND)
+			return true;
+		if (curr.isInExternalRoot() && containsAny(fJavaProjectEntries, curr))
+			return true;
+		return false;
+	}
+
+	/**
+	 * Compares the element with the entries on the given path.
+	 *
+	 * @return {@link #FOUND} if an entry contains the element, otherwise the node of the path, or
+	 *         <code>null</code> if the path is not in the trie
+	 */
+	private Node containsAnyOnPath(IPath path, WorkingSetCompareEntry curr) {
+		Node node= fRoot;
+		for (String segment : path.segments()) {
+			if (containsAny(node.fEntries, curr))
+				return FOUND;
+			node= node.getChild(segment);
+			if (node == null)
+				return null;
+		}
+		return containsAny(node.fEntries, curr) ? FOUND : node;
+	}
+
+	private static boolean containsAnyBelow(Node node, WorkingSetCompareEntry curr) {
+		if (node.fChildren == null)
+			return false;
+		for (Node child : node.fChildren.values()) {
+			if (containsAny(child.fEntries, curr) || containsAnyBelow(child, curr))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean containsAny(List<WorkingSetCompareEntry> entries, WorkingSetCompareEntry curr) {
+		if (entries != null) {
+			for (WorkingSetCompareEntry entry : entries) {
+				if (entry.contains(curr))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the projects that elements of the working set adapt to.
+	 *
+	 * @return the projects
+	 */
+	public synchronized Set<IResource> getProjects() {
+		validate();
+		return new HashSet<>(fProjects.keySet());
+	}
+
+	/**
+	 * Applies a change that is about to be made to the working set content.
+	 *
+	 * @param added the elements that are added
+	 * @param removed the elements that are removed
+	 */
+	public synchronized void elementsChanged(Collection<IAdaptable> added, Collection<IAdaptable> removed) {
+		for (IAdaptable element : removed) {
+			if (element != null)
+				removeElement(element);
+		}
+		for (IAdaptable element : added) {
+			if (element != null)
+				addElement(element);
+		}
+	}
+
+	/**
+	 * Updates the index to contain the given elements. Only the elements that were added or
+	 * removed are touched.
+	 *
+	 * @param elements the new content of the working set
+	 */
+	public synchronized void update(IAdaptable[] elements) {
+		Set<IAdaptable> newElements= new HashSet<>(elements.length);
+		for (IAdaptable element : elements) {
+			if (element != null)
+				newElements.add(element);
+		}
+		for (IAdaptable element : new ArrayList<>(fEntries.keySet())) {
+			if (!newElements.contains(element))
+				removeElement(element);
+		}
+		for (IAdaptable element : newElements) {
+			if (!fEntries.containsKey(element))
+				addElement(element);
+		}
+		fStale= false;
+	}
+
+	private void validate() {
+		if (fStale) {
+			IWorkingSet workingSet= fWorkingSet.get();
+			if (workingSet != null)
+				update(workingSet.getElements());
+		}
+	}
+
+	private void addElement(IAdaptable element) {
+		if (fEntries.containsKey(element))
+			return;
+		WorkingSetCompareEntry entry= new WorkingSetCompareEntry(element);
+		fEntries.put(element, entry);
+		IPath path= entry.getPath();
+		if (path != null)
+			getNode(path, true).fEntries.add(entry);
+		IPath projectPath= entry.getJavaProjectPath();
+		if (projectPath != null)
+			getNode(projectPath, true).fEntries.add(entry);
+		if (entry.isJavaProject())
+			fJavaProjectEntries.add(entry);
+		IResource project= getProject(element);
+		if (project != null)
+			fProjects.merge(project, Integer.valueOf(1), (count, one) -> Integer.valueOf(count.intValue() + 1));
+	}
+
+	private void removeElement(IAdaptable element) {
+		WorkingSetCompareEntry entry= fEntries.remove(element);
+		if (entry == null)
+			return;
+		IPath path= entry.getPath();
+		if (path != null)
+			removeFromNode(path, entry);
+		IPath projectPath= entry.getJavaProjectPath();
+		if (projectPath != null)
+			removeFromNode(projectPath, entry);
+		if (entry.isJavaProject())
+			fJavaProjectEntries.remove(entry);
+		IResource project= getProject(element);
+		if (project != null)
+			fProjects.computeIfPresent(project, (p, count) -> count.intValue() > 1 ? Integer.valueOf(count.intValue() - 1) : null);
+	}
+
+	private Node getNode(IPath path, boolean create) {
+		Node node= fRoot;
+		for (String segment : path.segments()) {
+			Node child= node.getChild(segment);
+			if (child == null) {
+				if (!create)
+					return null;
+				if (node.fChildren == null)
+					node.fChildren= new HashMap<>();
+				child= new Node();
+				node.fChildren.put(segment, child);
+			}
+			node= child;
+		}
+		if (create && node.fEntries == null)
+			node.fEntries= new ArrayList<>(1);
+		return node;
+	}
+
+	private void removeFromNode(IPath path, WorkingSetCompareEntry entry) {
+		Node node= getNode(path, false);
+		if (node == null || node.fEntries == null)
+			return;
+		node.fEntries.remove(entry);
+		if (node.isEmpty())
+			prune(fRoot, path.segments(), 0);
+	}
+
+	/**
+	 * Removes the empty nodes on the given path.
+	 *
+	 * @return <code>true</code> if the node is empty after pruning
+	 */
+	private static boolean prune(Node node, String[] segments, int index) {
+		if (index < segments.length) {
+			Node child= node.getChild(segments[index]);
+			if (child != null && prune(child, segments, index + 1))
+				node.fChildren.remove(segments[index]);
+		}
+		return node.isEmpty();
+	}
+
+	private static IResource getProject(IAdaptable element) {
+		IResource resource= element.getAdapter(IResource.class);
+		return resource != null && resource.getType() == IResource.PROJECT ? resource : null;
+	}
+}
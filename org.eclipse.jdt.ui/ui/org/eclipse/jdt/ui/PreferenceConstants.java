@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -182,6 +182,18 @@ public class PreferenceConstants {
 	 */
 	public static final String APPEARANCE_FOLD_PACKAGES_IN_PACKAGE_EXPLORER= "org.eclipse.jdt.ui.flatPackagesInPackageExplorer";//$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether the package explorer computes the children of Java
+	 * projects, library containers and archives in a background job, showing a pending node while
+	 * the job runs. The preference is read when the package explorer is opened, there is no UI
+	 * for it.
+	 * <p>
+	 * Value is of type <code>Boolean</code>.
+	 * </p>
+	 * @since 3.27
+	 */
+	public static final String PACKAGE_EXPLORER_DEFERRED_CHILDREN= "org.eclipse.jdt.ui.packageExplorer.deferredChildren"; //$NON-NLS-1$
+
 	/**
 	 * A named preference that controls if entries of library containers are sorted alphabetically.
 	 * <p>
@@ -3979,6 +3991,7 @@ public class PreferenceConstants {
 		store.setDefault(PreferenceConstants.BROWSING_STACK_VERTICALLY, false);
 		store.setDefault(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW, ""); //$NON-NLS-1$
 		store.setDefault(PreferenceConstants.APPEARANCE_FOLD_PACKAGES_IN_PACKAGE_EXPLORER, true);
+		store.setDefault(PreferenceConstants.PACKAGE_EXPLORER_DEFERRED_CHILDREN, false);
 		store.setDefault(PreferenceConstants.APPEARANCE_SORT_LIBRARY_ENTRIES_BY_NAME, true);
 		store.setDefault(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES, false);
 		store.setDefault(PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW, ""); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -594,7 +594,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		severity= JavaPlugin.getDefault().getProblemMarkerManager().findMaxProblemSeverity(res, depth);
 		return convertToTick(severity);
 	}
 
@@ -602,6 +602,10 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
+		if (findMaxProblemSeverity(res, IMarker.PROBLEM, true, depth) == -1) {
+			// no need to look at the positions of individual markers
+			return 0;
+		}
 		int severity= -1;
 		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
 		if (markers != null && markers.length > 0) {
@@ -673,6 +677,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
+			if (IMarker.PROBLEM.equals(type) && includeSubtypes) {
+				return JavaPlugin.getDefault().getProblemMarkerManager().findMaxProblemSeverity(res, depth);
+			}
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IResourceStatus.RESOURCE_NOT_FOUND) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import org.junit.runners.Suite;
 
 import org.eclipse.ltk.core.refactoring.tests.history.RefactoringHistoryTests;
 import org.eclipse.ltk.core.refactoring.tests.participants.ParticipantTests;
+import org.eclipse.ltk.core.refactoring.tests.resource.DeleteResourceUndoContentsTests;
+import org.eclipse.ltk.core.refactoring.tests.resource.DeleteResourceUndoHeapTests;
 import org.eclipse.ltk.core.refactoring.tests.resource.ResourceRefactoringTests;
 import org.eclipse.ltk.core.refactoring.tests.resource.ResourceRefactoringUndoTests;
 import org.eclipse.ltk.core.refactoring.tests.scripting.RefactoringScriptingTests;
@@ -29,7 +31,10 @@ import org.eclipse.ltk.core.refactoring.tests.scripting.RefactoringScriptingTest
 	RefactoringHistoryTests.class,
 	RefactoringScriptingTests.class,
 	ResourceRefactoringTests.class,
-	ResourceRefactoringUndoTests.class
+	ResourceRefactoringUndoTests.class,
+	UndoJournalTests.class,
+	DeleteResourceUndoContentsTests.class,
+	DeleteResourceUndoHeapTests.class
 })
 public class AllTests {
 }
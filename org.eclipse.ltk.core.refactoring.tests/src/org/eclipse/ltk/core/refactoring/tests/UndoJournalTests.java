@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class UndoJournalTests {
+
+	private static final int FILE_COUNT= 600;
+
+	private SimpleTestProject fProject;
+
+	private IFile[] fFiles;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		IFolder folder= fProject.createFolder("test");
+		fFiles= new IFile[FILE_COUNT];
+		for (int i= 0; i < FILE_COUNT; i++) {
+			fFiles[i]= fProject.createFile(folder, "file" + i + ".txt", "one two three " + i);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	@Test
+	public void testUndoRedoFromJournal() throws Exception {
+		CompositeChange change= new CompositeChange("rename");
+		for (IFile file : fFiles) {
+			TextFileChange fileChange= new TextFileChange(file.getName(), file);
+			fileChange.setEdit(new ReplaceEdit(4, 3, "four"));
+			change.add(fileChange);
+		}
+
+		Change undo= perform(change);
+		assertContent("one four three ");
+
+		Change redo= perform(undo);
+		assertContent("one two three ");
+
+		Change undo2= perform(redo);
+		assertContent("one four three ");
+		undo2.dispose();
+	}
+
+	@Test
+	public void testUndoRedoSeveralEditsFromJournal() throws Exception {
+		CompositeChange change= new CompositeChange("edit");
+		for (IFile file : fFiles) {
+			TextFileChange fileChange= new TextFileChange(file.getName(), file);
+			MultiTextEdit edit= new MultiTextEdit();
+			edit.addChild(new InsertEdit(0, "zw\u00F6lf "));
+			edit.addChild(new ReplaceEdit(4, 3, "2"));
+			edit.addChild(new DeleteEdit(8, 6));
+			edit.addChild(new InsertEdit(14, "number "));
+			fileChange.setEdit(edit);
+			change.add(fileChange);
+		}
+
+		Change undo= perform(change);
+		assertContent("zw\u00F6lf one 2 number ");
+
+		Change redo= perform(undo);
+		assertContent("one two three ");
+
+		Change undo2= perform(redo);
+		assertContent("zw\u00F6lf one 2 number ");
+
+		Change redo2= perform(undo2);
+		assertContent("one two three ");
+		redo2.dispose();
+	}
+
+	private static Change perform(Change change) throws Exception {
+		NullProgressMonitor pm= new NullProgressMonitor();
+		change.initializeValidationData(pm);
+		assertTrue(change.isValid(pm).isOK());
+		Change undo= change.perform(pm);
+		change.dispose();
+		assertNotNull(undo);
+		return undo;
+	}
+
+	private void assertContent(String prefix) throws Exception {
+		for (int i= 0; i < FILE_COUNT; i++) {
+			assertEquals(prefix + i, fProject.getContent(fFiles[i]));
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.resource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.resource.DeleteResourceChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+import org.eclipse.ltk.internal.core.refactoring.resource.undostates.UndoContentStore;
+
+/**
+ * Tests that the undo change of a folder deletion keeps the contents of the deleted files in
+ * the undo content store, restores them from there and releases them when it is disposed.
+ */
+public class DeleteResourceUndoContentsTests {
+
+	private static final int FILE_COUNT= 1000;
+
+	private static final int FILE_SIZE= 16 * 1024;
+
+	/** Files with the same index modulo this number have the same contents. */
+	private static final int DISTINCT_CONTENTS= 10;
+
+	private SimpleTestProject fProject;
+
+	private IFolder fFolder;
+
+	private File fStore;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		fFolder= fProject.createFolder("generated");
+		IFolder sub= null;
+		for (int i= 0; i < FILE_COUNT; i++) {
+			if (i % 100 == 0)
+				sub= fProject.createFolder(fFolder, "sub" + i);
+			fProject.createFile(sub, "file" + i + ".txt", createContent(i % DISTINCT_CONTENTS));
+		}
+		// creating the store removes the blobs of earlier sessions
+		assertNotNull(UndoContentStore.getDefault());
+		fStore= RefactoringCorePlugin.getDefault().getStateLocation().append(".undocontents").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	private static String createContent(int seed) {
+		StringBuilder buf= new StringBuilder(FILE_SIZE);
+		while (buf.length() < FILE_SIZE) {
+			buf.append("line ").append(seed).append(' ').append(buf.length()).append('\n');
+		}
+		return buf.toString();
+	}
+
+	private int countBlobs() {
+		String[] names= fStore.list();
+		return names != null ? names.length : 0;
+	}
+
+	private IFile getFile(int i) {
+		return fFolder.getFolder("sub" + (i / 100 * 100)).getFile("file" + i + ".txt");
+	}
+
+	private Change performDelete() throws Exception {
+		NullProgressMonitor pm= new NullProgressMonitor();
+		DeleteResourceChange change= new DeleteResourceChange(fFolder.getFullPath(), true);
+		change.initializeValidationData(pm);
+		assertTrue(change.isValid(pm).isOK());
+		Change undo= change.perform(pm);
+		change.dispose();
+		assertNotNull(undo);
+		assertFalse(fFolder.exists());
+		return undo;
+	}
+
+	@Test
+	public void testContentsStoredOnDelete() throws Exception {
+		int blobs= countBlobs();
+		Change undo= performDelete();
+		// equal contents are only stored once
+		assertEquals(blobs + DISTINCT_CONTENTS, countBlobs());
+
+		undo.dispose();
+		assertEquals(blobs, countBlobs());
+	}
+
+	@Test
+	public void testContentsRestoredOnUndo() throws Exception {
+		int blobs= countBlobs();
+		Change undo= performDelete();
+		// the contents must not be taken from the local history
+		fProject.getProject().clearHistory(null);
+
+		NullProgressMonitor pm= new NullProgressMonitor();
+		undo.initializeValidationData(pm);
+		assertTrue(undo.isValid(pm).isOK());
+		Change redo= undo.perform(pm);
+		undo.dispose();
+		assertTrue(fFolder.exists());
+		for (int i= 0; i < FILE_COUNT; i++) {
+			assertEquals(createContent(i % DISTINCT_CONTENTS), fProject.getContent(getFile(i)));
+		}
+		assertEquals(blobs, countBlobs());
+
+		// the redo records the contents again
+		redo.initializeValidationData(pm);
+		assertTrue(redo.isValid(pm).isOK());
+		Change undo2= redo.perform(pm);
+		redo.dispose();
+		assertFalse(fFolder.exists());
+		assertEquals(blobs + DISTINCT_CONTENTS, countBlobs());
+		undo2.dispose();
+		assertEquals(blobs, countBlobs());
+	}
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.resource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.resource.DeleteResourceChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+import org.eclipse.ltk.internal.core.refactoring.resource.undostates.FileUndoState;
+import org.eclipse.ltk.internal.core.refactoring.resource.undostates.UndoContentStore;
+
+/**
+ * Measures the heap retained by the undo change of a folder deletion. The contents of the
+ * deleted files are kept in the undo content store, so the undo change must only keep a small
+ * description per file.
+ * <p>
+ * The retained size is estimated by walking the object graph of the undo change instead of
+ * sampling the used heap, so that the result does not depend on the garbage collector.
+ * </p>
+ */
+public class DeleteResourceUndoHeapTests {
+
+	private static final int FILE_COUNT= 1000;
+
+	private static final int FILE_SIZE= 16 * 1024;
+
+	/** Upper bound for the bytes kept by the undo change per deleted file. */
+	private static final int MAX_BYTES_PER_FILE= 1024;
+
+	/**
+	 * Estimates the size of the objects reachable from a root. Only the objects of the LTK plug-in
+	 * are followed, other objects such as resource handles are shared with the workspace and
+	 * counted with a fixed size. Sizes assume compressed references and are not exact, but they
+	 * grow with the contents if file contents are kept in memory.
+	 */
+	private static final class RetainedSize {
+
+		private static final int HEADER= 16;
+
+		private static final int REFERENCE= 4;
+
+		private final Set<Object> fVisited= Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private final Deque<Object> fPending= new ArrayDeque<>();
+
+		long fBytes;
+
+		int fFileStates;
+
+		RetainedSize(Object root) throws IllegalAccessException {
+			add(root);
+			while (!fPending.isEmpty()) {
+				visit(fPending.pop());
+			}
+		}
+
+		private void add(Object object) {
+			if (object != null && !(object instanceof UndoContentStore) && fVisited.add(object))
+				fPending.push(object);
+		}
+
+		private void visit(Object object) throws IllegalAccessException {
+			Class<?> clazz= object.getClass();
+			if (object instanceof FileUndoState)
+				fFileStates++;
+			if (object instanceof String) {
+				fBytes+= HEADER + REFERENCE + HEADER + 2 * ((String) object).length();
+			} else if (clazz.isArray()) {
+				int length= Array.getLength(object);
+				Class<?> componentType= clazz.getComponentType();
+				fBytes+= HEADER + length * (long) (componentType.isPrimitive() ? getPrimitiveSize(componentType) : REFERENCE);
+				if (!componentType.isPrimitive()) {
+					for (int i= 0; i < length; i++) {
+						add(Array.get(object, i));
+					}
+				}
+			} else if (object instanceof Collection) {
+				Collection<?> collection= (Collection<?>) object;
+				fBytes+= HEADER + collection.size() * (long) (HEADER + REFERENCE);
+				for (Object element : collection) {
+					add(element);
+				}
+			} else if (object instanceof Map) {
+				Map<?, ?> map= (Map<?, ?>) object;
+				fBytes+= HEADER + map.size() * (long) (HEADER + 3 * REFERENCE);
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					add(entry.getKey());
+					add(entry.getValue());
+				}
+			} else if (clazz.getName().startsWith("org.eclipse.ltk.")) {
+				fBytes+= HEADER;
+				for (Class<?> c= clazz; c != null; c= c.getSuperclass()) {
+					for (Field field : c.getDeclaredFields()) {
+						if (Modifier.isStatic(field.getModifiers()))
+							continue;
+						Class<?> type= field.getType();
+						if (type.isPrimitive()) {
+							fBytes+= getPrimitiveSize(type);
+						} else {
+							fBytes+= REFERENCE;
+							field.setAccessible(true);
+							add(field.get(object));
+						}
+					}
+				}
+			} else {
+				fBytes+= HEADER;
+			}
+		}
+
+		private static int getPrimitiveSize(Class<?> type) {
+			if (type == long.class || type == double.class)
+				return 8;
+			if (type == int.class || type == float.class)
+				return 4;
+			if (type == short.class || type == char.class)
+				return 2;
+			return 1;
+		}
+	}
+
+	private SimpleTestProject fProject;
+
+	private IFolder fFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		fFolder= fProject.createFolder("generated");
+		IFolder sub= null;
+		for (int i= 0; i < FILE_COUNT; i++) {
+			if (i % 100 == 0)
+				sub= fProject.createFolder(fFolder, "sub" + i);
+			fProject.createFile(sub, "file" + i + ".txt", createContent(i));
+		}
+		assertNotNull(UndoContentStore.getDefault());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	private static String createContent(int seed) {
+		StringBuilder buf= new StringBuilder(FILE_SIZE);
+		while (buf.length() < FILE_SIZE) {
+			buf.append("line ").append(seed).append(' ').append(buf.length()).append('\n');
+		}
+		return buf.toString();
+	}
+
+	@Test
+	public void testDeleteFolderRetainedSize() throws Exception {
+		NullProgressMonitor pm= new NullProgressMonitor();
+		DeleteResourceChange change= new DeleteResourceChange(fFolder.getFullPath(), true);
+		change.initializeValidationData(pm);
+		assertTrue(change.isValid(pm).isOK());
+		Change undo= change.perform(pm);
+		change.dispose();
+		assertNotNull(undo);
+		try {
+			assertFalse(fFolder.exists());
+
+			RetainedSize size= new RetainedSize(undo);
+			assertEquals(FILE_COUNT, size.fFileStates);
+			assertTrue("retained " + size.fBytes + " bytes for " + FILE_COUNT + " files", size.fBytes < FILE_COUNT * (long) MAX_BYTES_PER_FILE);
+		} finally {
+			undo.dispose();
+		}
+	}
+}
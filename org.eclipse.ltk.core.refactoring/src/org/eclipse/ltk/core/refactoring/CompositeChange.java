@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,12 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
  */
 public class CompositeChange extends Change {
 
+	/**
+	 * The number of leaf changes from which on the undo edits of the performed text file changes
+	 * are moved to the undo journal instead of being kept in the undo change tree.
+	 */
+	private static final int JOURNAL_THRESHOLD= 500;
+
 	private String fName;
 	private List<Change> fChanges;
 	private boolean fIsSynthetic;
@@ -265,6 +271,7 @@ public class CompositeChange extends Change {
 	public Change perform(IProgressMonitor pm) throws CoreException {
 		fUndoUntilException= null;
 		List<Change> undos= new ArrayList<>(fChanges.size());
+		boolean journal= countLeaves(this, 0) >= JOURNAL_THRESHOLD;
 		pm.beginTask("", fChanges.size()); //$NON-NLS-1$
 		pm.setTaskName(RefactoringCoreMessages.CompositeChange_performingChangesTask_name);
 		Change change= null;
@@ -289,6 +296,8 @@ public class CompositeChange extends Change {
 						if (undoChange == null) {
 							undos= null;
 						} else {
+							if (journal)
+								writeToJournal(undoChange);
 							undos.add(undoChange);
 						}
 					}
@@ -327,6 +336,33 @@ public class CompositeChange extends Change {
 		}
 	}
 
+	/**
+	 * Counts the leaf changes of the given change, stopping at {@link #JOURNAL_THRESHOLD}.
+	 */
+	private static int countLeaves(Change change, int count) {
+		if (!(change instanceof CompositeChange))
+			return count + 1;
+		for (Change child : ((CompositeChange) change).fChanges) {
+			count= countLeaves(child, count);
+			if (count >= JOURNAL_THRESHOLD)
+				break;
+		}
+		return count;
+	}
+
+	/**
+	 * Moves the undo edits of the text file changes in the given undo change to the undo journal.
+	 * Nested composite changes below the threshold have kept theirs in memory.
+	 */
+	private static void writeToJournal(Change undo) {
+		if (undo instanceof UndoTextFileChange) {
+			((UndoTextFileChange) undo).writeToJournal();
+		} else if (undo instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) undo).fChanges)
+				writeToJournal(child);
+		}
+	}
+
 	private void handleUndos(Change failedChange, List<Change> undos) {
 		if (undos == null) {
 			fUndoUntilException= null;
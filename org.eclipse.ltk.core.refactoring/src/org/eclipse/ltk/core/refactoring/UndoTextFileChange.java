@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.ContentStamps;
 import org.eclipse.ltk.internal.core.refactoring.Lock;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+import org.eclipse.ltk.internal.core.refactoring.UndoJournal;
 
 /**
  * A change to perform the reverse change of a {@link TextFileChange}.
@@ -58,6 +59,8 @@ public class UndoTextFileChange extends Change {
 
 	private String fName;
 	private UndoEdit fUndo;
+	private UndoJournal fJournal;
+	private long fJournalPosition;
 	private IFile fFile;
 	private ContentStamp fContentStampToRestore;
 	private int fSaveMode;
@@ -102,6 +105,26 @@ public class UndoTextFileChange extends Change {
 		return fSaveMode;
 	}
 
+	/**
+	 * Moves the undo edit of this change to the undo journal, so that it is not kept in memory
+	 * until the change is performed or disposed. The edit is kept in memory if the journal
+	 * cannot be written.
+	 */
+	/* package */ void writeToJournal() {
+		if (fUndo == null)
+			return;
+		UndoJournal journal= UndoJournal.getDefault();
+		if (journal == null)
+			return;
+		try {
+			fJournalPosition= journal.write(fUndo);
+			fJournal= journal;
+			fUndo= null;
+		} catch (CoreException e) {
+			RefactoringCorePlugin.log(e);
+		}
+	}
+
 	@Override
 	public String getName() {
 		return fName;
@@ -267,7 +290,8 @@ public class UndoTextFileChange extends Change {
 	private UndoEdit doPerformEdits(IDocument document, boolean[] setContentStampSuccess) throws MalformedTreeException, BadLocationException, CoreException {
 		// perform the changes
 		LinkedModeModel.closeAllModels(document);
-		UndoEdit redo= fUndo.apply(document, TextEdit.CREATE_UNDO);
+		TextEdit undo= fUndo != null ? fUndo : fJournal.read(fJournalPosition);
+		UndoEdit redo= undo.apply(document, TextEdit.CREATE_UNDO);
 
 		// try to restore the document content stamp
 		setContentStampSuccess[0]= ContentStamps.set(document, fContentStampToRestore);
@@ -279,6 +303,10 @@ public class UndoTextFileChange extends Change {
 		if (fValidationState != null) {
 			fValidationState.dispose();
 		}
+		if (fJournal != null) {
+			fJournal.release(fJournalPosition);
+			fJournal= null;
+		}
 	}
 
 	private boolean needsSaving() {
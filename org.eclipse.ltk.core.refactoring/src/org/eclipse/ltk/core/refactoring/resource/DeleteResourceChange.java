@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2012 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -160,8 +160,9 @@ public class DeleteResourceChange extends ResourceChange {
 				} else {
 					updateFlags= IResource.KEEP_HISTORY;
 				}
-				resource.delete(updateFlags, new SubProgressMonitor(pm, 5));
-				desc.recordStateFromHistory(resource, new SubProgressMonitor(pm, 5));
+				desc.recordContents(resource, new SubProgressMonitor(pm, 3));
+				resource.delete(updateFlags, new SubProgressMonitor(pm, 4));
+				desc.recordStateFromHistory(resource, new SubProgressMonitor(pm, 3));
 			}
 			return new UndoDeleteResourceChange(desc);
 		} finally {
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.UndoEdit;
+
+/**
+ * An append-only file in the plug-in state location holding the undo edits of performed text
+ * changes, so that the undo change tree of a large change does not keep all replaced text in
+ * memory.
+ * <p>
+ * A record stores the replace edits of an undo edit in their recorded order as offset, length
+ * and UTF-8 encoded text. An undo edit applies its children one after another from the last to
+ * the first, each offset relative to the document left by the previous one. When a record is read
+ * back, the edits are replayed in the same order to compute their offsets in the document the
+ * undo edit is applied to, and returned as a {@link MultiTextEdit} which has the same effect.
+ * The file is truncated when the last record is released and deleted when the plug-in is stopped.
+ * </p>
+ */
+public final class UndoJournal {
+
+	private static final String NAME_JOURNAL_FOLDER= ".undo"; //$NON-NLS-1$
+
+	private static final String NAME_JOURNAL_FILE= "undo.journal"; //$NON-NLS-1$
+
+	private static UndoJournal fgDefault;
+
+	private final File fFile;
+
+	private RandomAccessFile fAccess;
+
+	/** The positions of the records that have not been released yet. */
+	private final Set<Long> fRecords= new HashSet<>();
+
+	private UndoJournal(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Returns the journal of the running plug-in.
+	 *
+	 * @return the journal, or <code>null</code> if the plug-in is not running
+	 */
+	public static synchronized UndoJournal getDefault() {
+		if (fgDefault == null) {
+			RefactoringCorePlugin plugin= RefactoringCorePlugin.getDefault();
+			if (plugin == null)
+				return null;
+			File folder= plugin.getStateLocation().append(NAME_JOURNAL_FOLDER).toFile();
+			File file= new File(folder, NAME_JOURNAL_FILE);
+			// left over from a session that was not shut down properly
+			file.delete();
+			folder.mkdirs();
+			fgDefault= new UndoJournal(file);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Closes and deletes the journal of the running plug-in, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.close();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Appends an undo edit to the journal.
+	 *
+	 * @param edit the undo edit
+	 * @return the position of the record
+	 * @throws CoreException if the journal cannot be written
+	 */
+	public synchronized long write(UndoEdit edit) throws CoreException {
+		try {
+			TextEdit[] children= edit.getChildren();
+			ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+			DataOutputStream output= new DataOutputStream(bytes);
+			output.writeInt(children.length);
+			for (int i= 0; i < children.length; i++) {
+				TextEdit child= children[i];
+				if (!(child instanceof ReplaceEdit))
+					throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "Undo edit contains an edit that cannot be journaled: " + child)); //$NON-NLS-1$
+				ReplaceEdit replace= (ReplaceEdit) child;
+				// the replay in read(long) requires that each edit precedes the edits recorded before it
+				if (i > 0 && replace.getOffset() + replace.getText().length() > children[i - 1].getOffset())
+					throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "Undo edit contains edits that are not in document order: " + child)); //$NON-NLS-1$
+				byte[] text= replace.getText().getBytes(StandardCharsets.UTF_8);
+				output.writeInt(replace.getOffset());
+				output.writeInt(replace.getLength());
+				output.writeInt(text.length);
+				output.write(text);
+			}
+			output.flush();
+			RandomAccessFile access= getAccess();
+			long position= access.length();
+			access.seek(position);
+			access.writeInt(bytes.size());
+			access.write(bytes.toByteArray());
+			fRecords.add(Long.valueOf(position));
+			return position;
+		} catch (IOException e) {
+			throw createException(e);
+		}
+	}
+
+	/**
+	 * Reads a record of the journal.
+	 *
+	 * @param position the position returned by {@link #write(UndoEdit)}
+	 * @return an edit having the same effect as the undo edit of the record
+	 * @throws CoreException if the journal cannot be read
+	 */
+	public synchronized TextEdit read(long position) throws CoreException {
+		if (!fRecords.contains(Long.valueOf(position)))
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "Undo journal record has already been released")); //$NON-NLS-1$
+		try {
+			RandomAccessFile access= getAccess();
+			access.seek(position);
+			access.readInt();
+			int count= access.readInt();
+			int[] offsets= new int[count];
+			int[] lengths= new int[count];
+			String[] texts= new String[count];
+			for (int i= 0; i < count; i++) {
+				offsets[i]= access.readInt();
+				lengths[i]= access.readInt();
+				byte[] text= new byte[access.readInt()];
+				access.readFully(text);
+				texts[i]= new String(text, StandardCharsets.UTF_8);
+			}
+			// replay the edits from the last to the first like the undo edit does. Each edit only
+			// shifts the edits recorded before it, which follow it in the document.
+			MultiTextEdit result= new MultiTextEdit();
+			int delta= 0;
+			for (int i= count - 1; i >= 0; i--) {
+				result.addChild(new ReplaceEdit(offsets[i] + delta, lengths[i], texts[i]));
+				delta+= lengths[i] - texts[i].length();
+			}
+			return result;
+		} catch (IOException e) {
+			throw createException(e);
+		}
+	}
+
+	/**
+	 * Releases a record of the journal. The journal is truncated when all records are released.
+	 *
+	 * @param position the position returned by {@link #write(UndoEdit)}
+	 */
+	public synchronized void release(long position) {
+		if (fRecords.remove(Long.valueOf(position)) && fRecords.isEmpty() && fAccess != null) {
+			try {
+				fAccess.setLength(0);
+			} catch (IOException e) {
+				RefactoringCorePlugin.log(e);
+			}
+		}
+	}
+
+	private RandomAccessFile getAccess() throws IOException {
+		if (fAccess == null)
+			fAccess= new RandomAccessFile(fFile, "rw"); //$NON-NLS-1$
+		return fAccess;
+	}
+
+	private synchronized void close() {
+		fRecords.clear();
+		if (fAccess != null) {
+			try {
+				fAccess.close();
+			} catch (IOException e) {
+				RefactoringCorePlugin.log(e);
+			}
+			fAccess= null;
+		}
+		fFile.delete();
+	}
+
+	private static CoreException createException(IOException e) {
+		return new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), e.getLocalizedMessage(), e));
+	}
+}
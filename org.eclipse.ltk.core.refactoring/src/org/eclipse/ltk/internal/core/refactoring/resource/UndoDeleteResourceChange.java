@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,11 @@ public class UndoDeleteResourceChange extends Change {
 		return change;
 	}
 
+	@Override
+	public void dispose() {
+		fResourceState.releaseContents();
+	}
+
 	@Override
 	public String toString() {
 		return Messages.format(RefactoringCoreMessages.UndoDeleteResourceChange_revert_resource, fResourceState.getName());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,9 +69,12 @@ abstract class AbstractResourceUndoState extends ResourceUndoState {
 			}
 			try {
 				IMarker[] markers= resource.findMarkers(null, true, IResource.DEPTH_INFINITE);
-				markerDescriptions= new MarkerUndoState[markers.length];
-				for (int i= 0; i < markers.length; i++) {
-					markerDescriptions[i]= new MarkerUndoState(markers[i]);
+				// keep the state of the many resources without markers small
+				if (markers.length > 0) {
+					markerDescriptions= new MarkerUndoState[markers.length];
+					for (int i= 0; i < markers.length; i++) {
+						markerDescriptions[i]= new MarkerUndoState(markers[i]);
+					}
 				}
 			} catch (CoreException e) {
 				// Eat this exception because it only occurs when the resource
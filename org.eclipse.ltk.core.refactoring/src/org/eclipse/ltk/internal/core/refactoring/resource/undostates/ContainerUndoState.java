@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -200,6 +200,30 @@ public abstract class ContainerUndoState extends AbstractResourceUndoState {
 		monitor.done();
 	}
 
+	@Override
+	public void recordContents(IResource resource, IProgressMonitor monitor) throws CoreException {
+		monitor.beginTask(RefactoringCoreMessages.FolderDescription_SavingUndoInfoProgress, 100);
+		if (members != null) {
+			IContainer container= (IContainer) resource;
+			for (AbstractResourceUndoState member : members) {
+				IResource handle= container.findMember(member.getName());
+				if (handle != null) {
+					member.recordContents(handle, new SubProgressMonitor(monitor, 100 / members.size()));
+				}
+			}
+		}
+		monitor.done();
+	}
+
+	@Override
+	public void releaseContents() {
+		if (members != null) {
+			for (AbstractResourceUndoState member : members) {
+				member.releaseContents();
+			}
+		}
+	}
+
 	/**
 	 * Return the name of the container described by this ContainerState.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.core.resources.IResourceStatus;
 import org.eclipse.core.resources.IWorkspaceRoot;
 
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCoreMessages;
+import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
 
 /**
  * {@link FileUndoState} is a lightweight description that describes a file to be
@@ -44,6 +45,35 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCoreMessages;
  */
 public class FileUndoState extends AbstractResourceUndoState {
 
+	/**
+	 * Describes contents kept in the {@link UndoContentStore}.
+	 */
+	private static final class StoredContentDescription implements IFileContentDescription {
+
+		private final UndoContentStore fStore;
+		private final String fHash;
+
+		StoredContentDescription(UndoContentStore store, String hash) {
+			fStore= store;
+			fHash= hash;
+		}
+
+		@Override
+		public boolean exists() {
+			return fStore.exists(fHash);
+		}
+
+		@Override
+		public InputStream getContents() throws CoreException {
+			return fStore.getContents(fHash);
+		}
+
+		@Override
+		public String getCharset() throws CoreException {
+			return null;
+		}
+	}
+
 	protected String name;
 
 	private URI location;
@@ -96,6 +126,39 @@ public class FileUndoState extends AbstractResourceUndoState {
 		this.fileContentDescription= fileContentDescription;
 	}
 
+	@Override
+	public void recordContents(IResource resource, IProgressMonitor monitor) throws CoreException {
+		Assert.isLegal(resource.getType() == IResource.FILE);
+		try {
+			if (location != null || fileContentDescription instanceof StoredContentDescription) {
+				// file is linked or already recorded
+				return;
+			}
+			UndoContentStore store= UndoContentStore.getDefault();
+			if (store == null) {
+				return;
+			}
+			try {
+				String hash= store.store(((IFile) resource).getContents(true));
+				fileContentDescription= new StoredContentDescription(store, hash);
+			} catch (CoreException e) {
+				// fall back to the resource history
+				RefactoringCorePlugin.log(e);
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	@Override
+	public void releaseContents() {
+		if (fileContentDescription instanceof StoredContentDescription) {
+			StoredContentDescription description= (StoredContentDescription) fileContentDescription;
+			description.fStore.release(description.fHash);
+			fileContentDescription= null;
+		}
+	}
+
 	@Override
 	public void recordStateFromHistory(IResource resource, IProgressMonitor monitor) throws CoreException {
 		Assert.isLegal(resource.getType() == IResource.FILE);
@@ -104,6 +167,10 @@ public class FileUndoState extends AbstractResourceUndoState {
 			// file is linked, no need to record any history
 			return;
 		}
+		if (fileContentDescription instanceof StoredContentDescription) {
+			// contents have been recorded before the file was deleted
+			return;
+		}
 		IFileState[] states= ((IFile) resource).getHistory(monitor);
 		if (states.length > 0) {
 			final IFileState state= getMatchingFileState(states);
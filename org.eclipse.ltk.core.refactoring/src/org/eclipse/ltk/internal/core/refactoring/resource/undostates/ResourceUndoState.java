@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -114,6 +114,33 @@ public abstract class ResourceUndoState {
 	 */
 	public abstract void recordStateFromHistory(IResource resource, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Record the contents of the files described by this resource state
+	 * before the resource is deleted, so that they do not have to be
+	 * restored from the resource history. The default implementation does
+	 * nothing.
+	 *
+	 * @param resource
+	 *            the existing resource whose contents are to be recorded
+	 * @param monitor
+	 *            the progress monitor to be used
+	 * @throws CoreException if the contents could not be recorded
+	 * @since 3.13
+	 */
+	public void recordContents(IResource resource, IProgressMonitor monitor) throws CoreException {
+		monitor.done();
+	}
+
+	/**
+	 * Release the contents recorded by {@link #recordContents(IResource, IProgressMonitor)}.
+	 * The resource state can no longer be used to create the resource
+	 * afterwards. The default implementation does nothing.
+	 *
+	 * @since 3.13
+	 */
+	public void releaseContents() {
+	}
+
 	/**
 	 * Return a boolean indicating whether this state represents an
 	 * existent resource.
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring.resource.undostates;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+
+/**
+ * A content-addressed store for the contents of deleted files, kept in the plug-in state
+ * location so that undo states do not hold file contents in memory.
+ * <p>
+ * Contents are stored under the SHA-256 hash of their bytes, so equal contents are only stored
+ * once. Every {@link #store(InputStream)} has to be balanced by a {@link #release(String)}; a
+ * blob is deleted when it is no longer referenced. All blobs are deleted when the plug-in is
+ * stopped, and blobs left over from a previous session are deleted on first use.
+ * </p>
+ *
+ * This class is not intended to be instantiated or used by clients.
+ *
+ * @since 3.13
+ */
+public final class UndoContentStore {
+
+	private static final String NAME_STORE_FOLDER= ".undocontents"; //$NON-NLS-1$
+
+	private static final String DIGEST_ALGORITHM= "SHA-256"; //$NON-NLS-1$
+
+	private static final String TEMP_FILE_PREFIX= "blob"; //$NON-NLS-1$
+
+	private static UndoContentStore fgDefault;
+
+	private final File fFolder;
+
+	/** The number of references to each blob, by hash. */
+	private final Map<String, Integer> fReferences= new HashMap<>();
+
+	private UndoContentStore(File folder) {
+		fFolder= folder;
+	}
+
+	/**
+	 * Returns the store of the running plug-in.
+	 *
+	 * @return the store, or <code>null</code> if the plug-in is not running
+	 */
+	public static synchronized UndoContentStore getDefault() {
+		if (fgDefault == null) {
+			RefactoringCorePlugin plugin= RefactoringCorePlugin.getDefault();
+			if (plugin == null)
+				return null;
+			File folder= plugin.getStateLocation().append(NAME_STORE_FOLDER).toFile();
+			deleteContents(folder);
+			folder.mkdirs();
+			fgDefault= new UndoContentStore(folder);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Deletes all blobs of the store of the running plug-in, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			synchronized (fgDefault) {
+				fgDefault.fReferences.clear();
+				deleteContents(fgDefault.fFolder);
+			}
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Stores the given contents and closes the stream.
+	 *
+	 * @param contents the contents to store
+	 * @return the hash of the contents
+	 * @throws CoreException if the contents cannot be read or stored
+	 */
+	public String store(InputStream contents) throws CoreException {
+		File temp= null;
+		try {
+			MessageDigest digest= MessageDigest.getInstance(DIGEST_ALGORITHM);
+			temp= File.createTempFile(TEMP_FILE_PREFIX, null, fFolder);
+			try (InputStream in= contents; OutputStream out= new FileOutputStream(temp)) {
+				byte[] buffer= new byte[8192];
+				int read;
+				while ((read= in.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+					out.write(buffer, 0, read);
+				}
+			}
+			String hash= toHex(digest.digest());
+			synchronized (this) {
+				File blob= new File(fFolder, hash);
+				if (!blob.exists() && !temp.renameTo(blob))
+					throw new IOException("Could not store undo contents in " + blob); //$NON-NLS-1$
+				fReferences.merge(hash, Integer.valueOf(1), (count, one) -> Integer.valueOf(count.intValue() + 1));
+			}
+			return hash;
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), e.getLocalizedMessage(), e));
+		} finally {
+			if (temp != null)
+				temp.delete();
+		}
+	}
+
+	/**
+	 * Returns whether the contents with the given hash are still stored.
+	 *
+	 * @param hash the hash returned by {@link #store(InputStream)}
+	 * @return <code>true</code> if the contents are stored
+	 */
+	public synchronized boolean exists(String hash) {
+		return fReferences.containsKey(hash) && new File(fFolder, hash).isFile();
+	}
+
+	/**
+	 * Returns a stream on the stored contents. The client is responsible for closing the stream.
+	 *
+	 * @param hash the hash returned by {@link #store(InputStream)}
+	 * @return an input stream on the contents
+	 * @throws CoreException if the contents cannot be read
+	 */
+	public synchronized InputStream getContents(String hash) throws CoreException {
+		try {
+			return new FileInputStream(new File(fFolder, hash));
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), e.getLocalizedMessage(), e));
+		}
+	}
+
+	/**
+	 * Releases a reference to stored contents. The contents are deleted when the last reference is
+	 * released.
+	 *
+	 * @param hash the hash returned by {@link #store(InputStream)}
+	 */
+	public synchronized void release(String hash) {
+		Integer count= fReferences.get(hash);
+		if (count == null)
+			return;
+		if (count.intValue() > 1) {
+			fReferences.put(hash, Integer.valueOf(count.intValue() - 1));
+		} else {
+			fReferences.remove(hash);
+			new File(fFolder, hash).delete();
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder result= new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			result.append(Character.forDigit((b >> 4) & 0xF, 16));
+			result.append(Character.forDigit(b & 0xF, 16));
+		}
+		return result.toString();
+	}
+
+	private static void deleteContents(File folder) {
+		File[] files= folder.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+	}
+}
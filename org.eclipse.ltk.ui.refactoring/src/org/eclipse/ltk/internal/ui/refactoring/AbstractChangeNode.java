@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public abstract class AbstractChangeNode extends PreviewNode {
 
 	private final Change fChange;
 	private PreviewNode[] fChildren;
+	private Boolean fHasDerived;
 
 	public static PreviewNode createNode(PreviewNode parent, RefactoringPreviewChangeFilter filter, Change change) {
 		if (change instanceof CompositeChange) {
@@ -88,6 +89,20 @@ public abstract class AbstractChangeNode extends PreviewNode {
 
 	abstract PreviewNode[] doCreateChildren();
 
+	@Override
+	boolean hasChildren() {
+		if (fChildren != null)
+			return fChildren.length > 0;
+		return doHasChildren();
+	}
+
+	/**
+	 * Returns whether the node has children, without creating them.
+	 *
+	 * @return whether the node has children
+	 */
+	abstract boolean doHasChildren();
+
 	@Override
 	public String getText() {
 		return fChange.getName();
@@ -120,23 +135,25 @@ public abstract class AbstractChangeNode extends PreviewNode {
 
 	@Override
 	boolean hasOneGroupCategory(List<GroupCategory> categories) {
-		for (PreviewNode child : getChildren()) {
-			if (child.hasOneGroupCategory(categories)) {
-				return true;
-			}
-		}
 		return false;
 	}
 
 	@Override
-	boolean hasDerived() {
-		if (hasDerivedResourceChange(fChange))
-			return true;
-		for (PreviewNode child : getChildren()) {
-			if (child.hasDerived()) {
-				return true;
-			}
-		}
+	final boolean hasDerived() {
+		// asked for every node by the comparator and the label provider
+		if (fHasDerived == null)
+			fHasDerived= Boolean.valueOf(hasDerivedResourceChange(fChange) || doHasDerivedChildren());
+		return fHasDerived.booleanValue();
+	}
+
+	/**
+	 * Returns whether the children of the node contain a derived resource.
+	 * The children of change groups never do, so this is computed from the
+	 * changes without creating the children.
+	 *
+	 * @return whether the children contain a derived resource
+	 */
+	boolean doHasDerivedChildren() {
 		return false;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,8 @@ class ChangeElementTreeViewer extends CheckboxTreeViewer {
 
 	public ChangeElementTreeViewer(Composite parentComposite) {
 		super(parentComposite, SWT.NONE);
+		// the check state is propagated through findItem(), which is linear without a lookup table
+		setUseHashlookup(true);
 		addFilter(new GroupCategoryFilter());
 		addCheckStateListener(event -> {
 			PreviewNode element= (PreviewNode)event.getElement();
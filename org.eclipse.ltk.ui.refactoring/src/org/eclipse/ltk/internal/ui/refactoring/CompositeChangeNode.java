@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import org.eclipse.jface.resource.ImageDescriptor;
 
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
 
 public class CompositeChangeNode extends AbstractChangeNode {
 
@@ -58,4 +60,69 @@ public class CompositeChangeNode extends AbstractChangeNode {
 			}
 		}
 	}
+
+	/*
+	 * The following methods answer questions about the children from the changes,
+	 * so that a node is only created when its parent is expanded. They select and
+	 * flatten the changes like doCreateChildren(). The filter only applies to the
+	 * children of this node, since nested nodes are created without a filter.
+	 */
+
+	@Override
+	boolean doHasChildren() {
+		return hasChildren((CompositeChange) getChange(), fFilter);
+	}
+
+	private static boolean hasChildren(CompositeChange focus, RefactoringPreviewChangeFilter filter) {
+		for (Change change : focus.getChildren()) {
+			if (filter == null || filter.select(change)) {
+				if (!(change instanceof CompositeChange) || !((CompositeChange) change).isSynthetic() || hasChildren((CompositeChange) change, filter))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	boolean hasOneGroupCategory(List<GroupCategory> categories) {
+		return hasOneGroupCategory((CompositeChange) getChange(), fFilter, categories);
+	}
+
+	private static boolean hasOneGroupCategory(CompositeChange focus, RefactoringPreviewChangeFilter filter, List<GroupCategory> categories) {
+		for (Change change : focus.getChildren()) {
+			if (filter == null || filter.select(change)) {
+				if (change instanceof CompositeChange) {
+					RefactoringPreviewChangeFilter childFilter= ((CompositeChange) change).isSynthetic() ? filter : null;
+					if (hasOneGroupCategory((CompositeChange) change, childFilter, categories))
+						return true;
+				} else if (change instanceof TextEditBasedChange) {
+					if (((TextEditBasedChange) change).hasOneGroupCategory(categories))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	boolean doHasDerivedChildren() {
+		return hasDerived((CompositeChange) getChange(), fFilter);
+	}
+
+	private static boolean hasDerived(CompositeChange focus, RefactoringPreviewChangeFilter filter) {
+		for (Change change : focus.getChildren()) {
+			if (filter == null || filter.select(change)) {
+				if (change instanceof CompositeChange) {
+					CompositeChange composite= (CompositeChange) change;
+					if (!composite.isSynthetic() && hasDerivedResourceChange(composite))
+						return true;
+					if (hasDerived(composite, composite.isSynthetic() ? filter : null))
+						return true;
+				} else if (hasDerivedResourceChange(change)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
 }
\ No newline at end of file
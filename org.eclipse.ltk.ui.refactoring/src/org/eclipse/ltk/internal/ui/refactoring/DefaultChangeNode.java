@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,4 +30,9 @@ public class DefaultChangeNode extends AbstractChangeNode {
 	PreviewNode[] doCreateChildren() {
 		return EMPTY_CHILDREN;
 	}
+
+	@Override
+	boolean doHasChildren() {
+		return false;
+	}
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,30 @@ import java.util.List;
 
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.MultiStateTextFileChange;
 import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChangeGroup;
 import org.eclipse.ltk.ui.refactoring.TextEditChangeNode;
 import org.eclipse.ltk.ui.refactoring.TextEditChangeNode.ChildNode;
 
 public abstract class InternalTextEditChangeNode extends AbstractChangeNode {
 
+	/** Whether a node class does not use the <code>createChildNodes()</code> of {@link TextEditChangeNode}. */
+	private static final ClassValue<Boolean> OVERRIDES_CREATE_CHILD_NODES= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> current= type; current != null; current= current.getSuperclass()) {
+				try {
+					current.getDeclaredMethod("createChildNodes"); //$NON-NLS-1$
+					return Boolean.valueOf(current != TextEditChangeNode.class);
+				} catch (NoSuchMethodException e) {
+					// look in the superclass
+				}
+			}
+			return Boolean.TRUE;
+		}
+	};
+
 	protected InternalTextEditChangeNode(PreviewNode parent, Change change) {
 		super(parent, change);
 	}
@@ -46,6 +64,41 @@ public abstract class InternalTextEditChangeNode extends AbstractChangeNode {
 		return createChildNodes();
 	}
 
+	/*
+	 * Creating the child nodes can be expensive (language aware nodes resolve
+	 * the elements of the changed regions), so the tree asks internalHasChildNodes().
+	 */
+	@Override
+	final boolean doHasChildren() {
+		return internalHasChildNodes();
+	}
+
+	/**
+	 * Returns whether {@link #createChildNodes()} returns at least one node. Called by the
+	 * preview tree before the child nodes have been created.
+	 * <p>
+	 * The default implementation answers this from the change groups if
+	 * <code>createChildNodes()</code> is the one of {@link TextEditChangeNode}, and creates the
+	 * child nodes otherwise. Subclasses overriding <code>createChildNodes()</code> may override
+	 * this method if they can answer it without creating the nodes.
+	 * </p>
+	 *
+	 * @return whether the node has child nodes
+	 * @since 3.13
+	 */
+	protected boolean internalHasChildNodes() {
+		if (OVERRIDES_CREATE_CHILD_NODES.get(getClass()).booleanValue())
+			return getChildren().length > 0;
+		TextEditBasedChange change= getTextEditBasedChange();
+		if (change instanceof MultiStateTextFileChange)
+			return false;
+		for (TextEditBasedChangeGroup group : change.getChangeGroups()) {
+			if (!group.getTextEditGroup().isEmpty())
+				return true;
+		}
+		return false;
+	}
+
 	protected static TextEditChangeNode internalGetTextEditChangeNode(PreviewNode node) {
 		PreviewNode element= node.getParent();
 		while(!(element instanceof TextEditChangeNode) && element != null) {